@@ -0,0 +1,38 @@
+package com.symphony.bdk.core.config.model;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.apiguardian.api.API;
+
+/**
+ * Configuration of the executor running the asynchronous activities registered in the activity registry.
+ * <p>
+ * Asynchronous activities are run by a bounded pool of workers. When all the workers are busy and the queue is full,
+ * the datafeed loop waits for some space before dispatching the next activity (back-pressure).
+ */
+@Getter
+@Setter
+@API(status = API.Status.EXPERIMENTAL)
+public class BdkActivityConfig {
+
+  public static final int DEFAULT_POOL_SIZE = 10;
+  public static final int DEFAULT_QUEUE_SIZE = 100;
+  public static final int UNLIMITED_CONCURRENCY = 0;
+
+  private int poolSize = DEFAULT_POOL_SIZE;
+  private int queueSize = DEFAULT_QUEUE_SIZE;
+  private int maxConcurrencyPerActivity = UNLIMITED_CONCURRENCY;
+  private boolean virtualThreads = false;
+
+  public int getPoolSize() {
+    return this.poolSize < 1 ? DEFAULT_POOL_SIZE : this.poolSize;
+  }
+
+  public int getQueueSize() {
+    return this.queueSize < 0 ? DEFAULT_QUEUE_SIZE : this.queueSize;
+  }
+
+  public boolean isConcurrencyLimited() {
+    return this.maxConcurrencyPerActivity > UNLIMITED_CONCURRENCY;
+  }
+}
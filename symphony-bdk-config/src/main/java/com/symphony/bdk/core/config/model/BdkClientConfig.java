@@ -26,6 +26,8 @@ public class BdkClientConfig extends BdkServerConfig {
     this.connectionPoolMax = null;
     this.connectionPoolPerRoute = null;
     this.defaultHeaders = null;
+    this.concurrencyLimit = null;
+    this.rateLimit = null;
   }
 
   public BdkClientConfig(BdkConfig parentConfig) {
@@ -87,6 +89,16 @@ public class BdkClientConfig extends BdkServerConfig {
     return thisOrParent(defaultHeaders, parentConfig::getDefaultHeaders);
   }
 
+  @Override
+  public BdkConcurrencyLimitConfig getConcurrencyLimit() {
+    return thisOrParent(concurrencyLimit, parentConfig::getConcurrencyLimit);
+  }
+
+  @Override
+  public BdkRateLimitConfig getRateLimit() {
+    return thisOrParent(rateLimit, parentConfig::getRateLimit);
+  }
+
   private <T> T thisOrParent(T thisValue, Supplier<T> parentValue) {
     return thisValue == null ? parentValue.get() : thisValue;
   }
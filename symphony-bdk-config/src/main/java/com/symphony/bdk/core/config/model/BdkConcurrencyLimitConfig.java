@@ -0,0 +1,52 @@
+package com.symphony.bdk.core.config.model;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.apiguardian.api.API;
+
+/**
+ * Configuration of the adaptive limit of concurrent calls made to a Symphony component.
+ * <p>
+ * The limit starts at {@link #getInitialLimit()}. It grows by one each time a full window of calls succeeds and is
+ * multiplied by {@link #getBackoffRatio()} each time a call fails because the component is overloaded or unavailable
+ * (AIMD: additive increase, multiplicative decrease), within [{@link #getMinLimit()}, {@link #getMaxLimit()}].
+ * Calls exceeding the limit wait for at most {@link #getMaxWaitMillis()} milliseconds before being rejected.
+ */
+@Getter
+@Setter
+@API(status = API.Status.EXPERIMENTAL)
+public class BdkConcurrencyLimitConfig {
+
+  public static final int DEFAULT_INITIAL_LIMIT = 20;
+  public static final int DEFAULT_MIN_LIMIT = 1;
+  public static final int DEFAULT_MAX_LIMIT = 200;
+  public static final double DEFAULT_BACKOFF_RATIO = 0.9;
+  public static final long DEFAULT_MAX_WAIT_MILLIS = 1000L;
+
+  private boolean enabled = false;
+  private int initialLimit = DEFAULT_INITIAL_LIMIT;
+  private int minLimit = DEFAULT_MIN_LIMIT;
+  private int maxLimit = DEFAULT_MAX_LIMIT;
+  private double backoffRatio = DEFAULT_BACKOFF_RATIO;
+  private long maxWaitMillis = DEFAULT_MAX_WAIT_MILLIS;
+
+  public int getMinLimit() {
+    return this.minLimit < 1 ? DEFAULT_MIN_LIMIT : this.minLimit;
+  }
+
+  public int getMaxLimit() {
+    return Math.max(this.getMinLimit(), this.maxLimit);
+  }
+
+  public int getInitialLimit() {
+    return Math.min(this.getMaxLimit(), Math.max(this.getMinLimit(), this.initialLimit));
+  }
+
+  public double getBackoffRatio() {
+    return this.backoffRatio <= 0 || this.backoffRatio >= 1 ? DEFAULT_BACKOFF_RATIO : this.backoffRatio;
+  }
+
+  public long getMaxWaitMillis() {
+    return Math.max(0L, this.maxWaitMillis);
+  }
+}
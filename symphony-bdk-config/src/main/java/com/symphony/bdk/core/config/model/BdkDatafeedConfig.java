@@ -16,6 +16,14 @@ public class BdkDatafeedConfig {
   private String version = "v2";
   private String idFilePath;
   private BdkRetryConfig retry = new BdkRetryConfig(BdkRetryConfig.INFINITE_MAX_ATTEMPTS);
+  private boolean eventPayloadProxy = true;
+  private BdkEventDispatchConfig dispatch = new BdkEventDispatchConfig();
+  @API(status = API.Status.EXPERIMENTAL)
+  private BdkEventDeduplicationConfig deduplication = new BdkEventDeduplicationConfig();
+  @API(status = API.Status.EXPERIMENTAL)
+  private BdkEventJournalConfig journal = new BdkEventJournalConfig();
+  @API(status = API.Status.EXPERIMENTAL)
+  private int readers = 1;
 
   public void setVersion(String version) {
     if ("v1".equalsIgnoreCase(version)) {
@@ -27,6 +35,10 @@ public class BdkDatafeedConfig {
     this.version = version;
   }
 
+  public int getReaders() {
+    return Math.max(1, this.readers);
+  }
+
   public String getIdFilePath() {
     if (idFilePath == null || idFilePath.isEmpty()) {
       return "." + File.separator;
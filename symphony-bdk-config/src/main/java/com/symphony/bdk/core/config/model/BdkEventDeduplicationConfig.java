@@ -0,0 +1,35 @@
+package com.symphony.bdk.core.config.model;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.apiguardian.api.API;
+
+/**
+ * Configuration of the de-duplication of the real-time events, part of the datafeed configuration.
+ * <p>
+ * When enabled, the ids of the events successfully dispatched to the listeners are remembered for at least
+ * {@link #getWindowMillis()} milliseconds, within the limit of {@link #getMaxEvents()} events, and the events received
+ * again meanwhile (e.g. re-queued by the datafeed) are not dispatched again. The number of events remembered is
+ * capped to {@link #MAX_EVENTS_LIMIT}.
+ */
+@Getter
+@Setter
+@API(status = API.Status.EXPERIMENTAL)
+public class BdkEventDeduplicationConfig {
+
+  public static final int DEFAULT_MAX_EVENTS = 50_000;
+  public static final int MAX_EVENTS_LIMIT = 1_000_000;
+  public static final long DEFAULT_WINDOW_MILLIS = 300_000L;
+
+  private boolean enabled = false;
+  private int maxEvents = DEFAULT_MAX_EVENTS;
+  private long windowMillis = DEFAULT_WINDOW_MILLIS;
+
+  public int getMaxEvents() {
+    return this.maxEvents < 1 ? DEFAULT_MAX_EVENTS : Math.min(this.maxEvents, MAX_EVENTS_LIMIT);
+  }
+
+  public long getWindowMillis() {
+    return this.windowMillis < 1 ? DEFAULT_WINDOW_MILLIS : this.windowMillis;
+  }
+}
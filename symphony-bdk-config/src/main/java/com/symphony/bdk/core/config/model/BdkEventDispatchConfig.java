@@ -0,0 +1,41 @@
+package com.symphony.bdk.core.config.model;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.apiguardian.api.API;
+
+/**
+ * Configuration of the real-time events dispatching, part of the datafeed configuration.
+ * <p>
+ * With the default parallelism of 1, events are dispatched to the listeners one after the other on the datafeed loop
+ * thread. With a higher parallelism, events are dispatched by a pool of workers: events of the same stream are always
+ * dispatched in order by the same worker while events of different streams can be dispatched in parallel.
+ * <p>
+ * With a {@link #getPrefetch()} greater than 0, up to this number of batches of events are read ahead while the current
+ * batch is being dispatched, instead of reading the next batch once the current one has been dispatched.
+ */
+@Getter
+@Setter
+@API(status = API.Status.EXPERIMENTAL)
+public class BdkEventDispatchConfig {
+
+  public static final int DEFAULT_PARALLELISM = 1;
+  public static final int DEFAULT_QUEUE_SIZE = 1000;
+
+  private int parallelism = DEFAULT_PARALLELISM;
+  private int queueSize = DEFAULT_QUEUE_SIZE;
+  private boolean virtualThreads = false;
+  private int prefetch = 0;
+
+  public boolean isParallel() {
+    return this.parallelism > 1;
+  }
+
+  public int getQueueSize() {
+    return this.queueSize < 1 ? DEFAULT_QUEUE_SIZE : this.queueSize;
+  }
+
+  public int getPrefetch() {
+    return Math.max(0, this.prefetch);
+  }
+}
@@ -0,0 +1,48 @@
+package com.symphony.bdk.core.config.model;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.apiguardian.api.API;
+
+import java.io.File;
+
+/**
+ * Configuration of the local journal of the received events, part of the datafeed configuration.
+ * <p>
+ * When enabled, the batches of events received are appended to memory-mapped segment files of
+ * {@link #getSegmentSizeBytes()} bytes in a sub-directory of {@link #getDirectory()} per loop, the oldest segments
+ * being deleted once a journal exceeds {@link #getMaxSizeBytes()} bytes. The ack id of the last batch handled is also
+ * checkpointed in this sub-directory.
+ */
+@Getter
+@Setter
+@API(status = API.Status.EXPERIMENTAL)
+public class BdkEventJournalConfig {
+
+  public static final String DEFAULT_DIRECTORY = "." + File.separator + "journal";
+  public static final long DEFAULT_SEGMENT_SIZE_BYTES = 16L * 1024 * 1024;
+  public static final long DEFAULT_MAX_SIZE_BYTES = 256L * 1024 * 1024;
+
+  private boolean enabled = false;
+  private String directory;
+  private long segmentSizeBytes = DEFAULT_SEGMENT_SIZE_BYTES;
+  private long maxSizeBytes = DEFAULT_MAX_SIZE_BYTES;
+
+  public String getDirectory() {
+    return this.directory == null || this.directory.isEmpty() ? DEFAULT_DIRECTORY : this.directory;
+  }
+
+  /**
+   * @return the size of a segment, at most {@link Integer#MAX_VALUE} as segments are mapped in memory.
+   */
+  public long getSegmentSizeBytes() {
+    return this.segmentSizeBytes < 1 ? DEFAULT_SEGMENT_SIZE_BYTES : Math.min(this.segmentSizeBytes, Integer.MAX_VALUE);
+  }
+
+  /**
+   * @return the maximum size of the journal, at least one segment.
+   */
+  public long getMaxSizeBytes() {
+    return Math.max(this.maxSizeBytes, this.getSegmentSizeBytes());
+  }
+}
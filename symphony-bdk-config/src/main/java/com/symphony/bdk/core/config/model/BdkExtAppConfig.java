@@ -13,6 +13,8 @@ public class BdkExtAppConfig extends BdkAuthenticationConfig {
 
   private String appId;
 
+  private BdkSessionCacheConfig sessionCache = new BdkSessionCacheConfig();
+
   /**
    * Check if the Extension App is configured or not
    *
@@ -0,0 +1,56 @@
+package com.symphony.bdk.core.config.model;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.apiguardian.api.API;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Configuration of the client side rate limit of the calls made to a Symphony component.
+ * <p>
+ * Each endpoint template (e.g. {@code /v4/stream/{sid}/message/create}) gets its own token bucket, filled at the rate
+ * set in {@link #getEndpoints()} or at {@link #getPermitsPerSecond()} for the other endpoints, 0 meaning no limit.
+ * When the component replies with a 429 (Too Many Requests) status code, the endpoint is paused until the time given
+ * by the {@code Retry-After} header (or for {@link #getDefaultRetryAfterMillis()} milliseconds without this header) and
+ * its rate is multiplied by {@link #getBackoffRatio()}, then slowly recovers with the successful calls.
+ * Calls exceeding the rate wait for at most {@link #getMaxWaitMillis()} milliseconds before being rejected.
+ */
+@Getter
+@Setter
+@API(status = API.Status.EXPERIMENTAL)
+public class BdkRateLimitConfig {
+
+  public static final double DEFAULT_PERMITS_PER_SECOND = 0;
+  public static final double DEFAULT_BACKOFF_RATIO = 0.5;
+  public static final long DEFAULT_RETRY_AFTER_MILLIS = 1000L;
+  public static final long DEFAULT_MAX_WAIT_MILLIS = 5000L;
+
+  private boolean enabled = false;
+  private double permitsPerSecond = DEFAULT_PERMITS_PER_SECOND;
+  private Map<String, Double> endpoints = Collections.emptyMap();
+  private double backoffRatio = DEFAULT_BACKOFF_RATIO;
+  private long defaultRetryAfterMillis = DEFAULT_RETRY_AFTER_MILLIS;
+  private long maxWaitMillis = DEFAULT_MAX_WAIT_MILLIS;
+
+  public double getPermitsPerSecond() {
+    return Math.max(0, this.permitsPerSecond);
+  }
+
+  public Map<String, Double> getEndpoints() {
+    return this.endpoints == null ? Collections.emptyMap() : this.endpoints;
+  }
+
+  public double getBackoffRatio() {
+    return this.backoffRatio <= 0 || this.backoffRatio >= 1 ? DEFAULT_BACKOFF_RATIO : this.backoffRatio;
+  }
+
+  public long getDefaultRetryAfterMillis() {
+    return Math.max(0L, this.defaultRetryAfterMillis);
+  }
+
+  public long getMaxWaitMillis() {
+    return Math.max(0L, this.maxWaitMillis);
+  }
+}
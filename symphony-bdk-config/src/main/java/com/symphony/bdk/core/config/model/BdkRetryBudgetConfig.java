@@ -0,0 +1,39 @@
+package com.symphony.bdk.core.config.model;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.apiguardian.api.API;
+
+/**
+ * Configuration of the retry budget shared by the calls of the BDK services.
+ * <p>
+ * Each successful call earns {@link #getRatio()} retry and each retry spends one, up to {@link #getMaxBalance()} saved
+ * retries. On top of that, {@link #getMinRetriesPerSecond()} retries per second are always allowed, so that calls made
+ * at a low rate can still be retried. Once the budget is spent, failed calls are not retried anymore.
+ */
+@Getter
+@Setter
+@API(status = API.Status.EXPERIMENTAL)
+public class BdkRetryBudgetConfig {
+
+  public static final double DEFAULT_RATIO = 0.2;
+  public static final int DEFAULT_MIN_RETRIES_PER_SECOND = 5;
+  public static final int DEFAULT_MAX_BALANCE = 100;
+
+  private boolean enabled = false;
+  private double ratio = DEFAULT_RATIO;
+  private int minRetriesPerSecond = DEFAULT_MIN_RETRIES_PER_SECOND;
+  private int maxBalance = DEFAULT_MAX_BALANCE;
+
+  public double getRatio() {
+    return this.ratio < 0 ? DEFAULT_RATIO : this.ratio;
+  }
+
+  public int getMinRetriesPerSecond() {
+    return this.minRetriesPerSecond < 0 ? DEFAULT_MIN_RETRIES_PER_SECOND : this.minRetriesPerSecond;
+  }
+
+  public int getMaxBalance() {
+    return this.maxBalance < 1 ? DEFAULT_MAX_BALANCE : this.maxBalance;
+  }
+}
@@ -19,6 +19,7 @@ public class BdkRetryConfig {
   private Long initialIntervalMillis;
   private Double multiplier;
   private Long maxIntervalMillis;
+  private BdkRetryBudgetConfig budget = new BdkRetryBudgetConfig();
 
   public BdkRetryConfig(Integer maxAttempts) {
     this.maxAttempts = maxAttempts;
@@ -63,4 +64,9 @@ public class BdkRetryConfig {
 
     return this.maxIntervalMillis;
   }
+
+  @API(status = API.Status.EXPERIMENTAL)
+  public BdkRetryBudgetConfig getBudget() {
+    return this.budget;
+  }
 }
@@ -25,6 +25,10 @@ public class BdkServerConfig {
   protected Integer connectionPoolMax;
   protected Integer connectionPoolPerRoute;
   protected Map<String, String> defaultHeaders;
+  @API(status = API.Status.EXPERIMENTAL)
+  protected BdkConcurrencyLimitConfig concurrencyLimit;
+  @API(status = API.Status.EXPERIMENTAL)
+  protected BdkRateLimitConfig rateLimit;
 
   public String getBasePath() {
     return this.getScheme() + "://" + this.getHost() + this.getPortAsString() + this.getFormattedContext();
@@ -0,0 +1,32 @@
+package com.symphony.bdk.core.config.model;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.apiguardian.api.API;
+
+/**
+ * Configuration of the cache holding the OBO session tokens and the app session token.
+ * <p>
+ * A token is cached until it expires, according to the expiration date of the token when it is a JWT, and at most for
+ * {@link #getTtlSeconds()} seconds.
+ */
+@Getter
+@Setter
+@API(status = API.Status.EXPERIMENTAL)
+public class BdkSessionCacheConfig {
+
+  public static final int DEFAULT_MAX_SIZE = 1000;
+  public static final long DEFAULT_TTL_SECONDS = 600L;
+
+  private boolean enabled = true;
+  private int maxSize = DEFAULT_MAX_SIZE;
+  private long ttlSeconds = DEFAULT_TTL_SECONDS;
+
+  public int getMaxSize() {
+    return this.maxSize < 1 ? DEFAULT_MAX_SIZE : this.maxSize;
+  }
+
+  public long getTtlSeconds() {
+    return this.ttlSeconds < 1 ? DEFAULT_TTL_SECONDS : this.ttlSeconds;
+  }
+}
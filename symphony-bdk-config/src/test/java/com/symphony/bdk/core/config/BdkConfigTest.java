@@ -7,6 +7,7 @@ import com.symphony.bdk.core.config.model.BdkBotConfig;
 import com.symphony.bdk.core.config.model.BdkCertificateConfig;
 import com.symphony.bdk.core.config.model.BdkCommonJwtConfig;
 import com.symphony.bdk.core.config.model.BdkConfig;
+import com.symphony.bdk.core.config.model.BdkEventDeduplicationConfig;
 import com.symphony.bdk.core.config.model.BdkExtAppConfig;
 import com.symphony.bdk.core.config.model.BdkRetryConfig;
 
@@ -105,4 +106,19 @@ public class BdkConfigTest {
     assertThat(config.getDatafeed().getRetry().getMultiplier()).isEqualTo(BdkRetryConfig.DEFAULT_MULTIPLIER);
     assertThat(config.getDatafeed().getRetry().getMaxIntervalMillis()).isEqualTo(BdkRetryConfig.DEFAULT_MAX_INTERVAL_MILLIS);
   }
+
+  @Test
+  void testDeduplicationMaxEvents() {
+    final BdkEventDeduplicationConfig config = new BdkEventDeduplicationConfig();
+    assertThat(config.getMaxEvents()).isEqualTo(BdkEventDeduplicationConfig.DEFAULT_MAX_EVENTS);
+
+    config.setMaxEvents(0);
+    assertThat(config.getMaxEvents()).isEqualTo(BdkEventDeduplicationConfig.DEFAULT_MAX_EVENTS);
+
+    config.setMaxEvents(200_000);
+    assertThat(config.getMaxEvents()).isEqualTo(200_000);
+
+    config.setMaxEvents(Integer.MAX_VALUE);
+    assertThat(config.getMaxEvents()).isEqualTo(BdkEventDeduplicationConfig.MAX_EVENTS_LIMIT);
+  }
 }
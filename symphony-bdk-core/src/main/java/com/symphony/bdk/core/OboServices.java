@@ -27,9 +27,18 @@ public class OboServices {
   private final OboSignalService oboSignalService;
   private final OboSessionService oboSessionService;
 
+  /**
+   * Creates the OBO services using new {@link com.symphony.bdk.http.api.ApiClient}s built from the configuration.
+   * Prefer {@link SymphonyBdk#obo(AuthSession)} which shares the HTTP clients and connection pools of the BDK instance.
+   *
+   * @param config     the BDK configuration.
+   * @param oboSession the OBO session to use.
+   */
   public OboServices(BdkConfig config, AuthSession oboSession) {
-    final ServiceFactory serviceFactory = new ServiceFactory(new ApiClientFactory(config), oboSession, config);
+    this(new ServiceFactory(new ApiClientFactory(config), oboSession, config));
+  }
 
+  OboServices(ServiceFactory serviceFactory) {
     oboStreamService = serviceFactory.getStreamService();
     oboUserService = serviceFactory.getUserService();
     oboMessageService = serviceFactory.getMessageService();
@@ -7,6 +7,7 @@ import com.symphony.bdk.core.auth.impl.OAuthSession;
 import com.symphony.bdk.core.auth.impl.OAuthentication;
 import com.symphony.bdk.core.client.ApiClientFactory;
 import com.symphony.bdk.core.config.model.BdkConfig;
+import com.symphony.bdk.core.retry.RetryBudget;
 import com.symphony.bdk.core.retry.RetryWithRecoveryBuilder;
 import com.symphony.bdk.core.service.application.ApplicationService;
 import com.symphony.bdk.core.service.connection.ConnectionService;
@@ -85,7 +86,9 @@ class ServiceFactory {
     this.datahoseAgentClient = apiClientFactory.getDatahoseAgentClient();
     this.authSession = authSession;
     this.templateEngine = TemplateEngine.getDefaultImplementation();
-    this.retryBuilder = new RetryWithRecoveryBuilder<>().retryConfig(config.getRetry());
+    this.retryBuilder = new RetryWithRecoveryBuilder<>()
+        .retryConfig(config.getRetry())
+        .retryBudget(RetryBudget.shared(config.getRetry()));
 
     if (config.isCommonJwtEnabled()) {
       if (config.isOboConfigured()) {
@@ -99,6 +102,28 @@ class ServiceFactory {
     }
   }
 
+  private ServiceFactory(ServiceFactory from, AuthSession authSession) {
+    this.config = from.config;
+    this.podClient = from.podClient;
+    this.agentClient = from.agentClient;
+    this.datafeedAgentClient = from.datafeedAgentClient;
+    this.datahoseAgentClient = from.datahoseAgentClient;
+    this.authSession = authSession;
+    this.templateEngine = from.templateEngine;
+    this.retryBuilder = from.retryBuilder;
+  }
+
+  /**
+   * Returns a {@link ServiceFactory} bound to another session and sharing the {@link ApiClient}s of this factory, so
+   * that no HTTP client nor connection pool is created.
+   *
+   * @param authSession the session to be used by the services, e.g. an OBO session.
+   * @return a new {@link ServiceFactory} instance.
+   */
+  public ServiceFactory withAuthSession(AuthSession authSession) {
+    return new ServiceFactory(this, authSession);
+  }
+
   /**
    * Returns a fully initialized {@link UserService}.
    *
@@ -130,7 +155,9 @@ class ServiceFactory {
    */
   public SessionService getSessionService() {
     return new SessionService(new SessionApi(podClient), authSession,
-        new RetryWithRecoveryBuilder<>().retryConfig(config.getRetry()));
+        new RetryWithRecoveryBuilder<>()
+            .retryConfig(config.getRetry())
+            .retryBudget(RetryBudget.shared(config.getRetry())));
   }
 
   /**
@@ -11,6 +11,7 @@ import com.symphony.bdk.core.client.ApiClientFactory;
 import com.symphony.bdk.core.config.exception.BotNotConfiguredException;
 import com.symphony.bdk.core.config.model.BdkConfig;
 import com.symphony.bdk.core.extension.ExtensionService;
+import com.symphony.bdk.core.retry.RetryBudget;
 import com.symphony.bdk.core.retry.RetryWithRecoveryBuilder;
 import com.symphony.bdk.core.service.application.ApplicationService;
 import com.symphony.bdk.core.service.connection.ConnectionService;
@@ -65,6 +66,8 @@ public class SymphonyBdk {
   private final SessionService sessionService;
   private final HealthService healthService;
   private final ExtensionService extensionService;
+  private final ApiClientFactory apiClientFactory;
+  private ServiceFactory oboServiceFactory;
 
   /**
    * Returns a new {@link SymphonyBdkBuilder} for fluent initialization.
@@ -120,6 +123,10 @@ public class SymphonyBdk {
           "Bot (service account) credentials have not been configured. You can however use services in OBO mode if app authentication is configured.");
       this.botSession = null;
     }
+    // OBO services share the pooled clients of the bot services, or of a factory created on first use in OBO only mode
+    this.apiClientFactory = apiClientFactory;
+    this.oboServiceFactory = serviceFactory;
+
     this.sessionService = serviceFactory != null ? serviceFactory.getSessionService() : null;
     this.userService = serviceFactory != null ? serviceFactory.getUserService() : null;
     this.streamService = serviceFactory != null ? serviceFactory.getStreamService() : null;
@@ -141,13 +148,17 @@ public class SymphonyBdk {
     }
 
     // setup activities
-    this.activityRegistry = this.datafeedLoop != null ? new ActivityRegistry(this.botInfo, this.datafeedLoop) : null;
+    this.activityRegistry = this.datafeedLoop != null
+        ? new ActivityRegistry(this.botInfo, this.datafeedLoop, this.config.getActivity())
+        : null;
 
     // setup extension service
     this.extensionService = new ExtensionService(
         apiClientFactory,
         this.botSession,
-        new RetryWithRecoveryBuilder<>().retryConfig(this.config.getRetry()),
+        new RetryWithRecoveryBuilder<>()
+            .retryConfig(this.config.getRetry())
+            .retryBudget(RetryBudget.shared(this.config.getRetry())),
         this.config
     );
   }
@@ -297,13 +308,17 @@ public class SymphonyBdk {
   }
 
   /**
-   * Get an {@link OboServices} gathering all OBO enabled services
+   * Get an {@link OboServices} gathering all OBO enabled services.
+   * The returned services reuse the HTTP clients and connection pools of this BDK instance.
    *
    * @param oboSession the OBO session to use
    * @return an {@link OboServices} instance using the provided OBO session
    */
   public OboServices obo(AuthSession oboSession) {
-    return new OboServices(config, oboSession);
+    if (!this.config.isOboConfigured() && this.oboServiceFactory == null) {
+      return new OboServices(config, oboSession);
+    }
+    return new OboServices(this.getOboServiceFactory().withAuthSession(oboSession));
   }
 
   /**
@@ -349,6 +364,17 @@ public class SymphonyBdk {
     return this.extensionService;
   }
 
+  /**
+   * Releases the resources of this BDK instance: the asynchronous activities already submitted are completed and the
+   * threads running them are stopped. The datafeed and datahose loops should be stopped before.
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public void shutdown() {
+    if (this.activityRegistry != null) {
+      this.activityRegistry.shutdown();
+    }
+  }
+
   private <T> T getOrThrowNoBotConfig(T field) {
     return Optional.ofNullable(field).orElseThrow(BotNotConfiguredException::new);
   }
@@ -358,6 +384,13 @@ public class SymphonyBdk {
         .orElseThrow(() -> new IllegalStateException("Extension app is not configured."));
   }
 
+  private synchronized ServiceFactory getOboServiceFactory() {
+    if (this.oboServiceFactory == null) {
+      this.oboServiceFactory = new ServiceFactory(this.apiClientFactory, null, this.config);
+    }
+    return this.oboServiceFactory;
+  }
+
   protected OboAuthenticator getOboAuthenticator() {
     return Optional.ofNullable(this.oboAuthenticator)
         .orElseThrow(() -> new IllegalStateException("OBO is not configured."));
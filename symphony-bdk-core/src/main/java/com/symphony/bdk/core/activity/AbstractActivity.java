@@ -11,12 +11,18 @@ import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.apiguardian.api.API;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 /**
  * Base abstract class for activities provided by the BDK. Provides a generic flow to process an incoming chat event.
@@ -25,16 +31,19 @@ import java.util.function.Consumer;
 @API(status = API.Status.INTERNAL)
 public abstract class AbstractActivity<E, C extends ActivityContext<E>> {
 
+  private static final ClassValue<MethodHandle> CONTEXT_CONSTRUCTORS = new ClassValue<MethodHandle>() {
+    @Override
+    protected MethodHandle computeValue(Class<?> activityClass) {
+      return contextConstructor(activityClass);
+    }
+  };
+
   private ActivityInfo info;
-  private final ExecutorService executorService;
-
-  public AbstractActivity() {
-    ThreadFactory threadFactory = new ThreadFactoryBuilder()
-        .setName("Activity-Async-Thread")
-        .setPriority(Thread.NORM_PRIORITY)
-        .build();
-    executorService = Executors.newCachedThreadPool(threadFactory);
-  }
+
+  /**
+   * The executor of the asynchronous activities, shared by all the activities of a same {@link ActivityRegistry}
+   */
+  private ActivityExecutor executor;
 
   /**
    * Any kind of activity must provide an {@link ActivityMatcher} in order to detect if it can be applied to a certain
@@ -114,13 +123,31 @@ public abstract class AbstractActivity<E, C extends ActivityContext<E>> {
     final Optional<Boolean> matcherResult = this.executeMatcher(context);
     if (matcherResult.isPresent() && Boolean.TRUE.equals(matcherResult.get())) {
       if (isAsynchronous()) {
-        executorService.submit(() -> executeActivity(context));
+        this.executeAsynchronously(context);
       } else {
         executeActivity(context);
       }
     }
   }
 
+  private void executeAsynchronously(C context) {
+    // activities which are not registered in an ActivityRegistry fall back to a process-wide executor
+    final ActivityExecutor activityExecutor =
+        this.executor != null ? this.executor : ActivityExecutor.defaultExecutor();
+    try {
+      activityExecutor.execute(this, () -> executeActivity(context));
+    } catch (RejectedExecutionException ex) {
+      log.warn("Activity '{}' could not be executed asynchronously.", this.getInfo().name(), ex);
+    }
+  }
+
+  /**
+   * @param executor the executor of the asynchronous activities, provided by the {@link ActivityRegistry}
+   */
+  void setExecutor(ActivityExecutor executor) {
+    this.executor = executor;
+  }
+
   private void executeActivity(C context) {
     try {
       log.trace("Before activity execution");
@@ -144,13 +171,60 @@ public abstract class AbstractActivity<E, C extends ActivityContext<E>> {
     }
   }
 
+  /**
+   * Creates the context of an incoming event. By default, the context constructor taking the event initiator and the
+   * event payload is called, it is resolved once per activity class. Subclasses can override this method to create
+   * the context by themselves.
+   *
+   * @param initiator the event initiator
+   * @param event     the event payload
+   * @return a new activity context
+   */
   @SneakyThrows // assuming that this method can never fail
   @SuppressWarnings("unchecked")
   protected C createContextInstance(V4Initiator initiator, E event) {
-    final Class<C> clz = (Class<C>) ((ParameterizedType) getClass().getGenericSuperclass()).getActualTypeArguments()[0];
-    if (EventPayload.class.isAssignableFrom(event.getClass())) {
-      return clz.getConstructor(V4Initiator.class, event.getClass().getSuperclass()).newInstance(initiator, event);
+    return (C) (ActivityContext<?>) CONTEXT_CONSTRUCTORS.get(getClass()).invokeExact(initiator, (Object) event);
+  }
+
+  /**
+   * The context class is the first type argument of the activity superclass, e.g. {@code CommandContext} for an
+   * activity extending {@code CommandActivity<CommandContext>}. The event payload (possibly an {@link EventPayload}
+   * proxy) is cast to the constructor parameter type when invoked.
+   */
+  private static MethodHandle contextConstructor(Class<?> activityClass) {
+    final Class<?> contextClass =
+        (Class<?>) ((ParameterizedType) activityClass.getGenericSuperclass()).getActualTypeArguments()[0];
+    try {
+      final MethodHandle constructor = MethodHandles.publicLookup().unreflectConstructor(
+          contextClass.getConstructor(V4Initiator.class, eventClass(contextClass)));
+      return constructor.asType(MethodType.methodType(ActivityContext.class, V4Initiator.class, Object.class));
+    } catch (NoSuchMethodException | IllegalAccessException e) {
+      throw new IllegalStateException("Unable to find a public constructor (V4Initiator, event) in context class "
+          + contextClass.getName(), e);
+    }
+  }
+
+  /**
+   * @return the event type of a context class, i.e. the type argument of {@link ActivityContext}
+   */
+  private static Class<?> eventClass(Class<?> contextClass) throws NoSuchMethodException {
+    for (Class<?> current = contextClass; current != null; current = current.getSuperclass()) {
+      final Type superclass = current.getGenericSuperclass();
+      if (superclass instanceof ParameterizedType
+          && ((ParameterizedType) superclass).getRawType() == ActivityContext.class) {
+        final Type eventType = ((ParameterizedType) superclass).getActualTypeArguments()[0];
+        if (eventType instanceof Class) {
+          return (Class<?>) eventType;
+        }
+      }
+    }
+    // the event type is a type variable, looking for the single constructor taking the event initiator first
+    final List<Constructor<?>> constructors = Arrays.stream(contextClass.getConstructors())
+        .filter(c -> c.getParameterCount() == 2 && c.getParameterTypes()[0] == V4Initiator.class)
+        .collect(Collectors.toList());
+    if (constructors.size() != 1) {
+      throw new NoSuchMethodException("No single (V4Initiator, event) constructor in " + contextClass.getName());
     }
-    return clz.getConstructor(V4Initiator.class, event.getClass()).newInstance(initiator, event);
+    return constructors.get(0).getParameterTypes()[1];
   }
 }
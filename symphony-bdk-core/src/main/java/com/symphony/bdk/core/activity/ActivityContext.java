@@ -1,6 +1,7 @@
 package com.symphony.bdk.core.activity;
 
 import com.symphony.bdk.core.service.datafeed.EventPayload;
+import com.symphony.bdk.core.service.datafeed.RealTimeEventContext;
 import com.symphony.bdk.gen.api.model.V4Initiator;
 
 import lombok.Getter;
@@ -42,7 +43,7 @@ public abstract class ActivityContext<E> {
     if (EventPayload.class.isAssignableFrom(sourceEvent.getClass())) {
       this.eventTimestamp = ((EventPayload) sourceEvent).getEventTimestamp();
     } else {
-      this.eventTimestamp = null;
+      this.eventTimestamp = RealTimeEventContext.getEventTimestamp();
     }
   }
 
@@ -0,0 +1,258 @@
+package com.symphony.bdk.core.activity;
+
+import com.symphony.bdk.core.config.model.BdkActivityConfig;
+import com.symphony.bdk.core.util.VirtualThreads;
+import com.symphony.bdk.http.api.tracing.MDCUtils;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apiguardian.api.API;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Executor running the asynchronous activities, shared by all the activities of an {@link ActivityRegistry}.
+ * <p>
+ * The number of activities running or waiting to be run is bounded: when the limit is reached, the thread dispatching
+ * the real-time events waits for some space before submitting the next activity (back-pressure). The number of
+ * concurrent executions of a single activity can be limited as well, so that a burst of one command does not starve
+ * the other ones.
+ * <p>
+ * The executor also exposes a few metrics: queue depth, number of running activities, average time spent waiting in
+ * the queue and average execution time.
+ */
+@Slf4j
+@API(status = API.Status.EXPERIMENTAL)
+public class ActivityExecutor {
+
+  private static final String THREAD_NAME = "Activity-Async-Thread";
+  private static final long KEEP_ALIVE_SECONDS = 60L;
+  private static final long SHUTDOWN_TIMEOUT_SECONDS = 30L;
+
+  private final Executor executor;
+  private final ExecutorService ownedExecutorService;
+  private final Semaphore capacity;
+  private final int maxCapacity;
+  private final int maxConcurrencyPerActivity;
+  private final Map<AbstractActivity<?, ?>, Semaphore> activityPermits = new ConcurrentHashMap<>();
+  private volatile boolean shutdown;
+
+  private final AtomicInteger queued = new AtomicInteger();
+  private final AtomicInteger running = new AtomicInteger();
+  private final LongAdder completed = new LongAdder();
+  private final LongAdder queueNanos = new LongAdder();
+  private final LongAdder executionNanos = new LongAdder();
+
+  /**
+   * Creates an executor owning its workers, either a bounded pool of platform threads or virtual threads.
+   *
+   * @param config the activity configuration
+   */
+  ActivityExecutor(BdkActivityConfig config) {
+    final Optional<ThreadFactory> virtualThreadFactory =
+        config.isVirtualThreads() ? VirtualThreads.threadFactory(THREAD_NAME) : Optional.empty();
+    if (config.isVirtualThreads() && !virtualThreadFactory.isPresent()) {
+      log.warn("Virtual threads are not supported by the current Java runtime, platform threads will be used");
+    }
+
+    if (virtualThreadFactory.isPresent()) {
+      // one virtual thread per activity, the pool size then bounds the number of activities running concurrently
+      final ThreadFactory threadFactory = virtualThreadFactory.get();
+      this.executor = runnable -> threadFactory.newThread(runnable).start();
+      this.ownedExecutorService = null;
+      this.maxCapacity = config.getPoolSize();
+    } else {
+      final ThreadPoolExecutor pool = new ThreadPoolExecutor(config.getPoolSize(), config.getPoolSize(),
+          KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+          new ThreadFactoryBuilder().setName(THREAD_NAME).setPriority(Thread.NORM_PRIORITY).build());
+      // idle workers are stopped after the keep-alive time, the pool being stopped by shutdown()
+      pool.allowCoreThreadTimeOut(true);
+      this.executor = pool;
+      this.ownedExecutorService = pool;
+      this.maxCapacity = config.getPoolSize() + config.getQueueSize();
+    }
+    this.capacity = new Semaphore(this.maxCapacity);
+    this.maxConcurrencyPerActivity = config.getMaxConcurrencyPerActivity();
+  }
+
+  /**
+   * Creates an executor delegating to a caller-provided {@link ExecutorService}, which is then responsible for bounding
+   * the number of running activities. The provided executor service is not shut down by {@link #shutdown()}.
+   *
+   * @param executorService            the caller-provided executor service
+   * @param maxConcurrencyPerActivity  the maximum number of concurrent executions of a single activity, unlimited if
+   *                                   less than 1
+   */
+  ActivityExecutor(ExecutorService executorService, int maxConcurrencyPerActivity) {
+    this.executor = executorService;
+    this.ownedExecutorService = null;
+    this.capacity = null;
+    this.maxCapacity = 0;
+    this.maxConcurrencyPerActivity = maxConcurrencyPerActivity;
+  }
+
+  /**
+   * Submits an activity execution, waiting if the activity or the executor has reached its concurrency limit.
+   *
+   * @param activity the activity to be executed
+   * @param task     the activity execution
+   * @throws RejectedExecutionException if the executor has been shut down or if interrupted while waiting
+   */
+  void execute(AbstractActivity<?, ?> activity, Runnable task) {
+    if (this.shutdown) {
+      throw new RejectedExecutionException("Activity executor has been shut down");
+    }
+
+    final Semaphore activityPermit = this.maxConcurrencyPerActivity > 0
+        ? this.activityPermits.computeIfAbsent(activity, a -> new Semaphore(this.maxConcurrencyPerActivity))
+        : null;
+    acquire(activityPermit);
+    try {
+      acquire(this.capacity);
+    } catch (RejectedExecutionException e) {
+      release(activityPermit);
+      throw e;
+    }
+
+    final long submittedAt = System.nanoTime();
+    this.queued.incrementAndGet();
+    try {
+      this.executor.execute(MDCUtils.wrap(() -> this.run(activity, task, submittedAt, activityPermit)));
+    } catch (RejectedExecutionException e) {
+      this.queued.decrementAndGet();
+      release(this.capacity);
+      release(activityPermit);
+      throw e;
+    }
+  }
+
+  private void run(AbstractActivity<?, ?> activity, Runnable task, long submittedAt, Semaphore activityPermit) {
+    final long startedAt = System.nanoTime();
+    this.queued.decrementAndGet();
+    this.running.incrementAndGet();
+    this.queueNanos.add(startedAt - submittedAt);
+    try {
+      task.run();
+    } catch (RuntimeException e) {
+      log.warn("Asynchronous execution of activity '{}' failed.", activity.getInfo().name(), e);
+    } finally {
+      this.executionNanos.add(System.nanoTime() - startedAt);
+      this.completed.increment();
+      this.running.decrementAndGet();
+      release(this.capacity);
+      release(activityPermit);
+    }
+  }
+
+  /**
+   * Stops accepting new activities and waits for the submitted ones to complete. A caller-provided executor service
+   * is not shut down.
+   */
+  public void shutdown() {
+    this.shutdown = true;
+    try {
+      if (this.ownedExecutorService != null) {
+        this.ownedExecutorService.shutdown();
+        if (!this.ownedExecutorService.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+          log.warn("Activities still running after {} seconds, interrupting them", SHUTDOWN_TIMEOUT_SECONDS);
+          this.ownedExecutorService.shutdownNow();
+        }
+      } else if (this.capacity != null
+          && !this.capacity.tryAcquire(this.maxCapacity, SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+        log.warn("Activities still running after {} seconds", SHUTDOWN_TIMEOUT_SECONDS);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      if (this.ownedExecutorService != null) {
+        this.ownedExecutorService.shutdownNow();
+      }
+    }
+  }
+
+  /**
+   * @return true if {@link #shutdown()} has been called
+   */
+  public boolean isShutdown() {
+    return this.shutdown;
+  }
+
+  /**
+   * @return the number of activities submitted but not started yet
+   */
+  public int getQueueDepth() {
+    return this.queued.get();
+  }
+
+  /**
+   * @return the number of activities being executed
+   */
+  public int getRunningCount() {
+    return this.running.get();
+  }
+
+  /**
+   * @return the number of completed activity executions
+   */
+  public long getCompletedCount() {
+    return this.completed.sum();
+  }
+
+  /**
+   * @return the average time spent by the completed activities waiting to be started, in milliseconds
+   */
+  public double getAverageQueueLatencyMillis() {
+    return averageMillis(this.queueNanos);
+  }
+
+  /**
+   * @return the average execution time of the completed activities, in milliseconds
+   */
+  public double getAverageExecutionTimeMillis() {
+    return averageMillis(this.executionNanos);
+  }
+
+  private double averageMillis(LongAdder totalNanos) {
+    final long count = this.completed.sum();
+    return count == 0 ? 0 : totalNanos.sum() / (count * 1_000_000.0);
+  }
+
+  private static void acquire(Semaphore semaphore) {
+    if (semaphore == null) {
+      return;
+    }
+    try {
+      semaphore.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RejectedExecutionException("Interrupted while waiting for an activity to complete", e);
+    }
+  }
+
+  private static void release(Semaphore semaphore) {
+    if (semaphore != null) {
+      semaphore.release();
+    }
+  }
+
+  /**
+   * @return the executor used by the activities that are not registered in an {@link ActivityRegistry}
+   */
+  static ActivityExecutor defaultExecutor() {
+    return DefaultExecutorHolder.INSTANCE;
+  }
+
+  private static final class DefaultExecutorHolder {
+    private static final ActivityExecutor INSTANCE = new ActivityExecutor(new BdkActivityConfig());
+  }
+}
@@ -1,8 +1,11 @@
 package com.symphony.bdk.core.activity;
 
 import com.symphony.bdk.core.activity.command.CommandActivity;
-import com.symphony.bdk.core.activity.command.SlashCommand;
 import com.symphony.bdk.core.activity.command.HelpCommand;
+import com.symphony.bdk.core.activity.command.SlashCommand;
+import com.symphony.bdk.core.activity.model.ActivityInfo;
+import com.symphony.bdk.core.activity.model.ActivityType;
+import com.symphony.bdk.core.config.model.BdkActivityConfig;
 import com.symphony.bdk.core.service.datafeed.DatafeedLoop;
 import com.symphony.bdk.gen.api.model.UserV2;
 
@@ -12,6 +15,8 @@ import org.apiguardian.api.API;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
 
 /**
  * This class allows to bind an {@link AbstractActivity} to the Real Time Events source, or Datafeed.
@@ -20,6 +25,9 @@ import java.util.Optional;
  * If an activity to be registered is already existing in the registry, then the old one will be replaced.
  * In case of an activity of type {@link SlashCommand}, it will replace the old one if this latter has the same name and both require bot mention (or both don't).
  * If the activity has /help as name, then it will replace {@link HelpCommand} if it is already registered.
+ * <p>
+ * {@link SlashCommand}s are not subscribed to the Datafeed one by one: they are routed by a single listener matching
+ * incoming messages against all the registered command patterns at once.
  */
 @Slf4j
 @API(status = API.Status.STABLE)
@@ -40,9 +48,49 @@ public class ActivityRegistry {
    */
   private final DatafeedLoop datafeedLoop;
 
+  /**
+   * The router of the registered slash commands, subscribed to the Datafeed along with the first slash command
+   */
+  private final SlashCommandRouter slashCommandRouter;
+  private boolean slashCommandRouterSubscribed;
+
+  /**
+   * The executor of the asynchronous activities
+   */
+  private final ActivityExecutor executor;
+
   public ActivityRegistry(UserV2 botSession, DatafeedLoop datafeedLoop) {
+    this(botSession, datafeedLoop, new BdkActivityConfig());
+  }
+
+  /**
+   * @param botSession   the bot session info
+   * @param datafeedLoop the datafeed loop
+   * @param config       the configuration of the executor running the asynchronous activities
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public ActivityRegistry(UserV2 botSession, DatafeedLoop datafeedLoop, BdkActivityConfig config) {
+    this(botSession, datafeedLoop, new ActivityExecutor(config));
+  }
+
+  /**
+   * @param botSession      the bot session info
+   * @param datafeedLoop    the datafeed loop
+   * @param executorService the caller-provided executor service running the asynchronous activities, it is not shut
+   *                        down along with the registry
+   * @param config          the configuration of the activities, only the concurrency limit per activity is used
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public ActivityRegistry(UserV2 botSession, DatafeedLoop datafeedLoop, ExecutorService executorService,
+      BdkActivityConfig config) {
+    this(botSession, datafeedLoop, new ActivityExecutor(executorService, config.getMaxConcurrencyPerActivity()));
+  }
+
+  private ActivityRegistry(UserV2 botSession, DatafeedLoop datafeedLoop, ActivityExecutor executor) {
     this.botSession = botSession;
     this.datafeedLoop = datafeedLoop;
+    this.executor = executor;
+    this.slashCommandRouter = new SlashCommandRouter(() -> this.botSession.getId());
   }
 
   /**
@@ -59,6 +107,44 @@ public class ActivityRegistry {
     return new ArrayList<>(activityList);
   }
 
+  /**
+   * Retrieve the executor running the asynchronous activities, can be used for metrics or reporting.
+   *
+   * @return the activity executor
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public ActivityExecutor getExecutor() {
+    return this.executor;
+  }
+
+  /**
+   * Stops running asynchronous activities: activities already submitted are completed, new ones are rejected.
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public void shutdown() {
+    this.executor.shutdown();
+  }
+
+  /**
+   * Retrieve the details of the registered command activities, used for help generation. Slash commands come first,
+   * grouped by common prefix as routed, then the other command activities in registration order.
+   *
+   * @return the list of command activities info
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public List<ActivityInfo> getCommandInfos() {
+    final List<ActivityInfo> infos = this.slashCommandRouter.getCommands()
+        .stream()
+        .map(AbstractActivity::getInfo)
+        .collect(Collectors.toList());
+    this.activityList.stream()
+        .filter(a -> !(a instanceof SlashCommand))
+        .map(AbstractActivity::getInfo)
+        .filter(info -> ActivityType.COMMAND.equals(info.type()))
+        .forEach(infos::add);
+    return infos;
+  }
+
   private void preProcessActivity(AbstractActivity<?, ?> activity) {
 
     Optional<AbstractActivity<?, ?>> act = this.activityList.stream()
@@ -66,7 +152,11 @@ public class ActivityRegistry {
         .findFirst();
 
     act.ifPresent(abstractActivity -> {
-      abstractActivity.bindToRealTimeEventsSource(this.datafeedLoop::unsubscribe);
+      if (abstractActivity instanceof SlashCommand) {
+        this.slashCommandRouter.remove((SlashCommand) abstractActivity);
+      } else {
+        abstractActivity.bindToRealTimeEventsSource(this.datafeedLoop::unsubscribe);
+      }
       this.activityList.remove(abstractActivity);
       log.debug("One activity '{}' has been removed/unsubscribed in order to be replaced",
           abstractActivity.getInfo().name());
@@ -79,8 +169,23 @@ public class ActivityRegistry {
       ((CommandActivity<?>) activity).setBotUserId(this.botSession.getId());
     }
 
+    activity.setExecutor(this.executor);
+
+    if (activity instanceof SlashCommand) {
+      this.routeSlashCommand((SlashCommand) activity);
+      return;
+    }
+
     // make the activity to subscribe to its expected real-time event
     activity.bindToRealTimeEventsSource(this.datafeedLoop::subscribe);
   }
+
+  private void routeSlashCommand(SlashCommand command) {
+    this.slashCommandRouter.add(command);
+    if (!this.slashCommandRouterSubscribed) {
+      this.datafeedLoop.subscribe(this.slashCommandRouter.getListener());
+      this.slashCommandRouterSubscribed = true;
+    }
+  }
 }
 
@@ -0,0 +1,265 @@
+package com.symphony.bdk.core.activity;
+
+import com.symphony.bdk.core.activity.command.ParsedMessage;
+import com.symphony.bdk.core.activity.command.SlashCommand;
+import com.symphony.bdk.core.activity.parsing.ArgumentCommandToken;
+import com.symphony.bdk.core.activity.parsing.CommandToken;
+import com.symphony.bdk.core.activity.parsing.InputTokenizer;
+import com.symphony.bdk.core.activity.parsing.MatchingUserIdMentionToken;
+import com.symphony.bdk.core.activity.parsing.Mention;
+import com.symphony.bdk.core.activity.parsing.StaticCommandToken;
+import com.symphony.bdk.core.service.datafeed.EventException;
+import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
+import com.symphony.bdk.core.service.message.exception.PresentationMLParserException;
+import com.symphony.bdk.gen.api.model.V4Initiator;
+import com.symphony.bdk.gen.api.model.V4MessageSent;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apiguardian.api.API;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Routes incoming messages to the registered {@link SlashCommand}s through a single {@link RealTimeEventListener}.
+ * <p>
+ * The command patterns are organized as a prefix trie: static words are trie edges looked up by value while argument
+ * tokens are wildcard edges matching any input token of their type. The bot mention expected by the commands requiring
+ * it is checked once, at the root. A message is therefore matched in time proportional to its own number of tokens
+ * instead of the number of registered commands. Matching commands are then triggered in registration order, the same
+ * way they would have been if each of them had been subscribed to the datafeed. Messages whose text does not start with
+ * a command word or a mention are discarded after parsing only the beginning of their text, without being tokenized.
+ * <p>
+ * The trie is rebuilt each time a command is added or removed and published as an immutable snapshot, so that it can be
+ * read without locking by the datafeed loop.
+ */
+@Slf4j
+@API(status = API.Status.INTERNAL)
+class SlashCommandRouter {
+
+  // words containing regex special characters cannot be looked up by value
+  private static final Pattern REGEX_SPECIAL_CHARACTERS = Pattern.compile("[\\\\^$.|?*+()\\[\\]{}]");
+
+  private final Supplier<Long> botUserId;
+  private final List<Route> routes = new ArrayList<>();
+  private volatile Trie trie = new Trie(Collections.emptyList());
+
+  private final RealTimeEventListener listener = new RealTimeEventListener() {
+    @Override
+    public void onMessageSent(V4Initiator initiator, V4MessageSent event) throws EventException {
+      route(initiator, event);
+    }
+  };
+
+  SlashCommandRouter(Supplier<Long> botUserId) {
+    this.botUserId = botUserId;
+  }
+
+  /**
+   * @return the single listener to be subscribed to the datafeed on behalf of all the routed commands
+   */
+  RealTimeEventListener getListener() {
+    return this.listener;
+  }
+
+  /**
+   * @param command the command to be routed, it must not be subscribed to the datafeed by itself
+   */
+  synchronized void add(SlashCommand command) {
+    final AbstractActivity<?, ?> activity = command;
+    activity.bindToRealTimeEventsSource(commandListener -> this.routes.add(new Route(command, commandListener)));
+    this.trie = new Trie(this.routes);
+  }
+
+  /**
+   * @param command the command to not be routed anymore
+   */
+  synchronized void remove(SlashCommand command) {
+    this.routes.removeIf(route -> route.command == command);
+    this.trie = new Trie(this.routes);
+  }
+
+  /**
+   * @return the routed commands, grouped by common prefix
+   */
+  List<SlashCommand> getCommands() {
+    final Trie current = this.trie;
+    final List<SlashCommand> commands = new ArrayList<>();
+    current.mentionRoot.collect(current.routes, commands);
+    current.root.collect(current.routes, commands);
+    return commands;
+  }
+
+  private void route(V4Initiator initiator, V4MessageSent event) throws EventException {
+    final Trie current = this.trie;
+    final List<Object> tokens;
+    try {
+      final ParsedMessage parsedMessage = ParsedMessage.of(event.getMessage());
+      if (!current.mayMatch(event.getMessage().getMessage(), parsedMessage)) {
+        return;
+      }
+      tokens = parsedMessage.getTokens();
+    } catch (Exception e) {
+      log.warn("Unable to tokenize message {}, it cannot be routed to any slash command",
+          event.getMessage().getMessageId(), e);
+      return;
+    }
+
+    final BitSet matches = new BitSet(current.routes.size());
+    current.root.match(tokens, 0, matches);
+    if (!tokens.isEmpty() && this.isBotMention(tokens.get(0))) {
+      current.mentionRoot.match(tokens, 1, matches);
+    }
+
+    for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+      final Route route = current.routes.get(i);
+      try {
+        route.listener.onMessageSent(initiator, event);
+      } catch (EventException e) {
+        throw e; // to allow events to be re-queued in DFv2 loop
+      } catch (Exception e) {
+        log.debug("An uncaught exception has occurred while routing message to command {}",
+            route.command.getSlashCommandName(), e);
+      }
+    }
+  }
+
+  private boolean isBotMention(Object token) {
+    return token instanceof Mention && Objects.equals(this.botUserId.get(), ((Mention) token).getUserId());
+  }
+
+  private static final class Route {
+
+    private final SlashCommand command;
+    private final RealTimeEventListener listener;
+
+    private Route(SlashCommand command, RealTimeEventListener listener) {
+      this.command = command;
+      this.listener = listener;
+    }
+  }
+
+  /**
+   * Immutable snapshot of the routes organized as a prefix trie.
+   */
+  private static final class Trie {
+
+    private final List<Route> routes;
+    private final Node root = new Node();
+    private final Node mentionRoot = new Node();
+    // length of the text needed to discard the messages not starting with a command word, -1 if not possible
+    private final int prefixLength;
+
+    private Trie(List<Route> routes) {
+      this.routes = Collections.unmodifiableList(new ArrayList<>(routes));
+      for (int i = 0; i < this.routes.size(); i++) {
+        final List<CommandToken> tokens = this.routes.get(i).command.getCommandPattern().getTokens();
+        if (!tokens.isEmpty() && tokens.get(0) instanceof MatchingUserIdMentionToken) {
+          this.mentionRoot.insert(tokens, 1, i);
+        } else {
+          this.root.insert(tokens, 0, i);
+        }
+      }
+      this.prefixLength = this.root.wildcards.isEmpty() && this.root.routeIndexes.isEmpty()
+          ? Math.max(1, this.root.words.keySet().stream().mapToInt(String::length).max().orElse(0))
+          : -1;
+    }
+
+    /**
+     * Checks the beginning of the message text before it is tokenized: the first word token of a message is a prefix
+     * of its text, an entity might follow it without whitespace, and a mention text starts with '@'.
+     *
+     * @return false if the message cannot match any route
+     */
+    private boolean mayMatch(String presentationML, ParsedMessage parsedMessage) throws PresentationMLParserException {
+      if (this.prefixLength < 0 || !isPlainText(presentationML)) {
+        return true;
+      }
+      final String prefix = parsedMessage.getTextContent(this.prefixLength);
+      if (!this.mentionRoot.isEmpty() && prefix.startsWith("@")) {
+        return true;
+      }
+      return this.root.words.keySet().stream().anyMatch(prefix::startsWith);
+    }
+
+    /**
+     * @return true if the text content of the message is the text read by the {@link InputTokenizer}, i.e. there are
+     * no comments, processing instructions or entities unescaped twice
+     */
+    private static boolean isPlainText(String presentationML) {
+      return !presentationML.contains("<!--") && presentationML.indexOf("<?", 1) < 0
+          && !presentationML.contains("&amp;");
+    }
+  }
+
+  private static final class Node {
+
+    private final Map<String, Node> words = new LinkedHashMap<>();
+    private final Map<Object, Wildcard> wildcards = new LinkedHashMap<>();
+    private final List<Integer> routeIndexes = new ArrayList<>();
+
+    private void insert(List<CommandToken> tokens, int from, int routeIndex) {
+      if (from == tokens.size()) {
+        this.routeIndexes.add(routeIndex);
+        return;
+      }
+      final CommandToken token = tokens.get(from);
+      final Node child;
+      if (token instanceof StaticCommandToken
+          && !REGEX_SPECIAL_CHARACTERS.matcher(((StaticCommandToken) token).getValue()).find()) {
+        child = this.words.computeIfAbsent(((StaticCommandToken) token).getValue(), w -> new Node());
+      } else {
+        // all the arguments of a given type match the same input tokens, whatever their name
+        final Object key = token instanceof ArgumentCommandToken ? token.getTokenType() : token;
+        child = this.wildcards.computeIfAbsent(key, k -> new Wildcard(token)).node;
+      }
+      child.insert(tokens, from + 1, routeIndex);
+    }
+
+    private void match(List<Object> inputTokens, int from, BitSet matches) {
+      if (from == inputTokens.size()) {
+        this.routeIndexes.forEach(matches::set);
+        return;
+      }
+      final Object inputToken = inputTokens.get(from);
+      if (inputToken instanceof String) {
+        final Node child = this.words.get(inputToken);
+        if (child != null) {
+          child.match(inputTokens, from + 1, matches);
+        }
+      }
+      for (Wildcard wildcard : this.wildcards.values()) {
+        if (wildcard.token.matches(inputToken)) {
+          wildcard.node.match(inputTokens, from + 1, matches);
+        }
+      }
+    }
+
+    private boolean isEmpty() {
+      return this.routeIndexes.isEmpty() && this.words.isEmpty() && this.wildcards.isEmpty();
+    }
+
+    private void collect(List<Route> routes, List<SlashCommand> commands) {
+      this.routeIndexes.forEach(i -> commands.add(routes.get(i).command));
+      this.words.values().forEach(child -> child.collect(routes, commands));
+      this.wildcards.values().forEach(wildcard -> wildcard.node.collect(routes, commands));
+    }
+  }
+
+  private static final class Wildcard {
+
+    private final CommandToken token;
+    private final Node node = new Node();
+
+    private Wildcard(CommandToken token) {
+      this.token = token;
+    }
+  }
+}
@@ -5,10 +5,13 @@ import com.symphony.bdk.core.activity.parsing.Arguments;
 import com.symphony.bdk.gen.api.model.V4Initiator;
 import com.symphony.bdk.gen.api.model.V4MessageSent;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import org.apiguardian.api.API;
 
+import java.util.List;
+
 /**
  * Default implementation of the {@link ActivityContext} handled by the {@link CommandActivity}.
  */
@@ -31,10 +34,34 @@ public class CommandContext extends ActivityContext<V4MessageSent> {
    */
   private Arguments arguments;
 
+  /** Lazily parsed message, shared with the other command activities handling the same event */
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  private ParsedMessage parsedMessage;
+
   public CommandContext(V4Initiator initiator, V4MessageSent eventSource) {
     super(initiator, eventSource);
     this.streamId = eventSource.getMessage().getStream().getStreamId();
     this.messageId = eventSource.getMessage().getMessageId();
     this.arguments = new Arguments();
   }
+
+  /**
+   * The message is tokenized once per event, the tokens are shared by all the command activities.
+   *
+   * @return the unmodifiable list of tokens of the command message. Tokens can be of type {@link String},
+   * {@link com.symphony.bdk.core.activity.parsing.Mention}, {@link com.symphony.bdk.core.activity.parsing.Cashtag} or
+   * {@link com.symphony.bdk.core.activity.parsing.Hashtag}.
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public List<Object> getInputTokens() {
+    return this.parsedMessage().getTokens();
+  }
+
+  ParsedMessage parsedMessage() {
+    if (this.parsedMessage == null) {
+      this.parsedMessage = ParsedMessage.of(this.getSourceEvent().getMessage());
+    }
+    return this.parsedMessage;
+  }
 }
@@ -1,6 +1,5 @@
 package com.symphony.bdk.core.activity.command;
 
-import com.symphony.bdk.core.activity.AbstractActivity;
 import com.symphony.bdk.core.activity.ActivityRegistry;
 import com.symphony.bdk.core.activity.model.ActivityInfo;
 import com.symphony.bdk.core.activity.model.ActivityType;
@@ -37,10 +36,8 @@ public class HelpCommand extends SlashCommand {
    */
   @Override
   public void onActivity(CommandContext context) {
-    List<String> activities = this.activityRegistry.getActivityList()
+    List<String> activities = this.activityRegistry.getCommandInfos()
         .stream()
-        .map(AbstractActivity::getInfo)
-        .filter(info -> info.type().equals(ActivityType.COMMAND))
         .map(info -> {
           String str = "<li>" + info.name() + "%s" + "</li>";
           return info.description().isEmpty() ? String.format(str, "") : String.format(str, " - " + info.description());
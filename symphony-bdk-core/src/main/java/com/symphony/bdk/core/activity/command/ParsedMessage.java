@@ -0,0 +1,84 @@
+package com.symphony.bdk.core.activity.command;
+
+import com.symphony.bdk.core.activity.parsing.InputTokenizer;
+import com.symphony.bdk.core.service.datafeed.RealTimeEventContext;
+import com.symphony.bdk.core.service.message.exception.PresentationMLParserException;
+import com.symphony.bdk.core.service.message.util.PresentationMLParser;
+import com.symphony.bdk.gen.api.model.V4Message;
+
+import org.apiguardian.api.API;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Lazily parsed content of an incoming {@link V4Message}, shared by all the {@link CommandActivity}s.
+ * <p>
+ * Each command activity receives the same {@link com.symphony.bdk.gen.api.model.V4MessageSent} event, the message is
+ * therefore parsed once per event and attached to the {@link RealTimeEventContext}. Outside a datafeed listener
+ * callback, the message is parsed once per {@link CommandContext}.
+ * <p>
+ * Instances are not thread-safe, they are expected to be used by the thread dispatching the event.
+ */
+@API(status = API.Status.INTERNAL)
+public final class ParsedMessage {
+
+  private final V4Message message;
+  private String textContent;
+  private List<Object> tokens;
+
+  private ParsedMessage(V4Message message) {
+    this.message = message;
+  }
+
+  /**
+   * @param message the message to be parsed
+   * @return the parsed message shared by all the listeners of the event being dispatched on the current thread
+   */
+  public static ParsedMessage of(V4Message message) {
+    // the payload might be proxied for each listener, the underlying message is the same instance though
+    final ParsedMessage cached = RealTimeEventContext.getAttribute(ParsedMessage.class)
+        .filter(parsed -> parsed.message == message)
+        .orElse(null);
+    if (cached != null) {
+      return cached;
+    }
+    final ParsedMessage parsed = new ParsedMessage(message);
+    RealTimeEventContext.setAttribute(ParsedMessage.class, parsed);
+    return parsed;
+  }
+
+  /**
+   * @return the text content of the message
+   * @throws PresentationMLParserException if the message content cannot be parsed
+   */
+  public String getTextContent() throws PresentationMLParserException {
+    if (this.textContent == null) {
+      this.textContent = PresentationMLParser.getTextContent(this.message.getMessage());
+    }
+    return this.textContent;
+  }
+
+  /**
+   * @param maxLength the maximum length of the returned text
+   * @return the beginning of the text content of the message, only the beginning of the message being parsed if its
+   * whole text content is not known yet
+   * @throws PresentationMLParserException if the message content cannot be parsed
+   */
+  public String getTextContent(int maxLength) throws PresentationMLParserException {
+    if (this.textContent != null) {
+      return this.textContent.length() > maxLength ? this.textContent.substring(0, maxLength) : this.textContent;
+    }
+    return PresentationMLParser.getTextContent(this.message.getMessage(), true, maxLength);
+  }
+
+  /**
+   * @return the unmodifiable list of tokens of the message, as returned by {@link InputTokenizer#getTokens()}
+   */
+  public List<Object> getTokens() {
+    if (this.tokens == null) {
+      this.tokens = Collections.unmodifiableList(new InputTokenizer(this.message).getTokens());
+    }
+    return this.tokens;
+  }
+}
@@ -114,10 +114,18 @@ public class SlashCommand extends CommandActivity<CommandContext> {
     this.description = description;
   }
 
+  /**
+   * @return the command pattern, including the bot mention token if the bot has to be mentioned
+   */
+  @API(status = API.Status.INTERNAL)
+  public SlashCommandPattern getCommandPattern() {
+    return this.commandPattern;
+  }
+
   @Override
   public ActivityMatcher<CommandContext> matcher() {
     return context -> {
-      final MatchResult matchResult = this.commandPattern.getMatchResult(context.getSourceEvent().getMessage());
+      final MatchResult matchResult = this.commandPattern.getMatchResult(context.getInputTokens());
       if (matchResult.isMatching()) {
         context.setArguments(matchResult.getArguments());
       }
@@ -83,8 +83,14 @@ public class SlashCommandPattern {
    * @return the {@link MatchResult} object containing the status (matches or not) and the potential arguments.
    */
   public MatchResult getMatchResult(V4Message message) {
-    final List<Object> inputTokens = new InputTokenizer(message).getTokens();
+    return getMatchResult(new InputTokenizer(message).getTokens());
+  }
 
+  /**
+   * @param inputTokens the tokens of the input message, as returned by {@link InputTokenizer#getTokens()}
+   * @return the {@link MatchResult} object containing the status (matches or not) and the potential arguments.
+   */
+  public MatchResult getMatchResult(List<Object> inputTokens) {
     if (!matches(inputTokens)) {
       return new MatchResult(false);
     }
@@ -9,17 +9,26 @@ import java.util.regex.Pattern;
  */
 @API(status = API.Status.INTERNAL)
 public class StaticCommandToken implements RegexCommandToken {
-  private Pattern pattern;
+  private final String value;
+  private final Pattern pattern;
 
   /**
    *
    * @param pattern the string to be exactly matched. Begin and end anchors will be added to construct the regex pattern.
    */
   public StaticCommandToken(String pattern) {
+    this.value = pattern;
     this.pattern = Pattern.compile("^" + pattern + "$");
   }
 
   public Pattern getRegexPattern() {
     return pattern;
   }
+
+  /**
+   * @return the word as defined in the slash command pattern, might contain regex special characters.
+   */
+  public String getValue() {
+    return value;
+  }
 }
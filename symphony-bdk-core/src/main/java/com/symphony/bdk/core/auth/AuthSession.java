@@ -4,6 +4,9 @@ import com.symphony.bdk.core.auth.exception.AuthUnauthorizedException;
 
 import org.apiguardian.api.API;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 import javax.annotation.Nullable;
 
 /**
@@ -45,4 +48,21 @@ public interface AuthSession {
    * Trigger re-authentication to refresh tokens.
    */
   void refresh() throws AuthUnauthorizedException;
+
+  /**
+   * Trigger re-authentication to refresh tokens, without blocking the calling thread.
+   *
+   * @return a future completed once the tokens are refreshed, exceptionally with an {@link AuthUnauthorizedException} if
+   * the re-authentication failed.
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  default CompletableFuture<Void> refreshAsync() {
+    return CompletableFuture.runAsync(() -> {
+      try {
+        this.refresh();
+      } catch (AuthUnauthorizedException e) {
+        throw new CompletionException(e);
+      }
+    });
+  }
 }
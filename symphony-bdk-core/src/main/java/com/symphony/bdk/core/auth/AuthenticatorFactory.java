@@ -122,6 +122,7 @@ public class AuthenticatorFactory {
       return new OboAuthenticatorCertImpl(
           this.config.getRetry(),
           this.config.getApp().getAppId(),
+          this.config.getApp().getSessionCache(),
           this.apiClientFactory.getExtAppSessionAuthClient()
       );
     }
@@ -133,6 +134,7 @@ public class AuthenticatorFactory {
       return new OboAuthenticatorRsaImpl(
           this.config.getRetry(),
           this.config.getApp().getAppId(),
+          this.config.getApp().getSessionCache(),
           this.loadPrivateKeyFromAuthenticationConfig(this.config.getApp()),
           this.apiClientFactory.getLoginClient()
       );
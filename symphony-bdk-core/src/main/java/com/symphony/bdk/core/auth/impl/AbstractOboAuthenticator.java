@@ -3,6 +3,7 @@ package com.symphony.bdk.core.auth.impl;
 import com.symphony.bdk.core.auth.OboAuthenticator;
 import com.symphony.bdk.core.auth.exception.AuthUnauthorizedException;
 import com.symphony.bdk.core.config.model.BdkRetryConfig;
+import com.symphony.bdk.core.config.model.BdkSessionCacheConfig;
 import com.symphony.bdk.http.api.ApiException;
 
 import lombok.extern.slf4j.Slf4j;
@@ -13,6 +14,8 @@ import javax.annotation.Nonnull;
 /**
  * Abstract class to factorize the {@link OboAuthenticator} logic between RSA and certificate,
  * especially the retry logic on top of HTTP calls.
+ * <p>
+ * The OBO session tokens, by user id and by username, and the app session token are cached, see {@link AuthTokenCache}.
  */
 @Slf4j
 @API(status = API.Status.INTERNAL)
@@ -20,41 +23,107 @@ public abstract class AbstractOboAuthenticator implements OboAuthenticator {
 
   protected final String appId;
   private final AuthenticationRetry<String> authenticationRetry;
+  private final AuthTokenCache oboSessionCache;
+  private final AuthTokenCache appSessionCache;
 
   protected AbstractOboAuthenticator(BdkRetryConfig retryConfig, String appId) {
+    this(retryConfig, appId, new BdkSessionCacheConfig());
+  }
+
+  protected AbstractOboAuthenticator(BdkRetryConfig retryConfig, String appId, BdkSessionCacheConfig cacheConfig) {
     this.appId = appId;
     this.authenticationRetry = new AuthenticationRetry<>(retryConfig);
+    this.oboSessionCache = new AuthTokenCache(cacheConfig);
+    this.appSessionCache = new AuthTokenCache(cacheConfig);
   }
 
   protected String retrieveOboSessionTokenByUserId(@Nonnull Long userId) throws AuthUnauthorizedException {
-    final String appSessionToken = retrieveAppSessionToken();
-
-    final String unauthorizedErrorMessage = "Unable to authenticate on-behalf-of user with ID '" + userId + "'. "
-        + "It usually happens when the user has not installed the app with ID : " + appId;
-
-    return authenticationRetry.executeAndRetry("AbstractOboAuthenticator.retrieveOboSessionTokenByUserId", getBasePath(),
-        () -> authenticateAndRetrieveOboSessionToken(appSessionToken, userId), unauthorizedErrorMessage);
+    return this.oboSessionCache.get(userId, () -> {
+      final String unauthorizedErrorMessage = "Unable to authenticate on-behalf-of user with ID '" + userId + "'. "
+          + "It usually happens when the user has not installed the app with ID : " + appId;
+
+      return this.retrieveOboSessionToken(appSessionToken -> authenticationRetry.executeAndRetry(
+          "AbstractOboAuthenticator.retrieveOboSessionTokenByUserId", getBasePath(),
+          () -> authenticateAndRetrieveOboSessionToken(appSessionToken, userId), unauthorizedErrorMessage));
+    });
   }
 
   protected String retrieveOboSessionTokenByUsername(@Nonnull String username) throws AuthUnauthorizedException {
-    final String appSessionToken = retrieveAppSessionToken();
+    return this.oboSessionCache.get(username, () -> {
+      final String unauthorizedErrorMessage =
+          "Unable to authenticate on-behalf-of user with username '" + username + "'. "
+              + "It usually happens when the user has not installed the app with ID : " + appId;
+
+      return this.retrieveOboSessionToken(appSessionToken -> authenticationRetry.executeAndRetry(
+          "AbstractOboAuthenticator.retrieveOboSessionTokenByUsername", getBasePath(),
+          () -> authenticateAndRetrieveOboSessionToken(appSessionToken, username), unauthorizedErrorMessage));
+    });
+  }
 
-    final String unauthorizedErrorMessage =
-        "Unable to authenticate on-behalf-of user with username '" + username + "'. "
-            + "It usually happens when the user has not installed the app with ID : " + appId;
+  /**
+   * Removes the OBO session token of a user from the cache, unless it has already been replaced by a new one.
+   * Called when a session is refreshed, so that a new token is retrieved instead of the stale one.
+   *
+   * @param userId     the id of the user.
+   * @param staleToken the OBO session token which is not valid anymore.
+   */
+  protected void invalidateOboSessionToken(@Nonnull Long userId, String staleToken) {
+    this.oboSessionCache.invalidate(userId, staleToken);
+  }
 
-    return authenticationRetry.executeAndRetry("AbstractOboAuthenticator.retrieveOboSessionTokenByUsername", getBasePath(),
-        () -> authenticateAndRetrieveOboSessionToken(appSessionToken, username), unauthorizedErrorMessage);
+  /**
+   * Removes the OBO session token of a user from the cache, unless it has already been replaced by a new one.
+   * Called when a session is refreshed, so that a new token is retrieved instead of the stale one.
+   *
+   * @param username   the username of the user.
+   * @param staleToken the OBO session token which is not valid anymore.
+   */
+  protected void invalidateOboSessionToken(@Nonnull String username, String staleToken) {
+    this.oboSessionCache.invalidate(username, staleToken);
   }
 
   protected String retrieveAppSessionToken() throws AuthUnauthorizedException {
-    log.debug("Start authenticating app with id : {} ...", appId);
+    return this.appSessionCache.get(appId, () -> {
+      log.debug("Start authenticating app with id : {} ...", appId);
 
-    final String unauthorizedErrorMessage = "Unable to authenticate app with ID : " + appId + ". "
-        + "It usually happens when the app has not been configured or is not activated.";
+      final String unauthorizedErrorMessage = "Unable to authenticate app with ID : " + appId + ". "
+          + "It usually happens when the app has not been configured or is not activated.";
 
-    return authenticationRetry.executeAndRetry("AbstractOboAuthenticator.retrieveAppSessionToken", getBasePath(),
-        this::authenticateAndRetrieveAppSessionToken, unauthorizedErrorMessage);
+      return authenticationRetry.executeAndRetry("AbstractOboAuthenticator.retrieveAppSessionToken", getBasePath(),
+          this::authenticateAndRetrieveAppSessionToken, unauthorizedErrorMessage);
+    });
+  }
+
+  /**
+   * @return the cache of the OBO session tokens, exposing its hit rate and the authentication latency
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public AuthTokenCache getOboSessionCache() {
+    return this.oboSessionCache;
+  }
+
+  /**
+   * @return the cache of the app session token, exposing its hit rate and the authentication latency
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public AuthTokenCache getAppSessionCache() {
+    return this.appSessionCache;
+  }
+
+  private String retrieveOboSessionToken(OboAuthentication authentication) throws AuthUnauthorizedException {
+    final String cachedAppSessionToken = this.appSessionCache.peek(appId);
+    final String appSessionToken = retrieveAppSessionToken();
+    try {
+      return authentication.authenticate(appSessionToken);
+    } catch (AuthUnauthorizedException e) {
+      // a cached app session token might have been revoked, retry once with a new one
+      if (appSessionToken == null || !appSessionToken.equals(cachedAppSessionToken)
+          || !this.appSessionCache.invalidate(appId, appSessionToken)) {
+        throw e;
+      }
+      log.debug("Unauthorized with the cached app session token, retrying with a new one");
+      return authentication.authenticate(retrieveAppSessionToken());
+    }
   }
 
   protected abstract String authenticateAndRetrieveOboSessionToken(@Nonnull String appSessionToken,
@@ -66,4 +135,9 @@ public abstract class AbstractOboAuthenticator implements OboAuthenticator {
   protected abstract String authenticateAndRetrieveAppSessionToken() throws ApiException;
 
   protected abstract String getBasePath();
+
+  @FunctionalInterface
+  private interface OboAuthentication {
+    String authenticate(String appSessionToken) throws AuthUnauthorizedException;
+  }
 }
@@ -7,44 +7,83 @@ import com.symphony.bdk.core.service.version.model.AgentVersion;
 import com.symphony.bdk.gen.api.model.Token;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import lombok.extern.slf4j.Slf4j;
 import org.apiguardian.api.API;
 
+import java.lang.ref.WeakReference;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-
 /**
  * {@link AuthSession} impl for regular authentication mode.
+ * <p>
+ * The tokens are read without locking. Only one refresh runs at a time: a thread requesting a refresh while another
+ * one is running waits for it and reuses its result instead of authenticating again, asynchronous callers sharing the
+ * pending refresh without waiting. When a refresh scheduler is
+ * provided, the tokens are also renewed in the background shortly before they expire, according to the expiration
+ * date of the short-lived authorization token and of the session token when they are JWTs.
  */
+@Slf4j
 @API(status = API.Status.INTERNAL)
 public class AuthSessionImpl implements AuthSession {
 
   public static final Duration LEEWAY = Duration.ofSeconds(5);
-  private final AbstractBotAuthenticator authenticator;
 
   /**
-   * Long-lived Session JWT Token (for pod APIs).
+   * Tokens are renewed in the background this long before they expire.
    */
-  private String sessionToken;
+  static final Duration REFRESH_AHEAD = Duration.ofSeconds(30);
 
   /**
-   * Long-lived KM Token (for KM APIs).
+   * Delay before retrying a background refresh that failed.
    */
-  private String keyManagerToken;
+  static final Duration RETRY_DELAY = Duration.ofSeconds(30);
+
+  private static final long MIN_REFRESH_DELAY_MILLIS = 1000L;
+
+  private final AbstractBotAuthenticator authenticator;
+  private final ScheduledExecutorService refreshScheduler;
+  private final ReentrantLock refreshLock = new ReentrantLock();
 
   /**
-   * Short-lived access Token (for pod APIs).
+   * Current tokens, replaced as a whole by each refresh.
    */
-  private String authorizationToken;
-  private Long authTokenExpirationDate;
+  private volatile Tokens tokens = Tokens.EMPTY;
 
+  /**
+   * Next background refresh, guarded by {@link #refreshLock}.
+   */
+  private ScheduledFuture<?> scheduledRefresh;
+
+  /**
+   * Refresh started by {@link #refreshAsync()} and not completed yet, shared by the asynchronous callers.
+   */
+  private final AtomicReference<CompletableFuture<Void>> pendingRefresh = new AtomicReference<>();
 
   public AuthSessionImpl(@Nonnull AbstractBotAuthenticator authenticator) {
+    this(authenticator, null);
+  }
+
+  /**
+   * @param authenticator    the authenticator retrieving the tokens.
+   * @param refreshScheduler the scheduler renewing the tokens before they expire, null to only refresh them on demand.
+   */
+  public AuthSessionImpl(@Nonnull AbstractBotAuthenticator authenticator,
+      @Nullable ScheduledExecutorService refreshScheduler) {
     this.authenticator = authenticator;
+    this.refreshScheduler = refreshScheduler;
   }
 
   /**
@@ -53,7 +92,7 @@ public class AuthSessionImpl implements AuthSession {
   @Override
   public @Nullable
   String getSessionToken() {
-    return this.sessionToken;
+    return this.tokens.sessionToken;
   }
 
   /**
@@ -62,22 +101,25 @@ public class AuthSessionImpl implements AuthSession {
   @Override
   public @Nullable
   String getAuthorizationToken() throws AuthUnauthorizedException {
-    if(this.authorizationToken == null || this.authTokenExpirationDate == null) {
+    final Tokens current = this.tokens;
+    if (current.authorizationToken == null || current.authTokenExpirationDate == null) {
       throw new UnsupportedOperationException("Common JWT feature is not available in your pod, "
           + "SBE version should be at least 20.14.");
     }
-    if (Instant.now().plus(LEEWAY).isAfter(Instant.ofEpochSecond(authTokenExpirationDate))) {
-      refresh();
+    if (Instant.now().plus(LEEWAY).isAfter(Instant.ofEpochSecond(current.authTokenExpirationDate))) {
+      this.refresh(current, false);
+      return this.tokens.authorizationToken;
     }
-    return this.authorizationToken;
+    return current.authorizationToken;
   }
+
   /**
    * {@inheritDoc}
    */
   @Override
   public @Nullable
   String getKeyManagerToken() {
-    return this.keyManagerToken;
+    return this.tokens.keyManagerToken;
   }
 
   /**
@@ -85,40 +127,165 @@ public class AuthSessionImpl implements AuthSession {
    */
   @Override
   public void refresh() throws AuthUnauthorizedException {
-    if (this.sessionToken == null || !authenticator.isCommonJwtEnabled()) {
-      refreshAllTokens();
-    } else {
-      // as we are using a short-lived token and a refresh token, let's first try to refresh the short lived token
-      // this way we avoid generating extra login events
+    this.refresh(this.tokens, false);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The refresh runs on the refresh scheduler if any, in the common fork join pool otherwise. Concurrent callers get the
+   * same pending refresh.
+   */
+  @Override
+  public CompletableFuture<Void> refreshAsync() {
+    final CompletableFuture<Void> refresh = new CompletableFuture<>();
+    while (!this.pendingRefresh.compareAndSet(null, refresh)) {
+      final CompletableFuture<Void> pending = this.pendingRefresh.get();
+      if (pending != null) {
+        return pending;
+      }
+    }
+
+    final Tokens observed = this.tokens;
+    final Runnable task = () -> {
       try {
-        this.authorizationToken = authenticator.retrieveAuthorizationToken(sessionToken);
-        refreshExpirationDate();
-      } catch (AuthUnauthorizedException e) {
-        refreshAllTokens();
+        this.refresh(observed, false);
+        this.pendingRefresh.set(null);
+        refresh.complete(null);
+      } catch (AuthUnauthorizedException | RuntimeException e) {
+        this.pendingRefresh.set(null);
+        refresh.completeExceptionally(e);
       }
+    };
+    if (this.refreshScheduler != null) {
+      this.refreshScheduler.execute(task);
+    } else {
+      ForkJoinPool.commonPool().execute(task);
     }
+    return refresh;
   }
 
-  private void refreshAllTokens() throws AuthUnauthorizedException {
-    Token authToken = authenticator.retrieveSessionToken();
-    this.authorizationToken = authToken.getAuthorizationToken();
-    this.sessionToken = authToken.getToken();
-    refreshExpirationDate();
-    if (!JwtHelper.isSkdEnabled(this.sessionToken) || !isSkdSupported()) {
-      this.keyManagerToken = this.authenticator.retrieveKeyManagerToken();
+  /**
+   * Refreshes the tokens, unless they have been refreshed by another thread since they have been observed.
+   *
+   * @param observed     the tokens found stale or expired by the caller.
+   * @param renewSession true to retrieve a new session token even if the authorization token could be refreshed.
+   */
+  private void refresh(Tokens observed, boolean renewSession) throws AuthUnauthorizedException {
+    this.refreshLock.lock();
+    try {
+      if (this.tokens != observed) {
+        // refreshed by another thread in the meantime
+        return;
+      }
+      this.tokens = this.retrieveTokens(observed, renewSession);
+      this.scheduleRefresh(this.nextRefreshDelay(this.tokens));
+    } finally {
+      this.refreshLock.unlock();
+    }
+  }
+
+  private Tokens retrieveTokens(Tokens current, boolean renewSession) throws AuthUnauthorizedException {
+    if (renewSession || current.sessionToken == null || !authenticator.isCommonJwtEnabled()) {
+      return this.retrieveAllTokens(current);
+    }
+    // as we are using a short-lived token and a refresh token, let's first try to refresh the short lived token
+    // this way we avoid generating extra login events
+    try {
+      final String authorizationToken = authenticator.retrieveAuthorizationToken(current.sessionToken);
+      return new Tokens(current.sessionToken, current.keyManagerToken, authorizationToken,
+          extractExpirationDate(authorizationToken));
+    } catch (AuthUnauthorizedException e) {
+      return this.retrieveAllTokens(current);
     }
   }
 
-  private void refreshExpirationDate() throws AuthUnauthorizedException {
-    if (this.authorizationToken != null) {
+  private Tokens retrieveAllTokens(Tokens current) throws AuthUnauthorizedException {
+    final Token authToken = authenticator.retrieveSessionToken();
+    final String sessionToken = authToken.getToken();
+    final Long authTokenExpirationDate = extractExpirationDate(authToken.getAuthorizationToken());
+    final String keyManagerToken = !JwtHelper.isSkdEnabled(sessionToken) || !isSkdSupported()
+        ? this.authenticator.retrieveKeyManagerToken()
+        : current.keyManagerToken;
+    return new Tokens(sessionToken, keyManagerToken, authToken.getAuthorizationToken(), authTokenExpirationDate);
+  }
+
+  private static Long extractExpirationDate(String authorizationToken) throws AuthUnauthorizedException {
+    if (authorizationToken == null) {
+      return null;
+    }
+    try {
+      return JwtHelper.extractExpirationDate(authorizationToken);
+    } catch (JsonProcessingException | AuthUnauthorizedException e) {
+      throw new AuthUnauthorizedException("Unable to parse the Authorization token received.");
+    }
+  }
+
+  private Duration nextRefreshDelay(Tokens tokens) {
+    Instant expirationDate = tokens.authTokenExpirationDate != null
+        ? Instant.ofEpochSecond(tokens.authTokenExpirationDate)
+        : null;
+    final Instant sessionExpirationDate = tokens.sessionExpirationDate();
+    if (sessionExpirationDate != null && (expirationDate == null || sessionExpirationDate.isBefore(expirationDate))) {
+      expirationDate = sessionExpirationDate;
+    }
+    return expirationDate == null ? null : Duration.between(Instant.now(), expirationDate.minus(REFRESH_AHEAD));
+  }
+
+  private void scheduleRefresh(Duration delay) {
+    if (this.refreshScheduler == null) {
+      return;
+    }
+    if (this.scheduledRefresh != null) {
+      this.scheduledRefresh.cancel(false);
+      this.scheduledRefresh = null;
+    }
+    if (delay == null) {
+      return;
+    }
+    final long delayMillis = Math.max(MIN_REFRESH_DELAY_MILLIS, delay.toMillis());
+    // the scheduler only holds a weak reference, so that an unused session can be garbage collected
+    final WeakReference<AuthSessionImpl> session = new WeakReference<>(this);
+    this.scheduledRefresh = this.refreshScheduler.schedule(() -> {
+      final AuthSessionImpl authSession = session.get();
+      if (authSession != null) {
+        authSession.refreshBeforeExpiration();
+      }
+    }, delayMillis, TimeUnit.MILLISECONDS);
+  }
+
+  private void refreshBeforeExpiration() {
+    final Tokens current = this.tokens;
+    final Instant sessionExpirationDate = current.sessionExpirationDate();
+    final boolean renewSession = sessionExpirationDate != null
+        && !Instant.now().plus(REFRESH_AHEAD).isBefore(sessionExpirationDate);
+    try {
+      log.debug("Refreshing the authentication tokens before they expire");
+      this.refresh(current, renewSession);
+    } catch (AuthUnauthorizedException | RuntimeException e) {
+      log.warn("Unable to refresh the authentication tokens before they expire, retrying in {} seconds",
+          RETRY_DELAY.getSeconds(), e);
+      this.refreshLock.lock();
       try {
-        this.authTokenExpirationDate = JwtHelper.extractExpirationDate(authorizationToken);
-      } catch (JsonProcessingException | AuthUnauthorizedException e) {
-        throw new AuthUnauthorizedException("Unable to parse the Authorization token received.");
+        if (this.tokens == current) {
+          this.scheduleRefresh(RETRY_DELAY);
+        }
+      } finally {
+        this.refreshLock.unlock();
       }
     }
   }
 
+  /**
+   * Returns the scheduler shared by the bot sessions to renew their tokens in the background, created on first use.
+   * Its single daemon thread does not prevent the JVM from exiting.
+   *
+   * @return the shared refresh scheduler.
+   */
+  static ScheduledExecutorService sharedRefreshScheduler() {
+    return SharedRefreshScheduler.INSTANCE;
+  }
+
   /**
    * This method is only visible for testing.
    */
@@ -133,4 +300,58 @@ public class AuthSessionImpl implements AuthSession {
    }
    return currentVersion.get().isHigher(AgentVersion.AGENT_24_12);
   }
+
+  private static class SharedRefreshScheduler {
+    private static final ScheduledExecutorService INSTANCE = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      final Thread thread = new Thread(runnable, "AuthSession-Refresh");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  /**
+   * Immutable snapshot of the tokens of the session.
+   */
+  private static class Tokens {
+
+    private static final Tokens EMPTY = new Tokens(null, null, null, null);
+
+    /**
+     * Long-lived Session JWT Token (for pod APIs).
+     */
+    private final String sessionToken;
+
+    /**
+     * Long-lived KM Token (for KM APIs).
+     */
+    private final String keyManagerToken;
+
+    /**
+     * Short-lived access Token (for pod APIs).
+     */
+    private final String authorizationToken;
+    private final Long authTokenExpirationDate;
+
+    private Tokens(String sessionToken, String keyManagerToken, String authorizationToken,
+        Long authTokenExpirationDate) {
+      this.sessionToken = sessionToken;
+      this.keyManagerToken = keyManagerToken;
+      this.authorizationToken = authorizationToken;
+      this.authTokenExpirationDate = authTokenExpirationDate;
+    }
+
+    /**
+     * @return the expiration date of the session token, null if it is not a JWT with an expiration date
+     */
+    private Instant sessionExpirationDate() {
+      if (this.sessionToken == null) {
+        return null;
+      }
+      try {
+        return Instant.ofEpochSecond(JwtHelper.extractExpirationDate(this.sessionToken));
+      } catch (Exception e) {
+        return null;
+      }
+    }
+  }
 }
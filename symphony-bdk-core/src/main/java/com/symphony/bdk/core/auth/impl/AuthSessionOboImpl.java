@@ -64,9 +64,12 @@ public class AuthSessionOboImpl implements AuthSession {
    */
   @Override
   public void refresh() throws AuthUnauthorizedException {
+    // the current token, if any, is stale: it must not be served again by the authenticator cache
     if (this.userId != null) {
+      this.authenticator.invalidateOboSessionToken(this.userId, this.sessionToken);
       this.sessionToken = this.authenticator.retrieveOboSessionTokenByUserId(this.userId);
     } else if (this.username != null) {
+      this.authenticator.invalidateOboSessionToken(this.username, this.sessionToken);
       this.sessionToken = this.authenticator.retrieveOboSessionTokenByUsername(this.username);
     } else {
       throw new IllegalStateException("Both userId and username are null. One of them is mandatory to perform OBO authentication refresh.");
@@ -0,0 +1,260 @@
+package com.symphony.bdk.core.auth.impl;
+
+import com.symphony.bdk.core.auth.exception.AuthUnauthorizedException;
+import com.symphony.bdk.core.auth.jwt.JwtHelper;
+import com.symphony.bdk.core.config.model.BdkSessionCacheConfig;
+
+import org.apiguardian.api.API;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of authentication tokens, evicting the least recently used ones.
+ * <p>
+ * A token expires at the expiration date found in the token when it is a JWT, minus a small leeway, and at most after
+ * the configured time to live. Concurrent requests for the same missing key share a single authentication.
+ * <p>
+ * The cache also exposes a few metrics: hit and miss counts, hit rate and average authentication time.
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public class AuthTokenCache {
+
+  private static final Duration LEEWAY = Duration.ofSeconds(30);
+
+  private final boolean enabled;
+  private final int maxSize;
+  private final Duration ttl;
+  private final Clock clock;
+
+  private final Map<Object, Entry> entries;
+  private final Map<Object, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder loads = new LongAdder();
+  private final LongAdder loadNanos = new LongAdder();
+
+  AuthTokenCache(BdkSessionCacheConfig config) {
+    this(config, Clock.systemUTC());
+  }
+
+  AuthTokenCache(BdkSessionCacheConfig config, Clock clock) {
+    this.enabled = config.isEnabled();
+    this.maxSize = config.getMaxSize();
+    this.ttl = Duration.ofSeconds(config.getTtlSeconds());
+    this.clock = clock;
+    this.entries = new LinkedHashMap<Object, Entry>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Object, Entry> eldest) {
+        return size() > AuthTokenCache.this.maxSize;
+      }
+    };
+  }
+
+  /**
+   * Returns the token cached for the given key, or performs the authentication and caches the resulting token.
+   *
+   * @param key    the key of the token, e.g. a user id or a username.
+   * @param loader the authentication retrieving a new token.
+   * @return the cached or retrieved token.
+   * @throws AuthUnauthorizedException when the authentication fails.
+   */
+  String get(Object key, TokenLoader loader) throws AuthUnauthorizedException {
+    if (!this.enabled) {
+      return this.load(loader);
+    }
+
+    final String cached = this.getIfPresent(key);
+    if (cached != null) {
+      this.hits.increment();
+      return cached;
+    }
+    this.misses.increment();
+
+    final CompletableFuture<String> flight = new CompletableFuture<>();
+    final CompletableFuture<String> existing = this.inFlight.putIfAbsent(key, flight);
+    if (existing != null) {
+      return join(existing);
+    }
+
+    try {
+      // the token might have been cached by a flight that completed in the meantime
+      String token = this.getIfPresent(key);
+      if (token == null) {
+        token = this.load(loader);
+        this.put(key, token);
+      }
+      flight.complete(token);
+      return token;
+    } catch (AuthUnauthorizedException | RuntimeException e) {
+      flight.completeExceptionally(e);
+      throw e;
+    } finally {
+      this.inFlight.remove(key, flight);
+    }
+  }
+
+  /**
+   * Returns the token cached for the given key without performing any authentication nor updating the metrics.
+   *
+   * @param key the key of the token.
+   * @return the cached token, null if there is no valid token for this key.
+   */
+  String peek(Object key) {
+    return this.enabled ? this.getIfPresent(key) : null;
+  }
+
+  /**
+   * Removes the token cached for the given key, only if it is the given stale token. A token retrieved in the meantime
+   * by another session of the same user is kept.
+   *
+   * @param key        the key of the token.
+   * @param staleToken the token which is not valid anymore.
+   * @return true if the stale token has been removed.
+   */
+  boolean invalidate(Object key, String staleToken) {
+    if (!this.enabled || staleToken == null) {
+      return false;
+    }
+    synchronized (this.entries) {
+      final Entry entry = this.entries.get(key);
+      if (entry != null && staleToken.equals(entry.token)) {
+        this.entries.remove(key);
+        return true;
+      }
+      return false;
+    }
+  }
+
+  /**
+   * @return the number of tokens currently cached, some of them might be expired
+   */
+  public int size() {
+    synchronized (this.entries) {
+      return this.entries.size();
+    }
+  }
+
+  /**
+   * @return the number of requests served by a cached token
+   */
+  public long getHitCount() {
+    return this.hits.sum();
+  }
+
+  /**
+   * @return the number of requests which were not served by a cached token
+   */
+  public long getMissCount() {
+    return this.misses.sum();
+  }
+
+  /**
+   * @return the ratio of requests served by a cached token, 0 if no request has been made
+   */
+  public double getHitRate() {
+    final long hitCount = this.hits.sum();
+    final long total = hitCount + this.misses.sum();
+    return total == 0 ? 0 : (double) hitCount / total;
+  }
+
+  /**
+   * @return the number of authentications performed, successful or not
+   */
+  public long getAuthenticationCount() {
+    return this.loads.sum();
+  }
+
+  /**
+   * @return the average duration of the authentications, in milliseconds
+   */
+  public double getAverageAuthenticationTimeMillis() {
+    final long count = this.loads.sum();
+    return count == 0 ? 0 : this.loadNanos.sum() / (count * 1_000_000.0);
+  }
+
+  private String getIfPresent(Object key) {
+    synchronized (this.entries) {
+      final Entry entry = this.entries.get(key);
+      if (entry == null) {
+        return null;
+      }
+      if (!this.clock.instant().isBefore(entry.expiresAt)) {
+        this.entries.remove(key);
+        return null;
+      }
+      return entry.token;
+    }
+  }
+
+  private void put(Object key, String token) {
+    if (token == null) {
+      return;
+    }
+    final Entry entry = new Entry(token, this.expirationDate(token));
+    synchronized (this.entries) {
+      this.entries.put(key, entry);
+    }
+  }
+
+  private String load(TokenLoader loader) throws AuthUnauthorizedException {
+    final long start = System.nanoTime();
+    try {
+      return loader.load();
+    } finally {
+      this.loads.increment();
+      this.loadNanos.add(System.nanoTime() - start);
+    }
+  }
+
+  private Instant expirationDate(String token) {
+    final Instant maxExpirationDate = this.clock.instant().plus(this.ttl);
+    try {
+      final Instant tokenExpirationDate = Instant.ofEpochSecond(JwtHelper.extractExpirationDate(token)).minus(LEEWAY);
+      return tokenExpirationDate.isBefore(maxExpirationDate) ? tokenExpirationDate : maxExpirationDate;
+    } catch (Exception e) {
+      // not a JWT or no expiration date, the token is kept for the configured time to live
+      return maxExpirationDate;
+    }
+  }
+
+  private static String join(CompletableFuture<String> flight) throws AuthUnauthorizedException {
+    try {
+      return flight.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof AuthUnauthorizedException) {
+        throw (AuthUnauthorizedException) e.getCause();
+      }
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Authentication retrieving a new token.
+   */
+  @FunctionalInterface
+  interface TokenLoader {
+    String load() throws AuthUnauthorizedException;
+  }
+
+  private static class Entry {
+    private final String token;
+    private final Instant expiresAt;
+
+    private Entry(String token, Instant expiresAt) {
+      this.token = token;
+      this.expiresAt = expiresAt;
+    }
+  }
+}
@@ -48,7 +48,7 @@ public class BotAuthenticatorCertImpl extends AbstractBotAuthenticator {
   @Override
   @Nonnull
   public AuthSession authenticateBot() throws AuthUnauthorizedException {
-    AuthSessionImpl authSession = new AuthSessionImpl(this);
+    AuthSessionImpl authSession = new AuthSessionImpl(this, AuthSessionImpl.sharedRefreshScheduler());
     authSession.refresh();
     return authSession;
   }
@@ -56,7 +56,7 @@ public class BotAuthenticatorRsaImpl extends AbstractBotAuthenticator {
    */
   @Override
   public @Nonnull AuthSession authenticateBot() throws AuthUnauthorizedException {
-    final AuthSessionImpl authSession = new AuthSessionImpl(this);
+    final AuthSessionImpl authSession = new AuthSessionImpl(this, AuthSessionImpl.sharedRefreshScheduler());
     authSession.refresh();
     return authSession;
   }
@@ -3,6 +3,7 @@ package com.symphony.bdk.core.auth.impl;
 import com.symphony.bdk.core.auth.AuthSession;
 import com.symphony.bdk.core.auth.exception.AuthUnauthorizedException;
 import com.symphony.bdk.core.config.model.BdkRetryConfig;
+import com.symphony.bdk.core.config.model.BdkSessionCacheConfig;
 import com.symphony.bdk.gen.api.CertificateAuthenticationApi;
 import com.symphony.bdk.http.api.ApiClient;
 import com.symphony.bdk.http.api.ApiException;
@@ -24,7 +25,12 @@ public class OboAuthenticatorCertImpl extends AbstractOboAuthenticator {
   private final CertificateAuthenticationApi authenticationApi;
 
   public OboAuthenticatorCertImpl(BdkRetryConfig retryConfig, String appId, ApiClient sessionAuthClient) {
-    super(retryConfig, appId);
+    this(retryConfig, appId, new BdkSessionCacheConfig(), sessionAuthClient);
+  }
+
+  public OboAuthenticatorCertImpl(BdkRetryConfig retryConfig, String appId, BdkSessionCacheConfig cacheConfig,
+      ApiClient sessionAuthClient) {
+    super(retryConfig, appId, cacheConfig);
     this.authenticationApi = new CertificateAuthenticationApi(sessionAuthClient);
   }
 
@@ -4,6 +4,7 @@ import com.symphony.bdk.core.auth.AuthSession;
 import com.symphony.bdk.core.auth.exception.AuthUnauthorizedException;
 import com.symphony.bdk.core.auth.jwt.JwtHelper;
 import com.symphony.bdk.core.config.model.BdkRetryConfig;
+import com.symphony.bdk.core.config.model.BdkSessionCacheConfig;
 import com.symphony.bdk.gen.api.AuthenticationApi;
 import com.symphony.bdk.gen.api.model.AuthenticateRequest;
 import com.symphony.bdk.http.api.ApiClient;
@@ -29,7 +30,12 @@ public class OboAuthenticatorRsaImpl extends AbstractOboAuthenticator {
   private final PrivateKey appPrivateKey;
 
   public OboAuthenticatorRsaImpl(BdkRetryConfig retryConfig, String appId, PrivateKey appPrivateKey, ApiClient loginApiClient) {
-    super(retryConfig, appId);
+    this(retryConfig, appId, new BdkSessionCacheConfig(), appPrivateKey, loginApiClient);
+  }
+
+  public OboAuthenticatorRsaImpl(BdkRetryConfig retryConfig, String appId, BdkSessionCacheConfig cacheConfig,
+      PrivateKey appPrivateKey, ApiClient loginApiClient) {
+    super(retryConfig, appId, cacheConfig);
     this.appPrivateKey = appPrivateKey;
     this.authenticationApi = new AuthenticationApi(loginApiClient);
   }
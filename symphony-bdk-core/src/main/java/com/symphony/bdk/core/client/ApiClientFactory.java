@@ -1,14 +1,20 @@
 package com.symphony.bdk.core.client;
 
+import com.symphony.bdk.core.client.concurrency.AimdConcurrencyLimiter;
+import com.symphony.bdk.core.client.concurrency.ConcurrencyLimitedApiClient;
 import com.symphony.bdk.core.client.exception.ApiClientInitializationException;
 import com.symphony.bdk.core.client.loadbalancing.DatafeedLoadBalancedApiClient;
 import com.symphony.bdk.core.client.loadbalancing.RegularLoadBalancedApiClient;
+import com.symphony.bdk.core.client.ratelimit.EndpointRateLimiter;
+import com.symphony.bdk.core.client.ratelimit.RateLimitedApiClient;
 import com.symphony.bdk.core.config.model.BdkAgentConfig;
 import com.symphony.bdk.core.config.model.BdkAuthenticationConfig;
 import com.symphony.bdk.core.config.model.BdkCertificateConfig;
 import com.symphony.bdk.core.config.model.BdkClientConfig;
+import com.symphony.bdk.core.config.model.BdkConcurrencyLimitConfig;
 import com.symphony.bdk.core.config.model.BdkConfig;
 import com.symphony.bdk.core.config.model.BdkProxyConfig;
+import com.symphony.bdk.core.config.model.BdkRateLimitConfig;
 import com.symphony.bdk.core.util.ServiceLookup;
 import com.symphony.bdk.http.api.ApiClient;
 import com.symphony.bdk.http.api.ApiClientBuilder;
@@ -174,11 +180,38 @@ public class ApiClientFactory {
   }
 
   protected ApiClient buildClient(String contextPath, BdkClientConfig clientConfig) {
-    return getApiClientBuilder(clientConfig.getBasePath() + contextPath, clientConfig).build();
+    final ApiClient apiClient = getApiClientBuilder(clientConfig.getBasePath() + contextPath, clientConfig).build();
+    return limitRate(limitConcurrency(apiClient, clientConfig), clientConfig);
   }
 
   protected ApiClient buildAgentClient(String basePath, BdkAgentConfig agentConfig) {
-    return getApiClientBuilder(basePath, agentConfig).build();
+    return limitRate(limitConcurrency(getApiClientBuilder(basePath, agentConfig).build(), agentConfig), agentConfig);
+  }
+
+  /**
+   * Wraps the api client in a {@link ConcurrencyLimitedApiClient} if the concurrency limit is enabled for the target
+   * component, each api client having its own limit.
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  protected ApiClient limitConcurrency(ApiClient apiClient, BdkClientConfig clientConfig) {
+    final BdkConcurrencyLimitConfig concurrencyLimitConfig = clientConfig.getConcurrencyLimit();
+    if (concurrencyLimitConfig == null || !concurrencyLimitConfig.isEnabled()) {
+      return apiClient;
+    }
+    return new ConcurrencyLimitedApiClient(apiClient, new AimdConcurrencyLimiter(concurrencyLimitConfig));
+  }
+
+  /**
+   * Wraps the api client in a {@link RateLimitedApiClient} if the rate limit is enabled for the target component, each
+   * api client having its own rates. Calls wait for their rate before taking a concurrency permit.
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  protected ApiClient limitRate(ApiClient apiClient, BdkClientConfig clientConfig) {
+    final BdkRateLimitConfig rateLimitConfig = clientConfig.getRateLimit();
+    if (rateLimitConfig == null || !rateLimitConfig.isEnabled()) {
+      return apiClient;
+    }
+    return new RateLimitedApiClient(apiClient, new EndpointRateLimiter(rateLimitConfig));
   }
 
   protected ApiClient buildClientWithCertificate(BdkClientConfig clientConfig, String contextPath,
@@ -0,0 +1,135 @@
+package com.symphony.bdk.core.client.concurrency;
+
+import com.symphony.bdk.core.config.model.BdkConcurrencyLimitConfig;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apiguardian.api.API;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Limits the number of concurrent calls with an adaptive limit (AIMD: additive increase, multiplicative decrease).
+ * <p>
+ * While the calls are using at least half of the limit, each successful call increases the limit by the inverse of the
+ * limit, that is by one for each full window of successful calls. Each dropped call, i.e. failed because the target is
+ * overloaded or unavailable, multiplies the limit by {@link BdkConcurrencyLimitConfig#getBackoffRatio()}.
+ */
+@Slf4j
+@API(status = API.Status.INTERNAL)
+public class AimdConcurrencyLimiter {
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final double backoffRatio;
+  private final long maxWaitNanos;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition permitReleased = this.lock.newCondition();
+
+  private double limit;
+  private int inFlight;
+
+  public AimdConcurrencyLimiter(BdkConcurrencyLimitConfig config) {
+    this.minLimit = config.getMinLimit();
+    this.maxLimit = config.getMaxLimit();
+    this.backoffRatio = config.getBackoffRatio();
+    this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(config.getMaxWaitMillis());
+    this.limit = config.getInitialLimit();
+  }
+
+  /**
+   * Acquires a permit, waiting for at most {@link BdkConcurrencyLimitConfig#getMaxWaitMillis()} if the limit is reached.
+   *
+   * @return true if the permit has been acquired, false if the limit is still reached after waiting.
+   * @throws InterruptedException if the current thread is interrupted while waiting.
+   */
+  public boolean acquire() throws InterruptedException {
+    this.lock.lock();
+    try {
+      long remainingNanos = this.maxWaitNanos;
+      while (this.inFlight >= (int) this.limit) {
+        if (remainingNanos <= 0) {
+          return false;
+        }
+        remainingNanos = this.permitReleased.awaitNanos(remainingNanos);
+      }
+      this.inFlight++;
+      return true;
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  /**
+   * Acquires a permit without waiting.
+   *
+   * @return true if the permit has been acquired, false if the limit is reached.
+   */
+  public boolean tryAcquire() {
+    this.lock.lock();
+    try {
+      if (this.inFlight >= (int) this.limit) {
+        return false;
+      }
+      this.inFlight++;
+      return true;
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  /**
+   * Releases a permit acquired with {@link #acquire()} or {@link #tryAcquire()} and adapts the limit to the outcome of
+   * the call.
+   *
+   * @param dropped true if the call failed because the target is overloaded or unavailable.
+   */
+  public void release(boolean dropped) {
+    this.lock.lock();
+    try {
+      final int previousLimit = (int) this.limit;
+      if (dropped) {
+        this.limit = Math.max(this.minLimit, this.limit * this.backoffRatio);
+      } else if (this.inFlight * 2 >= this.limit) {
+        this.limit = Math.min(this.maxLimit, this.limit + 1 / this.limit);
+      }
+      this.inFlight--;
+
+      if ((int) this.limit != previousLimit) {
+        log.debug("Concurrency limit changed from {} to {}", previousLimit, (int) this.limit);
+      }
+      if ((int) this.limit > previousLimit) {
+        this.permitReleased.signalAll();
+      } else {
+        this.permitReleased.signal();
+      }
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  /**
+   * @return the current limit of concurrent calls.
+   */
+  public int getLimit() {
+    this.lock.lock();
+    try {
+      return (int) this.limit;
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  /**
+   * @return the number of calls currently holding a permit.
+   */
+  public int getInFlight() {
+    this.lock.lock();
+    try {
+      return this.inFlight;
+    } finally {
+      this.lock.unlock();
+    }
+  }
+}
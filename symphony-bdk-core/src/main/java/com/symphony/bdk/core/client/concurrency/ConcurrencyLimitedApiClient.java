@@ -0,0 +1,175 @@
+package com.symphony.bdk.core.client.concurrency;
+
+import com.symphony.bdk.http.api.ApiClient;
+import com.symphony.bdk.http.api.ApiException;
+import com.symphony.bdk.http.api.ApiResponse;
+import com.symphony.bdk.http.api.Pair;
+import com.symphony.bdk.http.api.auth.Authentication;
+import com.symphony.bdk.http.api.util.TypeReference;
+
+import org.apiguardian.api.API;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * An {@link ApiClient} implementation which limits the number of concurrent calls sent by another {@link ApiClient},
+ * so that excess calls are queued or shed instead of piling onto a degraded target.
+ * <p>
+ * Synchronous calls exceeding the limit wait for a permit, asynchronous calls are rejected right away. Rejected calls
+ * fail with a {@link ApiException} with the 429 (Too Many Requests) status code, so that they are retried like the ones
+ * rejected by the target itself.
+ */
+@API(status = API.Status.INTERNAL)
+public class ConcurrencyLimitedApiClient implements ApiClient {
+
+  private static final int TOO_MANY_REQUESTS = 429;
+
+  private final ApiClient apiClient;
+  private final AimdConcurrencyLimiter limiter;
+
+  public ConcurrencyLimitedApiClient(ApiClient apiClient, AimdConcurrencyLimiter limiter) {
+    this.apiClient = apiClient;
+    this.limiter = limiter;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> ApiResponse<T> invokeAPI(String path, String method, List<Pair> queryParams, Object body,
+      Map<String, String> headerParams, Map<String, String> cookieParams, Map<String, Object> formParams, String accept,
+      String contentType, String[] authNames, TypeReference<T> returnType) throws ApiException {
+    try {
+      if (!this.limiter.acquire()) {
+        throw this.limitReached();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ApiException("Interrupted while waiting to call " + this.getBasePath(), e);
+    }
+
+    Throwable error = null;
+    try {
+      return this.apiClient.invokeAPI(path, method, queryParams, body, headerParams, cookieParams, formParams, accept,
+          contentType, authNames, returnType);
+    } catch (ApiException | RuntimeException e) {
+      error = e;
+      throw e;
+    } finally {
+      this.limiter.release(isDropped(error));
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> CompletableFuture<ApiResponse<T>> invokeAPIAsync(String path, String method, List<Pair> queryParams,
+      Object body, Map<String, String> headerParams, Map<String, String> cookieParams, Map<String, Object> formParams,
+      String accept, String contentType, String[] authNames, TypeReference<T> returnType) {
+    if (!this.limiter.tryAcquire()) {
+      return CompletableFuture.failedFuture(this.limitReached());
+    }
+
+    CompletableFuture<ApiResponse<T>> response;
+    try {
+      response = this.apiClient.invokeAPIAsync(path, method, queryParams, body, headerParams, cookieParams, formParams,
+          accept, contentType, authNames, returnType);
+    } catch (RuntimeException e) {
+      response = CompletableFuture.failedFuture(e);
+    }
+    return response.whenComplete((result, error) -> this.limiter.release(isDropped(error)));
+  }
+
+  private ApiException limitReached() {
+    return new ApiException(TOO_MANY_REQUESTS, "Too many concurrent calls to " + this.getBasePath());
+  }
+
+  private static boolean isDropped(Throwable error) {
+    final Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    if (cause == null) {
+      return false;
+    }
+    // client errors are caused by the call itself, not by the load of the target
+    if (cause instanceof ApiException) {
+      final ApiException apiException = (ApiException) cause;
+      return apiException.isServerError() || apiException.isTooManyRequestsError();
+    }
+    return true;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getBasePath() {
+    return this.apiClient.getBasePath();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String parameterToString(Object param) {
+    return this.apiClient.parameterToString(param);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public List<Pair> parameterToPairs(String collectionFormat, String name, Object value) {
+    return this.apiClient.parameterToPairs(collectionFormat, name, value);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String selectHeaderAccept(String... accepts) {
+    return this.apiClient.selectHeaderAccept(accepts);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String selectHeaderContentType(String... contentTypes) {
+    return this.apiClient.selectHeaderContentType(contentTypes);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String escapeString(String str) {
+    return this.apiClient.escapeString(str);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Map<String, Authentication> getAuthentications() {
+    return this.apiClient.getAuthentications();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void addEnforcedAuthenticationScheme(String name) {
+    this.apiClient.addEnforcedAuthenticationScheme(name);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void rotate() {
+    this.apiClient.rotate();
+  }
+}
@@ -11,6 +11,7 @@ import org.apiguardian.api.API;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Concrete implementation of {@link LoadBalancedApiClient} used in datafeed services
@@ -34,4 +35,16 @@ public class DatafeedLoadBalancedApiClient extends LoadBalancedApiClient {
     return apiClient.invokeAPI(path, method, queryParams, body, headerParams, cookieParams, formParams, accept,
         contentType, authNames, returnType);
   }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> CompletableFuture<ApiResponse<T>> invokeAPIAsync(String path, String method, List<Pair> queryParams,
+      Object body, Map<String, String> headerParams, Map<String, String> cookieParams, Map<String, Object> formParams,
+      String accept, String contentType, String[] authNames, TypeReference<T> returnType) {
+
+    return apiClient.invokeAPIAsync(path, method, queryParams, body, headerParams, cookieParams, formParams, accept,
+        contentType, authNames, returnType);
+  }
 }
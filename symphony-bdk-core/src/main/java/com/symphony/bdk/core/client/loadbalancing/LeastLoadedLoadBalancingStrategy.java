@@ -0,0 +1,184 @@
+package com.symphony.bdk.core.client.loadbalancing;
+
+import com.symphony.bdk.core.config.model.BdkServerConfig;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apiguardian.api.API;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongSupplier;
+
+/**
+ * The {@link LoadBalancingStrategy} corresponding to the
+ * {@link com.symphony.bdk.core.config.model.BdkLoadBalancingMode#LEAST_LOADED} mode.
+ * <p>
+ * Each node is given a cost: its exponentially weighted moving average latency multiplied by its number of in-flight
+ * calls plus one. A new base path is picked by drawing two random nodes and taking the one with the lowest cost
+ * (power of two choices), which avoids sending all calls to the same node when several clients share the same view.
+ * <p>
+ * A node failing {@link #EJECTION_THRESHOLD} times in a row, i.e. returning a 5xx error or not responding, is ejected:
+ * it is not picked anymore until its ejection delay has elapsed. This delay starts at {@link #BASE_EJECTION_DURATION}
+ * and doubles each time the node is ejected again, up to {@link #MAX_EJECTION_DURATION}. When all nodes are ejected,
+ * they are all considered available again.
+ */
+@Slf4j
+@API(status = API.Status.EXPERIMENTAL)
+public class LeastLoadedLoadBalancingStrategy implements LoadBalancingStrategy {
+
+  static final int EJECTION_THRESHOLD = 3;
+  static final Duration BASE_EJECTION_DURATION = Duration.ofSeconds(10);
+  static final Duration MAX_EJECTION_DURATION = Duration.ofMinutes(5);
+
+  /**
+   * Weight of the latest call in the moving average latency.
+   */
+  private static final double LATENCY_WEIGHT = 0.2;
+
+  private final List<Node> nodes;
+  private final Map<String, Node> nodesByBasePath;
+  private final IntUnaryOperator random;
+  private final LongSupplier nanoClock;
+
+  /**
+   * @param nodes the list of nodes to be load balanced across.
+   */
+  public LeastLoadedLoadBalancingStrategy(List<BdkServerConfig> nodes) {
+    this(nodes, bound -> ThreadLocalRandom.current().nextInt(bound), System::nanoTime);
+  }
+
+  /**
+   * @param nodes     the list of nodes to be load balanced across.
+   * @param random    returns a random integer between 0 (inclusive) and the given bound (exclusive).
+   * @param nanoClock returns the current time in nanoseconds, as {@link System#nanoTime()}.
+   */
+  LeastLoadedLoadBalancingStrategy(List<BdkServerConfig> nodes, IntUnaryOperator random, LongSupplier nanoClock) {
+    this.nodes = new ArrayList<>();
+    this.nodesByBasePath = new LinkedHashMap<>();
+    for (BdkServerConfig nodeConfig : nodes) {
+      this.nodesByBasePath.computeIfAbsent(nodeConfig.getBasePath(), basePath -> {
+        final Node node = new Node(basePath);
+        this.nodes.add(node);
+        return node;
+      });
+    }
+    this.random = random;
+    this.nanoClock = nanoClock;
+  }
+
+  /**
+   * Gets a new base path by taking the least loaded of two randomly selected available nodes.
+   *
+   * @return the base path of the selected node.
+   */
+  @Override
+  public String getNewBasePath() {
+    final long now = nanoClock.getAsLong();
+    final List<Node> candidates = new ArrayList<>(nodes.size());
+    for (Node node : nodes) {
+      if (node.isAvailable(now)) {
+        candidates.add(node);
+      }
+    }
+    if (candidates.isEmpty()) {
+      // rather than failing all calls, let's consider all nodes available again
+      candidates.addAll(nodes);
+    }
+    if (candidates.size() == 1) {
+      return candidates.get(0).basePath;
+    }
+
+    final int first = random.applyAsInt(candidates.size());
+    final int second = (first + 1 + random.applyAsInt(candidates.size() - 1)) % candidates.size();
+    final Node firstNode = candidates.get(first);
+    final Node secondNode = candidates.get(second);
+    return (firstNode.cost() <= secondNode.cost() ? firstNode : secondNode).basePath;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void onCallStarted(String basePath) {
+    final Node node = nodesByBasePath.get(basePath);
+    if (node != null) {
+      node.inFlight.incrementAndGet();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void onCallCompleted(String basePath, long durationNanos, boolean failed) {
+    final Node node = nodesByBasePath.get(basePath);
+    if (node == null) {
+      return;
+    }
+    node.inFlight.decrementAndGet();
+    node.recordLatency(durationNanos);
+    if (failed) {
+      node.recordFailure(nanoClock.getAsLong());
+    } else {
+      node.recordSuccess();
+    }
+  }
+
+  private static class Node {
+
+    private final String basePath;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private double averageLatencyNanos;
+    private int consecutiveFailures;
+    private int ejections;
+    private long ejectedUntilNanos;
+    private boolean ejected;
+
+    private Node(String basePath) {
+      this.basePath = basePath;
+    }
+
+    private synchronized boolean isAvailable(long nowNanos) {
+      return !ejected || nowNanos - ejectedUntilNanos >= 0;
+    }
+
+    private synchronized double cost() {
+      // + 1 so that nodes without any latency measured yet are still compared by their in-flight calls
+      return (averageLatencyNanos + 1) * (inFlight.get() + 1);
+    }
+
+    private synchronized void recordLatency(long durationNanos) {
+      averageLatencyNanos = averageLatencyNanos == 0
+          ? durationNanos
+          : LATENCY_WEIGHT * durationNanos + (1 - LATENCY_WEIGHT) * averageLatencyNanos;
+    }
+
+    private synchronized void recordSuccess() {
+      consecutiveFailures = 0;
+      ejections = 0;
+      ejected = false;
+    }
+
+    private synchronized void recordFailure(long nowNanos) {
+      consecutiveFailures++;
+      if (consecutiveFailures < EJECTION_THRESHOLD || (ejected && nowNanos - ejectedUntilNanos < 0)) {
+        return;
+      }
+      // the shift is bounded to avoid an overflow, the maximum duration being reached anyway
+      final long ejectionNanos = Math.min(MAX_EJECTION_DURATION.toNanos(),
+          BASE_EJECTION_DURATION.toNanos() << Math.min(ejections, 10));
+      ejections++;
+      consecutiveFailures = 0;
+      ejected = true;
+      ejectedUntilNanos = nowNanos + ejectionNanos;
+      log.warn("Agent node {} ejected for {} seconds after {} consecutive failures", basePath,
+          Duration.ofNanos(ejectionNanos).getSeconds(), EJECTION_THRESHOLD);
+    }
+  }
+}
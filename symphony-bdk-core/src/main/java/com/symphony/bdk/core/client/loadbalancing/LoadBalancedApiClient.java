@@ -5,28 +5,42 @@ import com.symphony.bdk.core.client.exception.ApiClientInitializationException;
 import com.symphony.bdk.core.config.model.BdkConfig;
 import com.symphony.bdk.core.config.model.BdkLoadBalancingConfig;
 import com.symphony.bdk.http.api.ApiClient;
+import com.symphony.bdk.http.api.ApiException;
+import com.symphony.bdk.http.api.ApiInvoker;
+import com.symphony.bdk.http.api.ApiResponse;
 import com.symphony.bdk.http.api.Pair;
-
 import com.symphony.bdk.http.api.auth.Authentication;
+import com.symphony.bdk.http.api.util.TypeReference;
 
 import lombok.extern.slf4j.Slf4j;
 import org.apiguardian.api.API;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
 
 /**
  * An {@link ApiClient} implementation which load balances calls across several base URLs.
  * It contains an {@link ApiClient} (a non load-balanced api client) in order to target a specific base URL.
+ * <p>
+ * A single {@link ApiClient} is created per base URL and reused on each rotation, so that the connections to a node
+ * are kept alive across rotations. The current api client is read without locking.
  */
 @API(status = API.Status.INTERNAL)
 @Slf4j
 public abstract class LoadBalancedApiClient implements ApiClient {
 
   protected final ApiClientFactory apiClientFactory;
-  protected ApiClient apiClient;
+  protected volatile ApiClient apiClient;
+  private volatile Node currentNode;
   protected final BdkLoadBalancingConfig loadBalancingConfig;
   private final LoadBalancingStrategy loadBalancingStrategy;
+  private final Map<String, ApiClient> apiClients = new ConcurrentHashMap<>();
+  private final Set<String> enforcedAuthenticationSchemes = new CopyOnWriteArraySet<>();
 
   /**
    *
@@ -53,13 +67,12 @@ public abstract class LoadBalancedApiClient implements ApiClient {
 
   /**
    * This makes the api client target the provided basePath.
-   * It creates a new underlying RegularApiClient targeting the provided basePath.
+   * It reuses the underlying RegularApiClient targeting the provided basePath, or creates it on first use.
    *
    * @param basePath the base URL to target.
    */
   public void setBasePath(String basePath) {
-    log.debug("Set new base path to {}", basePath);
-    apiClient = apiClientFactory.getRegularAgentClient(basePath);
+    targetNode(basePath);
   }
 
   /**
@@ -67,7 +80,108 @@ public abstract class LoadBalancedApiClient implements ApiClient {
    */
   @Override
   public void rotate() {
-    setBasePath(loadBalancingStrategy.getNewBasePath());
+    nextNode();
+  }
+
+  /**
+   * Makes the api client target the next base path given by the load balancing strategy.
+   *
+   * @return the node targeted by the next base path, to be used by the current call even if another thread rotates
+   * in the meantime.
+   */
+  protected Node nextNode() {
+    return targetNode(loadBalancingStrategy.getNewBasePath());
+  }
+
+  /**
+   * @return the node targeting the base path, returned as built rather than read again from the shared field which
+   * another thread might have updated meanwhile.
+   */
+  private Node targetNode(String basePath) {
+    log.debug("Set new base path to {}", basePath);
+    final Node node = new Node(basePath, getNodeApiClient(basePath));
+    currentNode = node;
+    apiClient = node.apiClient;
+    return node;
+  }
+
+  /**
+   * @return the node currently targeted.
+   */
+  protected Node currentNode() {
+    return currentNode;
+  }
+
+  /**
+   * Sends a call to the given node, notifying the load balancing strategy of its duration and outcome.
+   *
+   * @param node    the node to send the call to.
+   * @param invoker the call, {@link ApiClient#invokeAPI} of the node api client.
+   * @return the api response.
+   * @throws ApiException if the call fails.
+   */
+  protected <T> ApiResponse<T> invokeNode(Node node, ApiInvoker<T, ApiResponse<T>> invoker, String path,
+      String method, List<Pair> queryParams, Object body, Map<String, String> headerParams,
+      Map<String, String> cookieParams, Map<String, Object> formParams, String accept, String contentType,
+      String[] authNames, TypeReference<T> returnType) throws ApiException {
+    loadBalancingStrategy.onCallStarted(node.basePath);
+    final long start = System.nanoTime();
+    Throwable error = null;
+    try {
+      return invoker.invoke(path, method, queryParams, body, headerParams, cookieParams, formParams, accept,
+          contentType, authNames, returnType);
+    } catch (ApiException | RuntimeException e) {
+      error = e;
+      throw e;
+    } finally {
+      loadBalancingStrategy.onCallCompleted(node.basePath, System.nanoTime() - start, isNodeFailure(error));
+    }
+  }
+
+  /**
+   * Asynchronous counterpart of
+   * {@link #invokeNode(Node, ApiInvoker, String, String, List, Object, Map, Map, Map, String, String, String[],
+   * TypeReference)}.
+   *
+   * @param node    the node to send the call to.
+   * @param invoker the call, {@link ApiClient#invokeAPIAsync} of the node api client.
+   * @return a future of the api response.
+   */
+  protected <T> CompletableFuture<ApiResponse<T>> invokeNodeAsync(Node node,
+      ApiInvoker<T, CompletableFuture<ApiResponse<T>>> invoker, String path, String method, List<Pair> queryParams,
+      Object body, Map<String, String> headerParams, Map<String, String> cookieParams, Map<String, Object> formParams,
+      String accept, String contentType, String[] authNames, TypeReference<T> returnType) {
+    loadBalancingStrategy.onCallStarted(node.basePath);
+    final long start = System.nanoTime();
+    CompletableFuture<ApiResponse<T>> response;
+    try {
+      response = invoker.invoke(path, method, queryParams, body, headerParams, cookieParams, formParams, accept,
+          contentType, authNames, returnType);
+    } catch (ApiException | RuntimeException e) {
+      response = CompletableFuture.failedFuture(e);
+    }
+    return response.whenComplete((result, error) -> loadBalancingStrategy.onCallCompleted(node.basePath,
+        System.nanoTime() - start, isNodeFailure(error)));
+  }
+
+  private static boolean isNodeFailure(Throwable error) {
+    final Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    if (cause == null) {
+      return false;
+    }
+    // client errors are caused by the call itself, not by the node
+    return !(cause instanceof ApiException) || ((ApiException) cause).isServerError();
+  }
+
+  private ApiClient getNodeApiClient(String basePath) {
+    return apiClients.computeIfAbsent(basePath, this::createNodeApiClient);
+  }
+
+  private ApiClient createNodeApiClient(String basePath) {
+    log.debug("Create api client for base path {}", basePath);
+    final ApiClient nodeApiClient = apiClientFactory.getRegularAgentClient(basePath);
+    enforcedAuthenticationSchemes.forEach(nodeApiClient::addEnforcedAuthenticationScheme);
+    return nodeApiClient;
   }
 
   /**
@@ -123,7 +237,8 @@ public abstract class LoadBalancedApiClient implements ApiClient {
    */
   @Override
   public void addEnforcedAuthenticationScheme(String name) {
-    this.apiClient.addEnforcedAuthenticationScheme(name);
+    this.enforcedAuthenticationSchemes.add(name);
+    this.apiClients.values().forEach(client -> client.addEnforcedAuthenticationScheme(name));
   }
 
   private void validateLoadBalancingConfiguration(BdkConfig config) {
@@ -142,4 +257,26 @@ public abstract class LoadBalancedApiClient implements ApiClient {
       throw new ApiClientInitializationException("Field \"nodes\" in loadBalancing is mandatory and must contain at least one element");
     }
   }
+
+  /**
+   * An agent node: its base path and the api client targeting it.
+   */
+  protected static class Node {
+
+    private final String basePath;
+    private final ApiClient apiClient;
+
+    private Node(String basePath, ApiClient apiClient) {
+      this.basePath = basePath;
+      this.apiClient = apiClient;
+    }
+
+    public String getBasePath() {
+      return basePath;
+    }
+
+    public ApiClient getApiClient() {
+      return apiClient;
+    }
+  }
 }
@@ -14,4 +14,24 @@ public interface LoadBalancingStrategy {
    * @return the new base path.
    */
   String getNewBasePath();
+
+  /**
+   * Notifies the strategy that a call to the given base path is about to be sent.
+   *
+   * @param basePath the base path returned by {@link #getNewBasePath()} and targeted by the call.
+   */
+  default void onCallStarted(String basePath) {
+    // nothing to do by default
+  }
+
+  /**
+   * Notifies the strategy that a call to the given base path has completed.
+   *
+   * @param basePath      the base path targeted by the call.
+   * @param durationNanos the duration of the call, in nanoseconds.
+   * @param failed        true if the node failed to handle the call, i.e. returned a 5xx error or did not respond.
+   */
+  default void onCallCompleted(String basePath, long durationNanos, boolean failed) {
+    // nothing to do by default
+  }
 }
@@ -36,6 +36,8 @@ public class LoadBalancingStrategyFactory {
         return new ExternalLoadBalancingStrategy(config.getRetry(), signalsApi);
       case RANDOM:
         return new RandomLoadBalancingStrategy(nodes);
+      case LEAST_LOADED:
+        return new LeastLoadedLoadBalancingStrategy(nodes);
       default:
         return new RoundRobinLoadBalancingStrategy(nodes);
     }
@@ -11,11 +11,14 @@ import org.apiguardian.api.API;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Concrete implementation of {@link LoadBalancedApiClient} where {@link #rotate()} is executed when
  * {@link #invokeAPI(String, String, List, Object, Map, Map, Map, String, String, String[], TypeReference)} is called
- * and if {@link #loadBalancingConfig} has the field stickiness set to false.
+ * and if {@link #loadBalancingConfig} has the field stickiness set to false. Each call is sent with the api client
+ * selected for it, regardless of concurrent rotations, and its duration and outcome are reported to the
+ * {@link LoadBalancingStrategy}.
  */
 @API(status = API.Status.INTERNAL)
 public class RegularLoadBalancedApiClient extends LoadBalancedApiClient {
@@ -32,11 +35,25 @@ public class RegularLoadBalancedApiClient extends LoadBalancedApiClient {
       Map<String, String> headerParams, Map<String, String> cookieParams, Map<String, Object> formParams, String accept,
       String contentType, String[] authNames, TypeReference<T> returnType) throws ApiException {
 
-    if (!loadBalancingConfig.isStickiness()) {
-      rotate();
-    }
+    final Node node = selectNode();
+    return invokeNode(node, node.getApiClient()::invokeAPI, path, method, queryParams, body, headerParams,
+        cookieParams, formParams, accept, contentType, authNames, returnType);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> CompletableFuture<ApiResponse<T>> invokeAPIAsync(String path, String method, List<Pair> queryParams,
+      Object body, Map<String, String> headerParams, Map<String, String> cookieParams, Map<String, Object> formParams,
+      String accept, String contentType, String[] authNames, TypeReference<T> returnType) {
+
+    final Node node = selectNode();
+    return invokeNodeAsync(node, node.getApiClient()::invokeAPIAsync, path, method, queryParams, body, headerParams,
+        cookieParams, formParams, accept, contentType, authNames, returnType);
+  }
 
-    return apiClient.invokeAPI(path, method, queryParams, body, headerParams, cookieParams, formParams, accept,
-        contentType, authNames, returnType);
+  private Node selectNode() {
+    return loadBalancingConfig.isStickiness() ? currentNode() : nextNode();
   }
 }
@@ -0,0 +1,168 @@
+package com.symphony.bdk.core.client.ratelimit;
+
+import com.symphony.bdk.core.config.model.BdkRateLimitConfig;
+import com.symphony.bdk.http.api.ApiException;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apiguardian.api.API;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Limits the rate of the calls made to a Symphony component with one {@link TokenBucket} per endpoint template.
+ * <p>
+ * The template of a path is the first configured one matching it, e.g. {@code /v4/stream/{sid}/message/create}.
+ * Otherwise, it is computed by replacing the path segments looking like identifiers (numbers and long opaque strings
+ * such as stream or message ids) by {@code {id}}.
+ */
+@Slf4j
+@API(status = API.Status.INTERNAL)
+public class EndpointRateLimiter {
+
+  private static final String RETRY_AFTER = "Retry-After";
+  private static final Pattern PATH_PARAMETER = Pattern.compile("\\{[^}/]+}");
+  private static final int MIN_ID_LENGTH = 20;
+  private static final int MAX_ENDPOINTS = 1000;
+  private static final String OTHER_ENDPOINTS = "{other}";
+
+  private final BdkRateLimitConfig config;
+  private final long maxWaitNanos;
+  private final List<Map.Entry<Pattern, String>> templates = new ArrayList<>();
+  private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+  private final LongSupplier nanoTime;
+  private final Clock clock;
+
+  public EndpointRateLimiter(BdkRateLimitConfig config) {
+    this(config, System::nanoTime, Clock.systemUTC());
+  }
+
+  EndpointRateLimiter(BdkRateLimitConfig config, LongSupplier nanoTime, Clock clock) {
+    this.config = config;
+    this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(config.getMaxWaitMillis());
+    this.nanoTime = nanoTime;
+    this.clock = clock;
+    config.getEndpoints().keySet().forEach(template -> this.templates.add(Map.entry(toPattern(template), template)));
+  }
+
+  /**
+   * Reserves a permit to call the given path.
+   *
+   * @param path the path of the call, without the base path nor the query parameters.
+   * @return the time to wait before making the call in nanoseconds, or -1 if the call would have to wait for more than
+   * {@link BdkRateLimitConfig#getMaxWaitMillis()}.
+   */
+  public long reserve(String path) {
+    return this.bucket(path).reserve(this.maxWaitNanos);
+  }
+
+  /**
+   * Adapts the rate of the endpoint to the outcome of a call.
+   *
+   * @param path  the path of the call.
+   * @param error the error of the call, null if it succeeded.
+   */
+  public void onResponse(String path, Throwable error) {
+    if (error == null) {
+      this.bucket(path).onSuccess();
+    } else if (isThrottled(error)) {
+      final long pauseMillis = this.retryAfterMillis((ApiException) error);
+      log.debug("Calls to {} are throttled, pausing them for {} ms", this.template(path), pauseMillis);
+      this.bucket(path).onThrottled(TimeUnit.MILLISECONDS.toNanos(pauseMillis));
+    }
+  }
+
+  /**
+   * @param path the path of a call.
+   * @return the template of the endpoint called.
+   */
+  public String template(String path) {
+    for (Map.Entry<Pattern, String> template : this.templates) {
+      if (template.getKey().matcher(path).matches()) {
+        return template.getValue();
+      }
+    }
+    return normalize(path);
+  }
+
+  private TokenBucket bucket(String path) {
+    String template = this.template(path);
+    if (this.buckets.size() >= MAX_ENDPOINTS && !this.buckets.containsKey(template)) {
+      template = OTHER_ENDPOINTS;
+    }
+    return this.buckets.computeIfAbsent(template, t -> new TokenBucket(
+        this.config.getEndpoints().getOrDefault(t, this.config.getPermitsPerSecond()), this.config.getBackoffRatio(),
+        this.nanoTime));
+  }
+
+  /**
+   * Only 429 responses sent by the server, i.e. with response headers, come from an actual throttling of the endpoint.
+   */
+  private static boolean isThrottled(Throwable error) {
+    return error instanceof ApiException && ((ApiException) error).isTooManyRequestsError()
+        && ((ApiException) error).getResponseHeaders() != null;
+  }
+
+  private long retryAfterMillis(ApiException exception) {
+    final String retryAfter = exception.getResponseHeaders().entrySet().stream()
+        .filter(header -> RETRY_AFTER.equalsIgnoreCase(header.getKey()))
+        .flatMap(header -> header.getValue().stream())
+        .findFirst()
+        .map(String::trim)
+        .orElse(null);
+    if (retryAfter == null) {
+      return this.config.getDefaultRetryAfterMillis();
+    }
+
+    try {
+      return TimeUnit.SECONDS.toMillis(Math.max(0L, Long.parseLong(retryAfter)));
+    } catch (NumberFormatException e) {
+      // not a number of seconds, so it should be an HTTP date
+    }
+    try {
+      final ZonedDateTime date = ZonedDateTime.parse(retryAfter, DateTimeFormatter.RFC_1123_DATE_TIME);
+      return Math.max(0L, Duration.between(this.clock.instant(), date.toInstant()).toMillis());
+    } catch (DateTimeParseException e) {
+      log.debug("Ignoring invalid {} header: {}", RETRY_AFTER, retryAfter);
+      return this.config.getDefaultRetryAfterMillis();
+    }
+  }
+
+  private static Pattern toPattern(String template) {
+    final StringBuilder regex = new StringBuilder();
+    final Matcher matcher = PATH_PARAMETER.matcher(template);
+    int start = 0;
+    while (matcher.find()) {
+      regex.append(Pattern.quote(template.substring(start, matcher.start()))).append("[^/]+");
+      start = matcher.end();
+    }
+    regex.append(Pattern.quote(template.substring(start)));
+    return Pattern.compile(regex.toString());
+  }
+
+  private static String normalize(String path) {
+    final String[] segments = path.split("/", -1);
+    for (int i = 0; i < segments.length; i++) {
+      if (isIdentifier(segments[i])) {
+        segments[i] = "{id}";
+      }
+    }
+    return String.join("/", segments);
+  }
+
+  private static boolean isIdentifier(String segment) {
+    return !segment.isEmpty() && (segment.chars().allMatch(Character::isDigit) || segment.length() >= MIN_ID_LENGTH
+        || segment.indexOf('%') >= 0 || segment.indexOf('=') >= 0);
+  }
+}
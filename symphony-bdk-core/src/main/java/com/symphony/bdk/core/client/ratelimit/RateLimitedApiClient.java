@@ -0,0 +1,170 @@
+package com.symphony.bdk.core.client.ratelimit;
+
+import com.symphony.bdk.http.api.ApiClient;
+import com.symphony.bdk.http.api.ApiException;
+import com.symphony.bdk.http.api.ApiResponse;
+import com.symphony.bdk.http.api.Pair;
+import com.symphony.bdk.http.api.auth.Authentication;
+import com.symphony.bdk.http.api.util.TypeReference;
+
+import org.apiguardian.api.API;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An {@link ApiClient} implementation which limits the rate of the calls sent by another {@link ApiClient} to each
+ * endpoint, so that callers wait locally instead of sending calls that would be throttled by the target.
+ * <p>
+ * Synchronous calls wait on the calling thread, asynchronous calls are delayed without blocking any thread. Calls
+ * which would have to wait for too long fail with a {@link ApiException} with the 429 (Too Many Requests) status code,
+ * so that they are retried like the ones throttled by the target itself.
+ */
+@API(status = API.Status.INTERNAL)
+public class RateLimitedApiClient implements ApiClient {
+
+  private static final int TOO_MANY_REQUESTS = 429;
+
+  private final ApiClient apiClient;
+  private final EndpointRateLimiter limiter;
+
+  public RateLimitedApiClient(ApiClient apiClient, EndpointRateLimiter limiter) {
+    this.apiClient = apiClient;
+    this.limiter = limiter;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> ApiResponse<T> invokeAPI(String path, String method, List<Pair> queryParams, Object body,
+      Map<String, String> headerParams, Map<String, String> cookieParams, Map<String, Object> formParams, String accept,
+      String contentType, String[] authNames, TypeReference<T> returnType) throws ApiException {
+    final long waitNanos = this.limiter.reserve(path);
+    if (waitNanos < 0) {
+      throw this.limitReached(path);
+    }
+    if (waitNanos > 0) {
+      try {
+        TimeUnit.NANOSECONDS.sleep(waitNanos);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new ApiException("Interrupted while waiting to call " + this.getBasePath() + path, e);
+      }
+    }
+
+    try {
+      final ApiResponse<T> response = this.apiClient.invokeAPI(path, method, queryParams, body, headerParams,
+          cookieParams, formParams, accept, contentType, authNames, returnType);
+      this.limiter.onResponse(path, null);
+      return response;
+    } catch (ApiException e) {
+      this.limiter.onResponse(path, e);
+      throw e;
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> CompletableFuture<ApiResponse<T>> invokeAPIAsync(String path, String method, List<Pair> queryParams,
+      Object body, Map<String, String> headerParams, Map<String, String> cookieParams, Map<String, Object> formParams,
+      String accept, String contentType, String[] authNames, TypeReference<T> returnType) {
+    final long waitNanos = this.limiter.reserve(path);
+    if (waitNanos < 0) {
+      return CompletableFuture.failedFuture(this.limitReached(path));
+    }
+
+    final CompletableFuture<Void> permit = waitNanos == 0 ? CompletableFuture.completedFuture(null)
+        : CompletableFuture.runAsync(() -> {}, CompletableFuture.delayedExecutor(waitNanos, TimeUnit.NANOSECONDS));
+    return permit
+        .thenCompose(v -> this.apiClient.invokeAPIAsync(path, method, queryParams, body, headerParams, cookieParams,
+            formParams, accept, contentType, authNames, returnType))
+        .whenComplete((result, error) -> this.limiter.onResponse(path, unwrap(error)));
+  }
+
+  private ApiException limitReached(String path) {
+    return new ApiException(TOO_MANY_REQUESTS,
+        "Rate limit of " + this.getBasePath() + this.limiter.template(path) + " exceeded");
+  }
+
+  private static Throwable unwrap(Throwable error) {
+    return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getBasePath() {
+    return this.apiClient.getBasePath();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String parameterToString(Object param) {
+    return this.apiClient.parameterToString(param);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public List<Pair> parameterToPairs(String collectionFormat, String name, Object value) {
+    return this.apiClient.parameterToPairs(collectionFormat, name, value);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String selectHeaderAccept(String... accepts) {
+    return this.apiClient.selectHeaderAccept(accepts);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String selectHeaderContentType(String... contentTypes) {
+    return this.apiClient.selectHeaderContentType(contentTypes);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String escapeString(String str) {
+    return this.apiClient.escapeString(str);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Map<String, Authentication> getAuthentications() {
+    return this.apiClient.getAuthentications();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void addEnforcedAuthenticationScheme(String name) {
+    this.apiClient.addEnforcedAuthenticationScheme(name);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void rotate() {
+    this.apiClient.rotate();
+  }
+}
@@ -0,0 +1,124 @@
+package com.symphony.bdk.core.client.ratelimit;
+
+import org.apiguardian.api.API;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket limiting the rate of the calls made to one endpoint.
+ * <p>
+ * The bucket holds up to one second of permits and is refilled at the current rate, a rate of 0 meaning no limit.
+ * Permits are reserved ahead of time: a call finding the bucket empty takes a permit anyway and waits until it is
+ * refilled, so that concurrent callers are spread over time instead of all retrying at once. The bucket can also be
+ * paused, typically until the time given by a {@code Retry-After} header, no permit being refilled meanwhile.
+ * <p>
+ * The rate is slowed down once per throttling episode, which lasts until the end of the pause and at least the time of
+ * one permit at the slowed down rate: the calls sent before the rate was slowed down are likely throttled as well. The
+ * rate is never slowed down below {@value #MIN_RATE_RATIO} of the configured one.
+ */
+@API(status = API.Status.INTERNAL)
+public class TokenBucket {
+
+  private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+  private static final double RECOVERY_STEP = 0.05;
+  private static final double MIN_RATE_RATIO = 0.05;
+
+  private final double maxRate;
+  private final double minRate;
+  private final double backoffRatio;
+  private final LongSupplier nanoTime;
+
+  private double rate;
+  private double tokens;
+  private long refilledAt;
+  private long throttledUntil;
+
+  public TokenBucket(double permitsPerSecond, double backoffRatio) {
+    this(permitsPerSecond, backoffRatio, System::nanoTime);
+  }
+
+  TokenBucket(double permitsPerSecond, double backoffRatio, LongSupplier nanoTime) {
+    this.maxRate = permitsPerSecond;
+    this.minRate = permitsPerSecond * MIN_RATE_RATIO;
+    this.backoffRatio = backoffRatio;
+    this.nanoTime = nanoTime;
+    this.rate = permitsPerSecond;
+    this.tokens = this.capacity();
+    this.refilledAt = nanoTime.getAsLong();
+    this.throttledUntil = this.refilledAt;
+  }
+
+  /**
+   * Reserves a permit if it is available within the given time.
+   *
+   * @param maxWaitNanos the maximum time to wait for the permit, in nanoseconds.
+   * @return the time to wait before using the permit in nanoseconds, or -1 if the permit is not available in time, in
+   * which case no permit is reserved.
+   */
+  public synchronized long reserve(long maxWaitNanos) {
+    final long now = this.nanoTime.getAsLong();
+    this.refill(now);
+
+    long waitNanos = Math.max(0L, this.refilledAt - now);
+    if (this.rate > 0 && this.tokens < 1) {
+      waitNanos += (long) Math.ceil((1 - this.tokens) / this.rate * NANOS_PER_SECOND);
+    }
+    if (waitNanos > maxWaitNanos) {
+      return -1L;
+    }
+    if (this.rate > 0) {
+      this.tokens--;
+    }
+    return waitNanos;
+  }
+
+  /**
+   * Pauses the bucket and slows its rate down after the endpoint has been throttled, unless it has already been slowed
+   * down during the current throttling episode.
+   *
+   * @param pauseNanos the time during which no call should be made, in nanoseconds.
+   */
+  public synchronized void onThrottled(long pauseNanos) {
+    final long now = this.nanoTime.getAsLong();
+    this.refill(now);
+
+    // permits already reserved cannot be taken back, but no new one is refilled before the end of the pause
+    this.refilledAt = Math.max(this.refilledAt, now + pauseNanos);
+    this.tokens = Math.min(this.tokens, 0);
+    if (now >= this.throttledUntil) {
+      this.rate = Math.max(this.minRate, this.rate * this.backoffRatio);
+      final long permitNanos = this.rate > 0 ? (long) Math.ceil(NANOS_PER_SECOND / this.rate) : 0L;
+      this.throttledUntil = now + permitNanos;
+    }
+    this.throttledUntil = Math.max(this.throttledUntil, now + pauseNanos);
+  }
+
+  /**
+   * Brings the rate a step closer to the configured one after a successful call.
+   */
+  public synchronized void onSuccess() {
+    if (this.rate < this.maxRate) {
+      this.refill(this.nanoTime.getAsLong());
+      this.rate = Math.min(this.maxRate, this.rate + this.maxRate * RECOVERY_STEP);
+    }
+  }
+
+  /**
+   * @return the current rate in permits per second, 0 meaning no limit.
+   */
+  public synchronized double getRate() {
+    return this.rate;
+  }
+
+  private void refill(long now) {
+    if (now > this.refilledAt) {
+      this.tokens = Math.min(this.capacity(), this.tokens + (now - this.refilledAt) * this.rate / NANOS_PER_SECOND);
+      this.refilledAt = now;
+    }
+  }
+
+  private double capacity() {
+    return Math.max(1, this.rate);
+  }
+}
@@ -0,0 +1,134 @@
+package com.symphony.bdk.core.retry;
+
+import com.symphony.bdk.core.retry.function.SupplierWithApiException;
+import com.symphony.bdk.http.api.ApiException;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apiguardian.api.API;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Predicate;
+
+/**
+ * Asynchronous counterpart of {@link RetryWithRecovery}: the attempts are started without blocking the calling thread,
+ * the next attempt being scheduled once the backoff interval has elapsed instead of sleeping in between, and the
+ * recovery strategies are run with {@link RecoveryStrategy#runRecoveryAsync()}.
+ *
+ * @param <T> the type of the object to be eventually returned by the {@link #supplier}
+ */
+@Slf4j
+@API(status = API.Status.INTERNAL)
+public abstract class AsyncRetryWithRecovery<T> {
+
+  private final SupplierWithApiException<? extends CompletionStage<T>> supplier;
+  private final Predicate<Exception> ignoreException;
+  private final List<RecoveryStrategy> recoveryStrategies;
+  private final String address;
+
+  public AsyncRetryWithRecovery(
+      SupplierWithApiException<? extends CompletionStage<T>> supplier,
+      Predicate<Exception> ignoreException,
+      List<RecoveryStrategy> recoveryStrategies,
+      String address
+  ) {
+    this.supplier = supplier;
+    this.ignoreException = ignoreException;
+    this.recoveryStrategies = recoveryStrategies;
+    this.address = address;
+  }
+
+  /**
+   * Returns the scheduler shared by the asynchronous retries to start their next attempts, created on first use.
+   * Its single daemon thread only starts the attempts and does not prevent the JVM from exiting.
+   *
+   * @return the shared retry scheduler.
+   */
+  public static ScheduledExecutorService sharedScheduler() {
+    return SharedScheduler.INSTANCE;
+  }
+
+  /**
+   * Method called by client which should implement the retry.
+   * This should call {@link #executeOnce()} for each attempt.
+   *
+   * @return a future of the object returned by the supplier, completed exceptionally if the max number of retries is
+   * exhausted or if any other exception is thrown by the supplier or the recovery functions.
+   */
+  public abstract CompletableFuture<T> execute();
+
+  /**
+   * This implements the logic corresponding to one attempt:
+   * calls the {@link #supplier}, completes with null if it fails with an exception satisfying {@link #ignoreException}
+   * and runs the recovery functions matching the exception otherwise.
+   *
+   * @return a future of the object returned by the {@link #supplier}, completed exceptionally with the exception of the
+   * {@link #supplier} once the recovery functions have run, or with the exception of a failed recovery function.
+   */
+  protected CompletableFuture<T> executeOnce() {
+    CompletionStage<T> attempt;
+    try {
+      attempt = this.supplier.get();
+    } catch (ApiException | RuntimeException e) {
+      attempt = CompletableFuture.failedFuture(e);
+    }
+
+    final CompletableFuture<T> result = new CompletableFuture<>();
+    attempt.whenComplete((value, error) -> {
+      if (error == null) {
+        result.complete(value);
+        return;
+      }
+      final Throwable cause = unwrap(error);
+      if (cause instanceof Exception && this.ignoreException.test((Exception) cause)) {
+        log.debug("{} ignored: {}", cause.getClass().getCanonicalName(), cause.getMessage());
+        result.complete(null);
+        return;
+      }
+      this.handleRecovery(cause).whenComplete((ignored, recoveryError) ->
+          result.completeExceptionally(recoveryError == null ? cause : unwrap(recoveryError)));
+    });
+    return result;
+  }
+
+  private CompletionStage<?> handleRecovery(Throwable t) {
+    CompletionStage<?> recovery = CompletableFuture.completedFuture(null);
+    if (!(t instanceof Exception)) {
+      return recovery;
+    }
+
+    final Exception e = (Exception) t;
+    boolean recoveryTriggered = false;
+    for (RecoveryStrategy recoveryStrategy : this.recoveryStrategies) {
+      if (recoveryStrategy.matches(e)) {
+        log.debug("Exception recovered", e);
+        recoveryTriggered = true;
+        recovery = recovery.thenCompose(previous -> recoveryStrategy.runRecoveryAsync());
+      }
+    }
+
+    if (!recoveryTriggered) {
+      log.error(RetryWithRecovery.networkIssueMessageError(e, this.address) + e.getMessage());
+    }
+    return recovery;
+  }
+
+  private static Throwable unwrap(Throwable error) {
+    return (error instanceof CompletionException || error instanceof ExecutionException) && error.getCause() != null
+        ? error.getCause()
+        : error;
+  }
+
+  private static class SharedScheduler {
+    private static final ScheduledExecutorService INSTANCE = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      final Thread thread = new Thread(runnable, "RetryWithRecovery-Scheduler");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+}
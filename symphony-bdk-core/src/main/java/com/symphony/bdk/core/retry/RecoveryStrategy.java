@@ -4,7 +4,11 @@ import com.symphony.bdk.core.retry.function.ConsumerWithThrowable;
 
 import org.apiguardian.api.API;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * Class used by {@link RetryWithRecovery} to store a recovery strategy,
@@ -16,6 +20,7 @@ public class RecoveryStrategy {
 
   private final Predicate<Exception> condition;
   private final ConsumerWithThrowable recovery;
+  private final Supplier<? extends CompletionStage<?>> asyncRecovery;
 
   /**
    *
@@ -25,8 +30,24 @@ public class RecoveryStrategy {
    * @param <T> the actual exception class
    */
   public <T extends Exception> RecoveryStrategy(Class<? extends T> exceptionType, Predicate<T> condition, ConsumerWithThrowable recovery) {
+    this(exceptionType, condition, recovery, null);
+  }
+
+  /**
+   *
+   * @param exceptionType the actual exception class
+   * @param condition the predicate which checks if a given exception corresponds to the recovery strategy
+   * @param recovery the recovery function to be executed when applicable
+   * @param asyncRecovery the non-blocking counterpart of the recovery function, used by {@link AsyncRetryWithRecovery}.
+   *                      If null, the recovery function is run in the {@link java.util.concurrent.ForkJoinPool#commonPool()}.
+   * @param <T> the actual exception class
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public <T extends Exception> RecoveryStrategy(Class<? extends T> exceptionType, Predicate<T> condition,
+      ConsumerWithThrowable recovery, Supplier<? extends CompletionStage<?>> asyncRecovery) {
     this.condition = e -> exceptionType.isAssignableFrom(e.getClass()) && condition.test(exceptionType.cast(e));
     this.recovery = recovery;
+    this.asyncRecovery = asyncRecovery;
   }
 
   /**
@@ -47,4 +68,23 @@ public class RecoveryStrategy {
   public void runRecovery() throws Throwable {
     this.recovery.consume();
   }
+
+  /**
+   * Runs the recovery function without blocking the calling thread.
+   *
+   * @return a stage completed once the recovery function has run, exceptionally if it failed.
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public CompletionStage<?> runRecoveryAsync() {
+    if (this.asyncRecovery != null) {
+      return this.asyncRecovery.get();
+    }
+    return CompletableFuture.runAsync(() -> {
+      try {
+        this.recovery.consume();
+      } catch (Throwable t) {
+        throw new CompletionException(t);
+      }
+    });
+  }
 }
@@ -0,0 +1,129 @@
+package com.symphony.bdk.core.retry;
+
+import com.symphony.bdk.core.config.model.BdkRetryBudgetConfig;
+import com.symphony.bdk.core.config.model.BdkRetryConfig;
+
+import org.apiguardian.api.API;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket limiting the share of retries among the calls made by the BDK services, so that retries do not pile
+ * onto a degraded backend.
+ * <p>
+ * Each successful call deposits {@link BdkRetryBudgetConfig#getRatio()} token and each retry withdraws one. When no
+ * token is left, a reserve refilled with {@link BdkRetryBudgetConfig#getMinRetriesPerSecond()} tokens per second is
+ * used instead, so that calls made at a low rate can still be retried.
+ */
+@API(status = API.Status.INTERNAL)
+public class RetryBudget {
+
+  /**
+   * The balance is stored in thousandths of token to be updated with a single compare-and-set.
+   */
+  private static final long SCALE = 1000L;
+
+  private static final Map<BdkRetryBudgetConfig, RetryBudget> SHARED_BUDGETS =
+      Collections.synchronizedMap(new WeakHashMap<>());
+
+  private final long deposit;
+  private final long maxBalance;
+  private final int minRetriesPerSecond;
+  private final LongSupplier nanoTime;
+  private final AtomicLong balance;
+  private double reserve;
+  private long lastRefillNanos;
+
+  public RetryBudget(BdkRetryBudgetConfig config) {
+    this(config, System::nanoTime);
+  }
+
+  RetryBudget(BdkRetryBudgetConfig config, LongSupplier nanoTime) {
+    this.deposit = Math.round(config.getRatio() * SCALE);
+    this.maxBalance = config.getMaxBalance() * SCALE;
+    this.minRetriesPerSecond = config.getMinRetriesPerSecond();
+    this.nanoTime = nanoTime;
+    this.balance = new AtomicLong();
+    this.reserve = this.minRetriesPerSecond;
+    this.lastRefillNanos = nanoTime.getAsLong();
+  }
+
+  /**
+   * Returns the budget shared by all the callers using the same configuration, so that a single budget applies to all
+   * the services of a bot.
+   *
+   * @param retryConfig the retry configuration holding the retry budget configuration.
+   * @return the shared budget, null if the retry budget is not enabled.
+   */
+  public static RetryBudget shared(BdkRetryConfig retryConfig) {
+    final BdkRetryBudgetConfig config = retryConfig == null ? null : retryConfig.getBudget();
+    if (config == null || !config.isEnabled()) {
+      return null;
+    }
+    return SHARED_BUDGETS.computeIfAbsent(config, RetryBudget::new);
+  }
+
+  /**
+   * Deposits the share of a retry earned by a successful call.
+   */
+  public void onSuccess() {
+    long current = this.balance.get();
+    while (current < this.maxBalance) {
+      if (this.balance.compareAndSet(current, Math.min(this.maxBalance, current + this.deposit))) {
+        return;
+      }
+      current = this.balance.get();
+    }
+  }
+
+  /**
+   * Withdraws one retry from the budget.
+   *
+   * @return true if the retry is allowed, false if the budget is spent.
+   */
+  public boolean tryRetry() {
+    long current = this.balance.get();
+    while (current >= SCALE) {
+      if (this.balance.compareAndSet(current, current - SCALE)) {
+        return true;
+      }
+      current = this.balance.get();
+    }
+    return this.tryWithdrawFromReserve();
+  }
+
+  /**
+   * Checks whether a retry would be allowed, without withdrawing it from the budget.
+   *
+   * @return true if the budget is not spent.
+   */
+  public boolean canRetry() {
+    return this.balance.get() >= SCALE || this.hasReserve();
+  }
+
+  private synchronized boolean hasReserve() {
+    this.refillReserve();
+    return this.reserve >= 1;
+  }
+
+  private synchronized boolean tryWithdrawFromReserve() {
+    this.refillReserve();
+    if (this.reserve >= 1) {
+      this.reserve -= 1;
+      return true;
+    }
+    return false;
+  }
+
+  private void refillReserve() {
+    final long now = this.nanoTime.getAsLong();
+    final double elapsedSeconds = (double) (now - this.lastRefillNanos) / TimeUnit.SECONDS.toNanos(1);
+    this.reserve = Math.min(this.minRetriesPerSecond, this.reserve + elapsedSeconds * this.minRetriesPerSecond);
+    this.lastRefillNanos = now;
+  }
+}
@@ -13,6 +13,9 @@ import java.net.ConnectException;
 import java.net.SocketTimeoutException;
 import java.net.UnknownHostException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Predicate;
 
 import javax.net.ssl.SSLHandshakeException;
@@ -52,11 +55,8 @@ public abstract class RetryWithRecovery<T> {
       final SupplierWithApiException<T> supplier
   ) {
 
-    final RetryWithRecovery<T> retry = RetryWithRecoveryBuilder.<T>from(baseRetryBuilder)
-        .name(name)
-        .supplier(supplier)
-        .basePath(address)
-        .build();
+    // the base builder is not copied, its retry for this name is reused from one call to another
+    final RetryWithRecovery<T> retry = baseRetryBuilder.build(name, address, supplier);
 
     try {
       return retry.execute();
@@ -67,6 +67,73 @@ public abstract class RetryWithRecovery<T> {
     }
   }
 
+  /**
+   * Asynchronous counterpart of {@link #executeAndRetry(RetryWithRecoveryBuilder, String, String,
+   * SupplierWithApiException)}: the attempts are started without blocking the calling thread and the next attempt is
+   * scheduled once the backoff interval has elapsed. The returned future completes exceptionally with the same
+   * exceptions as the ones thrown by {@link #executeAndRetry(RetryWithRecoveryBuilder, String, String,
+   * SupplierWithApiException)}.
+   *
+   * @param baseRetryBuilder the {@link RetryWithRecoveryBuilder} containing the base settings for the retry mechanism.
+   * @param name             the name of the retry, can be any string but should specific to the function being retried.
+   * @param address          the address targeted by the call.
+   * @param supplier         the supplier starting the call and returning its future result.
+   * @param <T>              the type of the object to be returned by the call.
+   * @return the future result of the call.
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public static <T> CompletableFuture<T> executeAndRetryAsync(
+      final RetryWithRecoveryBuilder<?> baseRetryBuilder,
+      final String name,
+      final String address,
+      final SupplierWithApiException<? extends CompletionStage<T>> supplier
+  ) {
+    return withRuntimeExceptions(baseRetryBuilder.buildAsync(name, address, supplier).execute(), address);
+  }
+
+  /**
+   * Performs an asynchronous call once, without retry nor recovery. The returned future completes exceptionally with
+   * the same exceptions as the ones thrown by {@link #executeAndRetry(RetryWithRecoveryBuilder, String, String,
+   * SupplierWithApiException)}.
+   *
+   * @param address  the address targeted by the call.
+   * @param supplier the supplier starting the call and returning its future result.
+   * @param <T>      the type of the object to be returned by the call.
+   * @return the future result of the call.
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public static <T> CompletableFuture<T> executeAsync(
+      final String address,
+      final SupplierWithApiException<CompletableFuture<T>> supplier
+  ) {
+    CompletableFuture<T> future;
+    try {
+      future = supplier.get();
+    } catch (ApiException | RuntimeException e) {
+      future = CompletableFuture.failedFuture(e);
+    }
+    return withRuntimeExceptions(future, address);
+  }
+
+  private static <T> CompletableFuture<T> withRuntimeExceptions(CompletableFuture<T> future, String address) {
+    final CompletableFuture<T> result = new CompletableFuture<>();
+    future.whenComplete((value, error) -> {
+      if (error == null) {
+        result.complete(value);
+        return;
+      }
+      final Throwable cause = error instanceof CompletionException && error.getCause() != null
+          ? error.getCause()
+          : error;
+      if (cause instanceof ApiException) {
+        result.completeExceptionally(new ApiRuntimeException((ApiException) cause));
+      } else {
+        result.completeExceptionally(new RuntimeException(networkIssueMessageError(cause, address), cause));
+      }
+    });
+    return result;
+  }
+
   public RetryWithRecovery(
       SupplierWithApiException<T> supplier,
       Predicate<Exception> ignoreException,
@@ -1,11 +1,14 @@
 package com.symphony.bdk.core.retry;
 
 import com.symphony.bdk.core.config.model.BdkRetryConfig;
+import com.symphony.bdk.core.retry.resilience4j.Resilience4jAsyncRetryWithRecovery;
 import com.symphony.bdk.core.retry.resilience4j.Resilience4jRetryWithRecovery;
 import com.symphony.bdk.core.retry.function.ConsumerWithThrowable;
 import com.symphony.bdk.core.retry.function.SupplierWithApiException;
 import com.symphony.bdk.http.api.ApiException;
 
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
 import org.apiguardian.api.API;
 
 import java.net.ConnectException;
@@ -14,7 +17,10 @@ import java.net.SocketTimeoutException;
 import java.net.UnknownHostException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import javax.annotation.Nonnull;
 
@@ -33,6 +39,13 @@ public class RetryWithRecoveryBuilder<T> {
   private Predicate<Throwable> retryOnExceptionPredicate;
   private Predicate<Exception> ignoreException;
   private List<RecoveryStrategy> recoveryStrategies;
+  private RetryBudget retryBudget;
+  private ScheduledExecutorService scheduler;
+  /**
+   * Holds the retries built so far, one per name. It is shared with the copies of this builder, as long as they keep
+   * the same {@link #retryConfig}, {@link #retryOnExceptionPredicate} and {@link #retryBudget}.
+   */
+  private volatile RetryRegistry retryRegistry;
 
   /**
    * Default constructor which ignores no exception
@@ -65,6 +78,9 @@ public class RetryWithRecoveryBuilder<T> {
     copy.retryConfig = from.retryConfig;
     copy.retryOnExceptionPredicate = from.retryOnExceptionPredicate;
     copy.ignoreException = from.ignoreException;
+    copy.retryBudget = from.retryBudget;
+    copy.scheduler = from.scheduler;
+    copy.retryRegistry = from.getRetryRegistry();
     return copy;
   }
 
@@ -136,6 +152,7 @@ public class RetryWithRecoveryBuilder<T> {
    */
   public RetryWithRecoveryBuilder<T> retryConfig(BdkRetryConfig retryConfig) {
     this.retryConfig = retryConfig;
+    this.retryRegistry = null;
     return this;
   }
 
@@ -171,6 +188,34 @@ public class RetryWithRecoveryBuilder<T> {
    */
   public RetryWithRecoveryBuilder<T> retryOnException(Predicate<Throwable> retryOnExceptionPredicate) {
     this.retryOnExceptionPredicate = retryOnExceptionPredicate;
+    this.retryRegistry = null;
+    return this;
+  }
+
+  /**
+   * Sets the budget limiting the share of retried calls and returns the modified builder. Each successful call earns a
+   * share of retry and each retry spends one, failed calls are not retried anymore once the budget is spent.
+   *
+   * @param retryBudget the budget to be used, null to retry failed calls regardless of the other calls.
+   * @return the modified builder instance.
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public RetryWithRecoveryBuilder<T> retryBudget(RetryBudget retryBudget) {
+    this.retryBudget = retryBudget;
+    this.retryRegistry = null;
+    return this;
+  }
+
+  /**
+   * Sets the scheduler starting the attempts of the asynchronous retries built by
+   * {@link #buildAsync(String, String, SupplierWithApiException)} and returns the modified builder.
+   *
+   * @param scheduler the scheduler to be used, null to use {@link AsyncRetryWithRecovery#sharedScheduler()}.
+   * @return the modified builder instance.
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public RetryWithRecoveryBuilder<T> scheduler(ScheduledExecutorService scheduler) {
+    this.scheduler = scheduler;
     return this;
   }
 
@@ -200,6 +245,23 @@ public class RetryWithRecoveryBuilder<T> {
     return this;
   }
 
+  /**
+   * Sets one recovery strategy which consists of a predicate on a thrown {@link ApiException},
+   * of a corresponding recovery function to be executed when condition is met
+   * and of its non-blocking counterpart to be executed by asynchronous retries.
+   *
+   * @param condition     the predicate to check if the exception should lead to the execution of the recovery function.
+   * @param recovery      the recovery function to be executed when condition is fulfilled.
+   * @param asyncRecovery the recovery function to be executed by asynchronous retries when condition is fulfilled.
+   * @return the modified builder instance.
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public RetryWithRecoveryBuilder<T> recoveryStrategy(Predicate<ApiException> condition,
+      ConsumerWithThrowable recovery, Supplier<? extends CompletionStage<?>> asyncRecovery) {
+    this.recoveryStrategies.add(new RecoveryStrategy(ApiException.class, condition, recovery, asyncRecovery));
+    return this;
+  }
+
   /**
    * Sets one recovery strategy which consists of a specific {@link Exception} type
    * and of a corresponding recovery function to be executed when exception is of the given provided type.
@@ -231,14 +293,120 @@ public class RetryWithRecoveryBuilder<T> {
    * @return a new instance of {@link RetryWithRecovery} based on the provided fields.
    */
   public RetryWithRecovery<T> build() {
+    if (this.name == null) {
+      return new Resilience4jRetryWithRecovery<>(
+          withdrawFromBudgetOnRetry(
+              Resilience4jRetryWithRecovery.createRetry(this.name, this.retryConfig, this.getRetryPredicate()),
+              this.retryBudget),
+          this.address,
+          this.withRetryBudget(this.supplier),
+          this.ignoreException,
+          this.recoveryStrategies
+      );
+    }
+    return this.build(this.name, this.address, this.supplier);
+  }
+
+  /**
+   * Builds a {@link RetryWithRecovery} for a single call, with the settings of this builder but the given name, address
+   * and supplier. Unlike {@link #from(RetryWithRecoveryBuilder)} followed by {@link #build()}, the builder is not copied
+   * and the underlying retry is reused across calls with the same name.
+   * <p>
+   * The recovery strategies are shared with this builder, they should not be modified while calls are running.
+   *
+   * @param name     the name of the {@link RetryWithRecovery}.
+   * @param address  the address targeted by the call.
+   * @param supplier the function to be called by the {@link RetryWithRecovery}.
+   * @param <R>      the type to be returned by {@link RetryWithRecovery#execute()}.
+   * @return a new instance of {@link RetryWithRecovery}.
+   */
+  public <R> RetryWithRecovery<R> build(String name, String address, SupplierWithApiException<R> supplier) {
     return new Resilience4jRetryWithRecovery<>(
-        this.name,
-        this.address,
-        this.retryConfig,
-        this.supplier,
-        this.retryOnExceptionPredicate,
+        this.getRetryRegistry().retry(name),
+        address,
+        this.withRetryBudget(supplier),
+        this.ignoreException,
+        this.recoveryStrategies
+    );
+  }
+
+  /**
+   * Builds an {@link AsyncRetryWithRecovery} for a single call, with the settings of this builder but the given name,
+   * address and supplier. The underlying retry is the same as the one of
+   * {@link #build(String, String, SupplierWithApiException)} for the same name.
+   * <p>
+   * The recovery strategies are shared with this builder, they should not be modified while calls are running.
+   *
+   * @param name     the name of the {@link AsyncRetryWithRecovery}.
+   * @param address  the address targeted by the call.
+   * @param supplier the function starting the call and returning its future result.
+   * @param <R>      the type to be returned by {@link AsyncRetryWithRecovery#execute()}.
+   * @return a new instance of {@link AsyncRetryWithRecovery}.
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public <R> AsyncRetryWithRecovery<R> buildAsync(String name, String address,
+      SupplierWithApiException<? extends CompletionStage<R>> supplier) {
+    return new Resilience4jAsyncRetryWithRecovery<>(
+        this.getRetryRegistry().retry(name),
+        this.scheduler == null ? AsyncRetryWithRecovery.sharedScheduler() : this.scheduler,
+        address,
+        this.withRetryBudgetAsync(supplier),
         this.ignoreException,
         this.recoveryStrategies
     );
   }
+
+  private RetryRegistry getRetryRegistry() {
+    RetryRegistry registry = this.retryRegistry;
+    if (registry == null) {
+      // concurrent callers may each create a registry: the last one is kept, the retries of the others are discarded
+      final RetryBudget budget = this.retryBudget;
+      registry = Resilience4jRetryWithRecovery.createRetryRegistry(this.retryConfig, this.getRetryPredicate());
+      registry.getEventPublisher().onEntryAdded(event -> withdrawFromBudgetOnRetry(event.getAddedEntry(), budget));
+      this.retryRegistry = registry;
+    }
+    return registry;
+  }
+
+  /**
+   * The budget is only checked here: the predicate is also evaluated for the last attempt, which is not retried. The
+   * retry is withdrawn from the budget once scheduled, see {@link #withdrawFromBudgetOnRetry(Retry, RetryBudget)}.
+   */
+  private Predicate<Throwable> getRetryPredicate() {
+    final RetryBudget budget = this.retryBudget;
+    final Predicate<Throwable> predicate = this.retryOnExceptionPredicate;
+    return budget == null ? predicate : t -> predicate.test(t) && budget.canRetry();
+  }
+
+  private static Retry withdrawFromBudgetOnRetry(Retry retry, RetryBudget budget) {
+    if (budget != null) {
+      // a concurrent retry might have taken the last token since the budget was checked, this one is not cancelled
+      retry.getEventPublisher().onRetry(event -> budget.tryRetry());
+    }
+    return retry;
+  }
+
+  private <R> SupplierWithApiException<R> withRetryBudget(SupplierWithApiException<R> supplier) {
+    final RetryBudget budget = this.retryBudget;
+    if (budget == null || supplier == null) {
+      return supplier;
+    }
+    return () -> {
+      final R result = supplier.get();
+      budget.onSuccess();
+      return result;
+    };
+  }
+
+  private <R> SupplierWithApiException<? extends CompletionStage<R>> withRetryBudgetAsync(
+      SupplierWithApiException<? extends CompletionStage<R>> supplier) {
+    final RetryBudget budget = this.retryBudget;
+    if (budget == null || supplier == null) {
+      return supplier;
+    }
+    return () -> supplier.get().thenApply(result -> {
+      budget.onSuccess();
+      return result;
+    });
+  }
 }
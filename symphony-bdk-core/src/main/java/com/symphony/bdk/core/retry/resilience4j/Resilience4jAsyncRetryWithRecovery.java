@@ -0,0 +1,59 @@
+package com.symphony.bdk.core.retry.resilience4j;
+
+import com.symphony.bdk.core.retry.AsyncRetryWithRecovery;
+import com.symphony.bdk.core.retry.RecoveryStrategy;
+import com.symphony.bdk.core.retry.function.SupplierWithApiException;
+import com.symphony.bdk.http.api.ApiException;
+
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+import org.apiguardian.api.API;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Predicate;
+
+/**
+ * This class aims to implement an asynchronous retry mechanism (on top of a {@link Retry})
+ * with different recovery strategies based on predicates.
+ * The next attempt is scheduled on a {@link ScheduledExecutorService}, no thread is blocked during the backoff interval.
+ * @param <T> the type of the object returned by {@link #execute()}
+ */
+@API(status = API.Status.INTERNAL)
+public class Resilience4jAsyncRetryWithRecovery<T> extends AsyncRetryWithRecovery<T> {
+  private final Retry retry;
+  private final ScheduledExecutorService scheduler;
+
+  /**
+   * Constructor reusing an existing {@link Retry}, e.g. one held by a {@link RetryRegistry}.
+   * @param retry the {@link Retry} service to be used.
+   * @param scheduler the scheduler starting the attempts after the backoff interval.
+   * @param address the address targeted by the calls.
+   * @param supplier the supplier starting the call and returning its future result, which may fail with an {@link ApiException}.
+   * @param ignoreException predicate on a thrown {@link Exception} to know if exception should be ignored,
+   *                           which means no subsequent retry will be made and null value will be returned.
+   * @param recoveryStrategies mapping between {@link Predicate<ApiException>} and the corresponding recovery functions to be executed before retrying.
+   *                           If several predicates match, all corresponding consumers will be executed.
+   */
+  public Resilience4jAsyncRetryWithRecovery(Retry retry, ScheduledExecutorService scheduler, String address,
+      SupplierWithApiException<? extends CompletionStage<T>> supplier, Predicate<Exception> ignoreException,
+      List<RecoveryStrategy> recoveryStrategies) {
+    super(supplier, ignoreException, recoveryStrategies, address);
+    this.retry = retry;
+    this.scheduler = scheduler;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<T> execute() {
+    return this.retry.executeCompletionStage(this.scheduler, this::executeOnce).toCompletableFuture();
+  }
+
+  Retry getRetry() {
+    return this.retry;
+  }
+}
@@ -9,6 +9,7 @@ import com.symphony.bdk.http.api.ApiException;
 
 import io.github.resilience4j.retry.Retry;
 import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.apiguardian.api.API;
 
@@ -58,6 +59,38 @@ public class Resilience4jRetryWithRecovery<T> extends RetryWithRecovery<T> {
     this.retry = createRetry(name, bdkRetryConfig, retryOnExceptionPredicate);
   }
 
+  /**
+   * Constructor reusing an existing {@link Retry}, e.g. one held by a {@link RetryRegistry}.
+   * @param retry the {@link Retry} service to be used.
+   * @param address the address targeted by the calls.
+   * @param supplier the supplier responsible to provide the object of param type T and which may throw an {@link ApiException}.
+   * @param ignoreException predicate on a thrown {@link Exception} to know if exception should be ignored,
+   *                           which means no subsequent retry will be made and null value will be returned.
+   * @param recoveryStrategies mapping between {@link Predicate<ApiException>} and the corresponding recovery functions to be executed before retrying.
+   *                           If several predicates match, all corresponding consumers will be executed.
+   */
+  public Resilience4jRetryWithRecovery(Retry retry, String address, SupplierWithApiException<T> supplier,
+      Predicate<Exception> ignoreException, List<RecoveryStrategy> recoveryStrategies) {
+    super(supplier, ignoreException, recoveryStrategies, address);
+    this.retry = retry;
+  }
+
+  /**
+   * Creates a {@link RetryRegistry} whose {@link Retry} instances, one per name, share the same configuration.
+   * They are created once and can then be reused by all the calls with the same name.
+   *
+   * @param bdkRetryConfig the retry configuration to be used.
+   * @param retryOnExceptionPredicate predicate on a thrown {@link ApiException} to know if call should be retried.
+   * @return a new {@link RetryRegistry}.
+   */
+  public static RetryRegistry createRetryRegistry(BdkRetryConfig bdkRetryConfig,
+      Predicate<Throwable> retryOnExceptionPredicate) {
+    final RetryRegistry retryRegistry =
+        RetryRegistry.of(createRetryConfig(bdkRetryConfig, retryOnExceptionPredicate));
+    retryRegistry.getEventPublisher().onEntryAdded(event -> logRetries(event.getAddedEntry()));
+    return retryRegistry;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -65,27 +98,46 @@ public class Resilience4jRetryWithRecovery<T> extends RetryWithRecovery<T> {
     return this.retry.executeCheckedSupplier(this::executeOnce);
   }
 
-  private Retry createRetry(
+  Retry getRetry() {
+    return this.retry;
+  }
+
+  /**
+   * Creates a {@link Retry} logging its retries.
+   *
+   * @param name the name of the {@link Retry} service.
+   * @param bdkRetryConfig the retry configuration to be used.
+   * @param retryOnExceptionPredicate predicate on a thrown {@link ApiException} to know if call should be retried.
+   * @return a new {@link Retry}.
+   */
+  public static Retry createRetry(
       final String name,
       final BdkRetryConfig bdkRetryConfig,
       final Predicate<Throwable> retryOnExceptionPredicate
   ) {
+    final Retry retry = Retry.of(name, createRetryConfig(bdkRetryConfig, retryOnExceptionPredicate));
+    logRetries(retry);
+    return retry;
+  }
 
-    final RetryConfig retryConfig = RetryConfig.custom()
+  private static RetryConfig createRetryConfig(
+      final BdkRetryConfig bdkRetryConfig,
+      final Predicate<Throwable> retryOnExceptionPredicate
+  ) {
+    return RetryConfig.custom()
         .maxAttempts(bdkRetryConfig.getMaxAttempts())
         .intervalFunction(BdkExponentialFunction.ofExponentialBackoff(bdkRetryConfig))
         .retryOnException(retryOnExceptionPredicate)
         .build();
+  }
 
-    final Retry retry = Retry.of(name, retryConfig);
+  private static void logRetries(Retry retry) {
     retry.getEventPublisher().onRetry(event -> {
       double interval = event.getWaitInterval().toMillis() / 1000.0;
       if (event.getLastThrowable() != null) {
-        log.debug("{} service failed due to {}", name, event.getLastThrowable().getMessage());
+        log.debug("{} service failed due to {}", retry.getName(), event.getLastThrowable().getMessage());
       }
       log.info("Retry in {}s...", interval);
     });
-
-    return retry;
   }
 }
@@ -0,0 +1,31 @@
+package com.symphony.bdk.core.service.datafeed;
+
+import com.symphony.bdk.gen.api.model.V4Event;
+
+import org.apiguardian.api.API;
+
+import java.util.List;
+
+/**
+ * Interface definition for a callback to be invoked once per batch of real-time events received from the datafeed,
+ * e.g. to store the events in bulk instead of one by one.
+ * <p>
+ * A batch listener is subscribed as any other {@link RealTimeEventListener}. Its per-event callbacks (e.g.
+ * {@link #onMessageSent}) are not called, it only receives the events through {@link #onEvents(List)}, before they are
+ * dispatched to the per-event listeners.
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public interface RealTimeEventBatchListener extends RealTimeEventListener {
+
+  /**
+   * Called once per batch of events received, with the supported events accepted by
+   * {@link #isAcceptingEvent(V4Event, com.symphony.bdk.gen.api.model.UserV2)}, in the order they have been received.
+   * Not called if none of the events of the batch is accepted. Events of a given type can be selected with
+   * {@link V4Event#getType()}, e.g. {@code MESSAGESENT}.
+   *
+   * @param events Events of the batch, at least one.
+   * @throws EventException Throw this exception if this method should fail the current events processing
+   *                        and re-queue the events in datafeed. Other exceptions will be caught silently.
+   */
+  void onEvents(List<V4Event> events) throws EventException;
+}
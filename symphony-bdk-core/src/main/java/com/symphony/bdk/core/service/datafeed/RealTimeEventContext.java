@@ -0,0 +1,114 @@
+package com.symphony.bdk.core.service.datafeed;
+
+import com.symphony.bdk.gen.api.model.V4Event;
+
+import org.apiguardian.api.API;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Holds the {@link V4Event} currently being dispatched to the {@link RealTimeEventListener}s on the current thread.
+ * <p>
+ * When the datafeed is configured to dispatch the original payloads (i.e. without {@link EventPayload} proxies), the
+ * event timestamp can be read from here while inside a listener callback.
+ * <p>
+ * Attributes can also be attached to the event being dispatched, so that a value derived from the event (e.g. the
+ * parsed content of a message) is computed once and shared by all the listeners. Attributes are discarded once the
+ * event has been dispatched.
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public final class RealTimeEventContext {
+
+  private static final ThreadLocal<Scope> CURRENT_SCOPE = new ThreadLocal<>();
+
+  private RealTimeEventContext() {
+    // nothing to be done here
+  }
+
+  /**
+   * @return the event being dispatched on the current thread, empty if called outside a listener callback
+   */
+  public static Optional<V4Event> getEvent() {
+    final Scope scope = CURRENT_SCOPE.get();
+    return Optional.ofNullable(scope != null ? scope.event : null);
+  }
+
+  /**
+   * @return the timestamp of the event being dispatched on the current thread, null if called outside a listener
+   * callback
+   */
+  public static Long getEventTimestamp() {
+    final Scope scope = CURRENT_SCOPE.get();
+    return scope != null ? scope.event.getTimestamp() : null;
+  }
+
+  /**
+   * @param type the type of the attribute, used as key
+   * @param <T>  the type of the attribute
+   * @return the attribute attached to the event being dispatched on the current thread, empty if not set or if called
+   * outside a listener callback
+   */
+  @API(status = API.Status.INTERNAL)
+  public static <T> Optional<T> getAttribute(Class<T> type) {
+    final Scope scope = CURRENT_SCOPE.get();
+    return Optional.ofNullable(scope != null ? type.cast(scope.attributes().get(type)) : null);
+  }
+
+  /**
+   * Attaches an attribute to the event being dispatched on the current thread. Does nothing if called outside a
+   * listener callback.
+   *
+   * @param type  the type of the attribute, used as key
+   * @param value the attribute value
+   * @param <T>   the type of the attribute
+   */
+  @API(status = API.Status.INTERNAL)
+  public static <T> void setAttribute(Class<T> type, T value) {
+    final Scope scope = CURRENT_SCOPE.get();
+    if (scope != null) {
+      scope.attributes().put(type, value);
+    }
+  }
+
+  /**
+   * Processes any custom {@link Runnable} with a given event bound to the current thread. Then restores the
+   * previously bound event.
+   *
+   * @param event    the event being dispatched
+   * @param runnable the logic to be executed
+   */
+  @API(status = API.Status.INTERNAL)
+  public static void doWithEvent(V4Event event, Runnable runnable) {
+    final Scope backup = CURRENT_SCOPE.get();
+    CURRENT_SCOPE.set(new Scope(event));
+    try {
+      runnable.run();
+    } finally {
+      if (backup == null) {
+        CURRENT_SCOPE.remove();
+      } else {
+        CURRENT_SCOPE.set(backup);
+      }
+    }
+  }
+
+  private static final class Scope {
+
+    private final V4Event event;
+    private Map<Class<?>, Object> attributes;
+
+    private Scope(V4Event event) {
+      this.event = event;
+    }
+
+    private Map<Class<?>, Object> attributes() {
+      // most events do not carry any attribute
+      if (this.attributes == null) {
+        this.attributes = new HashMap<>();
+      }
+      return this.attributes;
+    }
+  }
+}
@@ -2,6 +2,8 @@ package com.symphony.bdk.core.service.datafeed.impl;
 
 import com.symphony.bdk.core.auth.AuthSession;
 import com.symphony.bdk.core.config.model.BdkConfig;
+import com.symphony.bdk.core.config.model.BdkEventDispatchConfig;
+import com.symphony.bdk.core.config.model.BdkEventJournalConfig;
 import com.symphony.bdk.gen.api.DatafeedApi;
 import com.symphony.bdk.gen.api.model.UserV2;
 import com.symphony.bdk.gen.api.model.V5EventList;
@@ -14,6 +16,14 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.time.StopWatch;
 import org.apiguardian.api.API;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedList;
+import java.util.Optional;
+import java.util.Queue;
 import java.util.concurrent.TimeUnit;
 
 @API(status = API.Status.INTERNAL)
@@ -30,16 +40,133 @@ public abstract class AbstractAckIdEventLoop extends AbstractDatafeedLoop {
    */
   private static final int EVENT_PROCESSING_MAX_DURATION_SECONDS = 30;
 
+  // read by the read-ahead thread when events are prefetched
   @Getter(AccessLevel.PROTECTED)
-  protected String ackId;
+  protected volatile String ackId;
 
-  public AbstractAckIdEventLoop(DatafeedApi datafeedApi, AuthSession authSession, BdkConfig config, UserV2 botInfo) {
+  // the feed the ack id has been received from, null if unknown
+  private String ackFeedId;
+
+  // ack ids of the batches handled but not sent yet, oldest first, so that each of them is sent exactly once even when
+  // several batches are handled during a read
+  private final Deque<String> unsentAckIds = new ArrayDeque<>();
+
+  // the ack id sent by the last read, sent again if no batch has been handled since
+  private String sentAckId = INITIAL_ACK_ID;
+
+  // the feed the batch being handled has been read from, only accessed by the datafeed loop thread
+  private String handledFeedId;
+
+  // the feeds the batches read ahead have been read from, in the same order
+  private Queue<String> readAheadFeedIds;
+
+  private final int prefetch;
+
+  private volatile ReadAheadPipeline readAheadPipeline;
+
+  // null if the journal is disabled
+  private final EventJournal eventJournal;
+
+  /**
+   * @param journalName the name of the sub-directory of the configured journal directory the events of this loop are
+   *                    journaled to, distinct for each kind of loop as a journal can only be opened once.
+   */
+  public AbstractAckIdEventLoop(DatafeedApi datafeedApi, AuthSession authSession, BdkConfig config, UserV2 botInfo,
+      String journalName) {
     super(datafeedApi, authSession, config, botInfo);
     this.ackId = INITIAL_ACK_ID;
+    final BdkEventDispatchConfig dispatchConfig = config.getDatafeed().getDispatch();
+    this.prefetch = dispatchConfig == null ? 0 : dispatchConfig.getPrefetch();
+    this.eventJournal = openEventJournal(config.getDatafeed().getJournal(), journalName);
+  }
+
+  private static EventJournal openEventJournal(BdkEventJournalConfig journalConfig, String journalName) {
+    if (journalConfig == null || !journalConfig.isEnabled()) {
+      return null;
+    }
+    final Path directory = Paths.get(journalConfig.getDirectory()).resolve(journalName);
+    try {
+      return new EventJournal(directory, journalConfig.getSegmentSizeBytes(), journalConfig.getMaxSizeBytes());
+    } catch (IOException e) {
+      log.error("Failed to open the event journal in {}, events will not be journaled", directory, e);
+      return null;
+    }
   }
 
   protected Void readAndHandleEvents() throws ApiException {
-    V5EventList v5EventList = readEvents();
+    V5EventList v5EventList = this.nextEvents();
+    // updates ack id so that on next call DFv2 knows that events have been processed
+    if (this.handleEvents(v5EventList) && this.acknowledge(this.handledFeedId, v5EventList.getAckId())) {
+      this.checkpoint(this.handledFeedId, v5EventList.getAckId());
+    }
+    return null;
+  }
+
+  /**
+   * Returns the ack id to be sent by a read of the given feed. Ack ids are only valid for the feed they have been
+   * received from: the initial ack id is returned if the feed has changed since the ack id has been received, e.g. when
+   * the feed has been recreated by another reader.
+   *
+   * @param feedId the id of the feed to be read.
+   * @return the ack id to be sent.
+   */
+  protected synchronized String ackIdFor(String feedId) {
+    if (this.ackFeedId != null && !this.ackFeedId.equals(feedId)) {
+      this.resetAckId(INITIAL_ACK_ID);
+    }
+    this.ackFeedId = feedId;
+    return this.nextAckId();
+  }
+
+  /**
+   * Returns the ack id to be sent by the next read: the oldest ack id of the batches handled but not sent yet, or the
+   * ack id sent by the previous read if none. When events are prefetched, several batches can be handled while a read
+   * is pending, each of their ack ids is still sent by one of the next reads.
+   *
+   * @return the ack id to be sent.
+   */
+  protected synchronized String nextAckId() {
+    final String unsentAckId = this.unsentAckIds.poll();
+    if (unsentAckId != null) {
+      this.sentAckId = unsentAckId;
+    }
+    return this.sentAckId;
+  }
+
+  /**
+   * Restarts the reads from the given ack id, dropping the ack ids not sent yet, e.g. when the feed has been recreated.
+   *
+   * @param ackId the ack id to be sent by the next read.
+   */
+  protected synchronized void resetAckId(String ackId) {
+    this.ackId = ackId;
+    this.sentAckId = ackId;
+    this.unsentAckIds.clear();
+  }
+
+  /**
+   * Updates the ack id, unless the batch has been read from a feed that has been replaced since, in which case its ack
+   * id must not be sent to the new feed.
+   */
+  private synchronized boolean acknowledge(String feedId, String ackId) {
+    if (feedId != null && this.ackFeedId != null && !feedId.equals(this.ackFeedId)) {
+      log.debug("Events read from the previous feed {} handled, ack id not updated", feedId);
+      return false;
+    }
+    this.ackId = ackId;
+    this.unsentAckIds.add(ackId);
+    return true;
+  }
+
+  /**
+   * Handles a batch of events read from the feed.
+   *
+   * @param v5EventList the batch of events
+   * @return true if the events have been processed and the ack id of the batch can be sent, false if the events must be
+   * re-queued.
+   */
+  protected boolean handleEvents(V5EventList v5EventList) {
+    this.journal(v5EventList);
     try {
 
       StopWatch stopWatch = StopWatch.createStarted();
@@ -47,17 +174,149 @@ public abstract class AbstractAckIdEventLoop extends AbstractDatafeedLoop {
       stopWatch.stop();
 
       checkProcessingTime(stopWatch);
-
-      // updates ack id so that on next call DFv2 knows that events have been processed
-      this.ackId = v5EventList.getAckId();
+      return true;
     } catch (Exception e) {
       // can happen if developer explicitly raised a RequeueEventException in handleV4EventList
       // we also catch all exceptions just to be extra careful and never break the DF loop
       log.warn("Failed to process events, will not update ack id, events will be re-queued", e);
+      return false;
     }
+  }
+
+  /**
+   * Reads the next events, or takes them from the read-ahead pipeline if events are prefetched. In the latter case,
+   * the next read is sent while the events are being handled, with the ack id of a batch handled before: the events
+   * are therefore acknowledged by a later read, see {@link #nextAckId()}.
+   */
+  private V5EventList nextEvents() throws ApiException {
+    if (this.prefetch < 1) {
+      final V5EventList v5EventList = this.readEvents();
+      this.handledFeedId = this.getCheckpointedFeedId();
+      return v5EventList;
+    }
+    if (this.readAheadPipeline == null) {
+      // a queue per pipeline, so that a read finishing after the pipeline has been shut down is ignored
+      final Queue<String> feedIds = new LinkedList<>();
+      this.readAheadFeedIds = feedIds;
+      this.readAheadPipeline = new ReadAheadPipeline(this.prefetch, () -> {
+        final V5EventList v5EventList = this.readEvents();
+        synchronized (feedIds) {
+          feedIds.add(this.getCheckpointedFeedId());
+        }
+        return v5EventList;
+      });
+    }
+    final V5EventList v5EventList = this.readAheadPipeline.take();
+    synchronized (this.readAheadFeedIds) {
+      this.handledFeedId = this.readAheadFeedIds.poll();
+    }
+    return v5EventList;
+  }
+
+  /**
+   * @return the read-ahead pipeline exposing its metrics, null unless events are prefetched and the loop is running.
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public ReadAheadPipeline getReadAheadPipeline() {
+    return this.readAheadPipeline;
+  }
+
+  @Override
+  protected void afterLoop() {
+    if (this.readAheadPipeline != null) {
+      this.readAheadPipeline.shutdown();
+      this.readAheadPipeline = null;
+    }
+    if (this.eventJournal != null) {
+      this.eventJournal.flush();
+    }
+  }
+
+  /**
+   * @return the local journal of the events received, null if it is disabled.
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public EventJournal getEventJournal() {
+    return this.eventJournal;
+  }
+
+  /**
+   * Dispatches the batches of events of the journal to the subscribed listeners again, from the oldest to the most
+   * recent, e.g. to rebuild the state of the listeners when the bot restarts. Events are dispatched on the calling
+   * thread, the events already dispatched being skipped if the de-duplication is enabled. A batch whose listener throws
+   * an {@link com.symphony.bdk.core.service.datafeed.EventException} is not dispatched again, the next batches are.
+   *
+   * @throws IllegalStateException if the journal is disabled or if the loop is running.
+   * @throws IOException           if the journal cannot be read.
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public void replayJournal() throws IOException {
+    if (this.eventJournal == null) {
+      throw new IllegalStateException("The event journal is not enabled");
+    }
+    if (this.started.get()) {
+      throw new IllegalStateException("The event journal cannot be replayed while the loop is running");
+    }
+    this.eventJournal.replay(v5EventList -> {
+      try {
+        this.handleV4EventList(v5EventList.getEvents());
+      } catch (RequeueEventException e) {
+        log.warn("Failed to replay events with ack id {}", v5EventList.getAckId(), e);
+      }
+    });
+  }
+
+  /**
+   * Identifies the feed the ack ids are checkpointed for, checkpoints are only restored for the same feed. Called by
+   * the thread reading the events, right after {@link #readEvents()}.
+   *
+   * @return the id of the feed the last batch has been read from, null if the ack ids are not checkpointed.
+   */
+  protected String getCheckpointedFeedId() {
     return null;
   }
 
+  /**
+   * @param feedId the id of the feed to be read.
+   * @return the ack id checkpointed for the given feed, the initial ack id if none.
+   */
+  protected String restoreAckId(String feedId) {
+    if (this.eventJournal == null) {
+      return INITIAL_ACK_ID;
+    }
+    try {
+      final Optional<String> restoredAckId = this.eventJournal.readAckId(feedId);
+      restoredAckId.ifPresent(restored -> log.info("Resuming feed {} from its checkpointed ack id", feedId));
+      return restoredAckId.orElse(INITIAL_ACK_ID);
+    } catch (IOException e) {
+      log.warn("Failed to read the checkpointed ack id, events not acknowledged yet will be re-queued", e);
+      return INITIAL_ACK_ID;
+    }
+  }
+
+  private void journal(V5EventList v5EventList) {
+    if (this.eventJournal == null || v5EventList == null) {
+      return;
+    }
+    try {
+      this.eventJournal.append(v5EventList);
+    } catch (IOException e) {
+      // the journal must never break the DF loop
+      log.error("Failed to journal events", e);
+    }
+  }
+
+  private void checkpoint(String feedId, String ackId) {
+    if (this.eventJournal == null || feedId == null || ackId == null) {
+      return;
+    }
+    try {
+      this.eventJournal.checkpoint(feedId, ackId);
+    } catch (IOException e) {
+      log.error("Failed to checkpoint ack id", e);
+    }
+  }
+
   @Generated // cannot be easily unit tested
   private void checkProcessingTime(StopWatch stopWatch) {
     if (stopWatch.getTime(TimeUnit.SECONDS) > EVENT_PROCESSING_MAX_DURATION_SECONDS) {
@@ -5,8 +5,12 @@ import static com.symphony.bdk.core.retry.RetryWithRecovery.networkIssueMessageE
 import com.symphony.bdk.core.auth.AuthSession;
 import com.symphony.bdk.core.auth.exception.AuthUnauthorizedException;
 import com.symphony.bdk.core.config.model.BdkConfig;
+import com.symphony.bdk.core.config.model.BdkEventDeduplicationConfig;
+import com.symphony.bdk.core.config.model.BdkEventDispatchConfig;
 import com.symphony.bdk.core.service.datafeed.DatafeedLoop;
 import com.symphony.bdk.core.service.datafeed.EventException;
+import com.symphony.bdk.core.service.datafeed.RealTimeEventBatchListener;
+import com.symphony.bdk.core.service.datafeed.RealTimeEventContext;
 import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
 import com.symphony.bdk.core.service.datafeed.exception.NestedRetryException;
 import com.symphony.bdk.gen.api.DatafeedApi;
@@ -20,9 +24,13 @@ import org.apiguardian.api.API;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import javax.annotation.Nullable;
 
@@ -39,17 +47,35 @@ abstract class AbstractDatafeedLoop implements DatafeedLoop {
   protected final UserV2 botInfo;
   protected final AtomicBoolean started = new AtomicBoolean();
   protected DatafeedApi datafeedApi;
+  private final boolean eventPayloadProxy;
+  private final BdkEventDispatchConfig eventDispatchConfig;
+  private PartitionedEventDispatcher eventDispatcher;
+  // null if the de-duplication of events is disabled
+  private final BdkEventDeduplicationConfig deduplicationConfig;
+  // null if the de-duplication of events is disabled
+  private final RecentEventIds dispatchedEventIds;
+  // events dispatched to each batch listener, null if the de-duplication of events is disabled
+  private final Map<RealTimeEventBatchListener, RecentEventIds> batchDispatchedEventIds;
   private long lastPullTimestamp;
 
-  // access needs to be thread safe (DF loop is usually running on its own thread)
-  private final List<RealTimeEventListener> listeners;
+  // copy-on-write snapshot, read without locking by the DF loop (usually running on its own thread)
+  private final AtomicReference<RealTimeEventListeners> listeners;
 
   public AbstractDatafeedLoop(DatafeedApi datafeedApi, AuthSession authSession, BdkConfig config, UserV2 botInfo) {
     this.datafeedApi = datafeedApi;
-    this.listeners = new ArrayList<>();
+    this.listeners = new AtomicReference<>(RealTimeEventListeners.EMPTY);
     this.authSession = authSession;
     this.bdkConfig = config;
     this.botInfo = botInfo;
+    this.eventPayloadProxy = config.getDatafeed().isEventPayloadProxy();
+    this.eventDispatchConfig = config.getDatafeed().getDispatch();
+    final BdkEventDeduplicationConfig deduplicationConfig = config.getDatafeed().getDeduplication();
+    this.deduplicationConfig =
+        deduplicationConfig != null && deduplicationConfig.isEnabled() ? deduplicationConfig : null;
+    this.dispatchedEventIds = this.deduplicationConfig != null
+        ? new RecentEventIds(deduplicationConfig.getMaxEvents(), deduplicationConfig.getWindowMillis())
+        : null;
+    this.batchDispatchedEventIds = this.deduplicationConfig != null ? new ConcurrentHashMap<>() : null;
   }
 
   /**
@@ -57,9 +83,7 @@ abstract class AbstractDatafeedLoop implements DatafeedLoop {
    */
   @Override
   public void subscribe(RealTimeEventListener listener) {
-    synchronized (this.listeners) {
-      this.listeners.add(listener);
-    }
+    this.listeners.updateAndGet(l -> l.with(listener));
   }
 
   /**
@@ -67,8 +91,9 @@ abstract class AbstractDatafeedLoop implements DatafeedLoop {
    */
   @Override
   public void unsubscribe(RealTimeEventListener listener) {
-    synchronized (this.listeners) {
-      this.listeners.remove(listener);
+    this.listeners.updateAndGet(l -> l.without(listener));
+    if (this.batchDispatchedEventIds != null && listener instanceof RealTimeEventBatchListener) {
+      this.batchDispatchedEventIds.remove(listener);
     }
   }
 
@@ -85,6 +110,10 @@ abstract class AbstractDatafeedLoop implements DatafeedLoop {
       DistributedTracingContext.setTraceId();
     }
 
+    if (this.eventDispatchConfig != null && this.eventDispatchConfig.isParallel()) {
+      this.eventDispatcher = new PartitionedEventDispatcher(this.eventDispatchConfig);
+    }
+
     try {
       updateLastPullTimestamp();
       runLoop();
@@ -93,12 +122,24 @@ abstract class AbstractDatafeedLoop implements DatafeedLoop {
     } catch (Throwable throwable) {
       log.error("{}\n{}", networkIssueMessageError(throwable, datafeedApi.getApiClient().getBasePath()), throwable);
     } finally {
+      this.afterLoop();
+      if (this.eventDispatcher != null) {
+        this.eventDispatcher.shutdown();
+        this.eventDispatcher = null;
+      }
       DistributedTracingContext.clear();
     }
   }
 
   protected abstract void runLoop() throws Throwable;
 
+  /**
+   * Called once the loop is stopped, whether it completed normally or not.
+   */
+  protected void afterLoop() {
+    // nothing to release by default
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -124,40 +165,110 @@ abstract class AbstractDatafeedLoop implements DatafeedLoop {
       return;
     }
 
+    // listeners can be (un)subscribed from other threads while the events are dispatched
+    final RealTimeEventListeners listenersSnapshot = this.listeners.get();
+
+    // batch listeners get the events first, so that a failure re-queues the events before they are marked as dispatched
+    for (RealTimeEventBatchListener batchListener : listenersSnapshot.batchListeners()) {
+      this.dispatchEvents(events, batchListener);
+    }
+
+    if (this.eventDispatcher != null) {
+      this.eventDispatcher.dispatch(events, event -> this.dispatchEvent(event, listenersSnapshot));
+    } else {
+      for (V4Event event : events) {
+        this.dispatchEvent(event, listenersSnapshot);
+      }
+    }
+  }
+
+  private void dispatchEvents(List<V4Event> events, RealTimeEventBatchListener listener)
+      throws RequeueEventException {
+    // batch listeners get the events before they are entirely dispatched, their own dispatch is therefore remembered
+    final RecentEventIds listenerEventIds = this.batchDispatchedEventIds == null ? null
+        : this.batchDispatchedEventIds.computeIfAbsent(listener, l -> new RecentEventIds(
+            this.deduplicationConfig.getMaxEvents(), this.deduplicationConfig.getWindowMillis()));
+    final List<V4Event> acceptedEvents = new ArrayList<>(events.size());
     for (V4Event event : events) {
+      if (RealTimeEventType.fromV4Event(event).isPresent() && !this.isDuplicate(event)
+          && !isDuplicate(event, listenerEventIds) && listener.isAcceptingEvent(event, this.botInfo)) {
+        acceptedEvents.add(event);
+      }
+    }
+    if (acceptedEvents.isEmpty()) {
+      return;
+    }
 
-      final Optional<RealTimeEventType> eventType = RealTimeEventType.fromV4Event(event);
+    try {
+      log.debug("Before dispatching {} events to batch listener {}", acceptedEvents.size(), listener);
+      listener.onEvents(Collections.unmodifiableList(acceptedEvents));
+      log.debug("{} events successfully dispatched to batch listener {}", acceptedEvents.size(), listener);
+    } catch (EventException e) {
+      // rethrow this explicit exception to not update the ack id in the DFv2 loop
+      throw new RequeueEventException(acceptedEvents, listener, e);
+    } catch (Exception t) {
+      log.debug("An uncaught exception has occurred while dispatching {} events to batch listener {}",
+          acceptedEvents.size(), listener, t);
+    }
 
-      if (!eventType.isPresent()) {
-        log.info("Unsupported event received: {}", event);
-        continue;
+    // not dispatched again to this listener if another listener re-queues the batch
+    if (listenerEventIds != null) {
+      for (V4Event event : acceptedEvents) {
+        if (event.getId() != null) {
+          listenerEventIds.add(event.getId());
+        }
       }
+    }
+  }
+
+  private void dispatchEvent(V4Event event, RealTimeEventListeners listeners) throws RequeueEventException {
+    final Optional<RealTimeEventType> eventType = RealTimeEventType.fromV4Event(event);
 
-      // dispatch single event using event's ID as traceId. Tested for DatafeedLoopV2 as well, and working.
-      DistributedTracingContext.doWithTraceId(event.getId(), () -> {
-
-        synchronized (this.listeners) {
-          for (RealTimeEventListener listener : this.listeners) {
-
-            if (listener.isAcceptingEvent(event, this.botInfo)) {
-              try {
-                log.debug("Before dispatching '{}' event to listener {}", event.getType(), listener);
-                eventType.get().dispatch(listener, event);
-                log.debug("'{}' event successfully dispatched to listener {}", event.getType(), listener);
-              } catch (EventException e) {
-                // rethrow this explicit exception to not update the ack id in the DFv2 loop
-                throw new RequeueEventException(event, listener, e);
-              } catch (Exception t) {
-                log.debug("An uncaught exception has occurred while dispatching event {} to listener {}",
-                    event.getType(), listener, t);
-              }
-            }
+    if (!eventType.isPresent()) {
+      log.info("Unsupported event received: {}", event);
+      return;
+    }
+
+    if (this.isDuplicate(event)) {
+      log.debug("Event {} already dispatched, skipping it", event.getId());
+      return;
+    }
+
+    // dispatch single event using event's ID as traceId. Tested for DatafeedLoopV2 as well, and working.
+    DistributedTracingContext.doWithTraceId(event.getId(), () -> RealTimeEventContext.doWithEvent(event, () -> {
+
+      for (RealTimeEventListener listener : listeners.handling(eventType.get())) {
+
+        if (listener.isAcceptingEvent(event, this.botInfo)) {
+          try {
+            log.debug("Before dispatching '{}' event to listener {}", event.getType(), listener);
+            eventType.get().dispatch(listener, event, this.eventPayloadProxy);
+            log.debug("'{}' event successfully dispatched to listener {}", event.getType(), listener);
+          } catch (EventException e) {
+            // rethrow this explicit exception to not update the ack id in the DFv2 loop
+            throw new RequeueEventException(event, listener, e);
+          } catch (Exception t) {
+            log.debug("An uncaught exception has occurred while dispatching event {} to listener {}",
+                event.getType(), listener, t);
           }
         }
-      });
+      }
+    }));
+
+    // only events entirely dispatched are remembered, the ones to be re-queued have to be dispatched again
+    if (this.dispatchedEventIds != null && event.getId() != null) {
+      this.dispatchedEventIds.add(event.getId());
     }
   }
 
+  private boolean isDuplicate(V4Event event) {
+    return isDuplicate(event, this.dispatchedEventIds);
+  }
+
+  private static boolean isDuplicate(V4Event event, @Nullable RecentEventIds eventIds) {
+    return eventIds != null && event.getId() != null && eventIds.contains(event.getId());
+  }
+
   protected void refresh() throws AuthUnauthorizedException {
     log.info("Re-authenticate and try again");
     this.authSession.refresh();
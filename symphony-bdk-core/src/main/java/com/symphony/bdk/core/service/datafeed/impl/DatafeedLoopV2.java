@@ -2,6 +2,7 @@ package com.symphony.bdk.core.service.datafeed.impl;
 
 import com.symphony.bdk.core.auth.AuthSession;
 import com.symphony.bdk.core.config.model.BdkConfig;
+import com.symphony.bdk.core.config.model.BdkDatafeedConfig;
 import com.symphony.bdk.core.retry.RetryWithRecovery;
 import com.symphony.bdk.core.retry.RetryWithRecoveryBuilder;
 import com.symphony.bdk.core.service.datafeed.exception.NestedRetryException;
@@ -12,11 +13,19 @@ import com.symphony.bdk.gen.api.model.V5Datafeed;
 import com.symphony.bdk.gen.api.model.V5DatafeedCreateBody;
 import com.symphony.bdk.gen.api.model.V5EventList;
 import com.symphony.bdk.http.api.ApiException;
+import com.symphony.bdk.http.api.tracing.DistributedTracingContext;
 
 import lombok.extern.slf4j.Slf4j;
 import org.apiguardian.api.API;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 
 /**
@@ -36,6 +45,13 @@ import java.util.regex.Pattern;
  * <p>
  * If the datafeed service is stopped during a read datafeed call, it has to wait until the last read finish to be
  * really stopped
+ * <p>
+ * With several {@link BdkDatafeedConfig#getReaders() readers}, the datafeed is read concurrently by as many threads,
+ * each of them having its own ack id and retries. If the datafeed becomes stale, it is recreated only once: the other
+ * readers failing on the stale datafeed then simply read from the new one, starting again from the initial ack id.
+ * Events are only {@link com.symphony.bdk.core.config.model.BdkEventDispatchConfig#getPrefetch() prefetched} and ack
+ * ids only checkpointed in the {@link com.symphony.bdk.core.config.model.BdkEventJournalConfig journal} for the first
+ * reader.
  */
 @Slf4j
 @API(status = API.Status.INTERNAL)
@@ -54,10 +70,19 @@ public class DatafeedLoopV2 extends AbstractAckIdEventLoop {
   private final RetryWithRecovery<V5Datafeed> createDatafeed;
   private final RetryWithRecovery<Void> deleteDatafeed;
 
-  private V5Datafeed datafeed;
+  private static final String READER_THREAD_NAME = "Datafeed-Reader-Thread";
+  private static final String JOURNAL_NAME = "datafeed";
+
+  private final int readers;
+  private final Object recreationLock = new Object();
+
+  private volatile V5Datafeed datafeed;
+  // the datafeed the first reader has read from, read by the recovery of its retry
+  private volatile String readDatafeedId;
 
   public DatafeedLoopV2(DatafeedApi datafeedApi, AuthSession authSession, BdkConfig config, UserV2 botInfo) {
-    super(datafeedApi, authSession, config, botInfo);
+    super(datafeedApi, authSession, config, botInfo, JOURNAL_NAME);
+    this.readers = config.getDatafeed().getReaders();
 
     this.retryWithRecoveryBuilder = new RetryWithRecoveryBuilder<>()
         .basePath(datafeedApi.getApiClient().getBasePath())
@@ -94,20 +119,57 @@ public class DatafeedLoopV2 extends AbstractAckIdEventLoop {
     this.datafeed = this.retrieveDatafeed.execute();
     if (this.datafeed == null) {
       this.datafeed = this.createDatafeed.execute();
+    } else if (INITIAL_ACK_ID.equals(this.ackId)) {
+      // resumes where the previous run of the bot stopped, if its ack id has been checkpointed
+      this.resetAckId(this.restoreAckId(this.datafeed.getId()));
     }
 
     log.info("Start reading events from datafeed {}", this.datafeed.getId());
     this.started.set(true);
-    do {
+    final ExecutorService otherReaders = this.readers > 1 ? newReaderExecutor(this.readers - 1) : null;
+    final List<Future<Void>> otherReaderResults = new ArrayList<>();
+    for (int i = 1; i < this.readers; i++) {
+      otherReaderResults.add(otherReaders.submit(new Reader(i)));
+    }
+    if (otherReaders != null) {
+      log.info("Reading events with {} concurrent readers", this.readers);
+    }
 
-      this.readDatafeed.execute();
+    try {
+      do {
+
+        this.readDatafeed.execute();
 
-    } while (this.started.get());
+      } while (this.started.get());
+
+      // the other readers stop once their current read is finished
+      for (Future<Void> result : otherReaderResults) {
+        result.get();
+      }
+    } catch (ExecutionException e) {
+      throw e.getCause();
+    } catch (Throwable throwable) {
+      this.started.set(false);
+      throw throwable;
+    } finally {
+      if (otherReaders != null) {
+        otherReaders.shutdownNow();
+      }
+    }
     log.info("Datafeed loop successfully stopped.");
   }
 
+  private static ExecutorService newReaderExecutor(int readers) {
+    final AtomicInteger count = new AtomicInteger(1);
+    return Executors.newFixedThreadPool(readers, runnable -> {
+      final Thread thread = new Thread(runnable, READER_THREAD_NAME + "-" + count.getAndIncrement());
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
   private V5Datafeed doCreateDatafeed() throws ApiException {
-    this.ackId = INITIAL_ACK_ID;
+    this.resetAckId(INITIAL_ACK_ID);
     return this.datafeedApi.createDatafeed(
         this.authSession.getSessionToken(),
         this.authSession.getKeyManagerToken(),
@@ -131,28 +193,108 @@ public class DatafeedLoopV2 extends AbstractAckIdEventLoop {
 
   @Override
   protected V5EventList readEvents() throws ApiException {
+    final String datafeedId = this.datafeed.getId();
+    this.readDatafeedId = datafeedId;
+    return this.readEvents(datafeedId, this.ackIdFor(datafeedId));
+  }
+
+  @Override
+  protected String getCheckpointedFeedId() {
+    return this.readDatafeedId;
+  }
+
+  private V5EventList readEvents(String datafeedId, String ackId) throws ApiException {
     return this.datafeedApi.readDatafeed(
-        this.datafeed.getId(),
+        datafeedId,
         this.authSession.getSessionToken(),
         this.authSession.getKeyManagerToken(),
-        new AckId().ackId(this.ackId)
+        new AckId().ackId(ackId)
     );
   }
 
   private void recreateDatafeed() {
-    try {
-      log.info("Try to delete the stale datafeed");
-      this.deleteDatafeed.execute();
-      log.info("Recreate a new datafeed and try again");
-      this.datafeed = this.createDatafeed.execute();
-    } catch (Throwable throwable) {
-      throw new NestedRetryException("Recreation of datafeed failed", throwable);
+    this.recreateDatafeed(this.readDatafeedId);
+  }
+
+  /**
+   * Recreates the datafeed, unless another reader has already recreated it.
+   *
+   * @param staleDatafeedId the id of the datafeed the reader failed to read from
+   */
+  private void recreateDatafeed(String staleDatafeedId) {
+    synchronized (this.recreationLock) {
+      if (this.datafeed != null && staleDatafeedId != null && !staleDatafeedId.equals(this.datafeed.getId())) {
+        log.info("Stale datafeed {} already recreated, try again", staleDatafeedId);
+        return;
+      }
+      try {
+        log.info("Try to delete the stale datafeed");
+        this.deleteDatafeed.execute();
+        log.info("Recreate a new datafeed and try again");
+        this.datafeed = this.createDatafeed.execute();
+      } catch (Throwable throwable) {
+        throw new NestedRetryException("Recreation of datafeed failed", throwable);
+      }
     }
   }
 
   private Void doDeleteDatafeed() throws ApiException {
+    // the datafeed is only replaced once recreated, so that the other readers never read a null datafeed
     this.datafeedApi.deleteDatafeed(datafeed.getId(), authSession.getSessionToken(), authSession.getKeyManagerToken());
-    this.datafeed = null;
     return null;
   }
+
+  /**
+   * A reader other than the first one, with its own ack id and retries.
+   */
+  private class Reader implements Callable<Void> {
+
+    private final RetryWithRecovery<Void> readWithRetry;
+    private String ackId = INITIAL_ACK_ID;
+    private String datafeedId;
+
+    Reader(int index) {
+      this.readWithRetry = RetryWithRecoveryBuilder.<Void>from(retryWithRecoveryBuilder)
+          .name("Read Datafeed V2 #" + index)
+          .supplier(this::readAndHandleEvents)
+          .retryOnException(RetryWithRecoveryBuilder::isNetworkIssueOrMinorErrorOrClientError)
+          .recoveryStrategy(ApiException::isClientError, () -> recreateDatafeed(this.datafeedId))
+          .build();
+    }
+
+    @Override
+    public Void call() throws Exception {
+      DistributedTracingContext.setTraceId();
+      try {
+        while (started.get()) {
+          this.readWithRetry.execute();
+        }
+      } catch (Throwable throwable) {
+        log.error("Datafeed reader failed, stopping the datafeed loop", throwable);
+        stop();
+        if (throwable instanceof Exception) {
+          throw (Exception) throwable;
+        }
+        throw new NestedRetryException("Datafeed reader failed", throwable);
+      } finally {
+        DistributedTracingContext.clear();
+      }
+      return null;
+    }
+
+    private Void readAndHandleEvents() throws ApiException {
+      final String currentDatafeedId = datafeed.getId();
+      if (!currentDatafeedId.equals(this.datafeedId)) {
+        // ack ids are only valid for the datafeed they have been received from
+        this.datafeedId = currentDatafeedId;
+        this.ackId = INITIAL_ACK_ID;
+      }
+
+      final V5EventList v5EventList = readEvents(currentDatafeedId, this.ackId);
+      if (handleEvents(v5EventList)) {
+        this.ackId = v5EventList.getAckId();
+      }
+      return null;
+    }
+  }
 }
@@ -34,7 +34,7 @@ public class DatahoseLoopImpl extends AbstractAckIdEventLoop implements Datahose
 
   public DatahoseLoopImpl(DatafeedApi datafeedApi, AuthSession authSession, BdkConfig config, UserV2 botInfo,
       DatahoseApi datahoseApi) {
-    super(datafeedApi, authSession, config, botInfo);
+    super(datafeedApi, authSession, config, botInfo, DATAHOSE);
     this.datahoseApi = datahoseApi;
 
     String untruncatedTag = config.getDatahose().getTag();
@@ -70,6 +70,6 @@ public class DatahoseLoopImpl extends AbstractAckIdEventLoop implements Datahose
   @Override
   protected V5EventList readEvents() throws ApiException {
     return this.datahoseApi.readEvents(this.authSession.getSessionToken(), this.authSession.getKeyManagerToken(),
-        new V5EventsReadBody().ackId(this.ackId).eventTypes(this.filters).tag(this.tag).type(DATAHOSE));
+        new V5EventsReadBody().ackId(this.nextAckId()).eventTypes(this.filters).tag(this.tag).type(DATAHOSE));
   }
 }
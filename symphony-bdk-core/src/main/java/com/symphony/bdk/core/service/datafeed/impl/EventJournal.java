@@ -0,0 +1,259 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import com.symphony.bdk.core.util.FileUtil;
+import com.symphony.bdk.gen.api.model.V5EventList;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.util.StdDateFormat;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.extern.slf4j.Slf4j;
+import org.apiguardian.api.API;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only local journal of the batches of events received, with a checkpoint of the ack id of the last batch
+ * handled.
+ * <p>
+ * Batches are appended as JSON records to memory-mapped segment files of a fixed size, a new segment being started when
+ * the current one is full or when the journal is opened again. Once the journal exceeds its maximum size, the oldest
+ * segments are deleted. Each record starts with its length and a CRC32 checksum, the length being written last, so
+ * that a record partially written during a crash is ignored when the journal is replayed.
+ * <p>
+ * The checkpoint is written atomically and flushed to disk, after the current segment, so that the batches acknowledged
+ * are always in the journal.
+ */
+@Slf4j
+@API(status = API.Status.EXPERIMENTAL)
+public class EventJournal {
+
+  private static final String SEGMENT_PREFIX = "events-";
+  private static final String SEGMENT_SUFFIX = ".journal";
+  private static final String CHECKPOINT_FILE = "ack.checkpoint";
+  private static final String CHECKPOINT_SEPARATOR = "\n";
+  // record length and checksum
+  private static final int RECORD_HEADER_SIZE = 2 * Integer.BYTES;
+  // configured as the mapper of the http clients, records written by another version of the BDK being replayed
+  private static final ObjectMapper MAPPER = JsonMapper.builder()
+      .serializationInclusion(JsonInclude.Include.NON_NULL)
+      .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+      .configure(DeserializationFeature.FAIL_ON_INVALID_SUBTYPE, false)
+      .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+      .enable(SerializationFeature.WRITE_ENUMS_USING_TO_STRING)
+      .enable(DeserializationFeature.READ_ENUMS_USING_TO_STRING)
+      .defaultDateFormat(new StdDateFormat().withColonInTimeZone(true))
+      .addModule(new JavaTimeModule())
+      .build();
+
+  private final Path directory;
+  private final long segmentSize;
+  private final long maxSize;
+  private MappedByteBuffer segment;
+  private long segmentNumber;
+
+  /**
+   * Opens the journal stored in a directory, batches are appended to a new segment.
+   *
+   * @param directory   the directory of the journal, created if needed.
+   * @param segmentSize the size of a segment in bytes, at most {@link Integer#MAX_VALUE}.
+   * @param maxSize     the maximum size of the journal in bytes.
+   * @throws IOException if the directory cannot be created or read.
+   */
+  public EventJournal(Path directory, long segmentSize, long maxSize) throws IOException {
+    this.directory = directory;
+    this.segmentSize = Math.min(segmentSize, Integer.MAX_VALUE);
+    this.maxSize = maxSize;
+    Files.createDirectories(directory);
+    final List<Path> segments = this.segments();
+    this.segmentNumber = segments.isEmpty() ? 0 : segmentNumber(segments.get(segments.size() - 1));
+  }
+
+  /**
+   * Appends a batch of events to the journal.
+   *
+   * @param eventList the batch of events.
+   * @throws IOException if the batch cannot be written.
+   */
+  public synchronized void append(V5EventList eventList) throws IOException {
+    final byte[] payload = MAPPER.writeValueAsBytes(eventList);
+    final int recordSize = RECORD_HEADER_SIZE + payload.length;
+    if (this.segment == null || this.segment.remaining() < recordSize) {
+      this.roll(recordSize);
+    }
+
+    final CRC32 checksum = new CRC32();
+    checksum.update(payload);
+    final int position = this.segment.position();
+    this.segment.position(position + Integer.BYTES);
+    this.segment.putInt((int) checksum.getValue());
+    this.segment.put(payload);
+    // the length is written last so that a record is only read once fully written
+    this.segment.putInt(position, payload.length);
+  }
+
+  /**
+   * Records the ack id of the last batch handled. Its batch and the previous ones are flushed to disk before.
+   *
+   * @param feedId the id of the feed the batch has been read from.
+   * @param ackId  the ack id of the batch.
+   * @throws IOException if the checkpoint cannot be written.
+   */
+  public synchronized void checkpoint(String feedId, String ackId) throws IOException {
+    if (this.segment != null) {
+      this.segment.force();
+    }
+    FileUtil.writeAtomically(this.directory.resolve(CHECKPOINT_FILE), feedId + CHECKPOINT_SEPARATOR + ackId);
+  }
+
+  /**
+   * @param feedId the id of a feed.
+   * @return the ack id of the last batch handled if it has been read from the given feed.
+   * @throws IOException if the checkpoint cannot be read.
+   */
+  public Optional<String> readAckId(String feedId) throws IOException {
+    try {
+      final String[] checkpoint = new String(Files.readAllBytes(this.directory.resolve(CHECKPOINT_FILE)),
+          StandardCharsets.UTF_8).split(CHECKPOINT_SEPARATOR, 2);
+      if (checkpoint.length == 2 && checkpoint[0].equals(feedId)) {
+        return Optional.of(checkpoint[1]);
+      }
+      return Optional.empty();
+    } catch (NoSuchFileException e) {
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Replays the batches of events of the journal, from the oldest to the most recent. A batch that cannot be decoded,
+   * e.g. written by an incompatible version, is skipped.
+   *
+   * @param consumer the consumer of the batches.
+   * @throws IOException if the journal cannot be read.
+   */
+  public synchronized void replay(Consumer<V5EventList> consumer) throws IOException {
+    for (Path file : this.segments()) {
+      try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+        final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        byte[] payload;
+        while ((payload = readRecord(buffer, file)) != null) {
+          final V5EventList eventList = decode(payload, file);
+          if (eventList != null) {
+            consumer.accept(eventList);
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Flushes the current segment to disk, the next batches are appended to a new segment.
+   */
+  public synchronized void flush() {
+    if (this.segment != null) {
+      this.segment.force();
+      this.segment = null;
+    }
+  }
+
+  private void roll(int recordSize) throws IOException {
+    this.flush();
+    this.segmentNumber++;
+    final Path file = this.directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, this.segmentNumber,
+        SEGMENT_SUFFIX));
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+        StandardOpenOption.WRITE)) {
+      // the mapping remains valid once the channel is closed
+      this.segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(this.segmentSize, recordSize));
+    }
+    log.debug("Started journal segment {}", file);
+    this.deleteOldestSegments(file);
+  }
+
+  private void deleteOldestSegments(Path current) throws IOException {
+    final List<Path> segments = this.segments();
+    long size = 0;
+    for (Path segment : segments) {
+      size += Files.size(segment);
+    }
+    for (Path segment : segments) {
+      if (size <= this.maxSize || segment.equals(current)) {
+        return;
+      }
+      final long segmentSize = Files.size(segment);
+      try {
+        Files.delete(segment);
+        size -= segmentSize;
+        log.debug("Deleted journal segment {}", segment);
+      } catch (IOException e) {
+        // e.g. still mapped on Windows, deleted when the next segment is started
+        log.debug("Journal segment {} could not be deleted", segment, e);
+      }
+    }
+  }
+
+  private List<Path> segments() throws IOException {
+    try (Stream<Path> files = Files.list(this.directory)) {
+      return files.filter(EventJournal::isSegment).sorted().collect(Collectors.toList());
+    }
+  }
+
+  private static byte[] readRecord(MappedByteBuffer buffer, Path file) {
+    if (buffer.remaining() < RECORD_HEADER_SIZE) {
+      return null;
+    }
+    final int position = buffer.position();
+    final int length = buffer.getInt();
+    final int expectedChecksum = buffer.getInt();
+    if (length <= 0 || length > buffer.remaining()) {
+      // end of the segment, or a record partially written
+      return null;
+    }
+
+    final byte[] payload = new byte[length];
+    buffer.get(payload);
+    final CRC32 checksum = new CRC32();
+    checksum.update(payload);
+    if ((int) checksum.getValue() != expectedChecksum) {
+      log.warn("Corrupted record at position {} of journal segment {}, skipping the end of the segment", position,
+          file);
+      return null;
+    }
+    return payload;
+  }
+
+  private static V5EventList decode(byte[] payload, Path file) {
+    try {
+      return MAPPER.readValue(payload, V5EventList.class);
+    } catch (IOException e) {
+      log.warn("Record of journal segment {} cannot be decoded, skipping it", file, e);
+      return null;
+    }
+  }
+
+  private static boolean isSegment(Path file) {
+    final String name = file.getFileName().toString();
+    return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+  }
+
+  private static long segmentNumber(Path segment) {
+    final String name = segment.getFileName().toString();
+    return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+  }
+}
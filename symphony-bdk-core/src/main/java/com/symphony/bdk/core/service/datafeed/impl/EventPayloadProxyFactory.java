@@ -0,0 +1,105 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import static net.bytebuddy.matcher.ElementMatchers.isPublic;
+
+import com.symphony.bdk.core.service.datafeed.EventPayload;
+import com.symphony.bdk.gen.api.model.V4Event;
+
+import lombok.extern.slf4j.Slf4j;
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.ClassFileVersion;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.implementation.FieldAccessor;
+import net.bytebuddy.implementation.MethodCall;
+import net.bytebuddy.matcher.ElementMatchers;
+import org.apiguardian.api.API;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Builds {@link EventPayload} proxies on top of the real-time event payloads received from the datafeed.
+ * <p>
+ * The proxy class of a given payload type is generated only once, the first time the type is dispatched, and then
+ * kept in a {@link ClassValue}. Each proxy class holds its delegate in an instance field, so creating a new proxy
+ * instance is a plain constructor call through a cached {@link MethodHandle}.
+ */
+@Slf4j
+@API(status = API.Status.INTERNAL)
+final class EventPayloadProxyFactory {
+
+  private static final String DELEGATE_FIELD = "delegate";
+  private static final String TIMESTAMP_FIELD = "eventTimestamp";
+
+  private static final ClassValue<MethodHandle> PROXY_CONSTRUCTORS = new ClassValue<MethodHandle>() {
+    @Override
+    protected MethodHandle computeValue(Class<?> type) {
+      return createProxyConstructor(type);
+    }
+  };
+
+  private EventPayloadProxyFactory() {
+    // nothing to be done here
+  }
+
+  /**
+   * Build a proxy on the received event, add the event timestamp to the new proxy instance as a decorator pattern.
+   * Other method calls will be delegated to the original event object instance.
+   *
+   * @param event     original event, the type will be used to look up the proxy class
+   * @param realEvent the parent V4Event, from where the event timestamp can be read
+   * @param <T>       event type
+   * @return the new created event proxy instance
+   */
+  @SuppressWarnings("unchecked")
+  static <T> T proxy(T event, V4Event realEvent) {
+    try {
+      final T proxyEvent = (T) PROXY_CONSTRUCTORS.get(event.getClass()).invoke(event);
+      ((EventPayload) proxyEvent).setEventTimestamp(realEvent.getTimestamp());
+      return proxyEvent;
+    } catch (RuntimeException e) {
+      throw e;
+    } catch (Throwable e) {
+      log.error("Cannot create real time event proxy instance - {}", e.getMessage());
+      log.debug("", e);
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Generate the proxy class of a given payload type and return a handle on its single-argument constructor,
+   * taking the delegate event.
+   *
+   * @param type the payload type to be proxied
+   * @return the proxy constructor handle, typed as {@code (Object) -> Object}
+   */
+  private static MethodHandle createProxyConstructor(Class<?> type) {
+    try {
+      final Class<?> proxyClass = new ByteBuddy(ClassFileVersion.JAVA_V17)
+          .subclass(type)
+          .defineField(DELEGATE_FIELD, type, Visibility.PRIVATE)
+          .defineConstructor(Visibility.PUBLIC).withParameters(type)
+          .intercept(MethodCall.invoke(type.getDeclaredConstructor())
+              .andThen(FieldAccessor.ofField(DELEGATE_FIELD).setsArgumentAt(0)))
+          .method(ElementMatchers.any().and(isPublic()))
+          .intercept(MethodCall.invokeSelf().onField(DELEGATE_FIELD).withAllArguments())
+          .defineField(TIMESTAMP_FIELD, Long.class, Visibility.PRIVATE)
+          .implement(EventPayload.class).intercept(FieldAccessor.ofBeanProperty())
+          .make()
+          .load(type.getClassLoader(), ClassLoadingStrategy.UsingLookup.of(
+              MethodHandles.privateLookupIn(type, MethodHandles.lookup())))
+          .getLoaded();
+      log.debug("Real time event proxy class generated for {}", type.getName());
+
+      return MethodHandles.lookup()
+          .findConstructor(proxyClass, MethodType.methodType(void.class, type))
+          .asType(MethodType.methodType(Object.class, Object.class));
+    } catch (NoSuchMethodException | IllegalAccessException e) {
+      log.error("Cannot create real time event proxy class - {}", e.getMessage());
+      log.debug("", e);
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -2,14 +2,13 @@ package com.symphony.bdk.core.service.datafeed.impl;
 
 import com.symphony.bdk.core.config.model.BdkConfig;
 import com.symphony.bdk.core.service.datafeed.DatafeedIdRepository;
+import com.symphony.bdk.core.util.FileUtil;
 
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.io.FileUtils;
 import org.apiguardian.api.API;
 
 import java.io.File;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -43,7 +42,8 @@ public class OnDiskDatafeedIdRepository implements DatafeedIdRepository {
   public void write(String datafeedId, String agentBasePath) {
     log.debug("Writing datafeed id {} to file: {}", datafeedId, this.getDatafeedIdFile().toString());
     try {
-      FileUtils.writeStringToFile(this.getDatafeedIdFile(), datafeedId + "@" + agentBasePath, StandardCharsets.UTF_8);
+      // written atomically so that a crash never leaves a truncated datafeed id behind
+      FileUtil.writeAtomically(this.getDatafeedIdFile().toPath(), datafeedId + "@" + agentBasePath);
     } catch (IOException e) {
       log.error("Error occurred when writing datafeed id", e);
     }
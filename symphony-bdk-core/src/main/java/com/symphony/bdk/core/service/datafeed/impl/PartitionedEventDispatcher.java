@@ -0,0 +1,230 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import com.symphony.bdk.core.config.model.BdkEventDispatchConfig;
+import com.symphony.bdk.core.util.VirtualThreads;
+import com.symphony.bdk.gen.api.model.V4Event;
+import com.symphony.bdk.gen.api.model.V4InstantMessageCreated;
+import com.symphony.bdk.gen.api.model.V4Message;
+import com.symphony.bdk.gen.api.model.V4MessageSent;
+import com.symphony.bdk.gen.api.model.V4MessageSuppressed;
+import com.symphony.bdk.gen.api.model.V4Payload;
+import com.symphony.bdk.gen.api.model.V4RoomCreated;
+import com.symphony.bdk.gen.api.model.V4RoomDeactivated;
+import com.symphony.bdk.gen.api.model.V4RoomMemberDemotedFromOwner;
+import com.symphony.bdk.gen.api.model.V4RoomMemberPromotedToOwner;
+import com.symphony.bdk.gen.api.model.V4RoomReactivated;
+import com.symphony.bdk.gen.api.model.V4RoomUpdated;
+import com.symphony.bdk.gen.api.model.V4SharedPost;
+import com.symphony.bdk.gen.api.model.V4Stream;
+import com.symphony.bdk.gen.api.model.V4SymphonyElementsAction;
+import com.symphony.bdk.gen.api.model.V4UserJoinedRoom;
+import com.symphony.bdk.gen.api.model.V4UserLeftRoom;
+import com.symphony.bdk.gen.api.model.V4UserRequestedToJoinRoom;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apiguardian.api.API;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Dispatches the events of a batch to a fixed number of partitions, each of them being processed by a single worker.
+ * <p>
+ * Events are assigned to a partition based on their stream ID: events of the same stream are dispatched in order
+ * while events of different streams can be dispatched in parallel. Each partition has a bounded queue, the datafeed
+ * loop thread blocks when a partition queue is full.
+ * <p>
+ * {@link #dispatch(List, Consumer)} only returns once all the events of the batch have been handled, so that the
+ * ack id is only updated once the whole batch is processed.
+ */
+@Slf4j
+@API(status = API.Status.INTERNAL)
+class PartitionedEventDispatcher {
+
+  private static final String THREAD_NAME = "Datafeed-Dispatch-Thread";
+  private static final long SHUTDOWN_CHECK_INTERVAL_MILLIS = 100L;
+
+  private final ThreadPoolExecutor[] partitions;
+
+  PartitionedEventDispatcher(BdkEventDispatchConfig config) {
+    final ThreadFactory threadFactory = threadFactory(config.isVirtualThreads());
+    this.partitions = new ThreadPoolExecutor[config.getParallelism()];
+    for (int i = 0; i < this.partitions.length; i++) {
+      this.partitions[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+          new ArrayBlockingQueue<>(config.getQueueSize()), threadFactory, PartitionedEventDispatcher::waitForSpace);
+    }
+    log.debug("Datafeed events will be dispatched on {} partitions", this.partitions.length);
+  }
+
+  /**
+   * Dispatch all the events of a batch and wait for them to be handled.
+   *
+   * @param events  the events to be dispatched
+   * @param handler the per-event handler, called on a partition worker thread
+   * @throws RequeueEventException      if the handler failed for one of the events. Remaining events of the batch
+   *                                    which have not been dispatched yet are then skipped.
+   * @throws RejectedExecutionException if the dispatcher has been shut down, the events already submitted are still
+   *                                    handled before.
+   */
+  void dispatch(List<V4Event> events, Consumer<V4Event> handler) throws RequeueEventException {
+    final CountDownLatch latch = new CountDownLatch(events.size());
+    final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
+    int submitted = 0;
+    try {
+      for (V4Event event : events) {
+        this.partitionOf(event).execute(() -> {
+          try {
+            if (failure.get() == null) {
+              handler.accept(event);
+            }
+          } catch (RuntimeException e) {
+            failure.compareAndSet(null, e);
+          } finally {
+            latch.countDown();
+          }
+        });
+        submitted++;
+      }
+    } catch (RejectedExecutionException e) {
+      // the events not submitted will never be handled
+      for (int i = submitted; i < events.size(); i++) {
+        latch.countDown();
+      }
+      failure.compareAndSet(null, e);
+    }
+
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for events to be dispatched", e);
+    }
+
+    if (failure.get() != null) {
+      throw failure.get();
+    }
+  }
+
+  /**
+   * Stop the partition workers, events already queued are still dispatched.
+   */
+  void shutdown() {
+    for (ThreadPoolExecutor partition : this.partitions) {
+      partition.shutdown();
+    }
+  }
+
+  private ThreadPoolExecutor partitionOf(V4Event event) {
+    return this.partitions[Math.floorMod(partitionKey(event).hashCode(), this.partitions.length)];
+  }
+
+  /**
+   * Events are partitioned by stream ID. Events that are not related to a stream (e.g. connection events) are
+   * partitioned by initiator.
+   */
+  static String partitionKey(V4Event event) {
+    final Optional<String> streamId = streamOf(event).map(V4Stream::getStreamId);
+    if (streamId.isPresent()) {
+      return streamId.get();
+    }
+    if (event.getInitiator() != null && event.getInitiator().getUser() != null
+        && event.getInitiator().getUser().getUserId() != null) {
+      return event.getInitiator().getUser().getUserId().toString();
+    }
+    return "";
+  }
+
+  private static Optional<V4Stream> streamOf(V4Event event) {
+    final V4Payload payload = event.getPayload();
+    final Optional<RealTimeEventType> eventType = RealTimeEventType.fromV4Event(event);
+    if (payload == null || !eventType.isPresent()) {
+      return Optional.empty();
+    }
+
+    switch (eventType.get()) {
+      case MESSAGESENT:
+        return Optional.ofNullable(payload.getMessageSent()).map(V4MessageSent::getMessage).map(V4Message::getStream);
+      case MESSAGESUPPRESSED:
+        return Optional.ofNullable(payload.getMessageSuppressed()).map(V4MessageSuppressed::getStream);
+      case SYMPHONYELEMENTSACTION:
+        return Optional.ofNullable(payload.getSymphonyElementsAction()).map(V4SymphonyElementsAction::getStream);
+      case SHAREDPOST:
+        return Optional.ofNullable(payload.getSharedPost()).map(V4SharedPost::getMessage).map(V4Message::getStream);
+      case INSTANTMESSAGECREATED:
+        return Optional.ofNullable(payload.getInstantMessageCreated()).map(V4InstantMessageCreated::getStream);
+      case ROOMCREATED:
+        return Optional.ofNullable(payload.getRoomCreated()).map(V4RoomCreated::getStream);
+      case ROOMUPDATED:
+        return Optional.ofNullable(payload.getRoomUpdated()).map(V4RoomUpdated::getStream);
+      case ROOMDEACTIVATED:
+        return Optional.ofNullable(payload.getRoomDeactivated()).map(V4RoomDeactivated::getStream);
+      case ROOMREACTIVATED:
+        return Optional.ofNullable(payload.getRoomReactivated()).map(V4RoomReactivated::getStream);
+      case USERJOINEDROOM:
+        return Optional.ofNullable(payload.getUserJoinedRoom()).map(V4UserJoinedRoom::getStream);
+      case USERLEFTROOM:
+        return Optional.ofNullable(payload.getUserLeftRoom()).map(V4UserLeftRoom::getStream);
+      case USERREQUESTEDTOJOINROOM:
+        return Optional.ofNullable(payload.getUserRequestedToJoinRoom()).map(V4UserRequestedToJoinRoom::getStream);
+      case ROOMMEMBERPROMOTEDTOOWNER:
+        return Optional.ofNullable(payload.getRoomMemberPromotedToOwner()).map(V4RoomMemberPromotedToOwner::getStream);
+      case ROOMMEMBERDEMOTEDFROMOWNER:
+        return Optional.ofNullable(payload.getRoomMemberDemotedFromOwner())
+            .map(V4RoomMemberDemotedFromOwner::getStream);
+      default:
+        return Optional.empty();
+    }
+  }
+
+  /**
+   * Blocks the datafeed loop thread until there is some space in the partition queue (back-pressure), or until the
+   * partition is shut down.
+   */
+  private static void waitForSpace(Runnable task, ThreadPoolExecutor partition) {
+    try {
+      do {
+        if (partition.isShutdown()) {
+          throw new RejectedExecutionException("Datafeed events dispatcher has been shut down");
+        }
+      } while (!partition.getQueue().offer(task, SHUTDOWN_CHECK_INTERVAL_MILLIS, TimeUnit.MILLISECONDS));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RejectedExecutionException("Interrupted while waiting for a partition queue to have space", e);
+    }
+
+    // the worker might have stopped if the partition has been shut down meanwhile, the task would then never run
+    if (partition.isShutdown() && partition.remove(task)) {
+      throw new RejectedExecutionException("Datafeed events dispatcher has been shut down");
+    }
+  }
+
+  private static ThreadFactory threadFactory(boolean virtualThreads) {
+    if (virtualThreads) {
+      final Optional<ThreadFactory> virtualThreadFactory = VirtualThreads.threadFactory(THREAD_NAME);
+      if (virtualThreadFactory.isPresent()) {
+        return virtualThreadFactory.get();
+      }
+      log.warn("Virtual threads are not supported by the current Java runtime, platform threads will be used");
+    }
+
+    final ThreadFactory factory = Executors.defaultThreadFactory();
+    final AtomicLong count = new AtomicLong(0);
+    return runnable -> {
+      final Thread thread = factory.newThread(runnable);
+      thread.setName(THREAD_NAME + "-" + count.getAndIncrement());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+}
@@ -0,0 +1,194 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import com.symphony.bdk.gen.api.model.V5EventList;
+import com.symphony.bdk.http.api.ApiException;
+import com.symphony.bdk.http.api.tracing.DistributedTracingContext;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apiguardian.api.API;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Reads the batches of events ahead on a dedicated thread, so that the next read is sent while the current batch is
+ * being handled by the datafeed loop thread.
+ * <p>
+ * At most {@link #getCapacity()} batches wait in an in-memory queue, the reader thread waits when the queue is full.
+ * Batches are handed to the datafeed loop in the order they have been read. Each read is sent with the oldest ack id
+ * committed by the datafeed loop and not sent yet, so that events are only acknowledged once they have been handled
+ * and the ack id of each batch handled is sent. A failed read stops the reader: the failure is handed to the datafeed
+ * loop after the batches read before it, and the reader restarts on the next {@link #take()}, once the failure has been
+ * handled (e.g. by re-authenticating).
+ * <p>
+ * The pipeline also exposes a few metrics: current occupancy, average occupancy when a batch is taken and average time
+ * spent by the datafeed loop waiting for a batch.
+ */
+@Slf4j
+@API(status = API.Status.EXPERIMENTAL)
+public class ReadAheadPipeline {
+
+  private static final String THREAD_NAME = "Datafeed-Read-Ahead-Thread";
+  // queues do not accept null elements
+  private static final Object NO_EVENT_LIST = new Object();
+
+  private final EventsReader eventsReader;
+  private final BlockingQueue<Object> queue;
+  private final int capacity;
+  private final ExecutorService reader;
+  private boolean reading;
+
+  private final LongAdder taken = new LongAdder();
+  private final LongAdder occupancy = new LongAdder();
+  private final LongAdder waitNanos = new LongAdder();
+
+  ReadAheadPipeline(int capacity, EventsReader eventsReader) {
+    this.eventsReader = eventsReader;
+    this.capacity = capacity;
+    this.queue = new ArrayBlockingQueue<>(capacity);
+    this.reader = Executors.newSingleThreadExecutor(runnable -> {
+      final Thread thread = new Thread(runnable, THREAD_NAME);
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  /**
+   * Takes the next batch of events, waiting for it to be read if needed. Must be called by the datafeed loop thread.
+   *
+   * @return the next batch of events.
+   * @throws ApiException if the read failed.
+   */
+  V5EventList take() throws ApiException {
+    if (!this.reading) {
+      this.reading = true;
+      // reads are traced as the ones of the datafeed loop
+      final String traceId = DistributedTracingContext.getTraceId();
+      this.reader.execute(() -> this.readAhead(traceId));
+    }
+
+    this.occupancy.add(this.queue.size());
+    final long start = System.nanoTime();
+    final Object next;
+    try {
+      next = this.queue.take();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ApiException("Interrupted while waiting for events", e);
+    } finally {
+      this.waitNanos.add(System.nanoTime() - start);
+      this.taken.increment();
+    }
+
+    if (next instanceof ReadFailure) {
+      this.reading = false;
+      throw ((ReadFailure) next).rethrow();
+    }
+    return next == NO_EVENT_LIST ? null : (V5EventList) next;
+  }
+
+  /**
+   * Stops the reader thread, the batches read but not taken yet are dropped and will be re-queued by the datafeed.
+   */
+  void shutdown() {
+    this.reader.shutdownNow();
+    this.queue.clear();
+  }
+
+  private void readAhead(String traceId) {
+    if (traceId.isEmpty()) {
+      DistributedTracingContext.setTraceId();
+    } else {
+      DistributedTracingContext.setTraceId(traceId);
+    }
+    try {
+      while (!Thread.currentThread().isInterrupted()) {
+        Object next;
+        try {
+          final V5EventList eventList = this.eventsReader.read();
+          next = eventList == null ? NO_EVENT_LIST : eventList;
+        } catch (Throwable t) {
+          next = new ReadFailure(t);
+        }
+        this.queue.put(next);
+        if (next instanceof ReadFailure) {
+          return;
+        }
+      }
+    } catch (InterruptedException e) {
+      log.debug("Read-ahead of events interrupted");
+      Thread.currentThread().interrupt();
+    } finally {
+      DistributedTracingContext.clear();
+    }
+  }
+
+  /**
+   * @return the maximum number of batches read ahead.
+   */
+  public int getCapacity() {
+    return this.capacity;
+  }
+
+  /**
+   * @return the number of batches read but not handled yet.
+   */
+  public int getOccupancy() {
+    return this.queue.size();
+  }
+
+  /**
+   * @return the number of batches taken by the datafeed loop so far.
+   */
+  public long getTakenCount() {
+    return this.taken.sum();
+  }
+
+  /**
+   * @return the average number of batches already read when the datafeed loop takes a batch. The closer it is to
+   * {@link #getCapacity()}, the more the reads are ahead of the handling of the events.
+   */
+  public double getAverageOccupancy() {
+    final long count = this.taken.sum();
+    return count == 0 ? 0 : (double) this.occupancy.sum() / count;
+  }
+
+  /**
+   * @return the average time spent by the datafeed loop waiting for a batch to be read, in milliseconds.
+   */
+  public double getAverageWaitMillis() {
+    final long count = this.taken.sum();
+    return count == 0 ? 0 : (double) this.waitNanos.sum() / count / TimeUnit.MILLISECONDS.toNanos(1);
+  }
+
+  @FunctionalInterface
+  interface EventsReader {
+    V5EventList read() throws ApiException;
+  }
+
+  private static class ReadFailure {
+
+    private final Throwable cause;
+
+    ReadFailure(Throwable cause) {
+      this.cause = cause;
+    }
+
+    ApiException rethrow() throws ApiException {
+      if (this.cause instanceof ApiException) {
+        throw (ApiException) this.cause;
+      }
+      if (this.cause instanceof RuntimeException) {
+        throw (RuntimeException) this.cause;
+      }
+      if (this.cause instanceof Error) {
+        throw (Error) this.cause;
+      }
+      return new ApiException("Failed to read events", this.cause);
+    }
+  }
+}
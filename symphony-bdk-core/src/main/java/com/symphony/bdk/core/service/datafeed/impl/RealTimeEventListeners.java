@@ -0,0 +1,135 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import com.symphony.bdk.core.service.datafeed.RealTimeEventBatchListener;
+import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apiguardian.api.API;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable snapshot of the subscribed {@link RealTimeEventListener}s, indexed by the {@link RealTimeEventType}s they
+ * handle.
+ * <p>
+ * A listener handles an event type if it overrides the corresponding callback, e.g. a listener only overriding
+ * {@link RealTimeEventListener#onUserJoinedRoom} is never offered a {@link RealTimeEventType#MESSAGESENT} event.
+ * A listener that does not override any callback (e.g. a mock or a dynamic proxy) is offered all the events.
+ * {@link RealTimeEventBatchListener}s are not offered single events, they are listed apart.
+ * <p>
+ * Subscribing or unsubscribing a listener creates a new snapshot (copy-on-write), so that a snapshot can be read
+ * without any locking while events are being dispatched.
+ */
+@Slf4j
+@API(status = API.Status.INTERNAL)
+final class RealTimeEventListeners {
+
+  static final RealTimeEventListeners EMPTY = new RealTimeEventListeners(Collections.emptyList());
+
+  private static final String CALLBACK_PREFIX = "on";
+
+  private static final ClassValue<Set<RealTimeEventType>> HANDLED_EVENT_TYPES = new ClassValue<>() {
+    @Override
+    protected Set<RealTimeEventType> computeValue(Class<?> listenerClass) {
+      return handledEventTypes(listenerClass);
+    }
+  };
+
+  private final List<RealTimeEventListener> listeners;
+  private final Map<RealTimeEventType, List<RealTimeEventListener>> listenersByType;
+  private final List<RealTimeEventBatchListener> batchListeners;
+
+  private RealTimeEventListeners(List<RealTimeEventListener> listeners) {
+    this.listeners = Collections.unmodifiableList(listeners);
+    this.listenersByType = new EnumMap<>(RealTimeEventType.class);
+    final List<RealTimeEventBatchListener> batchListeners = new ArrayList<>();
+    for (RealTimeEventListener listener : listeners) {
+      if (listener instanceof RealTimeEventBatchListener) {
+        batchListeners.add((RealTimeEventBatchListener) listener);
+      }
+    }
+    this.batchListeners = Collections.unmodifiableList(batchListeners);
+    for (RealTimeEventType eventType : RealTimeEventType.values()) {
+      final List<RealTimeEventListener> handlingListeners = new ArrayList<>();
+      for (RealTimeEventListener listener : listeners) {
+        if (!(listener instanceof RealTimeEventBatchListener)
+            && HANDLED_EVENT_TYPES.get(listener.getClass()).contains(eventType)) {
+          handlingListeners.add(listener);
+        }
+      }
+      this.listenersByType.put(eventType, Collections.unmodifiableList(handlingListeners));
+    }
+  }
+
+  /**
+   * @param listener the listener to be added
+   * @return a new snapshot containing the current listeners and the added one
+   */
+  RealTimeEventListeners with(RealTimeEventListener listener) {
+    final List<RealTimeEventListener> newListeners = new ArrayList<>(this.listeners);
+    newListeners.add(listener);
+    return new RealTimeEventListeners(newListeners);
+  }
+
+  /**
+   * @param listener the listener to be removed
+   * @return a new snapshot containing the current listeners except the removed one
+   */
+  RealTimeEventListeners without(RealTimeEventListener listener) {
+    final List<RealTimeEventListener> newListeners = new ArrayList<>(this.listeners);
+    newListeners.remove(listener);
+    return new RealTimeEventListeners(newListeners);
+  }
+
+  /**
+   * @param eventType the type of the event to be dispatched
+   * @return the listeners handling the given event type, in subscription order
+   */
+  List<RealTimeEventListener> handling(RealTimeEventType eventType) {
+    return this.listenersByType.get(eventType);
+  }
+
+  /**
+   * @return the batch listeners, in subscription order
+   */
+  List<RealTimeEventBatchListener> batchListeners() {
+    return this.batchListeners;
+  }
+
+  /**
+   * Listener callbacks are named after the event types, e.g. {@code onMessageSent} for {@code MESSAGESENT}.
+   * An event type is handled if its callback is not the default one from {@link RealTimeEventListener}.
+   */
+  private static Set<RealTimeEventType> handledEventTypes(Class<?> listenerClass) {
+    final Set<RealTimeEventType> eventTypes = EnumSet.noneOf(RealTimeEventType.class);
+    for (Method callback : RealTimeEventListener.class.getDeclaredMethods()) {
+      if (!callback.getName().startsWith(CALLBACK_PREFIX)) {
+        continue;
+      }
+      try {
+        final String eventTypeName = callback.getName().substring(CALLBACK_PREFIX.length()).toUpperCase(Locale.ROOT);
+        final RealTimeEventType eventType = RealTimeEventType.valueOf(eventTypeName);
+        final Method implementation = listenerClass.getMethod(callback.getName(), callback.getParameterTypes());
+        if (implementation.getDeclaringClass() != RealTimeEventListener.class) {
+          eventTypes.add(eventType);
+        }
+      } catch (IllegalArgumentException | NoSuchMethodException e) {
+        log.debug("Listener callback {} does not match any event type", callback.getName(), e);
+      }
+    }
+    if (eventTypes.isEmpty()) {
+      // callbacks might be implemented dynamically (e.g. mocks or proxies)
+      eventTypes.addAll(EnumSet.allOf(RealTimeEventType.class));
+    }
+    log.debug("Listener {} handles events {}", listenerClass.getName(), eventTypes);
+    return Collections.unmodifiableSet(eventTypes);
+  }
+}
@@ -1,95 +1,85 @@
 package com.symphony.bdk.core.service.datafeed.impl;
 
-import com.symphony.bdk.core.service.datafeed.EventPayload;
 import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
 import com.symphony.bdk.gen.api.model.V4Event;
 
-import lombok.extern.slf4j.Slf4j;
-import net.bytebuddy.ByteBuddy;
-import net.bytebuddy.ClassFileVersion;
-import net.bytebuddy.description.modifier.Visibility;
-import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
-import net.bytebuddy.implementation.FieldAccessor;
-import net.bytebuddy.implementation.MethodCall;
-import net.bytebuddy.matcher.ElementMatchers;
 import org.apiguardian.api.API;
 
-import java.lang.invoke.MethodHandles;
-import java.lang.reflect.InvocationTargetException;
 import java.util.Optional;
-import java.util.function.BiConsumer;
-
-import static net.bytebuddy.matcher.ElementMatchers.isPublic;
 
 /**
  * Enumeration of possible types of Real Time Events that can be retrieved from the DataFeed.
  * More information : https://docs.developers.symphony.com/building-bots-on-symphony/datafeed/real-time-events
  */
 @API(status = API.Status.INTERNAL)
-@Slf4j
 enum RealTimeEventType {
 
-  MESSAGESENT((listener, event) -> {
-    listener.onMessageSent(event.getInitiator(), proxy(event.getPayload().getMessageSent(), event));
+  MESSAGESENT((listener, event, proxied) -> {
+    listener.onMessageSent(event.getInitiator(), payload(event.getPayload().getMessageSent(), event, proxied));
   }),
-  MESSAGESUPPRESSED((listener, event) -> {
-    listener.onMessageSuppressed(event.getInitiator(), proxy(event.getPayload().getMessageSuppressed(), event));
+  MESSAGESUPPRESSED((listener, event, proxied) -> {
+    listener.onMessageSuppressed(event.getInitiator(),
+        payload(event.getPayload().getMessageSuppressed(), event, proxied));
   }),
-  SYMPHONYELEMENTSACTION((listener, event) -> {
+  SYMPHONYELEMENTSACTION((listener, event, proxied) -> {
     listener.onSymphonyElementsAction(event.getInitiator(),
-        proxy(event.getPayload().getSymphonyElementsAction(), event));
+        payload(event.getPayload().getSymphonyElementsAction(), event, proxied));
   }),
-  SHAREDPOST((listener, event) -> {
-    listener.onSharedPost(event.getInitiator(), proxy(event.getPayload().getSharedPost(), event));
+  SHAREDPOST((listener, event, proxied) -> {
+    listener.onSharedPost(event.getInitiator(), payload(event.getPayload().getSharedPost(), event, proxied));
   }),
-  INSTANTMESSAGECREATED((listener, event) -> {
-    listener.onInstantMessageCreated(event.getInitiator(), proxy(event.getPayload().getInstantMessageCreated(), event));
+  INSTANTMESSAGECREATED((listener, event, proxied) -> {
+    listener.onInstantMessageCreated(event.getInitiator(),
+        payload(event.getPayload().getInstantMessageCreated(), event, proxied));
   }),
-  ROOMCREATED((listener, event) -> {
-    listener.onRoomCreated(event.getInitiator(), proxy(event.getPayload().getRoomCreated(), event));
+  ROOMCREATED((listener, event, proxied) -> {
+    listener.onRoomCreated(event.getInitiator(), payload(event.getPayload().getRoomCreated(), event, proxied));
   }),
-  ROOMUPDATED((listener, event) -> {
-    listener.onRoomUpdated(event.getInitiator(), proxy(event.getPayload().getRoomUpdated(), event));
+  ROOMUPDATED((listener, event, proxied) -> {
+    listener.onRoomUpdated(event.getInitiator(), payload(event.getPayload().getRoomUpdated(), event, proxied));
   }),
-  ROOMDEACTIVATED((listener, event) -> {
-    listener.onRoomDeactivated(event.getInitiator(), proxy(event.getPayload().getRoomDeactivated(), event));
+  ROOMDEACTIVATED((listener, event, proxied) -> {
+    listener.onRoomDeactivated(event.getInitiator(), payload(event.getPayload().getRoomDeactivated(), event, proxied));
   }),
-  ROOMREACTIVATED((listener, event) -> {
-    listener.onRoomReactivated(event.getInitiator(), proxy(event.getPayload().getRoomReactivated(), event));
+  ROOMREACTIVATED((listener, event, proxied) -> {
+    listener.onRoomReactivated(event.getInitiator(), payload(event.getPayload().getRoomReactivated(), event, proxied));
   }),
-  USERJOINEDROOM((listener, event) -> {
-    listener.onUserJoinedRoom(event.getInitiator(), proxy(event.getPayload().getUserJoinedRoom(), event));
+  USERJOINEDROOM((listener, event, proxied) -> {
+    listener.onUserJoinedRoom(event.getInitiator(), payload(event.getPayload().getUserJoinedRoom(), event, proxied));
   }),
-  USERLEFTROOM((listener, event) -> {
-    listener.onUserLeftRoom(event.getInitiator(), proxy(event.getPayload().getUserLeftRoom(), event));
+  USERLEFTROOM((listener, event, proxied) -> {
+    listener.onUserLeftRoom(event.getInitiator(), payload(event.getPayload().getUserLeftRoom(), event, proxied));
   }),
-  USERREQUESTEDTOJOINROOM((listener, event) -> {
+  USERREQUESTEDTOJOINROOM((listener, event, proxied) -> {
     listener.onUserRequestedToJoinRoom(event.getInitiator(),
-        proxy(event.getPayload().getUserRequestedToJoinRoom(), event));
+        payload(event.getPayload().getUserRequestedToJoinRoom(), event, proxied));
   }),
-  ROOMMEMBERPROMOTEDTOOWNER((listener, event) -> {
+  ROOMMEMBERPROMOTEDTOOWNER((listener, event, proxied) -> {
     listener.onRoomMemberPromotedToOwner(event.getInitiator(),
-        proxy(event.getPayload().getRoomMemberPromotedToOwner(), event));
+        payload(event.getPayload().getRoomMemberPromotedToOwner(), event, proxied));
   }),
-  ROOMMEMBERDEMOTEDFROMOWNER((listener, event) -> {
+  ROOMMEMBERDEMOTEDFROMOWNER((listener, event, proxied) -> {
     listener.onRoomMemberDemotedFromOwner(event.getInitiator(),
-        proxy(event.getPayload().getRoomMemberDemotedFromOwner(), event));
+        payload(event.getPayload().getRoomMemberDemotedFromOwner(), event, proxied));
   }),
-  CONNECTIONACCEPTED((listener, event) -> {
-    listener.onConnectionAccepted(event.getInitiator(), proxy(event.getPayload().getConnectionAccepted(), event));
+  CONNECTIONACCEPTED((listener, event, proxied) -> {
+    listener.onConnectionAccepted(event.getInitiator(),
+        payload(event.getPayload().getConnectionAccepted(), event, proxied));
   }),
-  CONNECTIONREQUESTED((listener, event) -> {
-    listener.onConnectionRequested(event.getInitiator(), proxy(event.getPayload().getConnectionRequested(), event));
+  CONNECTIONREQUESTED((listener, event, proxied) -> {
+    listener.onConnectionRequested(event.getInitiator(),
+        payload(event.getPayload().getConnectionRequested(), event, proxied));
   }),
-  GENERICSYSTEMEVENT((listener, event) -> {
-    listener.onGenericSystemEvent(event.getInitiator(), proxy(event.getPayload().getGenericSystemEvent(), event));
+  GENERICSYSTEMEVENT((listener, event, proxied) -> {
+    listener.onGenericSystemEvent(event.getInitiator(),
+        payload(event.getPayload().getGenericSystemEvent(), event, proxied));
   });
 
 
-  private final BiConsumer<RealTimeEventListener, V4Event> execConsumer;
+  private final EventDispatcher dispatcher;
 
-  RealTimeEventType(BiConsumer<RealTimeEventListener, V4Event> consumer) {
-    this.execConsumer = consumer;
+  RealTimeEventType(EventDispatcher dispatcher) {
+    this.dispatcher = dispatcher;
   }
 
   public static Optional<RealTimeEventType> fromV4Event(V4Event event) {
@@ -106,38 +96,27 @@ enum RealTimeEventType {
   }
 
   public void dispatch(RealTimeEventListener listener, V4Event event) {
-    this.execConsumer.accept(listener, event);
+    this.dispatch(listener, event, true);
   }
 
   /**
-   * Build a dynamic proxy on the received event, add two more fields to the new proxy class as a decorator pattern.
-   * So that the event original timestamp, and event id are accessible from the new fields.
-   * Other method calls will be delegated to the original event object instance.
+   * Dispatch the event payload to the listener.
    *
-   * @param event     original event, the type will be used to build the proxy
-   * @param realEvent the parent V4Event, from where the event id and timestamp can be read
-   * @param <T>       event type
-   * @return the new created event proxy instance
+   * @param listener the listener to be notified
+   * @param event    the event to be dispatched
+   * @param proxied  if true, the payload is wrapped into an {@link com.symphony.bdk.core.service.datafeed.EventPayload}
+   *                 proxy exposing the event timestamp, otherwise the original payload is dispatched as is
    */
-  private static <T> T proxy(T event, V4Event realEvent) {
-    try {
-      T proxyEvent = (T) new ByteBuddy(ClassFileVersion.JAVA_V17)
-          .subclass(event.getClass())
-          .method(ElementMatchers.any().and(isPublic()))
-          .intercept(MethodCall.invokeSelf().on(event).withAllArguments())
-          .defineField("eventTimestamp", Long.class, Visibility.PRIVATE)
-          .implement(EventPayload.class).intercept(FieldAccessor.ofBeanProperty())
-          .make()
-          .load(event.getClass().getClassLoader(), ClassLoadingStrategy.UsingLookup.of(MethodHandles
-              .privateLookupIn(event.getClass(), MethodHandles.lookup())))
-          .getLoaded().getDeclaredConstructor(new Class[] {}).newInstance();
-      ((EventPayload) proxyEvent).setEventTimestamp(realEvent.getTimestamp());
-      return proxyEvent;
-    } catch (InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
-      log.error("Cannot create real time event proxy class - {}", e.getMessage());
-      log.debug("", e);
-      throw new RuntimeException(e);
-    }
+  public void dispatch(RealTimeEventListener listener, V4Event event, boolean proxied) {
+    this.dispatcher.dispatch(listener, event, proxied);
   }
 
+  private static <T> T payload(T event, V4Event realEvent, boolean proxied) {
+    return proxied ? EventPayloadProxyFactory.proxy(event, realEvent) : event;
+  }
+
+  @FunctionalInterface
+  private interface EventDispatcher {
+    void dispatch(RealTimeEventListener listener, V4Event event, boolean proxied);
+  }
 }
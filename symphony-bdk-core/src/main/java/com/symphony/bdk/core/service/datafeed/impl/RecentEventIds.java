@@ -0,0 +1,144 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import org.apiguardian.api.API;
+
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded, time-windowed set of the ids of the events recently dispatched, used to drop the events received again.
+ * <p>
+ * Ids are stored as 64-bit hashes in two open-addressing tables of primitive longs: the current generation, where ids
+ * are added, and the previous one, which is only looked up. The current generation becomes the previous one when it
+ * is older than the window or when it is full, the previous one being dropped. An id is therefore remembered for at
+ * least the window and at most twice the window, unless more than {@code maxEvents} ids are added meanwhile. Memory is
+ * allocated once, about 16 bytes per event.
+ * <p>
+ * Collisions of 64-bit hashes are very unlikely but possible: an event could be considered as a duplicate while it is
+ * not, with a probability of about {@code maxEvents / 2^64}.
+ */
+@API(status = API.Status.INTERNAL)
+class RecentEventIds {
+
+  // 0 marks an empty slot
+  private static final long EMPTY = 0L;
+
+  private final int generationSize;
+  private final long windowMillis;
+  private final LongSupplier currentTimeMillis;
+
+  private long[] current;
+  private long[] previous;
+  private int currentCount;
+  private int previousCount;
+  private long currentStart;
+
+  RecentEventIds(int maxEvents, long windowMillis) {
+    this(maxEvents, windowMillis, System::currentTimeMillis);
+  }
+
+  RecentEventIds(int maxEvents, long windowMillis, LongSupplier currentTimeMillis) {
+    this.generationSize = Math.max(1, maxEvents / 2);
+    this.windowMillis = windowMillis;
+    this.currentTimeMillis = currentTimeMillis;
+    // load factor of at most 0.5 to keep the linear probing sequences short
+    final int tableSize = Integer.highestOneBit(this.generationSize * 2 - 1) << 1;
+    this.current = new long[tableSize];
+    this.previous = new long[tableSize];
+    this.currentStart = currentTimeMillis.getAsLong();
+  }
+
+  /**
+   * @param id the id of an event.
+   * @return true if the event has been added within the window.
+   */
+  synchronized boolean contains(String id) {
+    final long hash = hash(id);
+    this.expire();
+    return contains(this.current, hash) || contains(this.previous, hash);
+  }
+
+  /**
+   * Remembers the id of an event.
+   *
+   * @param id the id of an event.
+   */
+  synchronized void add(String id) {
+    final long hash = hash(id);
+    this.expire();
+    if (contains(this.current, hash)) {
+      return;
+    }
+    if (this.currentCount >= this.generationSize) {
+      this.rotate(false);
+    }
+    insert(this.current, hash);
+    this.currentCount++;
+  }
+
+  /**
+   * @return the number of ids remembered, including the ones older than the window not dropped yet.
+   */
+  synchronized int size() {
+    return this.currentCount + this.previousCount;
+  }
+
+  private void expire() {
+    final long age = this.currentTimeMillis.getAsLong() - this.currentStart;
+    if (age >= this.windowMillis) {
+      // once the current generation is more than two windows old, it only contains expired ids
+      this.rotate(age >= 2 * this.windowMillis);
+    }
+  }
+
+  private void rotate(boolean dropCurrent) {
+    final long[] dropped = this.previous;
+    Arrays.fill(dropped, EMPTY);
+    if (dropCurrent) {
+      Arrays.fill(this.current, EMPTY);
+      this.previousCount = 0;
+    } else {
+      this.previous = this.current;
+      this.previousCount = this.currentCount;
+      this.current = dropped;
+    }
+    this.currentCount = 0;
+    this.currentStart = this.currentTimeMillis.getAsLong();
+  }
+
+  private static boolean contains(long[] table, long hash) {
+    final int mask = table.length - 1;
+    for (int i = (int) hash & mask; table[i] != EMPTY; i = (i + 1) & mask) {
+      if (table[i] == hash) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static void insert(long[] table, long hash) {
+    final int mask = table.length - 1;
+    int i = (int) hash & mask;
+    while (table[i] != EMPTY) {
+      i = (i + 1) & mask;
+    }
+    table[i] = hash;
+  }
+
+  /**
+   * 64-bit FNV-1a hash of the id, mixed with the MurmurHash3 finalizer so that the low bits can be used as an index.
+   */
+  static long hash(String id) {
+    long hash = 0xcbf29ce484222325L;
+    for (int i = 0; i < id.length(); i++) {
+      hash ^= id.charAt(i);
+      hash *= 0x100000001b3L;
+    }
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    hash *= 0xc4ceb9fe1a85ec53L;
+    hash ^= hash >>> 33;
+    return hash == EMPTY ? 1L : hash;
+  }
+}
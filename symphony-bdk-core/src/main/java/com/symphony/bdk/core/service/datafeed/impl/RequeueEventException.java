@@ -6,6 +6,8 @@ import com.symphony.bdk.gen.api.model.V4Event;
 
 import org.apiguardian.api.API;
 
+import java.util.List;
+
 /**
  * Internal exception to convey the message that ack id should not be updated thus re-queuing events.
  */
@@ -15,4 +17,9 @@ public class RequeueEventException extends RuntimeException {
     super(String.format("Listener %s failed to process event %s with type %s, events will be re-queued",
         listener, event.getId(), event.getType()), e);
   }
+
+  public RequeueEventException(List<V4Event> events, RealTimeEventListener listener, EventException e) {
+    super(String.format("Listener %s failed to process a batch of %d events, events will be re-queued", listener,
+        events.size()), e);
+  }
 }
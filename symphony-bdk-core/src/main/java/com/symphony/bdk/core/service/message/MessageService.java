@@ -36,6 +36,8 @@ import com.symphony.bdk.gen.api.model.V4Stream;
 import com.symphony.bdk.http.api.ApiClient;
 import com.symphony.bdk.http.api.ApiClientBodyPart;
 import com.symphony.bdk.http.api.ApiException;
+import com.symphony.bdk.http.api.ApiInvoker;
+import com.symphony.bdk.http.api.ApiResponse;
 import com.symphony.bdk.http.api.util.ApiUtils;
 import com.symphony.bdk.http.api.util.TypeReference;
 import com.symphony.bdk.template.api.TemplateEngine;
@@ -48,6 +50,7 @@ import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -94,7 +97,7 @@ public class MessageService implements OboMessageService, OboService<OboMessageS
     this.templateEngine = templateEngine;
     this.defaultApi = defaultApi;
     this.retryBuilder = RetryWithRecoveryBuilder.copyWithoutRecoveryStrategies(retryBuilder)
-        .recoveryStrategy(ApiException::isUnauthorized, authSession::refresh);
+        .recoveryStrategy(ApiException::isUnauthorized, authSession::refresh, authSession::refreshAsync);
   }
 
   public MessageService(
@@ -294,6 +297,39 @@ public class MessageService implements OboMessageService, OboService<OboMessageS
         () -> this.doSendMessage(streamId, message));
   }
 
+  /**
+   * Sends a message to the stream ID of the passed {@link V4Stream} object, without blocking the calling thread.
+   * The call is retried without blocking any thread either.
+   *
+   * @param stream  the stream to send the message to
+   * @param message the message to send to the stream
+   * @return a future of the {@link V4Message} object containing the details of the sent message
+   * @see #send(V4Stream, Message)
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public CompletableFuture<V4Message> sendAsync(@Nonnull V4Stream stream, @Nonnull Message message) {
+    return this.sendAsync(stream.getStreamId(), message);
+  }
+
+  /**
+   * Sends a message to the stream ID passed in parameter, without blocking the calling thread.
+   * The call is retried without blocking any thread either.
+   *
+   * @param streamId the ID of the stream to send the message to
+   * @param message  the message to send to the stream
+   * @return a future of the {@link V4Message} object containing the details of the sent message
+   * @see #send(String, Message)
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public CompletableFuture<V4Message> sendAsync(@Nonnull String streamId, @Nonnull Message message) {
+    return this.executeAndRetryAsync("send", messagesApi.getApiClient().getBasePath(), () -> {
+      final String path = "/v4/stream/" + this.messagesApi.getApiClient().escapeString(toUrlSafeIdIfNeeded(streamId))
+          + "/message/create";
+      return this.invokeFormData(this.messagesApi.getApiClient()::invokeAPIAsync, path, getForm(message),
+          new TypeReference<V4Message>() {}).thenApply(ApiResponse::getData);
+    });
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -394,13 +430,18 @@ public class MessageService implements OboMessageService, OboService<OboMessageS
 
   private <T> T doSendFormData(String path, Map<String, Object> form, TypeReference<T> typeReference)
       throws ApiException {
+    return this.invokeFormData(this.messagesApi.getApiClient()::invokeAPI, path, form, typeReference).getData();
+  }
+
+  private <T, R> R invokeFormData(ApiInvoker<T, R> invoker, String path, Map<String, Object> form,
+      TypeReference<T> typeReference) throws ApiException {
     final ApiClient apiClient = this.messagesApi.getApiClient();
 
     final Map<String, String> headers = new HashMap<>();
     headers.put("sessionToken", apiClient.parameterToString(this.authSession.getSessionToken()));
     headers.put("keyManagerToken", apiClient.parameterToString(this.authSession.getKeyManagerToken()));
 
-    return apiClient.invokeAPI(
+    return invoker.invoke(
         path,
         "POST",
         emptyList(),
@@ -412,7 +453,7 @@ public class MessageService implements OboMessageService, OboService<OboMessageS
         apiClient.selectHeaderContentType("multipart/form-data"),
         new String[0],
         typeReference
-    ).getData();
+    );
   }
 
   /**
@@ -478,6 +519,21 @@ public class MessageService implements OboMessageService, OboService<OboMessageS
             toUrlSafeIdIfNeeded(messageId)));
   }
 
+  /**
+   * Retrieves the details of a message given its message ID, without blocking the calling thread.
+   * The call is retried without blocking any thread either.
+   *
+   * @param messageId the ID of the message to be retrieved
+   * @return a future of the {@link V4Message} containing the message's details
+   * @see #getMessage(String)
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public CompletableFuture<V4Message> getMessageAsync(@Nonnull String messageId) {
+    return executeAndRetryAsync("getMessage", messagesApi.getApiClient().getBasePath(),
+        () -> messagesApi.v1MessageIdGetAsync(authSession.getSessionToken(), authSession.getKeyManagerToken(),
+            toUrlSafeIdIfNeeded(messageId)));
+  }
+
   /**
    * List attachments in a particular stream.
    *
@@ -534,4 +590,10 @@ public class MessageService implements OboMessageService, OboService<OboMessageS
     checkAuthSession(authSession);
     return RetryWithRecovery.executeAndRetry(retryBuilder, name, address, supplier);
   }
+
+  private <T> CompletableFuture<T> executeAndRetryAsync(String name, String address,
+      SupplierWithApiException<CompletableFuture<T>> supplier) {
+    checkAuthSession(authSession);
+    return RetryWithRecovery.executeAndRetryAsync(retryBuilder, name, address, supplier);
+  }
 }
@@ -1,31 +1,64 @@
 package com.symphony.bdk.core.service.message.util;
 
+import com.symphony.bdk.core.service.datafeed.RealTimeEventContext;
 import com.symphony.bdk.core.service.message.exception.MessageParserException;
 import com.symphony.bdk.gen.api.model.V4Message;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apiguardian.api.API;
 
+import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * Helper class for extracting entities inside an incoming {@link com.symphony.bdk.gen.api.model.V4Message} such as:
  * Mentions, Hashtags, Cashtags, Emojis.
+ * <p>
+ * All the entities are extracted in a single streaming pass over the message data. When called from a datafeed
+ * listener, the result is shared by all the listeners of the event, so that the data is parsed once per event.
  */
 @API(status = API.Status.EXPERIMENTAL)
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class MessageParser {
 
-  private static final ObjectMapper MAPPER = new ObjectMapper();
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+  private static final String TYPE_FIELD = "type";
+  private static final String VALUE_FIELD = "value";
+  private static final String ANNOTATION_FIELD = "annotation";
+  private static final String UNICODE_FIELD = "unicode";
+
+  /**
+   * Parse data inside the message and returns all the entities found: mentions, hashtags, cashtags and emojis.
+   *
+   * @param message incoming V4 message to be parsed
+   * @return the entities contained in the message
+   */
+  public static ParsedMessageEntities getEntities(V4Message message) throws MessageParserException {
+    final String data = message.getData();
+    if (data == null || data.isEmpty()) {
+      return ParsedMessageEntities.EMPTY;
+    }
+    // the payload might be proxied for each listener, the underlying data is the same instance though
+    final ParsedMessageEntities cached = RealTimeEventContext.getAttribute(ParsedMessageEntities.class)
+        .filter(entities -> entities.data == data)
+        .orElse(null);
+    if (cached != null) {
+      return cached;
+    }
+    final ParsedMessageEntities entities = parse(data);
+    RealTimeEventContext.setAttribute(ParsedMessageEntities.class, entities);
+    return entities;
+  }
 
   /**
    * Parse data inside the message and returns a list containing the user ids corresponding to the users mentioned
@@ -34,8 +67,12 @@ public final class MessageParser {
    * @return list of users ids that has been mentioned inside the message
    */
   public static List<Long> getMentions(V4Message message) throws MessageParserException {
-    List<String> mentionsList = getTags(message, EntityTypeEnum.MENTION);
-    return mentionsList.stream().map(Long::parseLong).collect(Collectors.toList());
+    final long[] mentions = getEntities(message).getMentions();
+    final List<Long> mentionsList = new ArrayList<>(mentions.length);
+    for (long mention : mentions) {
+      mentionsList.add(mention);
+    }
+    return mentionsList;
   }
 
   /**
@@ -45,7 +82,7 @@ public final class MessageParser {
    * @return list of hashtags contained in the message
    */
   public static List<String> getHashtags(V4Message message) throws MessageParserException {
-    return getTags(message, EntityTypeEnum.HASHTAG);
+    return new ArrayList<>(getEntities(message).getHashtags());
   }
 
   /**
@@ -55,7 +92,7 @@ public final class MessageParser {
    * @return list of cashtags contained in the message
    */
   public static List<String> getCashtags(V4Message message) throws MessageParserException {
-    return getTags(message, EntityTypeEnum.CASHTAG);
+    return new ArrayList<>(getEntities(message).getCashtags());
   }
 
   /**
@@ -66,46 +103,113 @@ public final class MessageParser {
    * @return map of emojis contained in the message
    */
   public static Map<String, String> getEmojis(V4Message message) throws MessageParserException {
-    String data = message.getData();
-    if (data == null || data.isEmpty()) {
-      return Collections.emptyMap();
-    }
-    JsonNode dataJson = getJsonNode(data);
-    Map<String, String> emojisMap = new HashMap<>();
-    for (JsonNode node : dataJson) {
-      if (isType(EntityTypeEnum.EMOJI, node) && !node.findPath("annotation").isMissingNode() &&
-          !node.findPath("unicode").isMissingNode()) {
-        emojisMap.put(node.findPath("annotation").asText(), node.findPath("unicode").asText());
+    return new LinkedHashMap<>(getEntities(message).getEmojis());
+  }
+
+  private static ParsedMessageEntities parse(String data) throws MessageParserException {
+    final EntitiesBuilder builder = new EntitiesBuilder();
+    try (JsonParser parser = JSON_FACTORY.createParser(data)) {
+      final JsonToken root = parser.nextToken();
+      if (root == JsonToken.START_OBJECT) {
+        // entities are indexed by their position in the message: {"0": {...}, "1": {...}}
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+          parser.nextToken();
+          parseEntity(parser, builder);
+        }
+      } else if (root == JsonToken.START_ARRAY) {
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+          parseEntity(parser, builder);
+        }
       }
+    } catch (IOException e) {
+      throw new MessageParserException("Failed to extract payload from message data", e);
     }
-    return emojisMap;
+    return builder.build(data);
   }
 
-  private static List<String> getTags(V4Message message, EntityTypeEnum type) throws MessageParserException {
-    String data = message.getData();
-    if (data == null || data.isEmpty()) {
-      return Collections.emptyList();
+  /**
+   * Reads an entity, the parser being positioned on its first token. The entity type is a direct field of the
+   * entity whereas its value, annotation or unicode is the first matching field found at any depth, e.g.
+   * {@code {"id": [{"type": "com.symphony.user.userId", "value": "123"}], "type": "com.symphony.user.mention"}}.
+   */
+  private static void parseEntity(JsonParser parser, EntitiesBuilder builder)
+      throws IOException, MessageParserException {
+    if (parser.currentToken() != JsonToken.START_OBJECT) {
+      parser.skipChildren();
+      return;
     }
-    JsonNode dataJson = getJsonNode(data);
-    List<String> tags = new ArrayList<>();
-    for (JsonNode node : dataJson) {
-      if (isType(type, node) && !node.findPath("value").isMissingNode()) {
-        tags.add(node.findPath("value").asText());
+    String type = null;
+    String value = null;
+    String annotation = null;
+    String unicode = null;
+    int depth = 1;
+    while (depth > 0) {
+      final JsonToken token = parser.nextToken();
+      if (token == null) {
+        throw new JsonParseException(parser, "Unexpected end of message data");
+      } else if (token.isStructEnd()) {
+        depth--;
+      } else if (token.isStructStart()) {
+        depth++;
+      } else if (token == JsonToken.FIELD_NAME) {
+        final String fieldName = parser.getCurrentName();
+        final JsonToken fieldValue = parser.nextToken();
+        final String text = fieldValue.isScalarValue() ? parser.getText() : "";
+        if (fieldValue.isStructStart()) {
+          depth++;
+        }
+        if (depth == 1 && TYPE_FIELD.equals(fieldName)) {
+          type = text;
+        } else if (value == null && VALUE_FIELD.equals(fieldName)) {
+          value = text;
+        } else if (annotation == null && ANNOTATION_FIELD.equals(fieldName)) {
+          annotation = text;
+        } else if (unicode == null && UNICODE_FIELD.equals(fieldName)) {
+          unicode = text;
+        }
       }
     }
-    return tags;
+    builder.add(type, value, annotation, unicode);
   }
 
-  private static JsonNode getJsonNode(String data) throws MessageParserException {
-    try {
-      return MAPPER.readTree(data);
-    } catch (JsonProcessingException e) {
-      throw new MessageParserException("Failed to extract payload from message data", e);
+  private static final class EntitiesBuilder {
+
+    private long[] mentions = new long[4];
+    private int mentionCount;
+    private final List<String> hashtags = new ArrayList<>();
+    private final List<String> cashtags = new ArrayList<>();
+    private final Map<String, String> emojis = new LinkedHashMap<>();
+
+    private void add(String type, String value, String annotation, String unicode) throws MessageParserException {
+      if (type == null) {
+        return;
+      }
+      if (EntityTypeEnum.MENTION.getValue().equals(type) && value != null) {
+        addMention(value);
+      } else if (EntityTypeEnum.HASHTAG.getValue().equals(type) && value != null) {
+        this.hashtags.add(value);
+      } else if (EntityTypeEnum.CASHTAG.getValue().equals(type) && value != null) {
+        this.cashtags.add(value);
+      } else if (EntityTypeEnum.EMOJI.getValue().equals(type) && annotation != null && unicode != null) {
+        this.emojis.put(annotation, unicode);
+      }
     }
-  }
 
-  private static boolean isType(EntityTypeEnum type, JsonNode node) {
-    return type.getValue().equals(node.get("type").asText());
-  }
+    private void addMention(String userId) throws MessageParserException {
+      if (this.mentionCount == this.mentions.length) {
+        this.mentions = Arrays.copyOf(this.mentions, this.mentionCount * 2);
+      }
+      try {
+        this.mentions[this.mentionCount] = Long.parseLong(userId);
+      } catch (NumberFormatException e) {
+        throw new MessageParserException("Invalid user id mentioned in message data: " + userId, e);
+      }
+      this.mentionCount++;
+    }
 
+    private ParsedMessageEntities build(String data) {
+      return new ParsedMessageEntities(data, Arrays.copyOf(this.mentions, this.mentionCount), this.hashtags,
+          this.cashtags, this.emojis);
+    }
+  }
 }
@@ -0,0 +1,90 @@
+package com.symphony.bdk.core.service.message.util;
+
+import com.symphony.bdk.gen.api.model.V4Message;
+
+import org.apiguardian.api.API;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Entities found inside the data of an incoming {@link V4Message}: mentions, hashtags, cashtags and emojis.
+ * <p>
+ * All the entities are extracted in a single pass over the message data, see {@link MessageParser#getEntities}.
+ * Instances are immutable.
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public final class ParsedMessageEntities {
+
+  static final ParsedMessageEntities EMPTY = new ParsedMessageEntities(null, new long[0], Collections.emptyList(),
+      Collections.emptyList(), Collections.emptyMap());
+
+  /**
+   * The parsed message data, used to check that a cached instance matches the message being parsed
+   */
+  final String data;
+
+  private final long[] mentions;
+  private final List<String> hashtags;
+  private final List<String> cashtags;
+  private final Map<String, String> emojis;
+
+  ParsedMessageEntities(String data, long[] mentions, List<String> hashtags, List<String> cashtags,
+      Map<String, String> emojis) {
+    this.data = data;
+    this.mentions = mentions;
+    this.hashtags = Collections.unmodifiableList(hashtags);
+    this.cashtags = Collections.unmodifiableList(cashtags);
+    this.emojis = Collections.unmodifiableMap(emojis);
+  }
+
+  /**
+   * @return the ids of the users mentioned inside the message, in order of appearance
+   */
+  public long[] getMentions() {
+    return this.mentions.clone();
+  }
+
+  /**
+   * @return the number of users mentioned inside the message
+   */
+  public int getMentionCount() {
+    return this.mentions.length;
+  }
+
+  /**
+   * @param userId the id of a user
+   * @return true if the user is mentioned inside the message
+   */
+  public boolean isMentioned(long userId) {
+    for (long mention : this.mentions) {
+      if (mention == userId) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * @return the unmodifiable list of the hashtags contained in the message
+   */
+  public List<String> getHashtags() {
+    return this.hashtags;
+  }
+
+  /**
+   * @return the unmodifiable list of the cashtags contained in the message
+   */
+  public List<String> getCashtags() {
+    return this.cashtags;
+  }
+
+  /**
+   * @return the unmodifiable map of the emojis contained in the message, keys are the emoji annotations and values
+   * their unicode
+   */
+  public Map<String, String> getEmojis() {
+    return this.emojis;
+  }
+}
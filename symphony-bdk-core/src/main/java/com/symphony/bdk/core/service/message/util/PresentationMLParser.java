@@ -2,28 +2,31 @@ package com.symphony.bdk.core.service.message.util;
 
 import com.symphony.bdk.core.service.message.exception.PresentationMLParserException;
 
-import lombok.Generated;
-import lombok.SneakyThrows;
 import org.apache.commons.text.StringEscapeUtils;
 import org.apiguardian.api.API;
-import org.w3c.dom.Document;
-import org.xml.sax.SAXException;
 
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.io.StringReader;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 /**
  * Helper class for parsing the PresentationML to text content.
+ * <p>
+ * The PresentationML is read in a single streaming pass, without building a DOM. As for any XML parsed by the BDK,
+ * DTDs and external entities are not supported.
  */
 @API(status = API.Status.STABLE)
 public class PresentationMLParser {
 
-  private static final ThreadLocal<DocumentBuilder> LOCAL_BUILDER = ThreadLocal.withInitial(
-      PresentationMLParser::initBuilder);
+  /**
+   * Longest HTML 4 entity reference (e.g. "&amp;thetasym;"), an entity might be cut when returning a prefix early.
+   */
+  private static final int MAX_ENTITY_LENGTH = 10;
+
+  private static final XMLInputFactory INPUT_FACTORY = initInputFactory();
 
   /**
    * Get text content from PresentationML
@@ -33,15 +36,7 @@ public class PresentationMLParser {
    * @return the message text content extracted from the given PresentationML
    */
   public static String getTextContent(String presentationML, Boolean trim) throws PresentationMLParserException {
-    try {
-      final Document doc = LOCAL_BUILDER.get().parse(
-          new ByteArrayInputStream(presentationML.getBytes(StandardCharsets.UTF_8)));
-      String textContent = doc.getChildNodes().item(0).getTextContent();
-      String escapedPresentationML = StringEscapeUtils.unescapeHtml4(textContent);
-      return trim ? escapedPresentationML.trim() : escapedPresentationML;
-    } catch (SAXException | IOException e) {
-      throw new PresentationMLParserException(presentationML, "Failed to parse the PresentationML", e);
-    }
+    return getTextContent(presentationML, trim, Integer.MAX_VALUE);
   }
 
   /**
@@ -54,13 +49,120 @@ public class PresentationMLParser {
     return getTextContent(presentationML, true);
   }
 
-  // Ignore the code coverage check because cannot produce the exception
-  @Generated
-  @SneakyThrows
-  private static DocumentBuilder initBuilder() {
-    final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-    factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
-    return factory.newDocumentBuilder();
+  /**
+   * Get the beginning of the text content from PresentationML, e.g. to match a command. Parsing stops as soon as
+   * enough text has been read: the rest of the PresentationML is then not checked.
+   *
+   * @param presentationML the PresentationML to be parsed
+   * @param trim           flag if we want to trim the text result
+   * @param maxLength      the maximum length of the returned text, zero or positive
+   * @return the first {@code maxLength} characters of the message text content extracted from the given
+   * PresentationML, or the whole text content if shorter
+   * @throws IllegalArgumentException if {@code maxLength} is negative
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public static String getTextContent(String presentationML, boolean trim, int maxLength)
+      throws PresentationMLParserException {
+    if (maxLength < 0) {
+      throw new IllegalArgumentException("Max length must not be negative");
+    }
+    XMLStreamReader reader = null;
+    try {
+      reader = INPUT_FACTORY.createXMLStreamReader(new StringReader(presentationML));
+      final StringBuilder text = new StringBuilder();
+      int depth = 0;
+      while (reader.hasNext()) {
+        switch (reader.next()) {
+          case XMLStreamConstants.START_ELEMENT:
+            depth++;
+            break;
+          case XMLStreamConstants.END_ELEMENT:
+            depth--;
+            break;
+          case XMLStreamConstants.CHARACTERS:
+          case XMLStreamConstants.CDATA:
+          case XMLStreamConstants.SPACE:
+            if (depth > 0) {
+              text.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+              if (text.length() >= maxLength) {
+                final String prefix = prefix(text, trim, maxLength);
+                if (prefix != null) {
+                  return prefix;
+                }
+              }
+            }
+            break;
+          case XMLStreamConstants.DTD:
+            throw new XMLStreamException("DOCTYPE is not allowed in PresentationML");
+          default:
+            // comments and processing instructions are not part of the text content
+            break;
+        }
+      }
+      final String textContent = unescape(text);
+      return truncate(trim ? textContent.trim() : textContent, maxLength);
+    } catch (XMLStreamException e) {
+      throw new PresentationMLParserException(presentationML, "Failed to parse the PresentationML", e);
+    } finally {
+      close(reader);
+    }
+  }
+
+  /**
+   * @return the prefix of the text content if enough text has been read, null otherwise
+   */
+  private static String prefix(StringBuilder text, boolean trim, int maxLength) {
+    String textContent = unescape(text);
+    if (trim) {
+      textContent = textContent.substring(leadingWhitespaces(textContent));
+    }
+    // the end of the text read so far might be a partial entity or trailing whitespaces to be trimmed
+    if (textContent.length() - MAX_ENTITY_LENGTH < maxLength) {
+      return null;
+    }
+    return textContent.substring(0, maxLength);
+  }
+
+  private static String unescape(CharSequence text) {
+    // most messages do not contain any escaped HTML entity
+    for (int i = 0; i < text.length(); i++) {
+      if (text.charAt(i) == '&') {
+        return StringEscapeUtils.unescapeHtml4(text.toString());
+      }
+    }
+    return text.toString();
+  }
+
+  private static int leadingWhitespaces(String text) {
+    // same definition of whitespaces as String#trim()
+    int i = 0;
+    while (i < text.length() && text.charAt(i) <= ' ') {
+      i++;
+    }
+    return i;
+  }
+
+  private static String truncate(String text, int maxLength) {
+    return text.length() > maxLength ? text.substring(0, maxLength) : text;
+  }
+
+  private static void close(XMLStreamReader reader) {
+    if (reader != null) {
+      try {
+        reader.close();
+      } catch (XMLStreamException e) {
+        // nothing to be done here, the reader is backed by a string
+      }
+    }
+  }
+
+  private static XMLInputFactory initInputFactory() {
+    final XMLInputFactory factory = XMLInputFactory.newFactory();
+    // to fix XXE vulnerability
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    factory.setProperty(XMLInputFactory.IS_COALESCING, false);
+    return factory;
   }
 
   private PresentationMLParser() {
@@ -42,6 +42,7 @@ import org.apiguardian.api.API;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -76,7 +77,7 @@ public class StreamService implements OboStreamService, OboService<OboStreamServ
     this.shareApi = shareApi;
     this.authSession = authSession;
     this.retryBuilder = RetryWithRecoveryBuilder.copyWithoutRecoveryStrategies(retryBuilder)
-        .recoveryStrategy(ApiException::isUnauthorized, authSession::refresh);
+        .recoveryStrategy(ApiException::isUnauthorized, authSession::refresh, authSession::refreshAsync);
   }
 
   public StreamService(StreamsApi streamsApi, RoomMembershipApi membershipApi, ShareApi shareApi,
@@ -105,6 +106,20 @@ public class StreamService implements OboStreamService, OboService<OboStreamServ
         () -> streamsApi.v2StreamsSidInfoGet(toUrlSafeIdIfNeeded(streamId), authSession.getSessionToken()));
   }
 
+  /**
+   * Returns information about a particular stream, without blocking the calling thread. The call is retried without
+   * blocking any thread either.
+   *
+   * @param streamId the ID of the stream to be retrieved
+   * @return a future of the information about the given stream
+   * @see #getStream(String)
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public CompletableFuture<V2StreamAttributes> getStreamAsync(@Nonnull String streamId) {
+    return executeAndRetryAsync("getStreamInfo", streamsApi.getApiClient().getBasePath(),
+        () -> streamsApi.v2StreamsSidInfoGetAsync(toUrlSafeIdIfNeeded(streamId), authSession.getSessionToken()));
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -245,6 +260,20 @@ public class StreamService implements OboStreamService, OboService<OboStreamServ
         () -> streamsApi.v3RoomIdInfoGet(toUrlSafeIdIfNeeded(roomId), authSession.getSessionToken()));
   }
 
+  /**
+   * Get information about a particular room, without blocking the calling thread. The call is retried without
+   * blocking any thread either.
+   *
+   * @param roomId the ID of the room to be retrieved
+   * @return a future of the information about the given room
+   * @see #getRoomInfo(String)
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public CompletableFuture<V3RoomDetail> getRoomInfoAsync(@Nonnull String roomId) {
+    return executeAndRetryAsync("getRoomInfo", streamsApi.getApiClient().getBasePath(),
+        () -> streamsApi.v3RoomIdInfoGetAsync(toUrlSafeIdIfNeeded(roomId), authSession.getSessionToken()));
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -502,4 +531,10 @@ public class StreamService implements OboStreamService, OboService<OboStreamServ
     checkAuthSession(authSession);
     return RetryWithRecovery.executeAndRetry(retryBuilder, name, address, supplier);
   }
+
+  private <T> CompletableFuture<T> executeAndRetryAsync(String name, String address,
+      SupplierWithApiException<CompletableFuture<T>> supplier) {
+    checkAuthSession(authSession);
+    return RetryWithRecovery.executeAndRetryAsync(retryBuilder, name, address, supplier);
+  }
 }
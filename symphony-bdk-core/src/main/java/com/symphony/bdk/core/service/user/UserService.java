@@ -54,6 +54,7 @@ import java.time.Instant;
 import java.util.Base64;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -92,7 +93,7 @@ public class UserService implements OboUserService, OboService<OboUserService> {
     this.auditTrailApi = auditTrailApi;
     this.authSession = authSession;
     this.retryBuilder = RetryWithRecoveryBuilder.copyWithoutRecoveryStrategies(retryBuilder)
-        .recoveryStrategy(ApiException::isUnauthorized, authSession::refresh);
+        .recoveryStrategy(ApiException::isUnauthorized, authSession::refresh, authSession::refreshAsync);
   }
 
   public UserService(UserApi userApi, UsersApi usersApi, AuditTrailApi auditTrailApi, RetryWithRecoveryBuilder<?> retryBuilder) {
@@ -175,6 +176,22 @@ public class UserService implements OboUserService, OboService<OboUserService> {
     return this.getUsersOrEmpty(v2UserList);
   }
 
+  /**
+   * Search users by user ids, without blocking the calling thread. The call is retried without blocking any thread
+   * either.
+   *
+   * @param uidList List of user ids
+   * @return a future of the list of users found
+   * @see #listUsersByIds(List)
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public CompletableFuture<List<UserV2>> listUsersByIdsAsync(@Nonnull List<Long> uidList) {
+    String uids = uidList.stream().map(String::valueOf).collect(Collectors.joining(","));
+    CompletableFuture<V2UserList> v2UserList = executeAndRetryAsync("searchUserByIds",
+        () -> usersApi.v3UsersGetAsync(uids, null, null, false, null, authSession.getSessionToken()));
+    return v2UserList.thenApply(this::getUsersOrEmpty);
+  }
+
   private List<UserV2> getUsersOrEmpty(V2UserList v2UserList) {
     if (v2UserList == null || v2UserList.getUsers() == null) {
       return Collections.emptyList();
@@ -796,6 +813,12 @@ public class UserService implements OboUserService, OboService<OboUserService> {
     return RetryWithRecovery.executeAndRetry(retryBuilder, name, userApi.getApiClient().getBasePath(), supplier);
   }
 
+  private <T> CompletableFuture<T> executeAndRetryAsync(String name,
+      SupplierWithApiException<CompletableFuture<T>> supplier) {
+    checkAuthSession(authSession);
+    return RetryWithRecovery.executeAndRetryAsync(retryBuilder, name, userApi.getApiClient().getBasePath(), supplier);
+  }
+
 
   private static class AuditTrailInitiatorListAdapter implements CursorPaginatedPayload<V1AuditTrailInitiatorResponse> {
 
@@ -0,0 +1,66 @@
+package com.symphony.bdk.core.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apiguardian.api.API;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Helper class for writing files safely.
+ */
+@API(status = API.Status.INTERNAL)
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class FileUtil {
+
+  /**
+   * Writes a file atomically: the content is written and flushed to disk in a temporary file of the same directory,
+   * which then replaces the file. The file therefore contains either its previous or its new content, even if the
+   * process or the machine crashes meanwhile.
+   *
+   * @param file    the file to be written, its directory is created if needed.
+   * @param content the content to be written.
+   * @throws IOException if the file cannot be written.
+   */
+  public static void writeAtomically(Path file, String content) throws IOException {
+    final Path directory = file.toAbsolutePath().getParent();
+    Files.createDirectories(directory);
+    final Path temporaryFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+    try {
+      try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.WRITE)) {
+        final ByteBuffer buffer = ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+          channel.write(buffer);
+        }
+        channel.force(true);
+      }
+      try {
+        Files.move(temporaryFile, file, StandardCopyOption.ATOMIC_MOVE);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+      }
+      forceDirectory(directory);
+    } finally {
+      Files.deleteIfExists(temporaryFile);
+    }
+  }
+
+  /**
+   * Flushes the directory entries to disk so that a renamed file survives a crash, not supported on every platform.
+   */
+  private static void forceDirectory(Path directory) {
+    try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+      channel.force(true);
+    } catch (IOException e) {
+      // directories cannot be opened on Windows, where the rename is durable once done
+    }
+  }
+}
@@ -0,0 +1,37 @@
+package com.symphony.bdk.core.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apiguardian.api.API;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Helper class creating virtual threads when supported by the Java runtime.
+ * <p>
+ * The BDK is compiled against Java 17, virtual threads (Java 21+) are therefore looked up reflectively.
+ */
+@Slf4j
+@API(status = API.Status.INTERNAL)
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class VirtualThreads {
+
+  /**
+   * @param name the prefix of the thread names, suffixed by a counter
+   * @return a factory creating virtual threads, empty if virtual threads are not supported by the Java runtime
+   */
+  public static Optional<ThreadFactory> threadFactory(String name) {
+    try {
+      final Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      final Object namedBuilder = builderClass.getMethod("name", String.class, long.class)
+          .invoke(builder, name + "-", 0L);
+      return Optional.of((ThreadFactory) builderClass.getMethod("factory").invoke(namedBuilder));
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      log.debug("Virtual threads not available", e);
+      return Optional.empty();
+    }
+  }
+}
@@ -2,10 +2,15 @@ package com.symphony.bdk.core;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 import com.symphony.bdk.core.activity.ActivityRegistry;
 import com.symphony.bdk.core.auth.AppAuthSession;
@@ -119,6 +124,12 @@ public class SymphonyBdkTest {
     assertNotNull(registry);
   }
 
+  @Test
+  void shutdownTest() {
+    this.symphonyBdk.shutdown();
+    assertTrue(this.symphonyBdk.activities().getExecutor().isShutdown());
+  }
+
   @Test
   void getMessageServiceTest() {
     MessageService messageService = this.symphonyBdk.messages();
@@ -166,6 +177,20 @@ public class SymphonyBdkTest {
     assertNotNull(obo);
   }
 
+  @Test
+  void getOboServiceFacadeReusesApiClients() throws AuthUnauthorizedException {
+    this.mockApiClient.onPost(LOGIN_PUBKEY_APP_AUTHENTICATE, "{ \"token\": \"1234\", \"name\": \"sessionToken\" }");
+    this.mockApiClient.onPost(LOGIN_PUBKEY_OBO_USERID_AUTHENTICATE.replace("{userId}", "123456"), "{ \"token\": \"1234\", \"name\": \"sessionToken\" }");
+    AuthSession oboSession = this.symphonyBdk.obo(123456L);
+    clearInvocations(this.apiClientFactory);
+
+    final OboServices first = this.symphonyBdk.obo(oboSession);
+    final OboServices second = this.symphonyBdk.obo(oboSession);
+
+    assertNotSame(first.streams(), second.streams());
+    verifyNoInteractions(this.apiClientFactory);
+  }
+
   @Test
   void oboAuthenticateTest() throws AuthUnauthorizedException {
     this.mockApiClient.onPost(LOGIN_PUBKEY_APP_AUTHENTICATE, "{ \"token\": \"1234\", \"name\": \"sessionToken\" }");
@@ -231,4 +256,15 @@ public class SymphonyBdkTest {
     assertThrows(BotNotConfiguredException.class, symphonyBdk::activities);
     assertThrows(BotNotConfiguredException.class, symphonyBdk::sessions);
   }
+
+  @Test
+  void oboOnlyWithCommonJwtFailsWhenOboServicesAreRetrieved()
+      throws BdkConfigException, AuthUnauthorizedException, AuthInitializationException {
+    BdkConfig config = BdkConfigLoader.loadFromClasspath("/config/no_bot_config.yaml");
+    config.getApp().getPrivateKey().setPath("./src/test/resources/keys/private-key.pem");
+    config.getCommonJwt().setEnabled(true);
+    this.symphonyBdk = new SymphonyBdk(config, apiClientFactory, null);
+
+    assertThrows(UnsupportedOperationException.class, () -> this.symphonyBdk.obo(mock(AuthSession.class)));
+  }
 }
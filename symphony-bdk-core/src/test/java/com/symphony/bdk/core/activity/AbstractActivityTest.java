@@ -1,7 +1,9 @@
 package com.symphony.bdk.core.activity;
 
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import com.symphony.bdk.core.activity.form.FormReplyContext;
 import com.symphony.bdk.core.activity.form.TestFormReplyActivity;
 import com.symphony.bdk.core.service.datafeed.EventException;
 import com.symphony.bdk.core.service.datafeed.EventPayload;
@@ -91,6 +93,19 @@ class AbstractActivityTest {
         () -> act.processEvent(new V4Initiator(), new V4SymphonyElementsActionEvent(new V4SymphonyElementsAction())));
   }
 
+  @Test
+  void shouldCreateContextFromEventPayloadProxy() {
+
+    final TestFormReplyActivity act = new TestFormReplyActivity();
+    final V4Initiator initiator = new V4Initiator();
+    final V4SymphonyElementsActionEvent event = new V4SymphonyElementsActionEvent(new V4SymphonyElementsAction());
+
+    final FormReplyContext context = act.createContextInstance(initiator, event);
+
+    assertSame(initiator, context.getInitiator());
+    assertSame(event, context.getSourceEvent());
+  }
+
   static class V4SymphonyElementsActionEvent extends V4SymphonyElementsAction implements EventPayload {
     @Delegate
     V4SymphonyElementsAction elementsAction;
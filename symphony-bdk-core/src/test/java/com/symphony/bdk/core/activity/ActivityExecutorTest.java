@@ -0,0 +1,105 @@
+package com.symphony.bdk.core.activity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.symphony.bdk.core.config.model.BdkActivityConfig;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test class for the {@link ActivityExecutor}.
+ */
+class ActivityExecutorTest {
+
+  private ActivityExecutor executor;
+
+  @BeforeEach
+  void setUp() {
+    final BdkActivityConfig config = new BdkActivityConfig();
+    config.setPoolSize(2);
+    config.setQueueSize(0);
+    config.setMaxConcurrencyPerActivity(1);
+    this.executor = new ActivityExecutor(config);
+  }
+
+  @AfterEach
+  void tearDown() {
+    this.executor.shutdown();
+  }
+
+  @Test
+  void shouldLimitConcurrencyPerActivity() throws InterruptedException {
+    final TestCommandActivity activity = new TestCommandActivity("test");
+    final CountDownLatch started = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    final AtomicInteger executions = new AtomicInteger();
+
+    this.executor.execute(activity, () -> {
+      started.countDown();
+      await(release);
+      executions.incrementAndGet();
+    });
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+
+    final CountDownLatch submitted = new CountDownLatch(1);
+    final Thread submitter = new Thread(() -> {
+      this.executor.execute(activity, executions::incrementAndGet);
+      submitted.countDown();
+    });
+    submitter.start();
+    // the submitter either waits for a permit or completes its submission
+    while (submitter.isAlive() && submitter.getState() != Thread.State.WAITING) {
+      Thread.yield();
+    }
+    assertEquals(1, submitted.getCount(), "Submission must wait for the running activity to complete");
+
+    // another activity is not blocked
+    final CountDownLatch other = new CountDownLatch(1);
+    this.executor.execute(new TestCommandActivity("other"), other::countDown);
+    assertTrue(other.await(5, TimeUnit.SECONDS));
+
+    release.countDown();
+    assertTrue(submitted.await(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void shouldExposeMetrics() throws InterruptedException {
+    final CountDownLatch done = new CountDownLatch(1);
+
+    this.executor.execute(new TestCommandActivity("test"), done::countDown);
+    assertTrue(done.await(5, TimeUnit.SECONDS));
+    this.executor.shutdown();
+
+    assertEquals(1, this.executor.getCompletedCount());
+    assertEquals(0, this.executor.getQueueDepth());
+    assertEquals(0, this.executor.getRunningCount());
+    assertTrue(this.executor.getAverageQueueLatencyMillis() >= 0);
+    assertTrue(this.executor.getAverageExecutionTimeMillis() >= 0);
+  }
+
+  @Test
+  void shouldRejectActivitiesOnceShutdown() {
+    this.executor.shutdown();
+
+    assertTrue(this.executor.isShutdown());
+    assertThrows(RejectedExecutionException.class,
+        () -> this.executor.execute(new TestCommandActivity("test"), () -> {}));
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
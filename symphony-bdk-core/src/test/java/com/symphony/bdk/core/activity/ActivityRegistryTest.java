@@ -12,6 +12,7 @@ import com.symphony.bdk.core.activity.command.CommandActivity;
 import com.symphony.bdk.core.activity.command.CommandContext;
 import com.symphony.bdk.core.activity.command.HelpCommand;
 import com.symphony.bdk.core.activity.command.SlashCommand;
+import com.symphony.bdk.core.activity.model.ActivityInfo;
 import com.symphony.bdk.core.service.datafeed.DatafeedLoop;
 import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
 import com.symphony.bdk.core.service.message.MessageService;
@@ -23,9 +24,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 /**
  * Test class for the {@link ActivityRegistry}.
@@ -84,8 +88,9 @@ class ActivityRegistryTest {
     final SlashCommand helpCommandSlash = SlashCommand.slash("/help", true, handler);
     this.registry.register(helpCommandSlash);
 
-    verify(this.datafeedService, times(2)).subscribe(any(RealTimeEventListener.class));
-    verify(this.datafeedService, times(1)).unsubscribe(any(RealTimeEventListener.class));
+    // slash commands are routed by a single listener
+    verify(this.datafeedService, times(1)).subscribe(any(RealTimeEventListener.class));
+    verify(this.datafeedService, never()).unsubscribe(any(RealTimeEventListener.class));
     assertEquals(1, this.registry.getActivityList().size(), "Registry must contain only 1 activity");
     assertEquals(helpCommandSlash, this.registry.getActivityList().get(0), "Help command was replaced");
   }
@@ -124,7 +129,7 @@ class ActivityRegistryTest {
     this.registry.register(actMentionRequired);
     this.registry.register(actMentionNotRequired);
 
-    verify(this.datafeedService, times(2)).subscribe(any(RealTimeEventListener.class));
+    verify(this.datafeedService, times(1)).subscribe(any(RealTimeEventListener.class));
     verify(this.datafeedService, never()).unsubscribe(any(RealTimeEventListener.class));
 
     assertEquals(2, this.registry.getActivityList().size(), "Both activities must have been registered");
@@ -143,10 +148,22 @@ class ActivityRegistryTest {
     this.registry.register(actMentionRequired);
     this.registry.register(actMentionNotRequired);
 
-    verify(this.datafeedService, times(2)).subscribe(any(RealTimeEventListener.class));
-    verify(this.datafeedService, times(1)).unsubscribe(any(RealTimeEventListener.class));
+    verify(this.datafeedService, times(1)).subscribe(any(RealTimeEventListener.class));
+    verify(this.datafeedService, never()).unsubscribe(any(RealTimeEventListener.class));
 
     assertEquals(1, this.registry.getActivityList().size(), "Only one activities must have been registered");
   }
 
+  @Test
+  void shouldListCommandInfos() {
+    this.registry.register(SlashCommand.slash("/b", false, c -> {}, "b"));
+    this.registry.register(new TestCommandActivity("test"));
+    this.registry.register(SlashCommand.slash("/a", true, c -> {}, "a"));
+
+    final List<String> names = this.registry.getCommandInfos().stream()
+        .map(ActivityInfo::name)
+        .collect(Collectors.toList());
+
+    assertEquals(Arrays.asList("/a", "/b", "test"), names);
+  }
 }
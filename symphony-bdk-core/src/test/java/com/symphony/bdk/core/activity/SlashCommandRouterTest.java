@@ -0,0 +1,152 @@
+package com.symphony.bdk.core.activity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.symphony.bdk.core.activity.command.SlashCommand;
+import com.symphony.bdk.gen.api.model.V4Initiator;
+import com.symphony.bdk.gen.api.model.V4Message;
+import com.symphony.bdk.gen.api.model.V4MessageSent;
+import com.symphony.bdk.gen.api.model.V4Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Test class for the {@link SlashCommandRouter}.
+ */
+class SlashCommandRouterTest {
+
+  private static final long BOT_USER_ID = 12345L;
+
+  private SlashCommandRouter router;
+  private List<String> triggered;
+
+  @BeforeEach
+  void setUp() {
+    this.router = new SlashCommandRouter(() -> BOT_USER_ID);
+    this.triggered = new ArrayList<>();
+  }
+
+  @Test
+  void shouldTriggerMatchingCommandsInRegistrationOrder() {
+    this.register("/hello {name}", false);
+    this.register("/bye", false);
+    this.register("/hello world", false);
+
+    this.router.getListener().onMessageSent(new V4Initiator(), messageSent("/hello world", null));
+
+    assertEquals(Arrays.asList("/hello {name}", "/hello world"), this.triggered);
+  }
+
+  @Test
+  void shouldCheckBotMentionOnce() {
+    this.register("/help", true);
+    this.register("/help", false);
+
+    this.router.getListener().onMessageSent(new V4Initiator(), messageSent("/help", BOT_USER_ID));
+    assertEquals(Arrays.asList("/help"), this.triggered);
+
+    this.router.getListener().onMessageSent(new V4Initiator(), messageSent("/help", 6789L));
+    assertEquals(Arrays.asList("/help"), this.triggered, "Command must not be triggered if another user is mentioned");
+  }
+
+  @Test
+  void shouldNotTriggerBotMentionCommandForMentionWithoutUserId() {
+    this.register("/help", true);
+
+    this.router.getListener().onMessageSent(new V4Initiator(), new V4MessageSent().message(new V4Message()
+        .messageId(UUID.randomUUID().toString())
+        .stream(new V4Stream().streamId(UUID.randomUUID().toString()))
+        .message("<div><p><span class=\"entity\" data-entity-id=\"0\">@User</span> /help</p></div>")
+        .data("{\"0\":{\"id\":[],\"type\":\"com.symphony.user.mention\"}}")));
+    assertTrue(this.triggered.isEmpty());
+
+    this.router.getListener().onMessageSent(new V4Initiator(), messageSent("/help", BOT_USER_ID));
+    assertEquals(Arrays.asList("/help"), this.triggered);
+  }
+
+  @Test
+  void shouldMatchStaticTokensWithRegexCharacters() {
+    this.register("/a.c", false);
+
+    this.router.getListener().onMessageSent(new V4Initiator(), messageSent("/abc", null));
+
+    assertEquals(Arrays.asList("/a.c"), this.triggered);
+  }
+
+  @Test
+  void shouldNotTriggerCommandsForMessagesNotStartingWithACommandWord() {
+    this.register("/hello", false);
+    this.register("/help", true);
+
+    this.router.getListener().onMessageSent(new V4Initiator(), messageSent("hello /hello", null));
+    this.router.getListener().onMessageSent(new V4Initiator(), messageSent("/hell", null));
+
+    assertTrue(this.triggered.isEmpty());
+  }
+
+  @Test
+  void shouldTriggerCommandWhoseWordIsFollowedByAnEntity() {
+    this.register("/tag {#tag}", false);
+
+    this.router.getListener().onMessageSent(new V4Initiator(), new V4MessageSent().message(new V4Message()
+        .messageId(UUID.randomUUID().toString())
+        .stream(new V4Stream().streamId(UUID.randomUUID().toString()))
+        .message("<div><p>/tag<span class=\"entity\" data-entity-id=\"0\">#bdk</span></p></div>")
+        .data("{\"0\":{\"id\":[{\"type\":\"org.symphonyoss.taxonomy.hashtag\",\"value\":\"bdk\"}],"
+            + "\"type\":\"org.symphonyoss.taxonomy\"}}")));
+
+    assertEquals(Arrays.asList("/tag {#tag}"), this.triggered);
+  }
+
+  @Test
+  void shouldNotTriggerRemovedCommand() {
+    final SlashCommand command = this.register("/hello", false);
+    this.router.remove(command);
+
+    this.router.getListener().onMessageSent(new V4Initiator(), messageSent("/hello", null));
+
+    assertTrue(this.triggered.isEmpty());
+  }
+
+  @Test
+  void shouldListCommandsGroupedByPrefix() {
+    this.register("/gif", false);
+    this.register("/hello", false);
+    this.register("/gif {category}", false);
+
+    final List<String> names = this.router.getCommands().stream()
+        .map(SlashCommand::getSlashCommandName)
+        .collect(Collectors.toList());
+
+    assertEquals(Arrays.asList("/gif", "/gif {category}", "/hello"), names);
+  }
+
+  private SlashCommand register(String pattern, boolean requiresBotMention) {
+    final SlashCommand command = SlashCommand.slash(pattern, requiresBotMention, c -> this.triggered.add(pattern));
+    command.setBotUserId(BOT_USER_ID);
+    this.router.add(command);
+    return command;
+  }
+
+  private static V4MessageSent messageSent(String text, Long mentionedUserId) {
+    final String mention = mentionedUserId == null ? ""
+        : "<span class=\"entity\" data-entity-id=\"0\">@User</span> ";
+    final String data = mentionedUserId == null ? "{}"
+        : "{\"0\":{\"id\":[{\"type\":\"com.symphony.user.userId\",\"value\":\"" + mentionedUserId
+            + "\"}],\"type\":\"com.symphony.user.mention\"}}";
+
+    return new V4MessageSent().message(new V4Message()
+        .messageId(UUID.randomUUID().toString())
+        .stream(new V4Stream().streamId(UUID.randomUUID().toString()))
+        .message("<div><p>" + mention + text + "</p></div>")
+        .data(data));
+  }
+}
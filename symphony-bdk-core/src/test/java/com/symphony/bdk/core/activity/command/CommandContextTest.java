@@ -2,6 +2,8 @@ package com.symphony.bdk.core.activity.command;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import com.symphony.bdk.core.service.datafeed.RealTimeEventContext;
+import com.symphony.bdk.gen.api.model.V4Event;
 import com.symphony.bdk.gen.api.model.V4Initiator;
 import com.symphony.bdk.gen.api.model.V4Message;
 import com.symphony.bdk.gen.api.model.V4MessageSent;
@@ -9,6 +11,7 @@ import com.symphony.bdk.gen.api.model.V4Stream;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.UUID;
 
 /**
@@ -32,4 +35,35 @@ class CommandContextTest {
     assertEquals(streamId, commandContext.getStreamId(), "Wrong streamId");
     assertEquals(messageId, commandContext.getMessageId(), "Wrong messageId");
   }
+
+  @Test
+  void testInputTokensAreSharedWhileDispatchingEvent() {
+    final V4MessageSent event = messageSent("<div><p>/hello world</p></div>");
+
+    RealTimeEventContext.doWithEvent(new V4Event(), () -> {
+      final CommandContext first = new CommandContext(new V4Initiator(), event);
+      final CommandContext second = new CommandContext(new V4Initiator(), event);
+
+      assertEquals(Arrays.asList("/hello", "world"), first.getInputTokens());
+      assertSame(first.getInputTokens(), second.getInputTokens(), "Message must be tokenized once per event");
+    });
+  }
+
+  @Test
+  void testInputTokensAreNotSharedOutsideEventDispatching() {
+    final V4MessageSent event = messageSent("<div><p>/hello world</p></div>");
+
+    final CommandContext first = new CommandContext(new V4Initiator(), event);
+    final CommandContext second = new CommandContext(new V4Initiator(), event);
+
+    assertSame(first.getInputTokens(), first.getInputTokens());
+    assertNotSame(first.getInputTokens(), second.getInputTokens());
+    assertEquals(first.getInputTokens(), second.getInputTokens());
+  }
+
+  private static V4MessageSent messageSent(String content) {
+    return new V4MessageSent().message(new V4Message()
+        .message(content)
+        .stream(new V4Stream().streamId(UUID.randomUUID().toString())));
+  }
 }
@@ -7,7 +7,6 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
-import com.symphony.bdk.core.activity.AbstractActivity;
 import com.symphony.bdk.core.activity.ActivityRegistry;
 import com.symphony.bdk.core.activity.model.ActivityInfo;
 import com.symphony.bdk.core.activity.model.ActivityType;
@@ -45,10 +44,10 @@ public class HelpCommandTest {
 
   @Test
   void testHelpCommandSuccess() {
-    List<AbstractActivity<?, ?>> activities = new ArrayList<>();
-    activities.add(slash("/test", commandContext -> {}, "test command"));
+    List<ActivityInfo> infos = new ArrayList<>();
+    infos.add(slash("/test", commandContext -> {}, "test command").getInfo());
 
-    when(this.activityRegistry.getActivityList()).thenReturn(activities);
+    when(this.activityRegistry.getCommandInfos()).thenReturn(infos);
 
     final HelpCommand helpCommand = new HelpCommand(this.activityRegistry, this.messageService);
     final RealTimeEventsProvider provider = new RealTimeEventsProvider();
@@ -65,7 +64,7 @@ public class HelpCommandTest {
   void testHelpCommandWithNoCommandActivityRegistry() {
     final HelpCommand helpCommand = new HelpCommand(this.activityRegistry, this.messageService);
 
-    when(this.activityRegistry.getActivityList()).thenReturn(Collections.singletonList(helpCommand));
+    when(this.activityRegistry.getCommandInfos()).thenReturn(Collections.singletonList(helpCommand.getInfo()));
 
     final RealTimeEventsProvider provider = new RealTimeEventsProvider();
     helpCommand.setBotUserId(BOT_USER_ID);
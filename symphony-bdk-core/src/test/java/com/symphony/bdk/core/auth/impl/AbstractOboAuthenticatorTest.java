@@ -84,6 +84,48 @@ class AbstractOboAuthenticatorTest {
     verify(authenticator, times(1)).authenticateAndRetrieveOboSessionToken(anyString(), anyLong());
   }
 
+  @Test
+  void testRetrieveTokenByUserIdCached() throws ApiException, AuthUnauthorizedException {
+    AbstractOboAuthenticator authenticator = spy(new TestAbstractOboAuthenticator(ofMinimalInterval()));
+    doReturn("app-token").when(authenticator).authenticateAndRetrieveAppSessionToken();
+    doReturn("token-1").when(authenticator).authenticateAndRetrieveOboSessionToken(anyString(), anyLong());
+
+    assertEquals("token-1", authenticator.retrieveOboSessionTokenByUserId(0L));
+    assertEquals("token-1", authenticator.retrieveOboSessionTokenByUserId(0L));
+    assertEquals("token-1", authenticator.retrieveOboSessionTokenByUserId(1L));
+
+    verify(authenticator, times(1)).authenticateAndRetrieveAppSessionToken();
+    verify(authenticator, times(2)).authenticateAndRetrieveOboSessionToken(anyString(), anyLong());
+    assertEquals(1, authenticator.getOboSessionCache().getHitCount());
+    assertEquals(2, authenticator.getOboSessionCache().getMissCount());
+  }
+
+  @Test
+  void testRetrieveTokenByUserIdAfterInvalidation() throws ApiException, AuthUnauthorizedException {
+    AbstractOboAuthenticator authenticator = spy(new TestAbstractOboAuthenticator(ofMinimalInterval()));
+    doReturn("app-token").when(authenticator).authenticateAndRetrieveAppSessionToken();
+    doReturn("token-1").doReturn("token-2")
+        .when(authenticator).authenticateAndRetrieveOboSessionToken(anyString(), anyLong());
+
+    assertEquals("token-1", authenticator.retrieveOboSessionTokenByUserId(0L));
+    authenticator.invalidateOboSessionToken(0L, "token-1");
+    assertEquals("token-2", authenticator.retrieveOboSessionTokenByUserId(0L));
+  }
+
+  @Test
+  void testRetrieveTokenByUserIdRetriesWithNewAppToken() throws ApiException, AuthUnauthorizedException {
+    AbstractOboAuthenticator authenticator = spy(new TestAbstractOboAuthenticator(ofMinimalInterval()));
+    doReturn("app-token-1").doReturn("app-token-2").when(authenticator).authenticateAndRetrieveAppSessionToken();
+    doReturn("token-0").when(authenticator).authenticateAndRetrieveOboSessionToken("app-token-1", 0L);
+    doThrow(new ApiException(401, "")).when(authenticator).authenticateAndRetrieveOboSessionToken("app-token-1", 1L);
+    doReturn("token-1").when(authenticator).authenticateAndRetrieveOboSessionToken("app-token-2", 1L);
+
+    assertEquals("token-0", authenticator.retrieveOboSessionTokenByUserId(0L));
+    // the cached app token has been revoked
+    assertEquals("token-1", authenticator.retrieveOboSessionTokenByUserId(1L));
+    verify(authenticator, times(2)).authenticateAndRetrieveAppSessionToken();
+  }
+
   @Test
   void testRetrieveTokenByUserIdUnauthorized() throws ApiException, AuthUnauthorizedException {
     AbstractOboAuthenticator authenticator = spy(new TestAbstractOboAuthenticator(ofMinimalInterval()));
@@ -3,8 +3,13 @@ package com.symphony.bdk.core.auth.impl;
 import static com.symphony.bdk.core.auth.JwtHelperTest.JWT;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -18,9 +23,21 @@ import com.symphony.bdk.core.service.version.model.AgentVersion;
 import com.symphony.bdk.gen.api.model.Token;
 
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 class AuthSessionImplTest {
 
@@ -210,6 +227,147 @@ class AuthSessionImplTest {
 
   }
 
+  @Test
+  void testConcurrentRefreshesShareOneAuthentication() throws Exception {
+
+    final String sessionToken = UUID.randomUUID().toString();
+    final CountDownLatch authenticating = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+
+    final BotAuthenticatorRsaImpl auth = mock(BotAuthenticatorRsaImpl.class);
+    when(auth.retrieveSessionToken()).thenAnswer(invocation -> {
+      authenticating.countDown();
+      assertTrue(release.await(5, TimeUnit.SECONDS));
+      return getToken(sessionToken);
+    });
+
+    final AuthSessionImpl session = new AuthSessionImpl(auth);
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    try {
+      final List<Future<?>> results = new ArrayList<>();
+      results.add(executor.submit(() -> {
+        session.refresh();
+        return null;
+      }));
+      assertTrue(authenticating.await(5, TimeUnit.SECONDS));
+      for (int i = 0; i < 3; i++) {
+        results.add(executor.submit(() -> {
+          session.refresh();
+          return null;
+        }));
+      }
+
+      // let the other refreshes wait for the ongoing one before completing it
+      Thread.sleep(100);
+      release.countDown();
+
+      for (Future<?> result : results) {
+        result.get(5, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertEquals(sessionToken, session.getSessionToken());
+    verify(auth, times(1)).retrieveSessionToken();
+    verify(auth, times(1)).retrieveKeyManagerToken();
+  }
+
+  @Test
+  void testConcurrentAsyncRefreshesShareOneAuthentication() throws Exception {
+
+    final String sessionToken = UUID.randomUUID().toString();
+    final CountDownLatch release = new CountDownLatch(1);
+
+    final BotAuthenticatorRsaImpl auth = mock(BotAuthenticatorRsaImpl.class);
+    when(auth.retrieveSessionToken()).thenAnswer(invocation -> {
+      assertTrue(release.await(5, TimeUnit.SECONDS));
+      return getToken(sessionToken);
+    });
+
+    final AuthSessionImpl session = new AuthSessionImpl(auth);
+
+    final CompletableFuture<Void> refresh = session.refreshAsync();
+    assertSame(refresh, session.refreshAsync());
+    release.countDown();
+    refresh.get(5, TimeUnit.SECONDS);
+
+    assertEquals(sessionToken, session.getSessionToken());
+    verify(auth, times(1)).retrieveSessionToken();
+
+    // a new refresh is started once the previous one is completed
+    session.refreshAsync().get(5, TimeUnit.SECONDS);
+    verify(auth, times(2)).retrieveSessionToken();
+  }
+
+  @Test
+  void testAsyncRefreshFailure() throws AuthUnauthorizedException {
+
+    final BotAuthenticatorRsaImpl auth = mock(BotAuthenticatorRsaImpl.class);
+    when(auth.retrieveSessionToken()).thenThrow(new AuthUnauthorizedException("unauthorized"));
+
+    final CompletionException exception =
+        assertThrows(CompletionException.class, () -> new AuthSessionImpl(auth).refreshAsync().join());
+    assertTrue(exception.getCause() instanceof AuthUnauthorizedException);
+  }
+
+  @Test
+  void testScheduledRefreshBeforeExpiration() throws AuthUnauthorizedException {
+
+    final String sessionToken = UUID.randomUUID().toString();
+
+    final BotAuthenticatorRsaImpl auth = mock(BotAuthenticatorRsaImpl.class);
+    when(auth.retrieveSessionToken()).thenReturn(getToken(sessionToken));
+    when(auth.isCommonJwtEnabled()).thenReturn(true);
+    when(auth.retrieveAuthorizationToken(sessionToken)).thenReturn(JWT);
+
+    final ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+    final ScheduledFuture<?> scheduledRefresh = mock(ScheduledFuture.class);
+    doReturn(scheduledRefresh).when(scheduler).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+
+    final AuthSessionImpl session = new AuthSessionImpl(auth, scheduler);
+    session.refresh();
+
+    // the authorization token is already expired, the next refresh is scheduled as soon as possible
+    final ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+    verify(scheduler).schedule(task.capture(), eq(1000L), eq(TimeUnit.MILLISECONDS));
+
+    task.getValue().run();
+
+    // only the authorization token is renewed, and the previous task is replaced by a new one
+    verify(auth, times(1)).retrieveSessionToken();
+    verify(auth).retrieveAuthorizationToken(sessionToken);
+    verify(scheduledRefresh).cancel(false);
+    verify(scheduler, times(2)).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+  }
+
+  @Test
+  void testScheduledRefreshRetriedWhenFailing() throws AuthUnauthorizedException {
+
+    final String sessionToken = UUID.randomUUID().toString();
+
+    final BotAuthenticatorRsaImpl auth = mock(BotAuthenticatorRsaImpl.class);
+    when(auth.retrieveSessionToken()).thenReturn(getToken(sessionToken));
+    when(auth.isCommonJwtEnabled()).thenReturn(true);
+    when(auth.retrieveAuthorizationToken(sessionToken)).thenThrow(new IllegalStateException("network issue"));
+
+    final ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+    doReturn(mock(ScheduledFuture.class)).when(scheduler).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+
+    final AuthSessionImpl session = new AuthSessionImpl(auth, scheduler);
+    session.refresh();
+
+    final ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+    verify(scheduler).schedule(task.capture(), anyLong(), eq(TimeUnit.MILLISECONDS));
+
+    task.getValue().run();
+
+    verify(scheduler).schedule(any(Runnable.class), eq(AuthSessionImpl.RETRY_DELAY.toMillis()),
+        eq(TimeUnit.MILLISECONDS));
+    assertEquals(sessionToken, session.getSessionToken());
+  }
+
   private Token getToken(String sessionToken) {
     Token authToken = new Token();
     authToken.setToken(sessionToken);
@@ -43,6 +43,21 @@ class AuthSessionOboImplTest {
     verify(auth, times(0)).retrieveOboSessionTokenByUserId(anyLong());
   }
 
+  @Test
+  void testRefreshInvalidatesStaleToken() throws AuthUnauthorizedException {
+
+    final OboAuthenticatorRsaImpl auth = mock(OboAuthenticatorRsaImpl.class);
+    when(auth.retrieveOboSessionTokenByUserId(eq(1234L))).thenReturn("token-1", "token-2");
+
+    final AuthSessionOboImpl session = new AuthSessionOboImpl(auth, 1234L);
+
+    session.refresh();
+    session.refresh();
+
+    assertEquals("token-2", session.getSessionToken());
+    verify(auth, times(1)).invalidateOboSessionToken(eq(1234L), eq("token-1"));
+  }
+
   @Test
   void testRefreshForUserId() throws AuthUnauthorizedException {
 
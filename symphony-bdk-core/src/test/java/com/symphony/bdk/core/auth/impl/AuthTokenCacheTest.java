@@ -0,0 +1,209 @@
+package com.symphony.bdk.core.auth.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.symphony.bdk.core.auth.exception.AuthUnauthorizedException;
+import com.symphony.bdk.core.config.model.BdkSessionCacheConfig;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class AuthTokenCacheTest {
+
+  private MutableClock clock;
+  private BdkSessionCacheConfig config;
+  private AtomicInteger loads;
+
+  @BeforeEach
+  void setUp() {
+    this.clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+    this.config = new BdkSessionCacheConfig();
+    this.loads = new AtomicInteger();
+  }
+
+  @Test
+  void testCachedTokenIsReused() throws AuthUnauthorizedException {
+    final AuthTokenCache cache = new AuthTokenCache(this.config, this.clock);
+
+    assertEquals("token-1", cache.get(1L, this::load));
+    assertEquals("token-1", cache.get(1L, this::load));
+    assertEquals("token-2", cache.get("username", this::load));
+
+    assertEquals(2, this.loads.get());
+    assertEquals(1, cache.getHitCount());
+    assertEquals(2, cache.getMissCount());
+    assertEquals(1.0 / 3, cache.getHitRate(), 0.001);
+    assertEquals(2, cache.getAuthenticationCount());
+  }
+
+  @Test
+  void testTokenExpiresAfterTtl() throws AuthUnauthorizedException {
+    this.config.setTtlSeconds(60);
+    final AuthTokenCache cache = new AuthTokenCache(this.config, this.clock);
+
+    assertEquals("token-1", cache.get(1L, this::load));
+    this.clock.advance(Duration.ofSeconds(59));
+    assertEquals("token-1", cache.get(1L, this::load));
+    this.clock.advance(Duration.ofSeconds(1));
+    assertEquals("token-2", cache.get(1L, this::load));
+  }
+
+  @Test
+  void testJwtTokenExpiresBeforeItsExpirationDate() throws AuthUnauthorizedException {
+    final String jwt = jwt(this.clock.instant().plus(Duration.ofSeconds(90)));
+    final AuthTokenCache cache = new AuthTokenCache(this.config, this.clock);
+
+    assertEquals(jwt, cache.get(1L, () -> jwt));
+    assertEquals(jwt, cache.peek(1L));
+    // expiration date minus the leeway
+    this.clock.advance(Duration.ofSeconds(60));
+    assertNull(cache.peek(1L));
+  }
+
+  @Test
+  void testLeastRecentlyUsedTokenIsEvicted() throws AuthUnauthorizedException {
+    this.config.setMaxSize(2);
+    final AuthTokenCache cache = new AuthTokenCache(this.config, this.clock);
+
+    cache.get(1L, this::load);
+    cache.get(2L, this::load);
+    cache.get(1L, this::load);
+    cache.get(3L, this::load);
+
+    assertEquals(2, cache.size());
+    assertEquals("token-1", cache.peek(1L));
+    assertNull(cache.peek(2L));
+  }
+
+  @Test
+  void testInvalidateOnlyRemovesStaleToken() throws AuthUnauthorizedException {
+    final AuthTokenCache cache = new AuthTokenCache(this.config, this.clock);
+    cache.get(1L, this::load);
+
+    assertFalse(cache.invalidate(1L, "another-token"));
+    assertEquals("token-1", cache.peek(1L));
+
+    assertTrue(cache.invalidate(1L, "token-1"));
+    assertEquals("token-2", cache.get(1L, this::load));
+  }
+
+  @Test
+  void testFailedAuthenticationIsNotCached() {
+    final AuthTokenCache cache = new AuthTokenCache(this.config, this.clock);
+
+    assertThrows(AuthUnauthorizedException.class, () -> cache.get(1L, () -> {
+      throw new AuthUnauthorizedException("unauthorized");
+    }));
+    assertNull(cache.peek(1L));
+    assertEquals(1, cache.getAuthenticationCount());
+  }
+
+  @Test
+  void testDisabledCache() throws AuthUnauthorizedException {
+    this.config.setEnabled(false);
+    final AuthTokenCache cache = new AuthTokenCache(this.config, this.clock);
+
+    assertEquals("token-1", cache.get(1L, this::load));
+    assertEquals("token-2", cache.get(1L, this::load));
+    assertNull(cache.peek(1L));
+  }
+
+  @Test
+  void testConcurrentRequestsShareOneAuthentication() throws Exception {
+    final AuthTokenCache cache = new AuthTokenCache(this.config, this.clock);
+    final CountDownLatch authenticating = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    try {
+      final List<Future<String>> results = new ArrayList<>();
+      results.add(executor.submit(() -> cache.get(1L, () -> {
+        authenticating.countDown();
+        await(release);
+        return this.load();
+      })));
+      assertTrue(authenticating.await(5, TimeUnit.SECONDS));
+      for (int i = 0; i < 3; i++) {
+        results.add(executor.submit(() -> cache.get(1L, this::load)));
+      }
+
+      // let the other requests reach the cache before completing the authentication
+      Thread.sleep(100);
+      release.countDown();
+
+      for (Future<String> result : results) {
+        assertEquals("token-1", result.get(5, TimeUnit.SECONDS));
+      }
+      assertEquals(1, this.loads.get());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      assertTrue(latch.await(5, TimeUnit.SECONDS));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private String load() {
+    return "token-" + this.loads.incrementAndGet();
+  }
+
+  private static String jwt(Instant expirationDate) {
+    final Base64.Encoder encoder = Base64.getEncoder();
+    final String claims = "{\"sub\":\"1234\",\"exp\":" + expirationDate.getEpochSecond() + "}";
+    return encoder.encodeToString("{\"alg\":\"RS512\"}".getBytes(StandardCharsets.UTF_8)) + "."
+        + encoder.encodeToString(claims.getBytes(StandardCharsets.UTF_8)) + ".signature";
+  }
+
+  private static class MutableClock extends Clock {
+
+    private Instant instant;
+
+    private MutableClock(Instant instant) {
+      this.instant = instant;
+    }
+
+    private void advance(Duration duration) {
+      this.instant = this.instant.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return this.instant;
+    }
+  }
+}
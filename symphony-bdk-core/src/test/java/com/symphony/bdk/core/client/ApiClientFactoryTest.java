@@ -5,14 +5,18 @@ import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import com.symphony.bdk.core.client.concurrency.ConcurrencyLimitedApiClient;
 import com.symphony.bdk.core.client.exception.ApiClientInitializationException;
 import com.symphony.bdk.core.client.loadbalancing.DatafeedLoadBalancedApiClient;
 import com.symphony.bdk.core.client.loadbalancing.RegularLoadBalancedApiClient;
+import com.symphony.bdk.core.client.ratelimit.RateLimitedApiClient;
 import com.symphony.bdk.core.config.exception.BdkConfigFormatException;
+import com.symphony.bdk.core.config.model.BdkConcurrencyLimitConfig;
 import com.symphony.bdk.core.config.model.BdkConfig;
 import com.symphony.bdk.core.config.model.BdkLoadBalancingConfig;
 import com.symphony.bdk.core.config.model.BdkLoadBalancingMode;
 import com.symphony.bdk.core.config.model.BdkProxyConfig;
+import com.symphony.bdk.core.config.model.BdkRateLimitConfig;
 import com.symphony.bdk.core.config.model.BdkServerConfig;
 import com.symphony.bdk.http.api.ApiClient;
 import com.symphony.bdk.http.jersey2.ApiClientBuilderJersey2;
@@ -267,6 +271,52 @@ class ApiClientFactoryTest {
     verify(apiClientBuilder, times(1)).withConnectionTimeout(connectionTimeout);
   }
 
+  @Test
+  void testConcurrencyLimitEnabled() {
+    final BdkConcurrencyLimitConfig concurrencyLimitConfig = new BdkConcurrencyLimitConfig();
+    concurrencyLimitConfig.setEnabled(true);
+    final BdkConfig config = this.createConfig();
+    config.setConcurrencyLimit(concurrencyLimitConfig);
+
+    final ApiClientFactory factory = new ApiClientFactory(config);
+    final ApiClient podClient = factory.getPodClient();
+    final ApiClient agentClient = factory.getAgentClient();
+
+    assertEquals(ConcurrencyLimitedApiClient.class, podClient.getClass());
+    assertEquals("https://pod-host:443/pod", podClient.getBasePath());
+    assertEquals(ConcurrencyLimitedApiClient.class, agentClient.getClass());
+    assertEquals("https://agent-host:443/agent", agentClient.getBasePath());
+  }
+
+  @Test
+  void testConcurrencyLimitEnabledForPodOnly() {
+    final BdkConcurrencyLimitConfig concurrencyLimitConfig = new BdkConcurrencyLimitConfig();
+    concurrencyLimitConfig.setEnabled(true);
+    final BdkConfig config = this.createConfig();
+    config.getPod().setConcurrencyLimit(concurrencyLimitConfig);
+
+    final ApiClientFactory factory = new ApiClientFactory(config);
+
+    assertEquals(ConcurrencyLimitedApiClient.class, factory.getPodClient().getClass());
+    assertEquals(ApiClientJersey2.class, factory.getAgentClient().getClass());
+    assertEquals(ApiClientJersey2.class, factory.getRelayClient().getClass());
+  }
+
+  @Test
+  void testRateLimitEnabled() {
+    final BdkRateLimitConfig rateLimitConfig = new BdkRateLimitConfig();
+    rateLimitConfig.setEnabled(true);
+    final BdkConfig config = this.createConfig();
+    config.getAgent().setRateLimit(rateLimitConfig);
+
+    final ApiClientFactory factory = new ApiClientFactory(config);
+    final ApiClient agentClient = factory.getAgentClient();
+
+    assertEquals(RateLimitedApiClient.class, agentClient.getClass());
+    assertEquals("https://agent-host:443/agent", agentClient.getBasePath());
+    assertEquals(ApiClientJersey2.class, factory.getPodClient().getClass());
+  }
+
   private BdkConfig createConfigWithCertificateAndTrustStore(String trustStorePath, String trustStorePassword) {
     BdkConfig config = createConfigWithCertificate();
     config.getSsl().getTrustStore().setPath(trustStorePath);
@@ -0,0 +1,102 @@
+package com.symphony.bdk.core.client.concurrency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.symphony.bdk.core.config.model.BdkConcurrencyLimitConfig;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test class for {@link AimdConcurrencyLimiter}.
+ */
+class AimdConcurrencyLimiterTest {
+
+  @Test
+  void testTryAcquireUpToLimit() {
+    final AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(config(2, 1, 10, 0));
+
+    assertTrue(limiter.tryAcquire());
+    assertTrue(limiter.tryAcquire());
+    assertFalse(limiter.tryAcquire());
+    assertEquals(2, limiter.getInFlight());
+
+    limiter.release(false);
+    assertTrue(limiter.tryAcquire());
+  }
+
+  @Test
+  void testAcquireWithoutWaitingWhenLimitReached() throws InterruptedException {
+    final AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(config(1, 1, 10, 0));
+
+    assertTrue(limiter.acquire());
+    assertFalse(limiter.acquire());
+  }
+
+  @Test
+  void testAcquireWaitsForRelease() throws Exception {
+    final AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(config(1, 1, 10, 10_000));
+    assertTrue(limiter.acquire());
+
+    final CompletableFuture<Boolean> waiting = CompletableFuture.supplyAsync(() -> {
+      try {
+        return limiter.acquire();
+      } catch (InterruptedException e) {
+        throw new IllegalStateException(e);
+      }
+    });
+    limiter.release(false);
+
+    assertTrue(waiting.get(5, TimeUnit.SECONDS));
+    assertEquals(1, limiter.getInFlight());
+  }
+
+  @Test
+  void testLimitDecreasesOnDrop() {
+    final AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(config(10, 4, 10, 0));
+
+    limiter.tryAcquire();
+    limiter.release(true);
+    assertEquals(9, limiter.getLimit());
+
+    for (int i = 0; i < 10; i++) {
+      limiter.tryAcquire();
+      limiter.release(true);
+    }
+    assertEquals(4, limiter.getLimit());
+  }
+
+  @Test
+  void testLimitIncreasesWhenSaturated() {
+    final AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(config(4, 1, 5, 0));
+
+    // a single call in flight does not use the limit enough to increase it
+    limiter.tryAcquire();
+    limiter.release(false);
+    assertEquals(4, limiter.getLimit());
+
+    for (int i = 0; i < 10; i++) {
+      while (limiter.tryAcquire()) {
+        // use the whole limit
+      }
+      while (limiter.getInFlight() > 0) {
+        limiter.release(false);
+      }
+    }
+    assertEquals(5, limiter.getLimit());
+  }
+
+  private static BdkConcurrencyLimitConfig config(int initialLimit, int minLimit, int maxLimit, long maxWaitMillis) {
+    final BdkConcurrencyLimitConfig config = new BdkConcurrencyLimitConfig();
+    config.setEnabled(true);
+    config.setInitialLimit(initialLimit);
+    config.setMinLimit(minLimit);
+    config.setMaxLimit(maxLimit);
+    config.setMaxWaitMillis(maxWaitMillis);
+    return config;
+  }
+}
@@ -0,0 +1,128 @@
+package com.symphony.bdk.core.client.concurrency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.symphony.bdk.core.config.model.BdkConcurrencyLimitConfig;
+import com.symphony.bdk.http.api.ApiClient;
+import com.symphony.bdk.http.api.ApiException;
+import com.symphony.bdk.http.api.ApiResponse;
+import com.symphony.bdk.http.api.util.TypeReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Test class for {@link ConcurrencyLimitedApiClient}.
+ */
+class ConcurrencyLimitedApiClientTest {
+
+  private static final TypeReference<String> RETURN_TYPE = new TypeReference<String>() {};
+
+  private ApiClient apiClient;
+  private AimdConcurrencyLimiter limiter;
+  private ConcurrencyLimitedApiClient limitedApiClient;
+
+  @BeforeEach
+  void setUp() {
+    final BdkConcurrencyLimitConfig config = new BdkConcurrencyLimitConfig();
+    config.setEnabled(true);
+    config.setInitialLimit(10);
+    config.setMaxWaitMillis(0);
+
+    this.apiClient = mock(ApiClient.class);
+    when(this.apiClient.getBasePath()).thenReturn("https://agent-host:443/agent");
+    this.limiter = new AimdConcurrencyLimiter(config);
+    this.limitedApiClient = new ConcurrencyLimitedApiClient(this.apiClient, this.limiter);
+  }
+
+  @Test
+  void testInvokeApiIsDelegated() throws ApiException {
+    final ApiResponse<String> response = new ApiResponse<>(200, Collections.emptyMap(), "response");
+    when(this.apiClient.invokeAPI(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(),
+        eq(RETURN_TYPE))).thenReturn(response);
+
+    assertSame(response, this.invoke());
+    assertEquals(0, this.limiter.getInFlight());
+    assertEquals(10, this.limiter.getLimit());
+  }
+
+  @Test
+  void testServerErrorDecreasesLimit() throws ApiException {
+    when(this.apiClient.invokeAPI(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(),
+        eq(RETURN_TYPE))).thenThrow(new ApiException(503, "unavailable"));
+
+    assertThrows(ApiException.class, this::invoke);
+    assertEquals(0, this.limiter.getInFlight());
+    assertEquals(9, this.limiter.getLimit());
+  }
+
+  @Test
+  void testClientErrorKeepsLimit() throws ApiException {
+    when(this.apiClient.invokeAPI(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(),
+        eq(RETURN_TYPE))).thenThrow(new ApiException(400, "bad request"));
+
+    assertThrows(ApiException.class, this::invoke);
+    assertEquals(0, this.limiter.getInFlight());
+    assertEquals(10, this.limiter.getLimit());
+  }
+
+  @Test
+  void testInvokeApiRejectedWhenLimitReached() throws ApiException {
+    for (int i = 0; i < 10; i++) {
+      this.limiter.tryAcquire();
+    }
+
+    final ApiException exception = assertThrows(ApiException.class, this::invoke);
+    assertTrue(exception.isTooManyRequestsError());
+    verify(this.apiClient, never()).invokeAPI(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(),
+        eq(RETURN_TYPE));
+  }
+
+  @Test
+  void testInvokeApiAsyncReleasesPermitOnCompletion() throws Exception {
+    final CompletableFuture<ApiResponse<String>> future = new CompletableFuture<>();
+    when(this.apiClient.invokeAPIAsync(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(),
+        eq(RETURN_TYPE))).thenReturn(future);
+
+    final CompletableFuture<ApiResponse<String>> response = this.invokeAsync();
+    assertEquals(1, this.limiter.getInFlight());
+
+    future.completeExceptionally(new ApiException(500, "error"));
+    assertThrows(ExecutionException.class, response::get);
+    assertEquals(0, this.limiter.getInFlight());
+    assertEquals(9, this.limiter.getLimit());
+  }
+
+  @Test
+  void testInvokeApiAsyncRejectedWhenLimitReached() {
+    for (int i = 0; i < 10; i++) {
+      this.limiter.tryAcquire();
+    }
+
+    final ExecutionException exception = assertThrows(ExecutionException.class, () -> this.invokeAsync().get());
+    assertTrue(((ApiException) exception.getCause()).isTooManyRequestsError());
+  }
+
+  private ApiResponse<String> invoke() throws ApiException {
+    return this.limitedApiClient.invokeAPI("/path", "GET", null, null, null, null, null, null, null, null,
+        RETURN_TYPE);
+  }
+
+  private CompletableFuture<ApiResponse<String>> invokeAsync() {
+    return this.limitedApiClient.invokeAPIAsync("/path", "GET", null, null, null, null, null, null, null, null,
+        RETURN_TYPE);
+  }
+}
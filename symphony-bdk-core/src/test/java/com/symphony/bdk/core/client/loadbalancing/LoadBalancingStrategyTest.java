@@ -22,10 +22,12 @@ import com.symphony.bdk.http.api.ApiRuntimeException;
 
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -44,6 +46,12 @@ class LoadBalancingStrategyTest {
     assertEquals(RoundRobinLoadBalancingStrategy.class, loadBalancingStrategy.getClass());
   }
 
+  @Test
+  void testNewInstanceLeastLoadedLB() {
+    LoadBalancingStrategy loadBalancingStrategy = getLoadBalancingStrategy(BdkLoadBalancingMode.LEAST_LOADED);
+    assertEquals(LeastLoadedLoadBalancingStrategy.class, loadBalancingStrategy.getClass());
+  }
+
   @Test
   void testNewInstanceExternalLB() {
     LoadBalancingStrategy loadBalancingStrategy =
@@ -76,6 +84,74 @@ class LoadBalancingStrategyTest {
     assertTrue(basePaths.get("https://agent3:443") > 1);
   }
 
+  @Test
+  void testLeastLoadedLbStrategyPicksFastestNode() {
+    // the two first nodes are always drawn
+    LeastLoadedLoadBalancingStrategy loadBalancingStrategy = new LeastLoadedLoadBalancingStrategy(
+        getNodes(Arrays.asList("agent1", "agent2", "agent3")), bound -> 0, () -> 0L);
+
+    loadBalancingStrategy.onCallStarted("https://agent1:443");
+    loadBalancingStrategy.onCallCompleted("https://agent1:443", Duration.ofMillis(100).toNanos(), false);
+    loadBalancingStrategy.onCallStarted("https://agent2:443");
+    loadBalancingStrategy.onCallCompleted("https://agent2:443", Duration.ofMillis(10).toNanos(), false);
+
+    assertEquals("https://agent2:443", loadBalancingStrategy.getNewBasePath());
+  }
+
+  @Test
+  void testLeastLoadedLbStrategyPicksNodeWithLessCallsInFlight() {
+    LeastLoadedLoadBalancingStrategy loadBalancingStrategy = new LeastLoadedLoadBalancingStrategy(
+        getNodes(Arrays.asList("agent1", "agent2")), bound -> 0, () -> 0L);
+
+    assertEquals("https://agent1:443", loadBalancingStrategy.getNewBasePath());
+    loadBalancingStrategy.onCallStarted("https://agent1:443");
+    assertEquals("https://agent2:443", loadBalancingStrategy.getNewBasePath());
+    loadBalancingStrategy.onCallCompleted("https://agent1:443", 0L, false);
+    assertEquals("https://agent1:443", loadBalancingStrategy.getNewBasePath());
+  }
+
+  @Test
+  void testLeastLoadedLbStrategyEjectsFailingNode() {
+    final AtomicLong clock = new AtomicLong();
+    LeastLoadedLoadBalancingStrategy loadBalancingStrategy = new LeastLoadedLoadBalancingStrategy(
+        getNodes(Arrays.asList("agent1", "agent2", "agent3")), bound -> 0, clock::get);
+
+    for (int i = 0; i < LeastLoadedLoadBalancingStrategy.EJECTION_THRESHOLD; i++) {
+      assertEquals("https://agent1:443", loadBalancingStrategy.getNewBasePath());
+      loadBalancingStrategy.onCallStarted("https://agent1:443");
+      loadBalancingStrategy.onCallCompleted("https://agent1:443", 0L, true);
+    }
+
+    assertEquals("https://agent2:443", loadBalancingStrategy.getNewBasePath());
+
+    // re-admitted once the ejection duration has elapsed
+    clock.addAndGet(LeastLoadedLoadBalancingStrategy.BASE_EJECTION_DURATION.toNanos());
+    assertEquals("https://agent1:443", loadBalancingStrategy.getNewBasePath());
+
+    // ejected twice as long when failing again
+    for (int i = 0; i < LeastLoadedLoadBalancingStrategy.EJECTION_THRESHOLD; i++) {
+      loadBalancingStrategy.onCallStarted("https://agent1:443");
+      loadBalancingStrategy.onCallCompleted("https://agent1:443", 0L, true);
+    }
+    clock.addAndGet(LeastLoadedLoadBalancingStrategy.BASE_EJECTION_DURATION.toNanos());
+    assertEquals("https://agent2:443", loadBalancingStrategy.getNewBasePath());
+    clock.addAndGet(LeastLoadedLoadBalancingStrategy.BASE_EJECTION_DURATION.toNanos());
+    assertEquals("https://agent1:443", loadBalancingStrategy.getNewBasePath());
+  }
+
+  @Test
+  void testLeastLoadedLbStrategyWithAllNodesEjected() {
+    LeastLoadedLoadBalancingStrategy loadBalancingStrategy = new LeastLoadedLoadBalancingStrategy(
+        getNodes(Collections.singletonList("agent1")), bound -> 0, () -> 0L);
+
+    for (int i = 0; i < LeastLoadedLoadBalancingStrategy.EJECTION_THRESHOLD; i++) {
+      loadBalancingStrategy.onCallStarted("https://agent1:443");
+      loadBalancingStrategy.onCallCompleted("https://agent1:443", 0L, true);
+    }
+
+    assertEquals("https://agent1:443", loadBalancingStrategy.getNewBasePath());
+  }
+
   @Test
   void testExternalLbWithApiClientMock() {
     MockApiClient mockApiClient = new MockApiClient();
@@ -144,11 +220,7 @@ class LoadBalancingStrategyTest {
   }
 
   private BdkConfig getBdkConfig(BdkLoadBalancingMode mode, List<String> hosts) {
-    List<BdkServerConfig> servers = hosts.stream().map(s -> {
-      BdkServerConfig serverConfig = new BdkServerConfig();
-      serverConfig.setHost(s);
-      return serverConfig;
-    }).collect(Collectors.toList());
+    List<BdkServerConfig> servers = getNodes(hosts);
 
     BdkLoadBalancingConfig loadBalancingConfig = new BdkLoadBalancingConfig();
     loadBalancingConfig.setNodes(servers);
@@ -159,4 +231,12 @@ class LoadBalancingStrategyTest {
 
     return config;
   }
+
+  private List<BdkServerConfig> getNodes(List<String> hosts) {
+    return hosts.stream().map(s -> {
+      BdkServerConfig serverConfig = new BdkServerConfig();
+      serverConfig.setHost(s);
+      return serverConfig;
+    }).collect(Collectors.toList());
+  }
 }
@@ -25,6 +25,7 @@ import com.symphony.bdk.http.api.util.TypeReference;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -133,11 +134,54 @@ class RegularLoadBalancedApiClientTest {
     loadBalancedApiClient.invokeAPI(path, method, queryParams, body, headerParams, cookieParams, formParams, accept,
         contentType, authNames, returnType);
 
-    //getRegularAgentClient called by loadBalancedApiClient.rotate() in constructor and in invokeApi
-    verify(apiClientFactory, times(2)).getRegularAgentClient(eq("https://agent-host:443"));
+    //api client created by loadBalancedApiClient.rotate() in constructor and reused in invokeApi
+    verify(apiClientFactory, times(1)).getRegularAgentClient(eq("https://agent-host:443"));
     verify(apiClient).invokeAPI(eq(path), eq(method), eq(queryParams), eq(body), eq(headerParams), eq(cookieParams),
         eq(formParams), eq(accept), eq(contentType), eq(authNames), eq(returnType));
-    verify(loadBalancedApiClient, times(1)).rotate();
+    verify(loadBalancedApiClient, times(1)).nextNode();
+  }
+
+  @Test
+  public void testApiClientCreatedOncePerNode() throws ApiException {
+    final ApiClient otherApiClient = mock(ApiClient.class);
+    when(apiClientFactory.getRegularAgentClient("https://other-agent-host:443")).thenReturn(otherApiClient);
+
+    final BdkServerConfig otherNode = new BdkServerConfig();
+    otherNode.setHost("other-agent-host");
+    config.getAgent().getLoadBalancing().setNodes(Arrays.asList(config.getAgent().getLoadBalancing().getNodes().get(0),
+        otherNode));
+    config.getAgent().getLoadBalancing().setStickiness(false);
+    RegularLoadBalancedApiClient loadBalancedApiClient = new RegularLoadBalancedApiClient(config, apiClientFactory);
+
+    for (int i = 0; i < 4; i++) {
+      loadBalancedApiClient.invokeAPI(path, method, queryParams, body, headerParams, cookieParams, formParams, accept,
+          contentType, authNames, returnType);
+    }
+
+    verify(apiClientFactory, times(1)).getRegularAgentClient(eq("https://agent-host:443"));
+    verify(apiClientFactory, times(1)).getRegularAgentClient(eq("https://other-agent-host:443"));
+    verify(apiClient, times(2)).invokeAPI(eq(path), eq(method), eq(queryParams), eq(body), eq(headerParams),
+        eq(cookieParams), eq(formParams), eq(accept), eq(contentType), eq(authNames), eq(returnType));
+    verify(otherApiClient, times(2)).invokeAPI(eq(path), eq(method), eq(queryParams), eq(body), eq(headerParams),
+        eq(cookieParams), eq(formParams), eq(accept), eq(contentType), eq(authNames), eq(returnType));
+  }
+
+  @Test
+  public void testEnforcedAuthenticationSchemeAppliedToAllNodes() {
+    final ApiClient otherApiClient = mock(ApiClient.class);
+    when(apiClientFactory.getRegularAgentClient("https://other-agent-host:443")).thenReturn(otherApiClient);
+
+    final BdkServerConfig otherNode = new BdkServerConfig();
+    otherNode.setHost("other-agent-host");
+    config.getAgent().getLoadBalancing().setNodes(Arrays.asList(config.getAgent().getLoadBalancing().getNodes().get(0),
+        otherNode));
+    RegularLoadBalancedApiClient loadBalancedApiClient = new RegularLoadBalancedApiClient(config, apiClientFactory);
+
+    loadBalancedApiClient.addEnforcedAuthenticationScheme("bearerAuth");
+    loadBalancedApiClient.rotate();
+
+    verify(apiClient).addEnforcedAuthenticationScheme("bearerAuth");
+    verify(otherApiClient).addEnforcedAuthenticationScheme("bearerAuth");
   }
 
   @Test
@@ -0,0 +1,105 @@
+package com.symphony.bdk.core.client.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.symphony.bdk.core.config.model.BdkRateLimitConfig;
+import com.symphony.bdk.http.api.ApiException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Test class for {@link EndpointRateLimiter}.
+ */
+class EndpointRateLimiterTest {
+
+  private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+  private static final String SEND_MESSAGE = "/v4/stream/{sid}/message/create";
+  private static final Instant NOW = Instant.parse("2022-01-01T10:00:00Z");
+
+  private final AtomicLong nanoTime = new AtomicLong();
+  private EndpointRateLimiter limiter;
+
+  @BeforeEach
+  void setUp() {
+    final BdkRateLimitConfig config = new BdkRateLimitConfig();
+    config.setEnabled(true);
+    config.setEndpoints(Collections.singletonMap(SEND_MESSAGE, 1.0));
+    config.setMaxWaitMillis(10_000);
+    config.setDefaultRetryAfterMillis(2000);
+
+    this.limiter = new EndpointRateLimiter(config, nanoTime::get, Clock.fixed(NOW, ZoneOffset.UTC));
+  }
+
+  @Test
+  void testConfiguredTemplate() {
+    assertEquals(SEND_MESSAGE, this.limiter.template("/v4/stream/abc/message/create"));
+    assertEquals("/v4/stream/{id}/message/{id}",
+        this.limiter.template("/v4/stream/iWyZBIOdQQzQj0tKOLRivX___oTo1ZSUdA/message/MNr6RkfdRoLtl8IAsIYIp3___oT"));
+  }
+
+  @Test
+  void testIdentifiersAreNormalized() {
+    assertEquals("/v2/user/{id}/follow", this.limiter.template("/v2/user/12345678/follow"));
+    assertEquals("/v1/streams/{id}/info", this.limiter.template("/v1/streams/abc%2Fdef/info"));
+    assertEquals("/v1/admin/user/list", this.limiter.template("/v1/admin/user/list"));
+  }
+
+  @Test
+  void testEndpointsHaveTheirOwnBucket() {
+    assertEquals(0, this.limiter.reserve("/v4/stream/a/message/create"));
+    assertEquals(SECOND, this.limiter.reserve("/v4/stream/b/message/create"));
+    assertEquals(0, this.limiter.reserve("/v1/streams/a/info"));
+  }
+
+  @Test
+  void testRetryAfterSeconds() {
+    this.limiter.onResponse("/v1/streams/iWyZBIOdQQzQj0tKOLRivX___oTo1ZSUdA/info",
+        tooManyRequests(Collections.singletonList("5")));
+
+    assertEquals(5 * SECOND, this.limiter.reserve("/v1/streams/GNk1PMQ6QPmXl38ZkbZC1X___ov8pnz3dA/info"));
+    assertEquals(0, this.limiter.reserve("/v1/admin/user/list"));
+  }
+
+  @Test
+  void testRetryAfterDate() {
+    final String date = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.ofInstant(NOW, ZoneOffset.UTC)
+        .plusSeconds(3));
+    this.limiter.onResponse("/v1/streams/a/info", tooManyRequests(Collections.singletonList(date)));
+
+    assertEquals(3 * SECOND, this.limiter.reserve("/v1/streams/a/info"));
+  }
+
+  @Test
+  void testDefaultRetryAfter() {
+    this.limiter.onResponse("/v1/streams/a/info", tooManyRequests(Collections.singletonList("invalid")));
+    assertEquals(2 * SECOND, this.limiter.reserve("/v1/streams/a/info"));
+
+    this.limiter.onResponse("/v1/admin/user/list", new ApiException(429, "", Collections.emptyMap(), ""));
+    assertEquals(2 * SECOND, this.limiter.reserve("/v1/admin/user/list"));
+  }
+
+  @Test
+  void testLocalRejectionDoesNotPause() {
+    this.limiter.onResponse("/v1/streams/a/info", new ApiException(429, "Too many concurrent calls"));
+    this.limiter.onResponse("/v1/streams/a/info", new ApiException(503, "unavailable", Collections.emptyMap(), ""));
+
+    assertEquals(0, this.limiter.reserve("/v1/streams/a/info"));
+  }
+
+  private static ApiException tooManyRequests(List<String> retryAfter) {
+    final Map<String, List<String>> headers = Collections.singletonMap("retry-after", retryAfter);
+    return new ApiException(429, "Too Many Requests", headers, "");
+  }
+}
@@ -0,0 +1,116 @@
+package com.symphony.bdk.core.client.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.symphony.bdk.core.config.model.BdkRateLimitConfig;
+import com.symphony.bdk.http.api.ApiClient;
+import com.symphony.bdk.http.api.ApiException;
+import com.symphony.bdk.http.api.ApiResponse;
+import com.symphony.bdk.http.api.util.TypeReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Test class for {@link RateLimitedApiClient}.
+ */
+class RateLimitedApiClientTest {
+
+  private static final TypeReference<String> RETURN_TYPE = new TypeReference<String>() {};
+  private static final String LIMITED_PATH = "/v1/limited";
+  private static final String UNLIMITED_PATH = "/v1/unlimited";
+
+  private ApiClient apiClient;
+  private BdkRateLimitConfig config;
+
+  @BeforeEach
+  void setUp() {
+    this.config = new BdkRateLimitConfig();
+    this.config.setEnabled(true);
+    this.config.setEndpoints(Collections.singletonMap(LIMITED_PATH, 1.0));
+    this.config.setMaxWaitMillis(0);
+
+    this.apiClient = mock(ApiClient.class);
+    when(this.apiClient.getBasePath()).thenReturn("https://agent-host:443/agent");
+  }
+
+  @Test
+  void testInvokeApiRejectedWhenRateExceeded() throws ApiException {
+    final ApiResponse<String> response = new ApiResponse<>(200, Collections.emptyMap(), "response");
+    when(this.apiClient.invokeAPI(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(),
+        eq(RETURN_TYPE))).thenReturn(response);
+    final RateLimitedApiClient limitedApiClient = this.limitedApiClient();
+
+    assertSame(response, this.invoke(limitedApiClient, LIMITED_PATH));
+    final ApiException exception = assertThrows(ApiException.class, () -> this.invoke(limitedApiClient, LIMITED_PATH));
+    assertTrue(exception.isTooManyRequestsError());
+    assertSame(response, this.invoke(limitedApiClient, UNLIMITED_PATH));
+    verify(this.apiClient, times(2)).invokeAPI(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(),
+        eq(RETURN_TYPE));
+  }
+
+  @Test
+  void testThrottledEndpointIsPaused() throws ApiException {
+    when(this.apiClient.invokeAPI(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(),
+        eq(RETURN_TYPE))).thenThrow(new ApiException(429, "Too Many Requests",
+        Collections.singletonMap("Retry-After", Collections.singletonList("60")), ""));
+    final RateLimitedApiClient limitedApiClient = this.limitedApiClient();
+
+    assertThrows(ApiException.class, () -> this.invoke(limitedApiClient, UNLIMITED_PATH));
+    assertThrows(ApiException.class, () -> this.invoke(limitedApiClient, UNLIMITED_PATH));
+    verify(this.apiClient, times(1)).invokeAPI(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(),
+        eq(RETURN_TYPE));
+  }
+
+  @Test
+  void testInvokeApiAsyncIsDelayed() throws Exception {
+    this.config.setEndpoints(Collections.singletonMap(LIMITED_PATH, 20.0));
+    this.config.setMaxWaitMillis(1000);
+    final ApiResponse<String> response = new ApiResponse<>(200, Collections.emptyMap(), "response");
+    when(this.apiClient.invokeAPIAsync(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(),
+        eq(RETURN_TYPE))).thenReturn(CompletableFuture.completedFuture(response));
+    final RateLimitedApiClient limitedApiClient = this.limitedApiClient();
+
+    CompletableFuture<ApiResponse<String>> future = null;
+    for (int i = 0; i < 21; i++) {
+      future = this.invokeAsync(limitedApiClient, LIMITED_PATH);
+    }
+    assertSame(response, future.get());
+  }
+
+  @Test
+  void testInvokeApiAsyncRejectedWhenRateExceeded() {
+    when(this.apiClient.invokeAPIAsync(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(),
+        eq(RETURN_TYPE))).thenReturn(new CompletableFuture<>());
+    final RateLimitedApiClient limitedApiClient = this.limitedApiClient();
+
+    this.invokeAsync(limitedApiClient, LIMITED_PATH);
+    final ExecutionException exception =
+        assertThrows(ExecutionException.class, () -> this.invokeAsync(limitedApiClient, LIMITED_PATH).get());
+    assertTrue(((ApiException) exception.getCause()).isTooManyRequestsError());
+  }
+
+  private RateLimitedApiClient limitedApiClient() {
+    return new RateLimitedApiClient(this.apiClient, new EndpointRateLimiter(this.config));
+  }
+
+  private ApiResponse<String> invoke(ApiClient client, String path) throws ApiException {
+    return client.invokeAPI(path, "GET", null, null, null, null, null, null, null, null, RETURN_TYPE);
+  }
+
+  private CompletableFuture<ApiResponse<String>> invokeAsync(ApiClient client, String path) {
+    return client.invokeAPIAsync(path, "GET", null, null, null, null, null, null, null, null, RETURN_TYPE);
+  }
+}
@@ -0,0 +1,124 @@
+package com.symphony.bdk.core.client.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Test class for {@link TokenBucket}.
+ */
+class TokenBucketTest {
+
+  private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  private final AtomicLong nanoTime = new AtomicLong();
+
+  @Test
+  void testPermitsAreSpreadOverTime() {
+    final TokenBucket bucket = new TokenBucket(2, 0.5, nanoTime::get);
+
+    assertEquals(0, bucket.reserve(SECOND));
+    assertEquals(0, bucket.reserve(SECOND));
+    assertEquals(SECOND / 2, bucket.reserve(SECOND));
+    assertEquals(SECOND, bucket.reserve(SECOND));
+    assertEquals(-1, bucket.reserve(SECOND));
+
+    nanoTime.addAndGet(2 * SECOND);
+    assertEquals(0, bucket.reserve(SECOND));
+  }
+
+  @Test
+  void testUnlimitedBucket() {
+    final TokenBucket bucket = new TokenBucket(0, 0.5, nanoTime::get);
+
+    for (int i = 0; i < 100; i++) {
+      assertEquals(0, bucket.reserve(0));
+    }
+  }
+
+  @Test
+  void testThrottlingPausesAndSlowsDown() {
+    final TokenBucket bucket = new TokenBucket(4, 0.5, nanoTime::get);
+
+    bucket.onThrottled(3 * SECOND);
+    assertEquals(2.0, bucket.getRate());
+    assertEquals(-1, bucket.reserve(SECOND));
+    assertEquals(3 * SECOND + SECOND / 2, bucket.reserve(4 * SECOND));
+
+    nanoTime.addAndGet(4 * SECOND);
+    assertEquals(0, bucket.reserve(SECOND));
+    assertEquals(SECOND / 2, bucket.reserve(SECOND));
+  }
+
+  @Test
+  void testThrottlingPausesUnlimitedBucket() {
+    final TokenBucket bucket = new TokenBucket(0, 0.5, nanoTime::get);
+
+    bucket.onThrottled(2 * SECOND);
+    assertEquals(0.0, bucket.getRate());
+    assertEquals(2 * SECOND, bucket.reserve(2 * SECOND));
+
+    nanoTime.addAndGet(2 * SECOND);
+    assertEquals(0, bucket.reserve(0));
+  }
+
+  @Test
+  void testRateRecoversWithSuccesses() {
+    final TokenBucket bucket = new TokenBucket(10, 0.5, nanoTime::get);
+
+    bucket.onThrottled(0);
+    assertEquals(5.0, bucket.getRate());
+    for (int i = 0; i < 20; i++) {
+      bucket.onSuccess();
+    }
+    assertEquals(10.0, bucket.getRate());
+  }
+
+  @Test
+  void testConcurrentThrottlingSlowsDownOnce() throws InterruptedException {
+    final TokenBucket bucket = new TokenBucket(10, 0.5, nanoTime::get);
+    final CountDownLatch start = new CountDownLatch(1);
+    final List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      final Thread thread = new Thread(() -> {
+        try {
+          start.await();
+          bucket.onThrottled(SECOND);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      });
+      thread.start();
+      threads.add(thread);
+    }
+    start.countDown();
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    assertEquals(5.0, bucket.getRate());
+
+    // a throttling after the end of the episode starts a new one
+    nanoTime.addAndGet(SECOND);
+    bucket.onThrottled(0);
+    bucket.onThrottled(0);
+    assertEquals(2.5, bucket.getRate());
+  }
+
+  @Test
+  void testThrottlingDoesNotSlowDownBelowMinimumRate() {
+    final TokenBucket bucket = new TokenBucket(10, 0.5, nanoTime::get);
+
+    for (int i = 0; i < 20; i++) {
+      bucket.onThrottled(0);
+      nanoTime.addAndGet(10 * SECOND);
+    }
+
+    assertEquals(0.5, bucket.getRate());
+  }
+}
@@ -0,0 +1,88 @@
+package com.symphony.bdk.core.retry;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.symphony.bdk.core.config.model.BdkRetryBudgetConfig;
+import com.symphony.bdk.core.config.model.BdkRetryConfig;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Test class for {@link RetryBudget}.
+ */
+class RetryBudgetTest {
+
+  private final AtomicLong nanoTime = new AtomicLong();
+
+  @Test
+  void testSuccessesEarnRetries() {
+    final RetryBudget budget = new RetryBudget(budgetConfig(0.5, 0, 100), nanoTime::get);
+
+    assertFalse(budget.tryRetry());
+    budget.onSuccess();
+    assertFalse(budget.tryRetry());
+    budget.onSuccess();
+    assertTrue(budget.tryRetry());
+    assertFalse(budget.tryRetry());
+  }
+
+  @Test
+  void testBalanceIsCapped() {
+    final RetryBudget budget = new RetryBudget(budgetConfig(1, 0, 2), nanoTime::get);
+
+    for (int i = 0; i < 10; i++) {
+      budget.onSuccess();
+    }
+
+    assertTrue(budget.tryRetry());
+    assertTrue(budget.tryRetry());
+    assertFalse(budget.tryRetry());
+  }
+
+  @Test
+  void testReserveIsRefilledOverTime() {
+    final RetryBudget budget = new RetryBudget(budgetConfig(0.2, 2, 100), nanoTime::get);
+
+    assertTrue(budget.tryRetry());
+    assertTrue(budget.tryRetry());
+    assertFalse(budget.tryRetry());
+
+    nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+    assertTrue(budget.tryRetry());
+    assertFalse(budget.tryRetry());
+
+    // the reserve does not exceed the retries allowed per second
+    nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(10));
+    assertTrue(budget.tryRetry());
+    assertTrue(budget.tryRetry());
+    assertFalse(budget.tryRetry());
+  }
+
+  @Test
+  void testSharedBudget() {
+    final BdkRetryConfig retryConfig = new BdkRetryConfig();
+    assertNull(RetryBudget.shared(retryConfig));
+    assertNull(RetryBudget.shared(null));
+
+    retryConfig.getBudget().setEnabled(true);
+    final RetryBudget budget = RetryBudget.shared(retryConfig);
+    assertNotNull(budget);
+    assertSame(budget, RetryBudget.shared(retryConfig));
+  }
+
+  private static BdkRetryBudgetConfig budgetConfig(double ratio, int minRetriesPerSecond, int maxBalance) {
+    final BdkRetryBudgetConfig config = new BdkRetryBudgetConfig();
+    config.setEnabled(true);
+    config.setRatio(ratio);
+    config.setMinRetriesPerSecond(minRetriesPerSecond);
+    config.setMaxBalance(maxBalance);
+    return config;
+  }
+}
@@ -0,0 +1,202 @@
+package com.symphony.bdk.core.retry.resilience4j;
+
+import com.symphony.bdk.core.retry.AsyncRetryWithRecovery;
+import com.symphony.bdk.core.retry.RetryWithRecovery;
+import com.symphony.bdk.core.retry.RetryWithRecoveryBuilder;
+import com.symphony.bdk.core.retry.function.ConsumerWithThrowable;
+import com.symphony.bdk.http.api.ApiException;
+import com.symphony.bdk.http.api.ApiRuntimeException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static com.symphony.bdk.core.test.BdkRetryConfigTestHelper.ofMinimalInterval;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Test class for {@link Resilience4jAsyncRetryWithRecovery}
+ */
+class Resilience4jAsyncRetryWithRecoveryTest {
+
+  private ScheduledExecutorService scheduler;
+  private RetryWithRecoveryBuilder<String> builder;
+
+  @BeforeEach
+  void setUp() {
+    this.scheduler = Executors.newSingleThreadScheduledExecutor();
+    this.builder = new RetryWithRecoveryBuilder<String>()
+        .retryConfig(ofMinimalInterval(3))
+        .scheduler(this.scheduler);
+  }
+
+  @AfterEach
+  void tearDown() {
+    this.scheduler.shutdownNow();
+  }
+
+  @Test
+  void testSupplierWithNoExceptionReturnsValue() {
+    final AtomicInteger attempts = new AtomicInteger();
+
+    AsyncRetryWithRecovery<String> r = this.builder.buildAsync("name", "localhost.symphony.com",
+        () -> attempt(attempts, "string"));
+
+    assertEquals("string", r.execute().join());
+    assertEquals(1, attempts.get());
+  }
+
+  @Test
+  void testFailedAttemptsAreRescheduled() {
+    final AtomicInteger attempts = new AtomicInteger();
+
+    AsyncRetryWithRecovery<String> r = this.builder.buildAsync("name", "localhost.symphony.com",
+        () -> attempts.get() < 2
+            ? attempt(attempts, new ApiException(503, "error"))
+            : attempt(attempts, "string"));
+
+    assertEquals("string", r.execute().join());
+    assertEquals(3, attempts.get());
+  }
+
+  @Test
+  void testSupplierThrowingIsRetried() {
+    final AtomicInteger attempts = new AtomicInteger();
+
+    AsyncRetryWithRecovery<String> r = this.builder.buildAsync("name", "localhost.symphony.com", () -> {
+      if (attempts.incrementAndGet() < 2) {
+        throw new ApiException(500, "error");
+      }
+      return CompletableFuture.completedFuture("string");
+    });
+
+    assertEquals("string", r.execute().join());
+    assertEquals(2, attempts.get());
+  }
+
+  @Test
+  void testMaxAttemptsReachedShouldFailWithException() {
+    final AtomicInteger attempts = new AtomicInteger();
+    final ApiException error = new ApiException(500, "error");
+
+    AsyncRetryWithRecovery<String> r = this.builder.buildAsync("name", "localhost.symphony.com",
+        () -> attempt(attempts, error));
+
+    CompletionException exception = assertThrows(CompletionException.class, () -> r.execute().join());
+    assertSame(error, exception.getCause());
+    assertEquals(3, attempts.get());
+  }
+
+  @Test
+  void testNonRetryableExceptionShouldFailWithoutRetry() {
+    final AtomicInteger attempts = new AtomicInteger();
+
+    AsyncRetryWithRecovery<String> r = this.builder.buildAsync("name", "localhost.symphony.com",
+        () -> attempt(attempts, new ApiException(400, "error")));
+
+    assertThrows(CompletionException.class, () -> r.execute().join());
+    assertEquals(1, attempts.get());
+  }
+
+  @Test
+  void testIgnoredExceptionReturnsNull() {
+    final AtomicInteger attempts = new AtomicInteger();
+    this.builder.ignoreException(ApiException::isClientError);
+
+    AsyncRetryWithRecovery<String> r = this.builder.buildAsync("name", "localhost.symphony.com",
+        () -> attempt(attempts, new ApiException(404, "error")));
+
+    assertNull(r.execute().join());
+    assertEquals(1, attempts.get());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void testAsyncRecoveryRunsBeforeRetry() throws Throwable {
+    final AtomicInteger attempts = new AtomicInteger();
+    final AtomicInteger recoveries = new AtomicInteger();
+    final ConsumerWithThrowable recovery = mock(ConsumerWithThrowable.class);
+    final Supplier<CompletableFuture<Void>> asyncRecovery = () -> {
+      recoveries.incrementAndGet();
+      return CompletableFuture.completedFuture(null);
+    };
+    this.builder.recoveryStrategy(ApiException::isUnauthorized, recovery, asyncRecovery);
+
+    AsyncRetryWithRecovery<String> r = this.builder.buildAsync("name", "localhost.symphony.com",
+        () -> recoveries.get() == 0
+            ? attempt(attempts, new ApiException(401, "error"))
+            : attempt(attempts, "string"));
+
+    assertEquals("string", r.execute().join());
+    assertEquals(2, attempts.get());
+    assertEquals(1, recoveries.get());
+    verify(recovery, never()).consume();
+  }
+
+  @Test
+  void testBlockingRecoveryRunsBeforeRetry() {
+    final AtomicInteger attempts = new AtomicInteger();
+    final AtomicInteger recoveries = new AtomicInteger();
+    this.builder.recoveryStrategy(ApiException::isUnauthorized, recoveries::incrementAndGet);
+
+    AsyncRetryWithRecovery<String> r = this.builder.buildAsync("name", "localhost.symphony.com",
+        () -> recoveries.get() == 0
+            ? attempt(attempts, new ApiException(401, "error"))
+            : attempt(attempts, "string"));
+
+    assertEquals("string", r.execute().join());
+    assertEquals(2, attempts.get());
+  }
+
+  @Test
+  void testFailedRecoveryFailsWithRecoveryException() {
+    final AtomicInteger attempts = new AtomicInteger();
+    final IllegalStateException recoveryError = new IllegalStateException("recovery failed");
+    this.builder.recoveryStrategy(ApiException::isUnauthorized, () -> {}, () -> CompletableFuture.failedFuture(
+        recoveryError));
+
+    AsyncRetryWithRecovery<String> r = this.builder.buildAsync("name", "localhost.symphony.com",
+        () -> attempt(attempts, new ApiException(401, "error")));
+
+    CompletionException exception = assertThrows(CompletionException.class, () -> r.execute().join());
+    assertSame(recoveryError, exception.getCause());
+    assertEquals(1, attempts.get());
+  }
+
+  @Test
+  void testExecuteAndRetryAsyncWrapsApiException() {
+    final AtomicInteger attempts = new AtomicInteger();
+
+    CompletableFuture<String> result = RetryWithRecovery.executeAndRetryAsync(this.builder, "name",
+        "localhost.symphony.com", () -> attempt(attempts, new ApiException(400, "error")));
+
+    CompletionException exception = assertThrows(CompletionException.class, result::join);
+    assertTrue(exception.getCause() instanceof ApiRuntimeException);
+    assertEquals(400, ((ApiRuntimeException) exception.getCause()).getCode());
+  }
+
+  private static CompletableFuture<String> attempt(AtomicInteger attempts, String value) {
+    attempts.incrementAndGet();
+    return CompletableFuture.supplyAsync(() -> value);
+  }
+
+  private static CompletableFuture<String> attempt(AtomicInteger attempts, ApiException error) {
+    attempts.incrementAndGet();
+    return CompletableFuture.supplyAsync(() -> {
+      throw new CompletionException(error);
+    });
+  }
+}
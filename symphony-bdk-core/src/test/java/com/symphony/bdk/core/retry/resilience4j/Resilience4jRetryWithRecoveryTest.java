@@ -1,12 +1,16 @@
 package com.symphony.bdk.core.retry.resilience4j;
 
+import com.symphony.bdk.core.config.model.BdkRetryBudgetConfig;
 import com.symphony.bdk.core.config.model.BdkRetryConfig;
 import com.symphony.bdk.core.retry.RecoveryStrategy;
+import com.symphony.bdk.core.retry.RetryBudget;
+import com.symphony.bdk.core.retry.RetryWithRecovery;
 import com.symphony.bdk.core.retry.RetryWithRecoveryBuilder;
 import com.symphony.bdk.core.retry.function.ConsumerWithThrowable;
 import com.symphony.bdk.core.retry.function.SupplierWithApiException;
 import com.symphony.bdk.http.api.ApiException;
 import com.symphony.bdk.http.api.ApiRuntimeException;
+import io.github.resilience4j.retry.Retry;
 import jakarta.ws.rs.ProcessingException;
 import org.junit.jupiter.api.Test;
 import org.mockito.InOrder;
@@ -19,8 +23,12 @@ import java.util.Collections;
 
 import static com.symphony.bdk.core.test.BdkRetryConfigTestHelper.ofMinimalInterval;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
@@ -317,4 +325,100 @@ class Resilience4jRetryWithRecoveryTest {
     assertThrows(RuntimeException.class,
         () -> Resilience4jRetryWithRecovery.executeAndRetry(new RetryWithRecoveryBuilder<String>(), "test", "serviceName", supplier));
   }
+
+  @Test
+  void testRetryReusedForSameName() {
+    RetryWithRecoveryBuilder<String> builder = new RetryWithRecoveryBuilder<>();
+
+    Retry retry = retryOf(builder.build("name", "localhost.symphony.com", () -> ""));
+
+    assertSame(retry, retryOf(builder.build("name", "localhost.symphony.com", () -> "")));
+    assertSame(retry, retryOf(RetryWithRecoveryBuilder.<String>from(builder).name("name").build()));
+    assertSame(retry, retryOf(RetryWithRecoveryBuilder.copyWithoutRecoveryStrategies(builder)
+        .build("name", "localhost.symphony.com", () -> "")));
+    assertNotSame(retry, retryOf(builder.build("other", "localhost.symphony.com", () -> "")));
+  }
+
+  @Test
+  void testRetryNotReusedWhenConfigurationChanges() {
+    RetryWithRecoveryBuilder<String> builder = new RetryWithRecoveryBuilder<>();
+
+    Retry retry = retryOf(builder.build("name", "localhost.symphony.com", () -> ""));
+
+    assertNotSame(retry, retryOf(RetryWithRecoveryBuilder.<String>from(builder).retryConfig(ofMinimalInterval(3))
+        .build("name", "localhost.symphony.com", () -> "")));
+    assertNotSame(retry, retryOf(RetryWithRecoveryBuilder.<String>from(builder).retryOnException(t -> false)
+        .build("name", "localhost.symphony.com", () -> "")));
+    assertSame(retry, retryOf(builder.build("name", "localhost.symphony.com", () -> "")));
+  }
+
+  @Test
+  void testExecuteAndRetryWithReusedRetry() throws Throwable {
+    final String value = "string";
+    RetryWithRecoveryBuilder<String> builder = new RetryWithRecoveryBuilder<String>().retryConfig(ofMinimalInterval(2));
+
+    SupplierWithApiException<String> supplier = mock(ConcreteSupplier.class);
+    when(supplier.get())
+        .thenThrow(new ApiException(500, "error"))
+        .thenReturn(value)
+        .thenThrow(new ApiException(500, "error"))
+        .thenReturn(value);
+
+    assertEquals(value, Resilience4jRetryWithRecovery.executeAndRetry(builder, "test", "serviceName", supplier));
+    assertEquals(value, Resilience4jRetryWithRecovery.executeAndRetry(builder, "test", "serviceName", supplier));
+    verify(supplier, times(4)).get();
+  }
+
+  @Test
+  void testRetryBudgetLimitsRetries() throws Throwable {
+    final String value = "string";
+    final BdkRetryBudgetConfig budgetConfig = new BdkRetryBudgetConfig();
+    budgetConfig.setRatio(0.5);
+    budgetConfig.setMinRetriesPerSecond(0);
+    RetryWithRecoveryBuilder<String> builder = new RetryWithRecoveryBuilder<String>()
+        .retryConfig(ofMinimalInterval(3))
+        .retryBudget(new RetryBudget(budgetConfig));
+
+    SupplierWithApiException<String> supplier = mock(ConcreteSupplier.class);
+    when(supplier.get())
+        .thenThrow(new ApiException(500, "error"))
+        .thenReturn(value)
+        .thenReturn(value)
+        .thenThrow(new ApiException(500, "error"))
+        .thenReturn(value);
+
+    // no retry earned yet
+    assertThrows(ApiException.class, () -> builder.build("test", "serviceName", supplier).execute());
+    // two successful calls earn one retry
+    assertEquals(value, builder.build("test", "serviceName", supplier).execute());
+    assertEquals(value, builder.build("test", "serviceName", supplier).execute());
+    assertEquals(value, builder.build("test", "serviceName", supplier).execute());
+    verify(supplier, times(5)).get();
+  }
+
+  @Test
+  void testRetryBudgetIsNotSpentByLastAttempt() throws Throwable {
+    final BdkRetryBudgetConfig budgetConfig = new BdkRetryBudgetConfig();
+    budgetConfig.setRatio(1);
+    budgetConfig.setMinRetriesPerSecond(0);
+    final RetryBudget budget = new RetryBudget(budgetConfig);
+    budget.onSuccess();
+    budget.onSuccess();
+    RetryWithRecoveryBuilder<String> builder = new RetryWithRecoveryBuilder<String>()
+        .retryConfig(ofMinimalInterval(2))
+        .retryBudget(budget);
+
+    SupplierWithApiException<String> supplier = mock(ConcreteSupplier.class);
+    when(supplier.get()).thenThrow(new ApiException(500, "error"));
+
+    assertThrows(ApiException.class, () -> builder.build("test", "serviceName", supplier).execute());
+    verify(supplier, times(2)).get();
+    // only the retry of the first attempt has been withdrawn
+    assertTrue(budget.tryRetry());
+    assertFalse(budget.tryRetry());
+  }
+
+  private static Retry retryOf(RetryWithRecovery<?> retryWithRecovery) {
+    return ((Resilience4jRetryWithRecovery<?>) retryWithRecovery).getRetry();
+  }
 }
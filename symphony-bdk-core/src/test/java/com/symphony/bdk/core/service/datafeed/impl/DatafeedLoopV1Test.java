@@ -69,6 +69,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -489,16 +490,14 @@ class DatafeedLoopV1Test {
 
     this.datafeedService.unsubscribe(this.listener);
 
-    final RealTimeEventListener listener = new RealTimeEventListener() {
+    // listeners are only offered the events they handle, a mock handles all of them
+    final RealTimeEventListener spiedListener = mock(RealTimeEventListener.class);
+    when(spiedListener.isAcceptingEvent(any(), any())).thenCallRealMethod();
+    doAnswer(invocation -> {
+      assertThat(DistributedTracingContext.getTraceId()).isEqualTo(traceId);
+      throw new RuntimeException("Let's try to break the DF loop!");
+    }).when(spiedListener).onMessageSent(any(), any());
 
-      @Override
-      public void onMessageSent(V4Initiator initiator, V4MessageSent event) {
-        assertThat(DistributedTracingContext.getTraceId()).isEqualTo(traceId);
-        throw new RuntimeException("Let's try to break the DF loop!");
-      }
-    };
-
-    final RealTimeEventListener spiedListener = Mockito.spy(listener);
     this.datafeedService.subscribe(spiedListener);
     this.datafeedService.handleV4EventList(events);
 
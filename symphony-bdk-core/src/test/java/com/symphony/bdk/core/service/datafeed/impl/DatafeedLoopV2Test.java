@@ -8,6 +8,8 @@ import com.symphony.bdk.core.config.exception.BdkConfigException;
 import com.symphony.bdk.core.config.model.BdkConfig;
 import com.symphony.bdk.core.config.model.BdkDatafeedConfig;
 import com.symphony.bdk.core.service.datafeed.EventException;
+import com.symphony.bdk.core.service.datafeed.RealTimeEventBatchListener;
+import com.symphony.bdk.core.service.datafeed.RealTimeEventContext;
 import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
 import com.symphony.bdk.core.service.datafeed.exception.NestedRetryException;
 import com.symphony.bdk.gen.api.DatafeedApi;
@@ -25,6 +27,7 @@ import com.symphony.bdk.http.api.ApiException;
 import jakarta.ws.rs.ProcessingException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentMatcher;
@@ -32,19 +35,24 @@ import org.mockito.Mockito;
 
 import java.net.SocketTimeoutException;
 import java.net.UnknownHostException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import static com.symphony.bdk.core.test.BdkRetryConfigTestHelper.ofMinimalInterval;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
@@ -242,6 +250,196 @@ class DatafeedLoopV2Test {
     executorService.shutdown();
   }
 
+  @Test
+  void testStartWithPrefetch() throws Exception {
+    BdkConfig bdkConfig = BdkConfigLoader.loadFromClasspath("/config/config.yaml");
+    bdkConfig.getDatafeed().setRetry(ofMinimalInterval(2));
+    bdkConfig.getDatafeed().getDispatch().setPrefetch(2);
+    DatafeedLoopV2 prefetchingService = new DatafeedLoopV2(datafeedApi, authSession, bdkConfig, mock(UserV2.class));
+
+    when(datafeedApi.listDatafeed(TOKEN, TOKEN, null)).thenReturn(
+        Collections.singletonList(new V5Datafeed().id(DATAFEED_ID)));
+    AtomicInteger reads = new AtomicInteger();
+    when(datafeedApi.readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), any(AckId.class))).thenAnswer(
+        invocation -> new V5EventList().addEventsItem(new V4Event().type(RealTimeEventType.MESSAGESENT.name())
+                .payload(new V4Payload().messageSent(new V4MessageSent())))
+            .ackId("ack-id" + reads.incrementAndGet()));
+
+    List<String> handledAckIds = new ArrayList<>();
+    prefetchingService.subscribe(new RealTimeEventListener() {
+      @Override
+      public boolean isAcceptingEvent(V4Event event, UserV2 botInfo) {
+        return true;
+      }
+
+      @Override
+      public void onMessageSent(V4Initiator initiator, V4MessageSent event) {
+        // ack ids are committed once the batch has been handled, in the order the batches have been read
+        handledAckIds.add(prefetchingService.getAckId());
+        if (handledAckIds.size() == 3) {
+          prefetchingService.stop();
+        }
+      }
+    });
+
+    prefetchingService.start();
+
+    assertEquals(List.of("", "ack-id1", "ack-id2"), handledAckIds);
+    assertEquals("ack-id3", prefetchingService.getAckId());
+    assertNull(prefetchingService.getReadAheadPipeline());
+  }
+
+  @Test
+  void testStartWithPrefetchSendsEachAckId() throws Exception {
+    BdkConfig bdkConfig = BdkConfigLoader.loadFromClasspath("/config/config.yaml");
+    bdkConfig.getDatafeed().setRetry(ofMinimalInterval(2));
+    bdkConfig.getDatafeed().getDispatch().setPrefetch(1);
+    DatafeedLoopV2 prefetchingService = new DatafeedLoopV2(datafeedApi, authSession, bdkConfig, mock(UserV2.class));
+
+    when(datafeedApi.listDatafeed(TOKEN, TOKEN, null)).thenReturn(
+        Collections.singletonList(new V5Datafeed().id(DATAFEED_ID)));
+    List<String> sentAckIds = Collections.synchronizedList(new ArrayList<>());
+    CountDownLatch thirdReadSent = new CountDownLatch(1);
+    CountDownLatch twoBatchesHandled = new CountDownLatch(2);
+    when(datafeedApi.readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), any(AckId.class))).thenAnswer(invocation -> {
+      sentAckIds.add(invocation.getArgument(3, AckId.class).getAckId());
+      final int read = sentAckIds.size();
+      if (read == 3) {
+        thirdReadSent.countDown();
+        // slow read, the two batches read before are handled meanwhile
+        twoBatchesHandled.await(5, TimeUnit.SECONDS);
+      } else if (read == 5) {
+        prefetchingService.stop();
+      }
+      return new V5EventList().addEventsItem(new V4Event().type(RealTimeEventType.MESSAGESENT.name())
+          .payload(new V4Payload().messageSent(new V4MessageSent()))).ackId("ack-id" + read);
+    });
+
+    prefetchingService.subscribe(new RealTimeEventListener() {
+      @Override
+      public boolean isAcceptingEvent(V4Event event, UserV2 botInfo) {
+        return true;
+      }
+
+      @Override
+      public void onMessageSent(V4Initiator initiator, V4MessageSent event) {
+        try {
+          thirdReadSent.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        twoBatchesHandled.countDown();
+      }
+    });
+
+    prefetchingService.start();
+
+    // the ack ids of the two batches handled during the third read are both sent, in order
+    assertEquals(List.of("", "", "", "ack-id1", "ack-id2"), sentAckIds.subList(0, 5));
+  }
+
+  @Test
+  void testStartWithSeveralReaders() throws Exception {
+    DatafeedLoopV2 service = this.datafeedLoopWithReaders(3);
+    when(datafeedApi.listDatafeed(TOKEN, TOKEN, null)).thenReturn(
+        Collections.singletonList(new V5Datafeed().id(DATAFEED_ID)));
+    CountDownLatch concurrentReads = new CountDownLatch(3);
+    when(datafeedApi.readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), any(AckId.class))).thenAnswer(invocation -> {
+      // each reader waits for the other ones, so that the test only completes if the 3 readers read concurrently
+      concurrentReads.countDown();
+      concurrentReads.await(5, TimeUnit.SECONDS);
+      return new V5EventList().addEventsItem(new V4Event().type(RealTimeEventType.MESSAGESENT.name())
+          .payload(new V4Payload().messageSent(new V4MessageSent()))).ackId("ack-id");
+    });
+
+    service.start();
+
+    assertEquals(0, concurrentReads.getCount());
+    verify(datafeedApi, times(1)).listDatafeed(TOKEN, TOKEN, null);
+  }
+
+  @Test
+  void testStaleDatafeedRecreatedOnceWithSeveralReaders() throws Exception {
+    DatafeedLoopV2 service = this.datafeedLoopWithReaders(3);
+    when(datafeedApi.listDatafeed(TOKEN, TOKEN, null)).thenReturn(
+        Collections.singletonList(new V5Datafeed().id(DATAFEED_ID)));
+    CountDownLatch staleReads = new CountDownLatch(3);
+    when(datafeedApi.readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), any(AckId.class))).thenAnswer(invocation -> {
+      staleReads.countDown();
+      staleReads.await(5, TimeUnit.SECONDS);
+      throw new ApiException(400, "client-error");
+    });
+    when(datafeedApi.createDatafeed(TOKEN, TOKEN, new V5DatafeedCreateBody()))
+        .thenReturn(new V5Datafeed().id("abc_f_new"));
+    when(datafeedApi.readDatafeed(eq("abc_f_new"), eq(TOKEN), eq(TOKEN), argThat(eqAckId(""))))
+        .thenReturn(new V5EventList().addEventsItem(new V4Event().type(RealTimeEventType.MESSAGESENT.name())
+            .payload(new V4Payload().messageSent(new V4MessageSent()))).ackId("ack-id"));
+
+    service.start();
+
+    assertEquals(0, staleReads.getCount());
+    verify(datafeedApi, times(1)).deleteDatafeed(DATAFEED_ID, TOKEN, TOKEN);
+    verify(datafeedApi, times(1)).createDatafeed(TOKEN, TOKEN, new V5DatafeedCreateBody());
+  }
+
+  @Test
+  void testFirstReaderResetsAckIdWhenDatafeedRecreatedByAnotherReader() throws Exception {
+    DatafeedLoopV2 service = this.datafeedLoopWithReaders(2);
+    when(datafeedApi.listDatafeed(TOKEN, TOKEN, null)).thenReturn(
+        Collections.singletonList(new V5Datafeed().id(DATAFEED_ID)));
+    CountDownLatch firstReaderReading = new CountDownLatch(1);
+    CountDownLatch recreated = new CountDownLatch(1);
+    when(datafeedApi.readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), any(AckId.class))).thenAnswer(invocation -> {
+      if (Thread.currentThread().getName().startsWith("Datafeed-Reader-Thread")) {
+        // the other reader fails on the stale datafeed while the first one is still reading it
+        firstReaderReading.await(5, TimeUnit.SECONDS);
+        throw new ApiException(400, "client-error");
+      }
+      firstReaderReading.countDown();
+      recreated.await(5, TimeUnit.SECONDS);
+      return new V5EventList().events(Collections.emptyList()).ackId("stale-ack-id");
+    });
+    when(datafeedApi.createDatafeed(TOKEN, TOKEN, new V5DatafeedCreateBody())).thenAnswer(invocation -> {
+      recreated.countDown();
+      return new V5Datafeed().id("abc_f_new");
+    });
+    List<String> firstReaderAckIds = new ArrayList<>();
+    when(datafeedApi.readDatafeed(eq("abc_f_new"), eq(TOKEN), eq(TOKEN), any(AckId.class))).thenAnswer(invocation -> {
+      if (Thread.currentThread().getName().startsWith("Datafeed-Reader-Thread")) {
+        return new V5EventList().events(Collections.emptyList()).ackId("other-ack-id");
+      }
+      firstReaderAckIds.add(invocation.getArgument(3, AckId.class).getAckId());
+      return new V5EventList().addEventsItem(new V4Event().type(RealTimeEventType.MESSAGESENT.name())
+          .payload(new V4Payload().messageSent(new V4MessageSent()))).ackId("ack-id");
+    });
+
+    service.start();
+
+    // the ack id received from the stale datafeed is never sent to the new one, which is therefore not recreated
+    assertEquals(List.of(""), firstReaderAckIds);
+    verify(datafeedApi, times(1)).deleteDatafeed(DATAFEED_ID, TOKEN, TOKEN);
+    verify(datafeedApi, never()).deleteDatafeed("abc_f_new", TOKEN, TOKEN);
+  }
+
+  private DatafeedLoopV2 datafeedLoopWithReaders(int readers) throws BdkConfigException {
+    BdkConfig bdkConfig = BdkConfigLoader.loadFromClasspath("/config/config.yaml");
+    bdkConfig.getDatafeed().setRetry(ofMinimalInterval(2));
+    bdkConfig.getDatafeed().setReaders(readers);
+    DatafeedLoopV2 service = new DatafeedLoopV2(datafeedApi, authSession, bdkConfig, mock(UserV2.class));
+    service.subscribe(new RealTimeEventListener() {
+      @Override
+      public boolean isAcceptingEvent(V4Event event, UserV2 botInfo) {
+        return true;
+      }
+
+      @Override
+      public void onMessageSent(V4Initiator initiator, V4MessageSent event) {
+        service.stop();
+      }
+    });
+    return service;
+  }
+
   @Test
   void testStartListenerFails() throws ApiException, AuthUnauthorizedException {
     List<V5Datafeed> datafeeds = new ArrayList<>();
@@ -330,6 +528,226 @@ class DatafeedLoopV2Test {
     assertEquals("ack-id", datafeedService.getAckId());
   }
 
+  @Test
+  void testRequeuedEventsAlreadyDispatchedAreSkipped() throws ApiException {
+    BdkConfig bdkConfig = BdkConfigLoader.loadFromClasspath("/config/config.yaml");
+    bdkConfig.getDatafeed().setRetry(ofMinimalInterval(2));
+    bdkConfig.getDatafeed().getDeduplication().setEnabled(true);
+    DatafeedLoopV2 service = new DatafeedLoopV2(datafeedApi, authSession, bdkConfig, mock(UserV2.class));
+
+    when(datafeedApi.listDatafeed(TOKEN, TOKEN, null)).thenReturn(
+        Collections.singletonList(new V5Datafeed().id(DATAFEED_ID)));
+    // the batch is re-queued as long as the ack id is not updated
+    when(datafeedApi.readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), argThat(eqAckId("")))).thenAnswer(
+        invocation -> new V5EventList()
+            .addEventsItem(new V4Event().id("event-1").type(RealTimeEventType.MESSAGESENT.name())
+                .payload(new V4Payload().messageSent(new V4MessageSent())))
+            .addEventsItem(new V4Event().id("event-2").type(RealTimeEventType.MESSAGESENT.name())
+                .payload(new V4Payload().messageSent(new V4MessageSent())))
+            .ackId("ack-id"));
+
+    List<String> dispatchedIds = new ArrayList<>();
+    service.subscribe(new RealTimeEventListener() {
+      @Override
+      public boolean isAcceptingEvent(V4Event event, UserV2 botInfo) {
+        return true;
+      }
+
+      @Override
+      public void onMessageSent(V4Initiator initiator, V4MessageSent event) throws EventException {
+        String id = RealTimeEventContext.getEvent().map(V4Event::getId).orElse(null);
+        dispatchedIds.add(id);
+        if (dispatchedIds.size() == 2) {
+          throw new EventException("failure");
+        }
+        if (dispatchedIds.size() == 3) {
+          service.stop();
+        }
+      }
+    });
+
+    service.start();
+
+    // event-1 has been dispatched once, event-2 has been dispatched again since it failed
+    assertEquals(List.of("event-1", "event-2", "event-2"), dispatchedIds);
+    assertEquals("ack-id", service.getAckId());
+  }
+
+  @Test
+  void testStartResumesFromCheckpointedAckId(@TempDir Path journalDirectory) throws Exception {
+    new EventJournal(journalDirectory.resolve("datafeed"), 4096L, 4096L).checkpoint(DATAFEED_ID, "ack-id");
+    BdkConfig bdkConfig = BdkConfigLoader.loadFromClasspath("/config/config.yaml");
+    bdkConfig.getDatafeed().setRetry(ofMinimalInterval(2));
+    bdkConfig.getDatafeed().getJournal().setEnabled(true);
+    bdkConfig.getDatafeed().getJournal().setDirectory(journalDirectory.toString());
+    DatafeedLoopV2 service = new DatafeedLoopV2(datafeedApi, authSession, bdkConfig, mock(UserV2.class));
+
+    when(datafeedApi.listDatafeed(TOKEN, TOKEN, null)).thenReturn(
+        Collections.singletonList(new V5Datafeed().id(DATAFEED_ID)));
+    when(datafeedApi.readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), argThat(eqAckId("ack-id"))))
+        .thenReturn(new V5EventList().addEventsItem(
+            new V4Event().id("event-1").type(RealTimeEventType.MESSAGESENT.name())
+                .payload(new V4Payload().messageSent(new V4MessageSent()))).ackId("ack-id2"));
+    service.subscribe(new RealTimeEventListener() {
+      @Override
+      public boolean isAcceptingEvent(V4Event event, UserV2 botInfo) {
+        return true;
+      }
+
+      @Override
+      public void onMessageSent(V4Initiator initiator, V4MessageSent event) {
+        service.stop();
+      }
+    });
+
+    service.start();
+
+    // the events handled before the restart are not re-queued
+    verify(datafeedApi, never()).readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), argThat(eqAckId("")));
+    assertEquals(Optional.of("ack-id2"), service.getEventJournal().readAckId(DATAFEED_ID));
+    List<V5EventList> journaled = new ArrayList<>();
+    service.getEventJournal().replay(journaled::add);
+    assertEquals(1, journaled.size());
+    assertEquals("event-1", journaled.get(0).getEvents().get(0).getId());
+  }
+
+  @Test
+  void testReplayJournal(@TempDir Path journalDirectory) throws Exception {
+    EventJournal journal = new EventJournal(journalDirectory.resolve("datafeed"), 4096L, 4096L);
+    journal.append(new V5EventList().ackId("ack-id1").addEventsItem(new V4Event().id("event-1")
+        .type(RealTimeEventType.MESSAGESENT.name()).payload(new V4Payload().messageSent(new V4MessageSent()))));
+    journal.append(new V5EventList().ackId("ack-id2").addEventsItem(new V4Event().id("event-2")
+        .type(RealTimeEventType.MESSAGESENT.name()).payload(new V4Payload().messageSent(new V4MessageSent()))));
+    journal.flush();
+    BdkConfig bdkConfig = BdkConfigLoader.loadFromClasspath("/config/config.yaml");
+    bdkConfig.getDatafeed().getJournal().setEnabled(true);
+    bdkConfig.getDatafeed().getJournal().setDirectory(journalDirectory.toString());
+    DatafeedLoopV2 service = new DatafeedLoopV2(datafeedApi, authSession, bdkConfig, mock(UserV2.class));
+
+    List<String> dispatchedIds = new ArrayList<>();
+    service.subscribe(new RealTimeEventListener() {
+      @Override
+      public boolean isAcceptingEvent(V4Event event, UserV2 botInfo) {
+        return true;
+      }
+
+      @Override
+      public void onMessageSent(V4Initiator initiator, V4MessageSent event) throws EventException {
+        dispatchedIds.add(RealTimeEventContext.getEvent().map(V4Event::getId).orElse(null));
+        if (dispatchedIds.size() == 1) {
+          throw new EventException("failure");
+        }
+      }
+    });
+
+    service.replayJournal();
+
+    // a failed batch does not prevent the next ones from being replayed, nothing is read from the datafeed
+    assertEquals(List.of("event-1", "event-2"), dispatchedIds);
+    verify(datafeedApi, never()).readDatafeed(any(), any(), any(), any());
+  }
+
+  @Test
+  void testReplayJournalDisabled() {
+    assertThrows(IllegalStateException.class, () -> datafeedService.replayJournal());
+  }
+
+  @Test
+  void testRequeuedEventsAlreadyDispatchedToBatchListenerAreSkipped() throws ApiException {
+    BdkConfig bdkConfig = BdkConfigLoader.loadFromClasspath("/config/config.yaml");
+    bdkConfig.getDatafeed().setRetry(ofMinimalInterval(2));
+    bdkConfig.getDatafeed().getDeduplication().setEnabled(true);
+    DatafeedLoopV2 service = new DatafeedLoopV2(datafeedApi, authSession, bdkConfig, mock(UserV2.class));
+
+    when(datafeedApi.listDatafeed(TOKEN, TOKEN, null)).thenReturn(
+        Collections.singletonList(new V5Datafeed().id(DATAFEED_ID)));
+    when(datafeedApi.readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), argThat(eqAckId("")))).thenAnswer(
+        invocation -> new V5EventList()
+            .addEventsItem(new V4Event().id("event-1").type(RealTimeEventType.MESSAGESENT.name())
+                .payload(new V4Payload().messageSent(new V4MessageSent())))
+            .addEventsItem(new V4Event().id("event-2").type(RealTimeEventType.MESSAGESENT.name())
+                .payload(new V4Payload().messageSent(new V4MessageSent())))
+            .ackId("ack-id"));
+
+    List<List<String>> batches = new ArrayList<>();
+    service.subscribe(new RealTimeEventBatchListener() {
+      @Override
+      public boolean isAcceptingEvent(V4Event event, UserV2 botInfo) {
+        return true;
+      }
+
+      @Override
+      public void onEvents(List<V4Event> events) {
+        batches.add(events.stream().map(V4Event::getId).collect(Collectors.toList()));
+      }
+    });
+    List<String> dispatchedIds = new ArrayList<>();
+    service.subscribe(new RealTimeEventListener() {
+      @Override
+      public boolean isAcceptingEvent(V4Event event, UserV2 botInfo) {
+        return true;
+      }
+
+      @Override
+      public void onMessageSent(V4Initiator initiator, V4MessageSent event) throws EventException {
+        dispatchedIds.add(RealTimeEventContext.getEvent().map(V4Event::getId).orElse(null));
+        if (dispatchedIds.size() == 2) {
+          // will not update ack id
+          throw new EventException("failure");
+        }
+        if (dispatchedIds.size() == 3) {
+          service.stop();
+        }
+      }
+    });
+
+    service.start();
+
+    // the batch is re-queued by the per-event listener, the batch listener does not get its events again
+    assertEquals(List.of(List.of("event-1", "event-2")), batches);
+    assertEquals(List.of("event-1", "event-2", "event-2"), dispatchedIds);
+    assertEquals("ack-id", service.getAckId());
+  }
+
+  @Test
+  void testStartWithBatchListener() throws ApiException {
+    when(datafeedApi.listDatafeed(TOKEN, TOKEN, null)).thenReturn(
+        Collections.singletonList(new V5Datafeed().id(DATAFEED_ID)));
+    when(datafeedApi.readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), argThat(eqAckId("")))).thenAnswer(
+        invocation -> new V5EventList()
+            .addEventsItem(new V4Event().id("event-1").type(RealTimeEventType.MESSAGESENT.name())
+                .payload(new V4Payload().messageSent(new V4MessageSent())))
+            .addEventsItem(new V4Event().id("event-2").type("UNSUPPORTED"))
+            .addEventsItem(new V4Event().id("event-3").type(RealTimeEventType.MESSAGESENT.name())
+                .payload(new V4Payload().messageSent(new V4MessageSent())))
+            .ackId("ack-id"));
+
+    this.datafeedService.unsubscribe(listener);
+    List<List<String>> batches = new ArrayList<>();
+    this.datafeedService.subscribe(new RealTimeEventBatchListener() {
+      @Override
+      public boolean isAcceptingEvent(V4Event event, UserV2 botInfo) {
+        return true;
+      }
+
+      @Override
+      public void onEvents(List<V4Event> events) {
+        batches.add(events.stream().map(V4Event::getId).collect(Collectors.toList()));
+        if (batches.size() == 1) {
+          // will not update ack id
+          throw new EventException("failure");
+        }
+        datafeedService.stop();
+      }
+    });
+    this.datafeedService.start();
+
+    // the events are dispatched in a single call, again once re-queued
+    assertEquals(List.of(List.of("event-1", "event-3"), List.of("event-1", "event-3")), batches);
+    verify(datafeedApi, times(2)).readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), argThat(eqAckId("")));
+    assertEquals("ack-id", datafeedService.getAckId());
+  }
+
   private ArgumentMatcher<AckId> eqAckId(String ackId) {
     return argument -> argument.getAckId() != null && argument.getAckId().equals(ackId);
   }
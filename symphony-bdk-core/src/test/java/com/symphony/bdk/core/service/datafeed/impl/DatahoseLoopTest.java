@@ -36,15 +36,19 @@ import com.symphony.bdk.http.api.ApiException;
 import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import java.io.IOException;
 import java.net.ConnectException;
 import java.net.SocketException;
 import java.net.SocketTimeoutException;
 import java.net.UnknownHostException;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -359,6 +363,30 @@ class DatahoseLoopTest {
     assertTrue(isIllegalExceptionThrown.get());
   }
 
+  @Test
+  void testJournalWithDatafeedLoop(@TempDir Path journalDirectory) throws Exception {
+    bdkConfig.getDatafeed().getJournal().setEnabled(true);
+    bdkConfig.getDatafeed().getJournal().setDirectory(journalDirectory.toString());
+    DatahoseLoopImpl journaledDatahoseLoop =
+        new DatahoseLoopImpl(datafeedApi, authSession, bdkConfig, botInfo, datahoseApi);
+    DatafeedLoopV2 journaledDatafeedLoop = new DatafeedLoopV2(datafeedApi, authSession, bdkConfig, botInfo);
+
+    for (int i = 1; i <= 2; i++) {
+      journaledDatafeedLoop.handleEvents(buildV5Events(RealTimeEventType.ROOMCREATED, "datafeed-ack-id" + i));
+      journaledDatahoseLoop.handleEvents(buildV5Events(RealTimeEventType.ROOMCREATED, "datahose-ack-id" + i));
+    }
+
+    // both loops are enabled by the same configuration, each of them journals its events on its own
+    assertEquals(Arrays.asList("datahose-ack-id1", "datahose-ack-id2"), journaledAckIds(journaledDatahoseLoop));
+    assertEquals(Arrays.asList("datafeed-ack-id1", "datafeed-ack-id2"), journaledAckIds(journaledDatafeedLoop));
+  }
+
+  private static List<String> journaledAckIds(AbstractAckIdEventLoop loop) throws IOException {
+    List<String> ackIds = new ArrayList<>();
+    loop.getEventJournal().replay(eventList -> ackIds.add(eventList.getAckId()));
+    return ackIds;
+  }
+
   private V5EventList buildV5Events(RealTimeEventType eventType, String ackId) {
     if (RealTimeEventType.MESSAGESENT == eventType) {
       return new V5EventList().ackId(ackId)
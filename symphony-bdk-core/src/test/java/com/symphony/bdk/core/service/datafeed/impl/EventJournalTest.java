@@ -0,0 +1,174 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.symphony.bdk.gen.api.model.V4Event;
+import com.symphony.bdk.gen.api.model.V5EventList;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Test class for {@link EventJournal}.
+ */
+class EventJournalTest {
+
+  private static final long SEGMENT_SIZE = 4096L;
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void testAppendedBatchesAreReplayedInOrder() throws IOException {
+    final EventJournal journal = new EventJournal(this.directory, SEGMENT_SIZE, 10 * SEGMENT_SIZE);
+    journal.append(batch("ack-1", "event-1", "event-2"));
+    journal.append(batch("ack-2", "event-3"));
+    journal.append(new V5EventList().ackId("ack-3"));
+
+    final List<V5EventList> replayed = replay(journal);
+
+    assertEquals(3, replayed.size());
+    assertEquals("ack-1", replayed.get(0).getAckId());
+    assertEquals("event-2", replayed.get(0).getEvents().get(1).getId());
+    assertEquals("ack-2", replayed.get(1).getAckId());
+    assertEquals("ack-3", replayed.get(2).getAckId());
+  }
+
+  @Test
+  void testOldestSegmentsAreDeleted() throws IOException {
+    final EventJournal journal = new EventJournal(this.directory, SEGMENT_SIZE, 3 * SEGMENT_SIZE);
+    for (int i = 1; i <= 500; i++) {
+      journal.append(batch("ack-" + i, "event-" + i));
+    }
+
+    assertTrue(this.segments().size() <= 3);
+    final List<V5EventList> replayed = replay(journal);
+    assertNotEquals("ack-1", replayed.get(0).getAckId());
+    assertEquals("ack-500", replayed.get(replayed.size() - 1).getAckId());
+  }
+
+  @Test
+  void testBatchLargerThanSegment() throws IOException {
+    final EventJournal journal = new EventJournal(this.directory, 16L, 10 * SEGMENT_SIZE);
+    journal.append(batch("ack-1", "event-1"));
+
+    assertEquals("ack-1", replay(journal).get(0).getAckId());
+  }
+
+  @Test
+  void testReopenedJournalAppendsToNewSegment() throws IOException {
+    final EventJournal journal = new EventJournal(this.directory, SEGMENT_SIZE, 10 * SEGMENT_SIZE);
+    journal.append(batch("ack-1", "event-1"));
+    journal.flush();
+
+    final EventJournal reopenedJournal = new EventJournal(this.directory, SEGMENT_SIZE, 10 * SEGMENT_SIZE);
+    reopenedJournal.append(batch("ack-2", "event-2"));
+
+    assertEquals(2, this.segments().size());
+    final List<V5EventList> replayed = replay(reopenedJournal);
+    assertEquals(2, replayed.size());
+    assertEquals("ack-1", replayed.get(0).getAckId());
+    assertEquals("ack-2", replayed.get(1).getAckId());
+  }
+
+  @Test
+  void testCorruptedRecordIsIgnored() throws IOException {
+    final EventJournal journal = new EventJournal(this.directory, SEGMENT_SIZE, 10 * SEGMENT_SIZE);
+    journal.append(batch("ack-1", "event-1"));
+    journal.append(batch("ack-2", "event-2"));
+    journal.flush();
+
+    final Path segment = this.segments().get(0);
+    try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      final ByteBuffer length = ByteBuffer.allocate(Integer.BYTES);
+      channel.read(length, 0);
+      // first byte of the payload of the second record
+      channel.write(ByteBuffer.wrap(new byte[] {'#'}), 2 * Integer.BYTES + length.getInt(0) + 2 * Integer.BYTES);
+    }
+
+    final List<V5EventList> replayed = replay(journal);
+    assertEquals(1, replayed.size());
+    assertEquals("ack-1", replayed.get(0).getAckId());
+  }
+
+  @Test
+  void testUndecodableRecordIsSkipped() throws IOException {
+    final EventJournal journal = new EventJournal(this.directory, SEGMENT_SIZE, 10 * SEGMENT_SIZE);
+    journal.append(batch("ack-1", "event-1"));
+    journal.flush();
+    // e.g. written by another version of the BDK
+    writeSegment(this.directory.resolve("events-00000000000000000002.journal"),
+        "{\"ackId\":[\"ack-2\"]}", "{\"ackId\":\"ack-3\",\"unknownProperty\":true}");
+
+    final EventJournal reopenedJournal = new EventJournal(this.directory, SEGMENT_SIZE, 10 * SEGMENT_SIZE);
+    reopenedJournal.append(batch("ack-4", "event-4"));
+
+    final List<V5EventList> replayed = replay(reopenedJournal);
+    assertEquals(Arrays.asList("ack-1", "ack-3", "ack-4"),
+        replayed.stream().map(V5EventList::getAckId).collect(Collectors.toList()));
+  }
+
+  @Test
+  void testCheckpoint() throws IOException {
+    final EventJournal journal = new EventJournal(this.directory, SEGMENT_SIZE, 10 * SEGMENT_SIZE);
+    assertFalse(journal.readAckId("feed-id").isPresent());
+
+    journal.append(batch("ack-1", "event-1"));
+    journal.checkpoint("feed-id", "ack-1");
+    journal.checkpoint("feed-id", "ack-2");
+
+    assertEquals(Optional.of("ack-2"), journal.readAckId("feed-id"));
+    assertEquals(Optional.of("ack-2"),
+        new EventJournal(this.directory, SEGMENT_SIZE, 10 * SEGMENT_SIZE).readAckId("feed-id"));
+    assertFalse(journal.readAckId("other-feed-id").isPresent());
+  }
+
+  private List<Path> segments() throws IOException {
+    try (Stream<Path> files = Files.list(this.directory)) {
+      return files.filter(file -> file.getFileName().toString().endsWith(".journal")).collect(Collectors.toList());
+    }
+  }
+
+  private static void writeSegment(Path segment, String... payloads) throws IOException {
+    final ByteBuffer buffer = ByteBuffer.allocate((int) SEGMENT_SIZE);
+    for (String payload : payloads) {
+      final byte[] bytes = payload.getBytes(StandardCharsets.UTF_8);
+      final CRC32 checksum = new CRC32();
+      checksum.update(bytes);
+      buffer.putInt(bytes.length).putInt((int) checksum.getValue()).put(bytes);
+    }
+    Files.write(segment, buffer.array());
+  }
+
+  private static List<V5EventList> replay(EventJournal journal) throws IOException {
+    final List<V5EventList> replayed = new ArrayList<>();
+    journal.replay(replayed::add);
+    return replayed;
+  }
+
+  private static V5EventList batch(String ackId, String... eventIds) {
+    final V5EventList eventList = new V5EventList().ackId(ackId);
+    for (String eventId : eventIds) {
+      eventList.addEventsItem(new V4Event().id(eventId).type("MESSAGESENT"));
+    }
+    return eventList;
+  }
+}
@@ -0,0 +1,43 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.symphony.bdk.core.service.datafeed.EventPayload;
+import com.symphony.bdk.gen.api.model.V4Event;
+import com.symphony.bdk.gen.api.model.V4Message;
+import com.symphony.bdk.gen.api.model.V4MessageSent;
+
+import org.junit.jupiter.api.Test;
+
+class EventPayloadProxyFactoryTest {
+
+  @Test
+  void testProxyDelegatesAndExposesTimestamp() {
+    final V4MessageSent payload = new V4MessageSent().message(new V4Message().messageId("msg-id"));
+
+    final V4MessageSent proxy = EventPayloadProxyFactory.proxy(payload, new V4Event().timestamp(1234L));
+
+    assertTrue(proxy instanceof EventPayload);
+    assertEquals(1234L, ((EventPayload) proxy).getEventTimestamp());
+    assertEquals("msg-id", proxy.getMessage().getMessageId());
+    assertEquals(V4MessageSent.class, proxy.getClass().getSuperclass());
+  }
+
+  @Test
+  void testProxyClassIsGeneratedOnce() {
+    final V4MessageSent first = EventPayloadProxyFactory.proxy(
+        new V4MessageSent().message(new V4Message().messageId("first")), new V4Event().timestamp(1L));
+    final V4MessageSent second = EventPayloadProxyFactory.proxy(
+        new V4MessageSent().message(new V4Message().messageId("second")), new V4Event().timestamp(2L));
+
+    assertSame(first.getClass(), second.getClass());
+    assertNotSame(first, second);
+    assertEquals("first", first.getMessage().getMessageId());
+    assertEquals("second", second.getMessage().getMessageId());
+    assertEquals(1L, ((EventPayload) first).getEventTimestamp());
+    assertEquals(2L, ((EventPayload) second).getEventTimestamp());
+  }
+}
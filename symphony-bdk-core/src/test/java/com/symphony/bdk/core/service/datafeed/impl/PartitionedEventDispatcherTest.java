@@ -0,0 +1,163 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.symphony.bdk.core.config.model.BdkEventDispatchConfig;
+import com.symphony.bdk.core.service.datafeed.EventException;
+import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
+import com.symphony.bdk.gen.api.model.V4Event;
+import com.symphony.bdk.gen.api.model.V4Message;
+import com.symphony.bdk.gen.api.model.V4MessageSent;
+import com.symphony.bdk.gen.api.model.V4Payload;
+import com.symphony.bdk.gen.api.model.V4Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+class PartitionedEventDispatcherTest {
+
+  private PartitionedEventDispatcher dispatcher;
+
+  @BeforeEach
+  void setUp() {
+    final BdkEventDispatchConfig config = new BdkEventDispatchConfig();
+    config.setParallelism(4);
+    config.setQueueSize(2);
+    this.dispatcher = new PartitionedEventDispatcher(config);
+  }
+
+  @AfterEach
+  void tearDown() {
+    this.dispatcher.shutdown();
+  }
+
+  @Test
+  void testEventsOfSameStreamAreDispatchedInOrder() {
+    final List<V4Event> events = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      events.add(messageSent("event-" + i, "stream-" + (i % 3)));
+    }
+    final Map<String, List<String>> dispatched = new ConcurrentHashMap<>();
+
+    this.dispatcher.dispatch(events, event -> dispatched
+        .computeIfAbsent(PartitionedEventDispatcher.partitionKey(event), k -> new ArrayList<>())
+        .add(event.getId()));
+
+    assertEquals(3, dispatched.size());
+    for (int stream = 0; stream < 3; stream++) {
+      final List<String> streamEvents = dispatched.get("stream-" + stream);
+      int previous = -1;
+      for (String id : streamEvents) {
+        final int current = Integer.parseInt(id.substring("event-".length()));
+        assertTrue(current > previous);
+        previous = current;
+      }
+    }
+  }
+
+  @Test
+  void testEventsOfDifferentStreamsAreDispatchedInParallel() {
+    final CountDownLatch latch = new CountDownLatch(2);
+
+    // would never complete if the two events were dispatched one after the other
+    this.dispatcher.dispatch(findEventsOnDistinctPartitions(), event -> {
+      latch.countDown();
+      try {
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+
+    assertEquals(0, latch.getCount());
+  }
+
+  @Test
+  void testFailureIsRethrownOnceBatchIsDone() {
+    final V4Event event = messageSent("event", "stream");
+    final RequeueEventException exception = new RequeueEventException(event, new RealTimeEventListener() {},
+        new EventException("failed"));
+
+    assertThrows(RequeueEventException.class,
+        () -> this.dispatcher.dispatch(Collections.singletonList(event), e -> {
+          throw exception;
+        }));
+  }
+
+  @Test
+  void testDispatchAfterShutdownIsRejected() {
+    this.dispatcher.shutdown();
+
+    assertThrows(RejectedExecutionException.class,
+        () -> this.dispatcher.dispatch(Collections.singletonList(messageSent("event", "stream")), e -> {}));
+  }
+
+  @Test
+  void testShutdownWhileWaitingForSpaceDoesNotBlockDispatch() throws Exception {
+    final BdkEventDispatchConfig config = new BdkEventDispatchConfig();
+    config.setParallelism(2);
+    config.setQueueSize(1);
+    final PartitionedEventDispatcher singleQueueDispatcher = new PartitionedEventDispatcher(config);
+    final CountDownLatch handling = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    final List<V4Event> events = List.of(messageSent("event-1", "stream"), messageSent("event-2", "stream"),
+        messageSent("event-3", "stream"));
+
+    // event-1 is being handled, event-2 is queued and event-3 waits for space in the queue
+    final CompletableFuture<Void> dispatch = CompletableFuture.runAsync(() -> singleQueueDispatcher.dispatch(events,
+        event -> {
+          handling.countDown();
+          try {
+            release.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        }));
+    assertTrue(handling.await(5, TimeUnit.SECONDS));
+    singleQueueDispatcher.shutdown();
+    release.countDown();
+
+    // either event-3 is handled before the worker stops or it is rejected, but the dispatch always returns
+    try {
+      dispatch.get(5, TimeUnit.SECONDS);
+    } catch (ExecutionException e) {
+      assertTrue(e.getCause() instanceof RejectedExecutionException);
+    }
+  }
+
+  @Test
+  void testPartitionKeyFallsBackToEmptyKey() {
+    assertEquals("", PartitionedEventDispatcher.partitionKey(new V4Event().type("CONNECTIONREQUESTED")));
+  }
+
+  private static List<V4Event> findEventsOnDistinctPartitions() {
+    final V4Event first = messageSent("first", "stream-0");
+    int i = 1;
+    while (Math.floorMod(("stream-" + i).hashCode(), 4) == Math.floorMod("stream-0".hashCode(), 4)) {
+      i++;
+    }
+    return List.of(first, messageSent("second", "stream-" + i));
+  }
+
+  private static V4Event messageSent(String id, String streamId) {
+    return new V4Event()
+        .id(id)
+        .type(RealTimeEventType.MESSAGESENT.name())
+        .payload(new V4Payload().messageSent(
+            new V4MessageSent().message(new V4Message().stream(new V4Stream().streamId(streamId)))));
+  }
+}
@@ -0,0 +1,104 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.symphony.bdk.gen.api.model.V5EventList;
+import com.symphony.bdk.http.api.ApiException;
+import com.symphony.bdk.http.api.tracing.DistributedTracingContext;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Test class for {@link ReadAheadPipeline}.
+ */
+class ReadAheadPipelineTest {
+
+  private ReadAheadPipeline pipeline;
+
+  @AfterEach
+  void tearDown() {
+    if (this.pipeline != null) {
+      this.pipeline.shutdown();
+    }
+  }
+
+  @Test
+  void testBatchesAreTakenInOrder() throws ApiException {
+    final AtomicInteger reads = new AtomicInteger();
+    this.pipeline = new ReadAheadPipeline(2, () -> new V5EventList().ackId("ack-" + reads.incrementAndGet()));
+
+    for (int i = 1; i <= 10; i++) {
+      assertEquals("ack-" + i, this.pipeline.take().getAckId());
+    }
+    assertEquals(10, this.pipeline.getTakenCount());
+  }
+
+  @Test
+  void testReadsAreTracedAsTheDatafeedLoop() throws ApiException {
+    this.pipeline = new ReadAheadPipeline(1, () -> new V5EventList().ackId(DistributedTracingContext.getTraceId()));
+
+    DistributedTracingContext.setTraceId("trace-id");
+    try {
+      assertEquals("trace-id", this.pipeline.take().getAckId());
+    } finally {
+      DistributedTracingContext.clear();
+    }
+  }
+
+  @Test
+  void testReaderWaitsWhenPipelineIsFull() throws Exception {
+    final AtomicInteger reads = new AtomicInteger();
+    this.pipeline = new ReadAheadPipeline(2, () -> new V5EventList().ackId("ack-" + reads.incrementAndGet()));
+
+    this.pipeline.take();
+    waitUntil(() -> this.pipeline.getOccupancy() == 2);
+    // one batch taken, two batches queued and one read waiting for some space in the queue
+    TimeUnit.MILLISECONDS.sleep(50);
+    assertEquals(4, reads.get());
+    assertEquals(2, this.pipeline.getCapacity());
+  }
+
+  @Test
+  void testFailureIsHandedAfterPreviousBatches() throws ApiException {
+    final V5EventList first = new V5EventList().ackId("ack-1");
+    final V5EventList second = new V5EventList().ackId("ack-2");
+    final Iterator<Object> results = Arrays.<Object>asList(first, new ApiException(401, "unauthorized"), second)
+        .iterator();
+    this.pipeline = new ReadAheadPipeline(2, () -> {
+      final Object result = results.next();
+      if (result instanceof ApiException) {
+        throw (ApiException) result;
+      }
+      return (V5EventList) result;
+    });
+
+    assertSame(first, this.pipeline.take());
+    assertEquals(401, assertThrows(ApiException.class, this.pipeline::take).getCode());
+    // the reader is restarted once the failure has been handled
+    assertSame(second, this.pipeline.take());
+  }
+
+  @Test
+  void testNullEventList() throws ApiException {
+    this.pipeline = new ReadAheadPipeline(1, () -> null);
+
+    assertNull(this.pipeline.take());
+  }
+
+  private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+    final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+      TimeUnit.MILLISECONDS.sleep(5);
+    }
+  }
+}
@@ -0,0 +1,87 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import com.symphony.bdk.core.service.datafeed.RealTimeEventBatchListener;
+import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
+import com.symphony.bdk.gen.api.model.V4Initiator;
+import com.symphony.bdk.gen.api.model.V4MessageSent;
+import com.symphony.bdk.gen.api.model.V4UserJoinedRoom;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+class RealTimeEventListenersTest {
+
+  private final RealTimeEventListener messageListener = new RealTimeEventListener() {
+    @Override
+    public void onMessageSent(V4Initiator initiator, V4MessageSent event) {
+      // handles messages only
+    }
+  };
+
+  private final RealTimeEventListener roomListener = new RealTimeEventListener() {
+    @Override
+    public void onUserJoinedRoom(V4Initiator initiator, V4UserJoinedRoom event) {
+      // handles users joining rooms only
+    }
+  };
+
+  @Test
+  void testListenersAreIndexedByHandledEventType() {
+    final RealTimeEventListeners listeners = RealTimeEventListeners.EMPTY.with(messageListener).with(roomListener);
+
+    assertEquals(Collections.singletonList(messageListener), listeners.handling(RealTimeEventType.MESSAGESENT));
+    assertEquals(Collections.singletonList(roomListener), listeners.handling(RealTimeEventType.USERJOINEDROOM));
+    assertTrue(listeners.handling(RealTimeEventType.ROOMCREATED).isEmpty());
+  }
+
+  @Test
+  void testListenerWithoutOverriddenCallbackHandlesAllEvents() {
+    final RealTimeEventListener mockListener = mock(RealTimeEventListener.class);
+    final RealTimeEventListeners listeners = RealTimeEventListeners.EMPTY.with(mockListener);
+
+    for (RealTimeEventType eventType : RealTimeEventType.values()) {
+      assertEquals(Collections.singletonList(mockListener), listeners.handling(eventType));
+    }
+  }
+
+  @Test
+  void testBatchListenersAreNotOfferedSingleEvents() {
+    final RealTimeEventBatchListener batchListener = events -> {};
+    final RealTimeEventListeners listeners = RealTimeEventListeners.EMPTY.with(messageListener).with(batchListener);
+
+    assertEquals(Collections.singletonList(batchListener), listeners.batchListeners());
+    assertEquals(Collections.singletonList(messageListener), listeners.handling(RealTimeEventType.MESSAGESENT));
+    assertTrue(listeners.handling(RealTimeEventType.ROOMCREATED).isEmpty());
+    assertTrue(listeners.without(batchListener).batchListeners().isEmpty());
+  }
+
+  @Test
+  void testSnapshotsAreImmutable() {
+    final RealTimeEventListeners before = RealTimeEventListeners.EMPTY.with(messageListener);
+    final RealTimeEventListeners after = before.without(messageListener);
+
+    assertEquals(Collections.singletonList(messageListener), before.handling(RealTimeEventType.MESSAGESENT));
+    assertTrue(after.handling(RealTimeEventType.MESSAGESENT).isEmpty());
+  }
+
+  @Test
+  void testSubscriptionOrderIsKept() {
+    final RealTimeEventListener otherMessageListener = new RealTimeEventListener() {
+      @Override
+      public void onMessageSent(V4Initiator initiator, V4MessageSent event) {
+        // handles messages only
+      }
+    };
+    final RealTimeEventListeners listeners = RealTimeEventListeners.EMPTY
+        .with(otherMessageListener)
+        .with(messageListener);
+
+    assertEquals(List.of(otherMessageListener, messageListener), listeners.handling(RealTimeEventType.MESSAGESENT));
+  }
+}
@@ -0,0 +1,81 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Test class for {@link RecentEventIds}.
+ */
+class RecentEventIdsTest {
+
+  private static final long WINDOW = 1000L;
+
+  private final AtomicLong now = new AtomicLong();
+
+  @Test
+  void testAddedIdsAreContained() {
+    final RecentEventIds ids = new RecentEventIds(100, WINDOW, this.now::get);
+
+    ids.add("event-1");
+    ids.add("event-1");
+
+    assertTrue(ids.contains("event-1"));
+    assertFalse(ids.contains("event-2"));
+    assertEquals(1, ids.size());
+  }
+
+  @Test
+  void testIdsAreRememberedForTheWindow() {
+    final RecentEventIds ids = new RecentEventIds(100, WINDOW, this.now::get);
+    this.now.set(WINDOW - 1);
+    ids.add("event-1");
+
+    // the current generation is rotated, the id is still remembered
+    this.now.set(2 * WINDOW - 2);
+    assertTrue(ids.contains("event-1"));
+
+    // the previous generation is dropped
+    this.now.set(3 * WINDOW);
+    assertFalse(ids.contains("event-1"));
+    assertEquals(0, ids.size());
+  }
+
+  @Test
+  void testIdsAreDroppedAfterTwoWindowsWithoutActivity() {
+    final RecentEventIds ids = new RecentEventIds(100, WINDOW, this.now::get);
+    ids.add("event-1");
+
+    this.now.set(2 * WINDOW);
+
+    assertFalse(ids.contains("event-1"));
+    assertEquals(0, ids.size());
+  }
+
+  @Test
+  void testSizeIsBounded() {
+    final RecentEventIds ids = new RecentEventIds(100, WINDOW, this.now::get);
+
+    for (int i = 0; i < 1000; i++) {
+      ids.add("event-" + i);
+      assertTrue(ids.size() <= 100);
+    }
+
+    // the most recent ids are remembered, the oldest ones are dropped
+    for (int i = 950; i < 1000; i++) {
+      assertTrue(ids.contains("event-" + i));
+    }
+    assertFalse(ids.contains("event-0"));
+  }
+
+  @Test
+  void testHashIsNeverEmpty() {
+    assertNotEquals(0L, RecentEventIds.hash(""));
+    assertNotEquals(RecentEventIds.hash("event-1"), RecentEventIds.hash("event-2"));
+  }
+}
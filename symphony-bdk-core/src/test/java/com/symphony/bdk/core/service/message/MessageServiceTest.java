@@ -254,6 +254,18 @@ class MessageServiceTest {
     assertEquals("gXFV8vN37dNqjojYS_y2wX___o2KxfmUdA", sentMessage.getStream().getStreamId());
   }
 
+  @Test
+  void testSendAsync() throws IOException {
+    mockApiClient.onPost(V4_STREAM_MESSAGE_CREATE.replace("{sid}", STREAM_ID),
+        JsonHelper.readFromClasspath("/message/send_message.json"));
+
+    final Message message = Message.builder().content(MESSAGE).build();
+    final V4Message sentMessage = messageService.sendAsync(STREAM_ID, message).join();
+
+    assertEquals(MESSAGE_ID, sentMessage.getMessageId());
+    assertEquals("gXFV8vN37dNqjojYS_y2wX___o2KxfmUdA", sentMessage.getStream().getStreamId());
+  }
+
   @Test
   void testSendPassingMessageInstanceToStream(@TempDir Path tmpDir) throws IOException {
     Path tempFilePath = tmpDir.resolve("tempFile");
@@ -438,6 +450,15 @@ class MessageServiceTest {
     assertEquals("gXFV8vN37dNqjojYS_y2wX___o2KxfmUdA", message.getStream().getStreamId());
   }
 
+  @Test
+  void testGetMessageAsync() throws IOException {
+    mockApiClient.onGet(V1_MESSAGE_GET.replace("{id}", MESSAGE_ID),
+        JsonHelper.readFromClasspath("/message/get_message.json"));
+
+    final V4Message message = messageService.getMessageAsync(MESSAGE_ID).join();
+    assertEquals("E_U_0jnuzmQcBOr1CIGPqX___ouMNdY5bQ", message.getMessageId());
+  }
+
   @Test
   void testGetMessage_base64() throws IOException {
     mockApiClient.onGet(V1_MESSAGE_GET.replace("{id}", "E_U_0jnuzmQcBOr1CIGPqX___ouMNdY5bQ"),
@@ -4,8 +4,10 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import com.symphony.bdk.core.service.datafeed.RealTimeEventContext;
 import com.symphony.bdk.core.service.message.exception.MessageParserException;
 import com.symphony.bdk.core.test.JsonHelper;
+import com.symphony.bdk.gen.api.model.V4Event;
 import com.symphony.bdk.gen.api.model.V4Message;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +16,7 @@ import org.junit.jupiter.api.Test;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class MessageParserTest {
 
@@ -86,4 +89,39 @@ public class MessageParserTest {
     when(message.getData()).thenReturn("Unparsable json");
     assertThrows(MessageParserException.class, () -> MessageParser.getMentions(message));
   }
+
+  @Test
+  public void testGetEntities() throws MessageParserException {
+    ParsedMessageEntities entities = MessageParser.getEntities(message);
+    assertArrayEquals(new long[] {13056700580915L, 1305690252351L}, entities.getMentions());
+    assertTrue(entities.isMentioned(1305690252351L));
+    assertFalse(entities.isMentioned(1L));
+    assertEquals(List.of("bot"), entities.getHashtags());
+    assertEquals(List.of("hello"), entities.getCashtags());
+    assertEquals(Map.of("grinning", "\uD83D\uDE00"), entities.getEmojis());
+  }
+
+  @Test
+  public void testGetEntitiesSharedWhileDispatchingEvent() {
+    AtomicReference<ParsedMessageEntities> first = new AtomicReference<>();
+    AtomicReference<ParsedMessageEntities> second = new AtomicReference<>();
+
+    RealTimeEventContext.doWithEvent(new V4Event(), () -> {
+      try {
+        first.set(MessageParser.getEntities(message));
+        second.set(MessageParser.getEntities(message));
+      } catch (MessageParserException e) {
+        fail(e);
+      }
+    });
+
+    assertSame(first.get(), second.get());
+  }
+
+  @Test
+  public void testGetMentionsWithInvalidUserId() {
+    when(message.getData()).thenReturn(
+        "{\"0\": {\"id\": [{\"value\": \"abc\"}], \"type\": \"com.symphony.user.mention\"}}");
+    assertThrows(MessageParserException.class, () -> MessageParser.getMentions(message));
+  }
 }
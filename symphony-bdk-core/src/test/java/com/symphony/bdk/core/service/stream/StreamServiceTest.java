@@ -54,6 +54,8 @@ import org.mockito.ArgumentCaptor;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 
 public class StreamServiceTest {
@@ -333,6 +335,28 @@ public class StreamServiceTest {
     assertThrows(ApiRuntimeException.class, () -> this.service.getRoomInfo("bjHSiY4iz3ar4iIh6-VzCX___peoM7cPdA"));
   }
 
+  @Test
+  void getRoomInfoAsyncTest() throws IOException {
+    this.mockApiClient.onGet(V3_ROOM_INFO.replace("{id}", "bjHSiY4iz3ar4iIh6-VzCX___peoM7cPdA"),
+        JsonHelper.readFromClasspath("/stream/v3_room_detail.json"));
+
+    V3RoomDetail roomDetail = this.service.getRoomInfoAsync("bjHSiY4iz3ar4iIh6-VzCX___peoM7cPdA").join();
+
+    assertEquals("API room", roomDetail.getRoomAttributes().getName());
+    assertEquals("bjHSiY4iz3ar4iIh6-VzCX___peoM7cPdA", roomDetail.getRoomSystemInfo().getId());
+  }
+
+  @Test
+  void getRoomInfoAsyncTestFailed() {
+    this.mockApiClient.onGet(400, V3_ROOM_INFO.replace("{id}", "bjHSiY4iz3ar4iIh6-VzCX___peoM7cPdA"), "{}");
+
+    CompletableFuture<V3RoomDetail> future = this.service.getRoomInfoAsync("bjHSiY4iz3ar4iIh6-VzCX___peoM7cPdA");
+
+    CompletionException exception = assertThrows(CompletionException.class, future::join);
+    assertTrue(exception.getCause() instanceof ApiRuntimeException);
+    assertEquals(400, ((ApiRuntimeException) exception.getCause()).getCode());
+  }
+
   @Test
   void getRoomInfoInOboModeTest() throws IOException {
     this.mockApiClient.onGet(V3_ROOM_INFO.replace("{id}", "bjHSiY4iz3ar4iIh6-VzCX___peoM7cPdA"),
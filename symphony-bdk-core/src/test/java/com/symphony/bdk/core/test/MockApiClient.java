@@ -7,6 +7,7 @@ import com.symphony.bdk.http.api.ApiClient;
 import com.symphony.bdk.http.api.Pair;
 import com.symphony.bdk.http.jersey2.ApiClientJersey2;
 import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.CompletionStageRxInvoker;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.Invocation;
 import jakarta.ws.rs.client.WebTarget;
@@ -20,6 +21,7 @@ import java.lang.reflect.ParameterizedType;
 import java.net.URLEncoder;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.mockito.AdditionalAnswers.answer;
 import static org.mockito.ArgumentMatchers.any;
@@ -131,6 +133,17 @@ public class MockApiClient {
     } else if ("PATCH".equals(method)) {
       doReturn(response).when(invocationBuilder).method(eq("PATCH"), any(Entity.class));
     }
+
+    CompletionStageRxInvoker rxInvoker = invocationBuilder.rx();
+    if (rxInvoker == null) {
+      rxInvoker = mock(CompletionStageRxInvoker.class);
+      when(invocationBuilder.rx()).thenReturn(rxInvoker);
+    }
+    if ("GET".equals(method)) {
+      doReturn(CompletableFuture.completedFuture(response)).when(rxInvoker).method("GET");
+    } else {
+      doReturn(CompletableFuture.completedFuture(response)).when(rxInvoker).method(eq(method), any(Entity.class));
+    }
   }
 
   private Invocation.Builder initInvocationBuilder() {
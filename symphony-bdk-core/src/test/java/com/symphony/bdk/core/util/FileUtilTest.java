@@ -0,0 +1,32 @@
+package com.symphony.bdk.core.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+class FileUtilTest {
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void testWriteAtomically() throws IOException {
+    final Path file = this.directory.resolve("parent").resolve("file.txt");
+
+    FileUtil.writeAtomically(file, "first");
+    FileUtil.writeAtomically(file, "second");
+
+    assertEquals("second", new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+    // the temporary files are not left behind
+    try (Stream<Path> files = Files.list(file.getParent())) {
+      assertEquals(1, files.count());
+    }
+  }
+}
@@ -77,4 +77,41 @@ class PresentationMLParserTest {
 
     assertThrows(PresentationMLParserException.class, () -> PresentationMLParser.getTextContent(presentationML));
   }
+
+  @Test
+  void getMessageFromPresentationMLWithDoctypeFailed() {
+    String presentationML = "<!DOCTYPE foo [<!ENTITY xxe SYSTEM \"file:///etc/passwd\">]><div>&xxe;</div>";
+
+    assertThrows(PresentationMLParserException.class, () -> PresentationMLParser.getTextContent(presentationML));
+  }
+
+  @Test
+  void getMessageFromPresentationMLIgnoresCommentsTest() throws PresentationMLParserException {
+    String presentationML = "<div>a &amp;gt; b<!-- comment --> <![CDATA[<c>]]></div>";
+
+    assertEquals("a > b <c>", PresentationMLParser.getTextContent(presentationML));
+  }
+
+  @Test
+  void getTextContentPrefixTest() throws PresentationMLParserException {
+    String presentationML = "<div data-format=\"PresentationML\" data-version=\"2.0\">  <p>/hello &amp;amp; world</p>"
+        + "<p>this part of the message is long enough not to be read</p><broken></div>";
+
+    assertEquals("/hello &", PresentationMLParser.getTextContent(presentationML, true, 8));
+  }
+
+  @Test
+  void getTextContentPrefixOfShortMessageTest() throws PresentationMLParserException {
+    String presentationML = "<div data-format=\"PresentationML\" data-version=\"2.0\"> <p>/hi</p> </div>";
+
+    assertEquals("/hi", PresentationMLParser.getTextContent(presentationML, true, 8));
+  }
+
+  @Test
+  void getTextContentEmptyPrefixTest() throws PresentationMLParserException {
+    String presentationML = "<div data-format=\"PresentationML\" data-version=\"2.0\"> <p>/hi</p> </div>";
+
+    assertEquals("", PresentationMLParser.getTextContent(presentationML, true, 0));
+    assertThrows(IllegalArgumentException.class, () -> PresentationMLParser.getTextContent(presentationML, true, -1));
+  }
 }
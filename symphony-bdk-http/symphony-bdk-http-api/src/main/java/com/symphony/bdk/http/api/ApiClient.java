@@ -7,6 +7,7 @@ import org.apiguardian.api.API;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Interface used to perform HTTP requests performed by the generated Swagger code.
@@ -46,6 +47,49 @@ public interface ApiClient {
       TypeReference<T> returnType
   ) throws ApiException;
 
+  /**
+   * Invoke API by sending HTTP request with the given options, without waiting for the response.
+   * <p>
+   * The returned future completes with the response, or exceptionally with the {@link ApiException} or the
+   * {@link RuntimeException} that {@link #invokeAPI} would have thrown. The default implementation performs the call
+   * synchronously, in the calling thread, implementations relying on a non-blocking HTTP client should override it.
+   *
+   * @param <T> Type
+   * @param path The sub-path of the HTTP URL
+   * @param method The request method, one of "GET", "POST", "PUT", "HEAD" and "DELETE"
+   * @param queryParams The query parameters
+   * @param body The request body object
+   * @param headerParams The header parameters
+   * @param cookieParams The cookie parameters
+   * @param formParams The form parameters
+   * @param accept The request's Accept header
+   * @param contentType The request's Content-Type header
+   * @param authNames The authentications to apply
+   * @param returnType The return type into which to deserialize the response
+   * @return a future completed with the response
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  default <T> CompletableFuture<ApiResponse<T>> invokeAPIAsync(
+      String path,
+      String method,
+      List<Pair> queryParams,
+      Object body,
+      Map<String, String> headerParams,
+      Map<String, String> cookieParams,
+      Map<String, Object> formParams,
+      String accept,
+      String contentType,
+      String[] authNames,
+      TypeReference<T> returnType
+  ) {
+    try {
+      return CompletableFuture.completedFuture(this.invokeAPI(path, method, queryParams, body, headerParams,
+          cookieParams, formParams, accept, contentType, authNames, returnType));
+    } catch (ApiException | RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
   /**
    * Returns the API base path
    *
@@ -0,0 +1,35 @@
+package com.symphony.bdk.http.api;
+
+import com.symphony.bdk.http.api.util.TypeReference;
+
+import org.apiguardian.api.API;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Function performing an HTTP request, either {@link ApiClient#invokeAPI} or {@link ApiClient#invokeAPIAsync}.
+ * Used by generated code and the BDK services, so that a request is built once for both the blocking and the
+ * non-blocking calls.
+ *
+ * @param <T> the type into which to deserialize the response
+ * @param <R> the type returned by the invocation, the response itself or a future of the response
+ */
+@FunctionalInterface
+@API(status = API.Status.INTERNAL)
+public interface ApiInvoker<T, R> {
+
+  R invoke(
+      String path,
+      String method,
+      List<Pair> queryParams,
+      Object body,
+      Map<String, String> headerParams,
+      Map<String, String> cookieParams,
+      Map<String, Object> formParams,
+      String accept,
+      String contentType,
+      String[] authNames,
+      TypeReference<T> returnType
+  ) throws ApiException;
+}
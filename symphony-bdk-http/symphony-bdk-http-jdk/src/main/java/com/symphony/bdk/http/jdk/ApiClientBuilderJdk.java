@@ -0,0 +1,276 @@
+package com.symphony.bdk.http.jdk;
+
+import com.symphony.bdk.http.api.ApiClient;
+import com.symphony.bdk.http.api.ApiClientBuilder;
+import com.symphony.bdk.http.api.auth.Authentication;
+import com.symphony.bdk.http.api.util.ApiUtils;
+
+import org.apiguardian.api.API;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.Authenticator;
+import java.net.InetSocketAddress;
+import java.net.PasswordAuthentication;
+import java.net.ProxySelector;
+import java.net.http.HttpClient;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManagerFactory;
+
+/**
+ * Specific implementation of {@link ApiClientBuilder} which creates a new instance of an {@link ApiClientJdk}.
+ * <p>
+ * The underlying {@link HttpClient} prefers HTTP/2, so that calls to the same host are multiplexed over a single
+ * connection, and falls back to HTTP/1.1 when the server does not support it. Its tasks run on virtual threads when
+ * the JVM supports them.
+ * <p>
+ * Please note that the JDK disables the Basic authentication scheme for proxies tunneling HTTPS calls by default, the
+ * {@code jdk.http.auth.tunneling.disabledSchemes} system property has to be cleared to use proxy credentials.
+ *
+ * <p><b>Please note that overriding this class is an {@link org.apiguardian.api.API.Status#EXPERIMENTAL} feature that we
+ * offer to developers for {@link ApiClient} customization. The internal contract of this class (e.g. protected methods)
+ * is subject to changes in the future.</b>
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public class ApiClientBuilderJdk implements ApiClientBuilder {
+
+  private static final Logger log = LoggerFactory.getLogger(ApiClientBuilderJdk.class);
+
+  protected final Map<String, String> defaultHeaders;
+  protected String basePath;
+  protected byte[] keyStoreBytes;
+  protected String keyStorePassword;
+  protected byte[] trustStoreBytes;
+  protected String trustStorePassword;
+  protected int connectionTimeout;
+  protected int readTimeout;
+  protected String temporaryFolderPath;
+  protected String proxyHost;
+  protected int proxyPort;
+  protected String proxyUser;
+  protected String proxyPassword;
+  protected Map<String, Authentication> authentications;
+
+  public ApiClientBuilderJdk() {
+    this.basePath = "";
+    this.defaultHeaders = new HashMap<>();
+    this.connectionTimeout = DEFAULT_CONNECT_TIMEOUT;
+    this.readTimeout = DEFAULT_READ_TIMEOUT;
+    this.temporaryFolderPath = null;
+    this.proxyHost = null;
+    this.proxyPort = -1;
+    this.proxyUser = null;
+    this.proxyPassword = null;
+    this.authentications = new HashMap<>();
+    this.withUserAgent(ApiUtils.getUserAgent());
+  }
+
+  /**
+   * Specific implementation of {@link ApiClientBuilder#build()} which returns an {@link ApiClientJdk} instance.
+   */
+  @Override
+  public ApiClient build() {
+    final ApiClient apiClient = new ApiClientJdk(this.createHttpClient(), this.basePath, this.defaultHeaders,
+        Duration.ofMillis(this.readTimeout), this.temporaryFolderPath);
+    this.authentications.forEach(apiClient.getAuthentications()::put);
+    return apiClient;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ApiClientBuilder withBasePath(String basePath) {
+    this.basePath = basePath;
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ApiClientBuilder withUserAgent(String userAgent) {
+    withDefaultHeader("User-Agent", userAgent);
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ApiClientBuilder withKeyStore(byte[] keyStoreBytes, String keyStorePassword) {
+    this.keyStoreBytes = keyStoreBytes;
+    this.keyStorePassword = keyStorePassword;
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ApiClientBuilder withTrustStore(byte[] trustStoreBytes, String trustStorePassword) {
+    this.trustStoreBytes = trustStoreBytes;
+    this.trustStorePassword = trustStorePassword;
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ApiClientBuilder withDefaultHeader(String key, String value) {
+    this.defaultHeaders.put(key, value);
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ApiClientBuilder withTemporaryFolderPath(String temporaryFolderPath) {
+    this.temporaryFolderPath = temporaryFolderPath;
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ApiClientBuilder withConnectionTimeout(Integer connectionTimeout) {
+    this.connectionTimeout = connectionTimeout == null ? DEFAULT_CONNECT_TIMEOUT : connectionTimeout;
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The read timeout is applied as the maximum duration to wait for the response headers.
+   */
+  @Override
+  public ApiClientBuilder withReadTimeout(Integer readTimeout) {
+    this.readTimeout = readTimeout == null ? DEFAULT_READ_TIMEOUT : readTimeout;
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ApiClientBuilder withProxy(String proxyHost, int proxyPort) {
+    this.proxyHost = proxyHost;
+    this.proxyPort = proxyPort;
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ApiClientBuilder withProxyCredentials(String proxyUser, String proxyPassword) {
+    this.proxyUser = proxyUser;
+    this.proxyPassword = proxyPassword;
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ApiClientBuilder withAuthentication(String name, Authentication authentication) {
+    this.authentications.put(name, authentication);
+    return this;
+  }
+
+  @API(status = API.Status.EXPERIMENTAL)
+  protected HttpClient createHttpClient() {
+    final HttpClient.Builder builder = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_2)
+        .followRedirects(HttpClient.Redirect.NORMAL)
+        .connectTimeout(Duration.ofMillis(this.connectionTimeout))
+        .sslContext(this.createSSLContext());
+
+    final ExecutorService executor = this.createExecutor();
+    if (executor != null) {
+      builder.executor(executor);
+    }
+    if (this.proxyHost != null) {
+      this.configureProxy(builder);
+    }
+    return builder.build();
+  }
+
+  /**
+   * Creates the executor running the asynchronous tasks of the {@link HttpClient}, such as completing the futures
+   * returned by {@link ApiClientJdk#invokeAPIAsync}.
+   *
+   * @return an executor starting a new virtual thread for each task when available (Java 21+), null to keep the
+   * default executor of the {@link HttpClient} otherwise.
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  protected ExecutorService createExecutor() {
+    try {
+      return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (ReflectiveOperationException e) {
+      log.debug("Virtual threads are not available, using the default HttpClient executor");
+      return null;
+    }
+  }
+
+  @API(status = API.Status.EXPERIMENTAL)
+  protected SSLContext createSSLContext() {
+    try {
+      TrustManagerFactory trustManagerFactory = null;
+      if (this.trustStoreBytes != null) {
+        final KeyStore trustStore = KeyStore.getInstance(KeyStore.getDefaultType());
+        trustStore.load(new ByteArrayInputStream(this.trustStoreBytes), this.trustStorePassword.toCharArray());
+        ApiUtils.addDefaultRootCaCertificates(trustStore);
+        trustManagerFactory = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+        trustManagerFactory.init(trustStore);
+        ApiUtils.logTrustStore(trustStore);
+      }
+
+      KeyManagerFactory keyManagerFactory = null;
+      if (this.keyStoreBytes != null) {
+        final KeyStore keyStore = KeyStore.getInstance(KeyStore.getDefaultType());
+        keyStore.load(new ByteArrayInputStream(this.keyStoreBytes), this.keyStorePassword.toCharArray());
+        keyManagerFactory = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+        keyManagerFactory.init(keyStore, this.keyStorePassword.toCharArray());
+      }
+
+      final SSLContext sslContext = SSLContext.getInstance("TLS");
+      sslContext.init(keyManagerFactory == null ? null : keyManagerFactory.getKeyManagers(),
+          trustManagerFactory == null ? null : trustManagerFactory.getTrustManagers(), null);
+      return sslContext;
+    } catch (GeneralSecurityException | IOException e) {
+      throw new IllegalStateException(e.getMessage(), e);
+    }
+  }
+
+  @API(status = API.Status.EXPERIMENTAL)
+  protected void configureProxy(HttpClient.Builder builder) {
+    builder.proxy(ProxySelector.of(new InetSocketAddress(this.proxyHost, this.proxyPort)));
+    if (this.proxyUser != null) {
+      final PasswordAuthentication credentials =
+          new PasswordAuthentication(this.proxyUser, this.proxyPassword == null
+              ? new char[0]
+              : this.proxyPassword.toCharArray());
+      builder.authenticator(new Authenticator() {
+        @Override
+        protected PasswordAuthentication getPasswordAuthentication() {
+          return getRequestorType() == RequestorType.PROXY ? credentials : null;
+        }
+      });
+    }
+  }
+}
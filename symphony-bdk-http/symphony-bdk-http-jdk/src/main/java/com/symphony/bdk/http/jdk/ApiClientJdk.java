@@ -0,0 +1,626 @@
+package com.symphony.bdk.http.jdk;
+
+import com.symphony.bdk.http.api.ApiClient;
+import com.symphony.bdk.http.api.ApiClientBodyPart;
+import com.symphony.bdk.http.api.ApiException;
+import com.symphony.bdk.http.api.ApiResponse;
+import com.symphony.bdk.http.api.Pair;
+import com.symphony.bdk.http.api.auth.Authentication;
+import com.symphony.bdk.http.api.tracing.DistributedTracingContext;
+import com.symphony.bdk.http.api.util.TypeReference;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apiguardian.api.API;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.ConnectException;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.UnknownHostException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static com.symphony.bdk.http.api.util.ApiUtils.isCollectionOfApiClientBodyPart;
+import static com.symphony.bdk.http.api.util.ApiUtils.isCollectionOfFiles;
+
+/**
+ * Java {@link HttpClient} implementation for the {@link ApiClient} interface called by generated code.
+ * <p>
+ * Response bodies of synchronous calls are streamed: JSON payloads are deserialized while being read and downloaded
+ * files are copied to the disk without being loaded in memory. Asynchronous calls rely on {@link HttpClient#sendAsync}
+ * and only deserialize the response body once fully received, no thread is blocked while waiting for the response.
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public class ApiClientJdk implements ApiClient {
+
+  private static final List<String> ALLOWED_METHODS =
+      Arrays.asList("GET", "HEAD", "POST", "PUT", "PATCH", "DELETE", "OPTIONS", "TRACE");
+  private static final Pattern FILENAME_PATTERN = Pattern.compile("filename=['\"]?([^'\"\\s]+)['\"]?");
+
+  protected final HttpClient httpClient;
+  protected final String basePath;
+  protected final Map<String, String> defaultHeaderMap;
+  protected final Duration readTimeout;
+  protected final String tempFolderPath;
+  protected final ObjectMapper objectMapper;
+  protected Map<String, Authentication> authentications;
+  protected List<String> enforcedAuthenticationSchemes;
+
+  public ApiClientJdk(final HttpClient httpClient, String basePath, Map<String, String> defaultHeaders,
+      Duration readTimeout, String tempFolderPath) {
+    this.httpClient = httpClient;
+    this.basePath = basePath;
+    this.defaultHeaderMap = new HashMap<>(defaultHeaders);
+    this.readTimeout = readTimeout;
+    this.tempFolderPath = tempFolderPath;
+    this.objectMapper = new JSON().getMapper();
+    this.authentications = new HashMap<>();
+    this.enforcedAuthenticationSchemes = new ArrayList<>();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> ApiResponse<T> invokeAPI(
+      final String path,
+      final String method,
+      final List<Pair> queryParams,
+      final Object body,
+      final Map<String, String> headerParams,
+      final Map<String, String> cookieParams,
+      final Map<String, Object> formParams,
+      final String accept,
+      final String contentType,
+      final String[] authNames,
+      final TypeReference<T> returnType
+  ) throws ApiException {
+
+    boolean clearTraceId = false;
+
+    if (!DistributedTracingContext.hasTraceId()) {
+      DistributedTracingContext.setTraceId();
+      clearTraceId = true;
+    }
+
+    try {
+      final HttpRequest request = this.buildRequest(path, method, queryParams, body, headerParams, cookieParams,
+          formParams, accept, contentType, authNames);
+      final HttpResponse<InputStream> response =
+          this.httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+      return this.toApiResponse(returnType, response, response.body());
+    } catch (IOException e) {
+      throw toUncheckedIOException(e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ApiException("Interrupted while waiting for the response", e);
+    } finally {
+      if (clearTraceId) {
+        DistributedTracingContext.clear();
+      }
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The request is performed by {@link HttpClient#sendAsync}, no thread is blocked while waiting for the response.
+   * The response body is received in memory before being deserialized, so that reading it cannot block the thread
+   * completing the returned future.
+   */
+  @Override
+  public <T> CompletableFuture<ApiResponse<T>> invokeAPIAsync(
+      final String path,
+      final String method,
+      final List<Pair> queryParams,
+      final Object body,
+      final Map<String, String> headerParams,
+      final Map<String, String> cookieParams,
+      final Map<String, Object> formParams,
+      final String accept,
+      final String contentType,
+      final String[] authNames,
+      final TypeReference<T> returnType
+  ) {
+
+    // the trace id is only needed to build the request, which is performed on another thread
+    boolean clearTraceId = false;
+
+    if (!DistributedTracingContext.hasTraceId()) {
+      DistributedTracingContext.setTraceId();
+      clearTraceId = true;
+    }
+
+    try {
+      final HttpRequest request = this.buildRequest(path, method, queryParams, body, headerParams, cookieParams,
+          formParams, accept, contentType, authNames);
+      final CompletableFuture<ApiResponse<T>> result = new CompletableFuture<>();
+      this.httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray()).whenComplete((response, error) -> {
+        if (error != null) {
+          result.completeExceptionally(toApiClientException(error));
+          return;
+        }
+        try {
+          result.complete(this.toApiResponse(returnType, response, new ByteArrayInputStream(response.body())));
+        } catch (ApiException | RuntimeException e) {
+          result.completeExceptionally(e);
+        }
+      });
+      return result;
+    } catch (ApiException | RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    } finally {
+      if (clearTraceId) {
+        DistributedTracingContext.clear();
+      }
+    }
+  }
+
+  protected HttpRequest buildRequest(
+      final String path,
+      final String method,
+      final List<Pair> queryParams,
+      final Object body,
+      final Map<String, String> headerParams,
+      final Map<String, String> cookieParams,
+      final Map<String, Object> formParams,
+      final String accept,
+      final String contentType,
+      final String[] authNames
+  ) throws ApiException {
+
+    if (method == null || !ALLOWED_METHODS.contains(method)) {
+      throw new ApiException(500, "unknown method type " + method);
+    }
+
+    this.updateParamsForAuth(authNames, headerParams);
+
+    final HttpRequest.Builder builder = HttpRequest.newBuilder(this.buildUri(path, queryParams))
+        .timeout(this.readTimeout);
+
+    if (accept != null && !accept.isEmpty()) {
+      builder.header("Accept", accept);
+    }
+
+    builder.header(DistributedTracingContext.TRACE_ID, DistributedTracingContext.getTraceId());
+
+    if (headerParams != null) {
+      for (Map.Entry<String, String> headerParam : headerParams.entrySet()) {
+        String value = headerParam.getValue();
+        if (value != null) {
+          builder.header(headerParam.getKey(), value);
+        }
+      }
+    }
+
+    if (cookieParams != null) {
+      final StringJoiner cookies = new StringJoiner("; ");
+      for (Map.Entry<String, String> cookieParam : cookieParams.entrySet()) {
+        String value = cookieParam.getValue();
+        if (value != null) {
+          cookies.add(cookieParam.getKey() + "=" + value);
+        }
+      }
+      if (cookies.length() > 0) {
+        builder.header("Cookie", cookies.toString());
+      }
+    }
+
+    // apply default headers, that can be set from config.yaml
+    for (Map.Entry<String, String> defaultHeaderParam : this.defaultHeaderMap.entrySet()) {
+      String key = defaultHeaderParam.getKey();
+      if (headerParams == null || !headerParams.containsKey(key)) {
+        String value = defaultHeaderParam.getValue();
+        if (value != null) {
+          builder.header(key, value);
+        }
+      }
+    }
+
+    HttpRequest.BodyPublisher bodyPublisher = HttpRequest.BodyPublishers.noBody();
+    String bodyContentType = contentType;
+    if (body != null) {
+      bodyPublisher = this.serializeBody(body);
+    } else if (formParams != null && contentType != null) {
+      if (contentType.startsWith("multipart/form-data")) {
+        final MultipartBody multipartBody = this.serializeMultiPartData(formParams);
+        bodyPublisher = multipartBody.build();
+        bodyContentType = multipartBody.getContentType();
+      } else if (contentType.startsWith("application/x-www-form-urlencoded")) {
+        final StringJoiner form = new StringJoiner("&");
+        for (Map.Entry<String, Object> param : formParams.entrySet()) {
+          form.add(this.escapeString(param.getKey()) + "=" + this.escapeString(parameterToString(param.getValue())));
+        }
+        bodyPublisher = HttpRequest.BodyPublishers.ofString(form.toString(), StandardCharsets.UTF_8);
+      }
+    }
+
+    if (bodyContentType != null && bodyPublisher.contentLength() != 0) {
+      builder.header("Content-Type", bodyContentType);
+    }
+
+    return builder.method(method, bodyPublisher).build();
+  }
+
+  private URI buildUri(String path, List<Pair> queryParams) {
+    final StringBuilder uri = new StringBuilder(this.basePath).append(path);
+    if (queryParams != null) {
+      char separator = path.contains("?") ? '&' : '?';
+      for (Pair queryParam : queryParams) {
+        if (queryParam.getValue() != null) {
+          uri.append(separator)
+              .append(this.escapeString(queryParam.getName()))
+              .append('=')
+              .append(this.escapeString(queryParam.getValue()));
+          separator = '&';
+        }
+      }
+    }
+    return URI.create(uri.toString());
+  }
+
+  private HttpRequest.BodyPublisher serializeBody(Object body) throws ApiException {
+    if (body instanceof String) {
+      return HttpRequest.BodyPublishers.ofString((String) body, StandardCharsets.UTF_8);
+    } else if (body instanceof byte[]) {
+      return HttpRequest.BodyPublishers.ofByteArray((byte[]) body);
+    } else if (body instanceof File) {
+      try {
+        return HttpRequest.BodyPublishers.ofFile(((File) body).toPath());
+      } catch (FileNotFoundException e) {
+        throw new ApiException("Unable to read file " + body, e);
+      }
+    }
+    try {
+      return HttpRequest.BodyPublishers.ofByteArray(this.objectMapper.writeValueAsBytes(body));
+    } catch (JsonProcessingException e) {
+      throw new ApiException("Unable to serialize request body", e);
+    }
+  }
+
+  private MultipartBody serializeMultiPartData(Map<String, Object> formParams) throws ApiException {
+    final MultipartBody multipartBody = new MultipartBody();
+    try {
+      for (Map.Entry<String, Object> param : formParams.entrySet()) {
+        serializeMultiPartDataEntry(param.getKey(), param.getValue(), multipartBody);
+      }
+    } catch (FileNotFoundException e) {
+      throw new ApiException("Unable to read multipart file", e);
+    }
+    return multipartBody;
+  }
+
+  private void serializeMultiPartDataEntry(String paramKey, Object paramValue, MultipartBody multipartBody)
+      throws FileNotFoundException {
+    if (paramValue instanceof File) {
+      multipartBody.addFile(paramKey, (File) paramValue);
+    } else if (isCollectionOfFiles(paramValue)) {
+      for (Object file : (Collection<?>) paramValue) {
+        multipartBody.addFile(paramKey, (File) file);
+      }
+    } else if (paramValue instanceof ApiClientBodyPart[]) {
+      for (ApiClientBodyPart bodyPart : (ApiClientBodyPart[]) paramValue) {
+        multipartBody.addBodyPart(paramKey, bodyPart);
+      }
+    } else if (paramValue instanceof ApiClientBodyPart) {
+      multipartBody.addBodyPart(paramKey, (ApiClientBodyPart) paramValue);
+    } else if (isCollectionOfApiClientBodyPart(paramValue)) {
+      for (Object o : (Collection<?>) paramValue) {
+        multipartBody.addBodyPart(paramKey, (ApiClientBodyPart) o);
+      }
+    } else {
+      multipartBody.addField(paramKey, parameterToString(paramValue));
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> ApiResponse<T> toApiResponse(TypeReference<T> returnType, HttpResponse<?> response,
+      InputStream responseBody) throws ApiException {
+    final int statusCode = response.statusCode();
+    final Map<String, List<String>> headers = response.headers().map();
+
+    try (InputStream body = responseBody) {
+      if (statusCode == 204 || (statusCode / 100 == 2 && returnType == null)) {
+        return new ApiResponse<>(statusCode, headers);
+      } else if (statusCode / 100 == 2) {
+        if (returnType.getType() == String.class) {
+          return new ApiResponse<>(statusCode, headers, (T) new String(body.readAllBytes(), StandardCharsets.UTF_8));
+        } else if (returnType.getType() == byte[].class) {
+          return new ApiResponse<>(statusCode, headers, (T) body.readAllBytes());
+        } else if (returnType.getType() == File.class) {
+          return new ApiResponse<>(statusCode, headers, (T) this.downloadFileFromResponse(response, body));
+        }
+        return new ApiResponse<>(statusCode, headers,
+            this.objectMapper.readValue(body, this.objectMapper.constructType(returnType.getType())));
+      } else {
+        final String respBody = new String(body.readAllBytes(), StandardCharsets.UTF_8);
+        throw new ApiException(statusCode, respBody.isEmpty() ? "error" : respBody, headers, respBody);
+      }
+    } catch (IOException e) {
+      throw new ApiException(statusCode, e);
+    }
+  }
+
+  /**
+   * Download file from the given response.
+   *
+   * @param response Response
+   * @param body     Response body
+   * @return File
+   * @throws IOException If fail to read file content from response and write to disk
+   */
+  protected File downloadFileFromResponse(HttpResponse<?> response, InputStream body) throws IOException {
+    final File file = this.prepareDownloadFile(response);
+    Files.copy(body, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    return file;
+  }
+
+  protected File prepareDownloadFile(HttpResponse<?> response) throws IOException {
+    String filename = null;
+    String contentDisposition = response.headers().firstValue("Content-Disposition").orElse(null);
+    if (contentDisposition != null && !"".equals(contentDisposition)) {
+      // Get filename from the Content-Disposition header.
+      Matcher matcher = FILENAME_PATTERN.matcher(contentDisposition);
+      if (matcher.find()) {
+        filename = matcher.group(1);
+      }
+    }
+
+    String prefix;
+    String suffix = null;
+    if (filename == null) {
+      prefix = "download-";
+      suffix = "";
+    } else {
+      int pos = filename.lastIndexOf('.');
+      if (pos == -1) {
+        prefix = filename + "-";
+      } else {
+        prefix = filename.substring(0, pos) + "-";
+        suffix = filename.substring(pos);
+      }
+      // File.createTempFile requires the prefix to be at least three characters long
+      if (prefix.length() < 3) {
+        prefix = "download-";
+      }
+    }
+
+    if (this.tempFolderPath == null) {
+      return File.createTempFile(prefix, suffix);
+    } else {
+      return File.createTempFile(prefix, suffix, new File(this.tempFolderPath));
+    }
+  }
+
+  private static Throwable toApiClientException(Throwable error) {
+    final Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    return cause instanceof IOException ? toUncheckedIOException((IOException) cause) : cause;
+  }
+
+  /**
+   * Maps the errors of the {@link HttpClient} so that they are retried as the ones of the other implementations:
+   * timeouts, including connection ones, are reported as {@link SocketTimeoutException} and other network issues
+   * as {@link SocketException} unless they are already a {@link ConnectException} or an {@link UnknownHostException}.
+   */
+  private static UncheckedIOException toUncheckedIOException(IOException e) {
+    if (e instanceof HttpTimeoutException) {
+      final SocketTimeoutException timeout = new SocketTimeoutException(e.getMessage());
+      timeout.initCause(e);
+      return new UncheckedIOException(e.getMessage(), timeout);
+    }
+    if (e instanceof SocketException || e instanceof UnknownHostException) {
+      return new UncheckedIOException(e);
+    }
+    final SocketException socketException = new SocketException(e.getMessage());
+    socketException.initCause(e);
+    return new UncheckedIOException(e.getMessage(), socketException);
+  }
+
+  /**
+   * Update query and header parameters based on authentication settings.
+   *
+   * @param authNames The authentications to apply
+   */
+  private void updateParamsForAuth(String[] authNames, Map<String, String> headerParams) throws ApiException {
+
+    if (authNames == null && this.enforcedAuthenticationSchemes.isEmpty()) {
+      return;
+    }
+    authNames = withEnforcedSecurityScheme(authNames);
+    for (String authName : authNames) {
+      Authentication auth = this.authentications.get(authName);
+      if (auth == null) {
+        throw new RuntimeException("Authentication undefined: " + authName);
+      }
+      auth.apply(headerParams);
+    }
+  }
+
+  private String[] withEnforcedSecurityScheme(String[] authNames) {
+    if (authNames == null) {
+      authNames = new String[0];
+    }
+
+    return Stream.concat(this.enforcedAuthenticationSchemes.stream(), Arrays.stream(authNames)).toArray(String[]::new);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getBasePath() {
+    return this.basePath;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String parameterToString(Object param) {
+    if (param == null) {
+      return "";
+    } else if (param instanceof Collection) {
+      StringBuilder b = new StringBuilder();
+      for (Object o : (Collection<?>) param) {
+        if (b.length() > 0) {
+          b.append(',');
+        }
+        b.append(o);
+      }
+      return b.toString();
+    } else {
+      return String.valueOf(param);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public List<Pair> parameterToPairs(String collectionFormat, String name, Object value) {
+    List<Pair> params = new ArrayList<>();
+
+    // preconditions
+    if (name == null || name.isEmpty() || value == null) {
+      return params;
+    }
+
+    Collection<?> valueCollection;
+    if (value instanceof Collection) {
+      valueCollection = (Collection<?>) value;
+    } else {
+      params.add(new Pair(name, parameterToString(value)));
+      return params;
+    }
+
+    if (valueCollection.isEmpty()) {
+      return params;
+    }
+
+    // get the collection format (default: csv)
+    String format = (collectionFormat == null || collectionFormat.isEmpty() ? "csv" : collectionFormat);
+
+    // create the params based on the collection format
+    if ("multi".equals(format)) {
+      for (Object item : valueCollection) {
+        params.add(new Pair(name, parameterToString(item)));
+      }
+
+      return params;
+    }
+
+    String delimiter = ",";
+
+    switch (format) {
+      case "csv":
+        delimiter = ",";
+        break;
+      case "ssv":
+        delimiter = " ";
+        break;
+      case "tsv":
+        delimiter = "\t";
+        break;
+      case "pipes":
+        delimiter = "|";
+        break;
+    }
+
+    StringBuilder sb = new StringBuilder();
+    for (Object item : valueCollection) {
+      sb.append(delimiter);
+      sb.append(parameterToString(item));
+    }
+
+    params.add(new Pair(name, sb.substring(1)));
+
+    return params;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String selectHeaderAccept(String[] accepts) {
+    if (accepts.length == 0) {
+      return null;
+    }
+    for (String accept : accepts) {
+      if (isJsonMime(accept)) {
+        return accept;
+      }
+    }
+    return String.join(",", accepts);
+  }
+
+  protected boolean isJsonMime(String mime) {
+    String jsonMime = "(?i)^(application/json|[^;/ \t]+/[^;/ \t]+[+]json)[ \t]*(;.*)?$";
+    return mime != null && (mime.matches(jsonMime) || mime.equals("*/*"));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String selectHeaderContentType(String[] contentTypes) {
+    if (contentTypes.length == 0) {
+      return "application/json";
+    }
+    for (String contentType : contentTypes) {
+      if (isJsonMime(contentType)) {
+        return contentType;
+      }
+    }
+    return contentTypes[0];
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String escapeString(String str) {
+    return URLEncoder.encode(str, StandardCharsets.UTF_8).replaceAll("\\+", "%20");
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Map<String, Authentication> getAuthentications() {
+    return this.authentications;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void addEnforcedAuthenticationScheme(String name) {
+    this.enforcedAuthenticationSchemes.add(name);
+  }
+}
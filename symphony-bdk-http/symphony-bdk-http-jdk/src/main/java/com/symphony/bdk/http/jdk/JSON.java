@@ -0,0 +1,37 @@
+package com.symphony.bdk.http.jdk;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.util.StdDateFormat;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.apiguardian.api.API;
+import org.openapitools.jackson.nullable.JsonNullableModule;
+
+/**
+ * Holds the {@link ObjectMapper} used by {@link ApiClientJdk} to (de)serialize the request and response bodies,
+ * configured as the one used by the Jersey2 implementation.
+ */
+@API(status = API.Status.INTERNAL)
+public class JSON {
+
+  private final ObjectMapper mapper;
+
+  public JSON() {
+    this.mapper = new ObjectMapper();
+    this.mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+    this.mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    this.mapper.configure(DeserializationFeature.FAIL_ON_INVALID_SUBTYPE, false);
+    this.mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    this.mapper.enable(SerializationFeature.WRITE_ENUMS_USING_TO_STRING);
+    this.mapper.enable(DeserializationFeature.READ_ENUMS_USING_TO_STRING);
+    this.mapper.setDateFormat(new StdDateFormat().withColonInTimeZone(true));
+    this.mapper.registerModule(new JavaTimeModule());
+    this.mapper.registerModule(new JsonNullableModule());
+  }
+
+  public ObjectMapper getMapper() {
+    return this.mapper;
+  }
+}
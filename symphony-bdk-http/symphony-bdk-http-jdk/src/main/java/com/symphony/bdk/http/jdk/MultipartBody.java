@@ -0,0 +1,78 @@
+package com.symphony.bdk.http.jdk;
+
+import com.symphony.bdk.http.api.ApiClientBodyPart;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Builds a multipart/form-data request body whose parts are streamed, files and {@link ApiClientBodyPart} contents
+ * being read while the request is sent rather than loaded in memory.
+ */
+class MultipartBody {
+
+  private static final String CRLF = "\r\n";
+
+  private final String boundary;
+  private final List<HttpRequest.BodyPublisher> publishers;
+
+  MultipartBody() {
+    this.boundary = "Boundary_" + UUID.randomUUID().toString().replace("-", "");
+    this.publishers = new ArrayList<>();
+  }
+
+  String getContentType() {
+    return "multipart/form-data; boundary=" + this.boundary;
+  }
+
+  MultipartBody addField(String name, String value) {
+    this.addPartHeader(name, null, "text/plain; charset=UTF-8");
+    this.publishers.add(HttpRequest.BodyPublishers.ofString(value, StandardCharsets.UTF_8));
+    return this.addString(CRLF);
+  }
+
+  MultipartBody addFile(String name, File file) throws FileNotFoundException {
+    final HttpRequest.BodyPublisher content = HttpRequest.BodyPublishers.ofFile(file.toPath());
+    this.addPartHeader(name, file.getName(), "application/octet-stream");
+    this.publishers.add(content);
+    return this.addString(CRLF);
+  }
+
+  MultipartBody addBodyPart(String name, ApiClientBodyPart bodyPart) {
+    this.addPartHeader(name, bodyPart.getFilename(), "application/octet-stream");
+    this.publishers.add(HttpRequest.BodyPublishers.ofInputStream(bodyPart::getContent));
+    return this.addString(CRLF);
+  }
+
+  HttpRequest.BodyPublisher build() {
+    this.addString("--" + this.boundary + "--" + CRLF);
+    return HttpRequest.BodyPublishers.concat(this.publishers.toArray(new HttpRequest.BodyPublisher[0]));
+  }
+
+  private void addPartHeader(String name, String filename, String contentType) {
+    final StringBuilder header = new StringBuilder()
+        .append("--").append(this.boundary).append(CRLF)
+        .append("Content-Disposition: form-data; name=\"").append(escape(name)).append('"');
+    if (filename != null) {
+      header.append("; filename=\"").append(escape(filename)).append('"');
+    }
+    header.append(CRLF)
+        .append("Content-Type: ").append(contentType).append(CRLF)
+        .append(CRLF);
+    this.addString(header.toString());
+  }
+
+  private MultipartBody addString(String value) {
+    this.publishers.add(HttpRequest.BodyPublishers.ofString(value, StandardCharsets.UTF_8));
+    return this;
+  }
+
+  private static String escape(String value) {
+    return value.replace("\"", "%22").replace("\r", "%0D").replace("\n", "%0A");
+  }
+}
@@ -0,0 +1,111 @@
+package com.symphony.bdk.http.jdk;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.symphony.bdk.http.api.ApiClient;
+import com.symphony.bdk.http.api.util.ApiUtils;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+
+public class ApiClientBuilderJdkTest {
+
+  private ApiClientBuilderJdk builder;
+  private byte[] truststore;
+  private byte[] keystore;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    this.builder = new ApiClientBuilderJdk();
+    this.builder.withBasePath("test-base-path");
+    this.builder.withDefaultHeader("sessionToken", "default-session-token");
+    this.builder.withUserAgent("test-user-agent");
+    this.builder.withTemporaryFolderPath("temp-path");
+    this.builder.withConnectionTimeout(20_000);
+    this.builder.withReadTimeout(30_000);
+    this.builder.withProxy("proxy.symphony.com", 1234);
+    this.builder.withProxyCredentials("user", "password");
+
+    this.truststore = readResource("/certs/all_symphony_certs_truststore");
+    this.keystore = readResource("/certs/identity.p12");
+  }
+
+  @Test
+  void buildTest() {
+    Logger logger = (Logger) LoggerFactory.getLogger(ApiUtils.class);
+    logger.setLevel(Level.DEBUG);
+    ListAppender<ILoggingEvent> listAppender = new ListAppender<>();
+    listAppender.start();
+    logger.addAppender(listAppender);
+
+    builder.withTrustStore(truststore, "changeit");
+    builder.withKeyStore(keystore, "password");
+
+    ApiClient apiClient = builder.build();
+
+    assertEquals(apiClient.getClass(), ApiClientJdk.class);
+    assertEquals(apiClient.getBasePath(), "test-base-path");
+
+    // assert logs about truststore entries
+    List<ILoggingEvent> logsList = listAppender.list;
+    assertFalse(logsList.isEmpty(), "The list of log entries should not be empty");
+    assertEquals("Loading {} from truststore", logsList.get(0).getMessage(),
+        "The list of logs should have at least on entry about one loaded cert");
+    assertEquals(Level.DEBUG, logsList.get(0).getLevel(), "The entry level should be DEBUG");
+  }
+
+  @Test
+  void buildTestWithKeyStoreWrongPassword() {
+    builder.withTrustStore(truststore, "changeit");
+    builder.withKeyStore(keystore, "wrongPassword");
+
+    assertThrows(RuntimeException.class, this.builder::build);
+  }
+
+  @Test
+  void createHttpClientTest() {
+    HttpClient httpClient = builder.createHttpClient();
+
+    assertEquals(HttpClient.Version.HTTP_2, httpClient.version());
+    assertEquals(HttpClient.Redirect.NORMAL, httpClient.followRedirects());
+    assertEquals(Duration.ofMillis(20_000), httpClient.connectTimeout().orElseThrow());
+    assertTrue(httpClient.authenticator().isPresent());
+
+    InetSocketAddress proxyAddress = (InetSocketAddress) httpClient.proxy().orElseThrow()
+        .select(URI.create("https://symphony.com")).get(0).address();
+    assertEquals("proxy.symphony.com", proxyAddress.getHostString());
+    assertEquals(1234, proxyAddress.getPort());
+  }
+
+  @Test
+  void createHttpClientWithoutProxyTest() {
+    builder.withProxy(null, -1);
+
+    HttpClient httpClient = builder.createHttpClient();
+
+    assertFalse(httpClient.proxy().isPresent());
+    assertFalse(httpClient.authenticator().isPresent());
+  }
+
+  private static byte[] readResource(String path) throws IOException {
+    try (InputStream inputStream = ApiClientBuilderJdkTest.class.getResourceAsStream(path)) {
+      return inputStream.readAllBytes();
+    }
+  }
+}
@@ -0,0 +1,19 @@
+package com.symphony.bdk.http.jdk;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.symphony.bdk.http.api.ApiClientBuilder;
+
+import org.junit.jupiter.api.Test;
+
+public class ApiClientBuilderProviderTest {
+
+  private final ApiClientBuilderProviderJdk provider = new ApiClientBuilderProviderJdk();
+
+  @Test
+  void newInstanceTest() {
+    ApiClientBuilder builder = provider.newInstance();
+
+    assertEquals(builder.getClass(), ApiClientBuilderJdk.class);
+  }
+}
@@ -0,0 +1,606 @@
+package com.symphony.bdk.http.jdk;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+
+import com.symphony.bdk.http.api.ApiClient;
+import com.symphony.bdk.http.api.ApiClientBodyPart;
+import com.symphony.bdk.http.api.ApiException;
+import com.symphony.bdk.http.api.ApiResponse;
+import com.symphony.bdk.http.api.Pair;
+import com.symphony.bdk.http.api.tracing.DistributedTracingContext;
+import com.symphony.bdk.http.api.util.TypeReference;
+import com.symphony.bdk.http.jdk.test.BdkMockServer;
+import com.symphony.bdk.http.jdk.test.BdkMockServerExtension;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockserver.matchers.MatchType;
+import org.mockserver.model.Header;
+import org.mockserver.model.JsonBody;
+import org.mockserver.model.Parameter;
+import org.mockserver.model.ParameterBody;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+@ExtendWith(BdkMockServerExtension.class)
+class ApiClientJdkTest {
+
+  private static final String APPLICATION_JSON = "application/json";
+  private static final String APPLICATION_FORM_URLENCODED = "application/x-www-form-urlencoded";
+  private static final String MULTIPART_FORM_DATA = "multipart/form-data";
+
+  private ApiClient apiClient;
+
+  @BeforeEach
+  void setUp(final BdkMockServer mockServer) {
+
+    this.apiClient = mockServer.newApiClient("");
+    this.apiClient.getAuthentications().put("testAuth", headerParams -> headerParams.put("Authorization", "test"));
+  }
+
+  @Test
+  void testInvokeApiNullMethod() {
+    assertThrows(ApiException.class, () -> this.apiClient.invokeAPI("/test-api", null, null, null,
+        Collections.singletonMap("sessionToken", "test-token"),
+        null, null, null, null, new String[] {}, new TypeReference<Response>() {}));
+  }
+
+  @Test
+  void testInvokeApiTest(final BdkMockServer mockServer) throws ApiException {
+    mockServer.onRequestModifierWithResponse(200,
+        httpRequest -> httpRequest
+            .withMethod("GET")
+            .withPath("/test-api")
+            .withHeader("sessionToken", "test-token")
+            .withHeader("Authorization", "test"),
+        httpResponse -> httpResponse.withBody("{\"code\": 200, \"message\": \"success\"}"));
+
+    final Map<String, String> headers = new HashMap<>();
+    headers.put("sessionToken", "test-token");
+    this.apiClient.addEnforcedAuthenticationScheme("testAuth");
+    ApiResponse<Response> response =
+        this.apiClient.invokeAPI("/test-api", "GET", null, null, headers,
+            null, null, null, "application/json", new String[] { "testAuth" }, new TypeReference<Response>() {});
+
+    assertTrue(this.apiClient.getBasePath().startsWith("http://localhost:"));
+    assertEquals(200, response.getData().getCode());
+    assertEquals("success", response.getData().getMessage());
+  }
+
+  @Test
+  void testInvokeApiTest2xx(final BdkMockServer mockServer) throws ApiException {
+    mockServer.onRequestModifierWithResponse(201,
+        httpRequest -> httpRequest
+            .withMethod("GET")
+            .withPath("/test-api")
+            .withHeader("sessionToken", "test-token"),
+        httpResponse -> httpResponse.withBody("{\"code\": 201, \"message\": \"success\"}"));
+
+    ApiResponse<Response> response =
+        this.apiClient.invokeAPI("/test-api", "GET", null, null, Collections.singletonMap("sessionToken", "test-token"),
+            null, null, null, "application/json", new String[] {}, new TypeReference<Response>() {});
+
+    assertTrue(this.apiClient.getBasePath().startsWith("http://localhost:"));
+    assertEquals(201, response.getData().getCode());
+    assertEquals("success", response.getData().getMessage());
+  }
+
+  @Test
+  void testInvokeApiExceptionTest(final BdkMockServer mockServer) {
+    mockServer.onRequestModifierWithResponse(400,
+        httpRequest -> httpRequest
+            .withMethod("GET")
+            .withPath("/test-api")
+            .withHeader("sessionToken", "test-token"),
+        httpResponse -> httpResponse.withBody("test-error"));
+
+    assertThrows(ApiException.class, () -> this.apiClient.invokeAPI("/test-api", "GET", null, null,
+        Collections.singletonMap("sessionToken", "test-token"),
+        null, null, null, "application/json", new String[] {}, new TypeReference<Response>() {}));
+  }
+
+  @Test
+  void testInvokeApiAsyncTest(final BdkMockServer mockServer) throws Exception {
+    mockServer.onRequestModifierWithResponse(200,
+        httpRequest -> httpRequest
+            .withMethod("GET")
+            .withPath("/test-api")
+            .withHeader("sessionToken", "test-token"),
+        httpResponse -> httpResponse.withBody("{\"code\": 200, \"message\": \"success\"}"));
+
+    CompletableFuture<ApiResponse<Response>> future =
+        this.apiClient.invokeAPIAsync("/test-api", "GET", null, null,
+            Collections.singletonMap("sessionToken", "test-token"), null, null, null, "application/json",
+            new String[] {}, new TypeReference<Response>() {});
+
+    ApiResponse<Response> response = future.get(5, TimeUnit.SECONDS);
+    assertEquals(200, response.getData().getCode());
+    assertEquals("success", response.getData().getMessage());
+  }
+
+  @Test
+  void testInvokeApiAsyncExceptionTest(final BdkMockServer mockServer) {
+    mockServer.onRequestModifierWithResponse(400,
+        httpRequest -> httpRequest
+            .withMethod("GET")
+            .withPath("/test-api")
+            .withHeader("sessionToken", "test-token"),
+        httpResponse -> httpResponse.withBody("test-error"));
+
+    CompletableFuture<ApiResponse<Response>> future =
+        this.apiClient.invokeAPIAsync("/test-api", "GET", null, null,
+            Collections.singletonMap("sessionToken", "test-token"), null, null, null, "application/json",
+            new String[] {}, new TypeReference<Response>() {});
+
+    ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+    assertTrue(exception.getCause() instanceof ApiException);
+    assertEquals(400, ((ApiException) exception.getCause()).getCode());
+  }
+
+  @Test
+  void testInvokeApiAsyncNullMethod() {
+    CompletableFuture<ApiResponse<Response>> future = this.apiClient.invokeAPIAsync("/test-api", null, null, null,
+        Collections.singletonMap("sessionToken", "test-token"), null, null, null, null, new String[] {},
+        new TypeReference<Response>() {});
+
+    assertTrue(future.isCompletedExceptionally());
+  }
+
+  @Test
+  void testInvokeApiParameterizedTypeTest(final BdkMockServer mockServer) throws ApiException {
+    mockServer.onRequestModifierWithResponse(200,
+        httpRequest -> httpRequest
+            .withMethod("GET")
+            .withPath("/test-api")
+            .withHeader("sessionToken", "test-token"),
+        httpResponse -> httpResponse.withBody("[{\"code\": 200, \"message\": \"success\"}]"));
+
+    ApiResponse<List<Response>> response =
+        this.apiClient.invokeAPI("/test-api", "GET", null, null, Collections.singletonMap("sessionToken", "test-token"),
+            null, null, null, "application/json", new String[] {}, new TypeReference<List<Response>>() {});
+
+    assertEquals(1, response.getData().size());
+    assertEquals(200, response.getData().get(0).getCode());
+    assertEquals("success", response.getData().get(0).getMessage());
+  }
+
+  @Test
+  void testInvokeApiNoContentTest(final BdkMockServer mockServer) throws ApiException {
+    mockServer.onRequestModifierWithResponse(204,
+        httpRequest -> httpRequest
+            .withMethod("GET")
+            .withPath("/test-api")
+            .withHeader("sessionToken", "test-token"),
+        httpResponse -> httpResponse.withBody(""));
+
+    ApiResponse<Response> response =
+        this.apiClient.invokeAPI("/test-api", "GET", null, null, Collections.singletonMap("sessionToken", "test-token"),
+            null, null, null, "application/json", new String[] {}, new TypeReference<Response>() {});
+
+    assertEquals(204, response.getStatusCode());
+    assertNull(response.getData());
+  }
+
+  @Test
+  void testInvokeApiNoReturnTypeTest(final BdkMockServer mockServer) throws ApiException {
+    mockServer.onRequestModifierWithResponse(200,
+        httpRequest -> httpRequest
+            .withMethod("GET")
+            .withPath("/test-api")
+            .withHeader("sessionToken", "test-token"),
+        httpResponse -> httpResponse.withBody(""));
+
+    ApiResponse<?> response =
+        this.apiClient.invokeAPI("/test-api", "GET", null, null, Collections.singletonMap("sessionToken", "test-token"),
+            null, null, null, "application/json", new String[] {}, null);
+
+    assertEquals(200, response.getStatusCode());
+    assertNull(response.getData());
+  }
+
+  @Test
+  void testInvokeApiWithQueryParamsTest(final BdkMockServer mockServer) throws ApiException {
+    mockServer.onRequestModifierWithResponse(200,
+        httpRequest -> httpRequest
+            .withMethod("GET")
+            .withPath("/test-api")
+            .withQueryStringParameter("param", "test-param")
+            .withHeader("sessionToken", "test-token")
+            .withCookie("cookie", "test-cookie"),
+        httpResponse -> httpResponse.withBody("{\"code\": 200, \"message\": \"success\"}"));
+
+    ApiResponse<Response> response =
+        this.apiClient.invokeAPI("/test-api", "GET", Collections.singletonList(new Pair("param", "test-param")), null,
+            Collections.singletonMap("sessionToken", "test-token"),
+            Collections.singletonMap("cookie", "test-cookie"), null, null, "application/json", new String[] {},
+            new TypeReference<Response>() {});
+
+    assertEquals(200, response.getData().getCode());
+    assertEquals("success", response.getData().getMessage());
+  }
+
+  @Test
+  void testInvokeApiQueryParamsEncoded(final BdkMockServer mockServer) throws ApiException {
+    mockServer.onRequestModifierWithResponse(200,
+        httpRequest -> httpRequest
+            .withMethod("GET")
+            .withPath("/test-api")
+            .withQueryStringParameter("param=", "value=& %"),
+        httpResponse -> httpResponse.withBody("{\"code\": 200, \"message\": \"success\"}"));
+
+    ApiResponse<Response> response =
+        this.apiClient.invokeAPI("/test-api", "GET", Collections.singletonList(new Pair("param=", "value=& %")),
+            null, null, null, null, null, "application/json",
+            new String[] {},
+            new TypeReference<Response>() {});
+
+    assertEquals(200, response.getData().getCode());
+    assertEquals("success", response.getData().getMessage());
+  }
+
+  @Test
+  void testInvokeApiWithBodyTest(final BdkMockServer mockServer) throws ApiException {
+    mockServer.onRequestModifierWithResponse(200,
+        httpRequest -> httpRequest
+            .withMethod("GET")
+            .withPath("/test-api")
+            .withBody(new JsonBody("{\"id\":\"test-id\", \"content\": \"body-content\"}", StandardCharsets.UTF_8,
+                MatchType.STRICT))
+            .withHeader("sessionToken", "test-token")
+            .withCookie("cookie", "test-cookie"),
+        httpResponse -> httpResponse.withBody("{\"code\": 200, \"message\": \"success\"}"));
+
+    ApiResponse<Response> response =
+        this.apiClient.invokeAPI("/test-api", "GET", null, new RequestBody("test-id", "body-content"),
+            Collections.singletonMap("sessionToken", "test-token"),
+            Collections.singletonMap("cookie", "test-cookie"), null, null, "application/json", new String[] {},
+            new TypeReference<Response>() {});
+
+    assertEquals(200, response.getData().getCode());
+    assertEquals("success", response.getData().getMessage());
+  }
+
+  @Test
+  void testInvokeApiWithFormParamTest(final BdkMockServer mockServer) throws ApiException {
+    mockServer.onRequestModifierWithResponse(200,
+        httpRequest -> httpRequest
+            .withMethod("POST")
+            .withPath("/test-api")
+            .withHeader(
+                Header.header("Content-Type", APPLICATION_FORM_URLENCODED)
+            )
+            .withBody(ParameterBody.params(
+                Parameter.param("param-1", "test-1"),
+                Parameter.param("param-2", "test-2")
+            ))
+            .withHeader("sessionToken", "test-token")
+            .withCookie("cookie", "test-cookie"),
+        httpResponse -> httpResponse.withBody("{\"code\": 200, \"message\": \"success\"}"));
+
+    Map<String, Object> formParams = new HashMap<>();
+    formParams.put("param-1", "test-1");
+    formParams.put("param-2", "test-2");
+
+    ApiResponse<Response> response =
+        this.apiClient.invokeAPI("/test-api", "POST", null, null,
+            Collections.singletonMap("sessionToken", "test-token"),
+            Collections.singletonMap("cookie", "test-cookie"), formParams, null,
+            APPLICATION_FORM_URLENCODED, new String[] {},
+            new TypeReference<Response>() {});
+
+    assertEquals(200, response.getData().getCode());
+    assertEquals("success", response.getData().getMessage());
+  }
+
+  @Test
+  void testInvokeApiWithFormValueTest(final BdkMockServer mockServer, @TempDir Path tempDir)
+      throws ApiException, IOException {
+    Path tempFilePath = tempDir.resolve("tempFile");
+    Files.writeString(tempFilePath, "test");
+    mockServer.onRequestModifierWithResponse(200,
+        httpRequest -> httpRequest
+            .withMethod("POST")
+            .withPath("/test-api")
+            .withHeader(Header.header("sessionToken", "test-token"))
+            .withBody(anyString())
+            .withCookie("cookie", "test-cookie"),
+        httpResponse -> httpResponse
+            .withBody("{\"code\": 200, \"message\": \"success\"}"));
+
+    Map<String, Object> formParams = new HashMap<>();
+    formParams.put("param-1", tempFilePath.toFile());
+    formParams.put("param-2", "test-2");
+
+    ApiResponse<Response> response =
+        this.apiClient.invokeAPI("/test-api", "POST", null, null,
+            Collections.singletonMap("sessionToken", "test-token"),
+            Collections.singletonMap("cookie", "test-cookie"), formParams, null, MULTIPART_FORM_DATA,
+            new String[] {},
+            new TypeReference<Response>() {});
+
+    assertEquals(200, response.getData().getCode());
+    assertEquals("success", response.getData().getMessage());
+  }
+
+  @Test
+  void testInvokeApiWithApiClientBodyPart(final BdkMockServer mockServer) throws ApiException {
+    mockServer.onRequestModifierWithResponse(200,
+        httpRequest -> httpRequest
+            .withMethod("POST")
+            .withPath("/test-api")
+            .withHeader(Header.header("sessionToken", "test-token"))
+            .withBody(anyString())
+            .withCookie("cookie", "test-cookie"),
+        httpResponse -> httpResponse
+            .withBody("{\"code\": 200, \"message\": \"success\"}"));
+    Map<String, Object> formParams = new HashMap<>();
+
+    formParams.put("attachment", Collections.singletonList(new ApiClientBodyPart(new ByteArrayInputStream("test".getBytes()), "filename")));
+
+
+    ApiResponse<Response> response =
+        this.apiClient.invokeAPI("/test-api", "POST", null, null,
+            Collections.singletonMap("sessionToken", "test-token"),
+            Collections.singletonMap("cookie", "test-cookie"), formParams, null, MULTIPART_FORM_DATA,
+            new String[] {},
+            new TypeReference<Response>() {});
+
+
+    assertEquals(200, response.getData().getCode());
+    assertEquals("success", response.getData().getMessage());
+  }
+
+  @Test
+  void shouldClearTraceIdIfNotSet(final BdkMockServer mockServer) throws ApiException {
+    mockServer.onRequestModifierWithResponse(200,
+        httpRequest -> httpRequest
+            .withMethod("GET")
+            .withPath("/test-api")
+            .withHeader("sessionToken", "test-token"),
+        httpResponse -> httpResponse.withBody("{\"code\": 200, \"message\": \"success\"}"));
+
+    DistributedTracingContext.clear();
+
+    this.apiClient.invokeAPI("/test-api", "GET", null, null, Collections.singletonMap("sessionToken", "test-token"),
+            null, null, null, "application/json", new String[] {}, new TypeReference<Response>() {});
+
+    assertTrue(DistributedTracingContext.getTraceId().isEmpty());
+  }
+
+  @Test
+  void shouldPreserveExistingTraceId(final BdkMockServer mockServer) throws ApiException {
+    mockServer.onRequestModifierWithResponse(200,
+        httpRequest -> httpRequest
+            .withMethod("GET")
+            .withPath("/test-api")
+            .withHeader("sessionToken", "test-token"),
+        httpResponse -> httpResponse.withBody("{\"code\": 200, \"message\": \"success\"}"));
+
+    String traceId = UUID.randomUUID().toString();
+    DistributedTracingContext.setTraceId(traceId);
+
+    this.apiClient.invokeAPI("/test-api", "GET", null, null, Collections.singletonMap("sessionToken", "test-token"),
+        null, null, null, "application/json", new String[] {}, new TypeReference<Response>() {});
+
+    assertEquals(traceId, DistributedTracingContext.getTraceId());
+  }
+
+  @Test
+  void testInvokeApiDownloadFile(final BdkMockServer mockServer) throws ApiException, IOException {
+    mockServer.onRequestModifierWithResponse(200,
+        httpRequest -> httpRequest
+            .withMethod("GET")
+            .withPath("/test-api"),
+        httpResponse -> httpResponse
+            .withHeader("Content-Disposition", "attachment; filename=\"report.txt\"")
+            .withBody("file-content"));
+
+    ApiResponse<File> response =
+        this.apiClient.invokeAPI("/test-api", "GET", null, null, new HashMap<>(), null, null, null,
+            "application/json", new String[] {}, new TypeReference<File>() {});
+
+    File file = response.getData();
+    file.deleteOnExit();
+    assertTrue(file.getName().startsWith("report-"));
+    assertTrue(file.getName().endsWith(".txt"));
+    assertEquals("file-content", Files.readString(file.toPath()));
+  }
+
+  @Test
+  void testInvokeApiByteArray(final BdkMockServer mockServer) throws ApiException {
+    mockServer.onRequestModifierWithResponse(200,
+        httpRequest -> httpRequest
+            .withMethod("GET")
+            .withPath("/test-api"),
+        httpResponse -> httpResponse.withBody("content"));
+
+    ApiResponse<byte[]> response =
+        this.apiClient.invokeAPI("/test-api", "GET", null, null, new HashMap<>(), null, null, null,
+            "application/json", new String[] {}, new TypeReference<byte[]>() {});
+
+    assertArrayEquals("content".getBytes(StandardCharsets.UTF_8), response.getData());
+  }
+
+  @Test
+  void testInvokeApiConnectionRefused() {
+    ApiClient client = new ApiClientBuilderJdk().withBasePath("http://localhost:1").build();
+
+    UncheckedIOException exception = assertThrows(UncheckedIOException.class,
+        () -> client.invokeAPI("/test-api", "GET", null, null, new HashMap<>(), null, null, null,
+            "application/json", new String[] {}, new TypeReference<Response>() {}));
+    assertTrue(exception.getCause() instanceof ConnectException);
+  }
+
+  @Test
+  void testInvokeApiAsyncConnectionRefused() {
+    ApiClient client = new ApiClientBuilderJdk().withBasePath("http://localhost:1").build();
+
+    CompletableFuture<ApiResponse<Response>> future = client.invokeAPIAsync("/test-api", "GET", null, null,
+        new HashMap<>(), null, null, null, "application/json", new String[] {}, new TypeReference<Response>() {});
+
+    ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+    assertTrue(exception.getCause() instanceof UncheckedIOException);
+    assertTrue(exception.getCause().getCause() instanceof ConnectException);
+  }
+
+  @Test
+  void testInvokeApiReadTimeout(final BdkMockServer mockServer) {
+    mockServer.onRequestModifierWithResponse(200,
+        httpRequest -> httpRequest
+            .withMethod("GET")
+            .withPath("/test-api"),
+        httpResponse -> httpResponse
+            .withBody("{\"code\": 200, \"message\": \"success\"}")
+            .withDelay(TimeUnit.SECONDS, 2));
+    ApiClient client = new ApiClientBuilderJdk()
+        .withBasePath(this.apiClient.getBasePath())
+        .withReadTimeout(100)
+        .build();
+
+    UncheckedIOException exception = assertThrows(UncheckedIOException.class,
+        () -> client.invokeAPI("/test-api", "GET", null, null, new HashMap<>(), null, null, null,
+            "application/json", new String[] {}, new TypeReference<Response>() {}));
+    assertTrue(exception.getCause() instanceof SocketTimeoutException);
+  }
+
+  @Test
+  void testInvokeApiAsyncReadTimeout(final BdkMockServer mockServer) {
+    mockServer.onRequestModifierWithResponse(200,
+        httpRequest -> httpRequest
+            .withMethod("GET")
+            .withPath("/test-api"),
+        httpResponse -> httpResponse
+            .withBody("{\"code\": 200, \"message\": \"success\"}")
+            .withDelay(TimeUnit.SECONDS, 2));
+    ApiClient client = new ApiClientBuilderJdk()
+        .withBasePath(this.apiClient.getBasePath())
+        .withReadTimeout(100)
+        .build();
+
+    CompletableFuture<ApiResponse<Response>> future = client.invokeAPIAsync("/test-api", "GET", null, null,
+        new HashMap<>(), null, null, null, "application/json", new String[] {}, new TypeReference<Response>() {});
+
+    ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+    assertTrue(exception.getCause() instanceof UncheckedIOException);
+    assertTrue(exception.getCause().getCause() instanceof SocketTimeoutException);
+  }
+
+  @Test
+  void testParameterToString() {
+    RequestBody body = new RequestBody("test-id", "content");
+
+    assertEquals("", this.apiClient.parameterToString(null));
+    assertEquals("test", this.apiClient.parameterToString("test"));
+    assertEquals(body.toString(), this.apiClient.parameterToString(body));
+    assertEquals("test1,test2", this.apiClient.parameterToString(Arrays.asList("test1", "test2")));
+  }
+
+  @Test
+  void parameterToPairsTest() {
+    List<Pair> pairs = new ArrayList<>();
+    pairs.addAll(this.apiClient.parameterToPairs("", "test", "test-value"));
+    pairs.addAll(this.apiClient.parameterToPairs("", "test", Collections.emptyList()));
+    pairs.addAll(this.apiClient.parameterToPairs("multi", "multi", Arrays.asList("test1", "test2")));
+    pairs.addAll(this.apiClient.parameterToPairs("csv", "csv", Arrays.asList("test1", "test2")));
+    pairs.addAll(this.apiClient.parameterToPairs("ssv", "ssv", Arrays.asList("test1", "test2")));
+    pairs.addAll(this.apiClient.parameterToPairs("tsv", "tsv", Arrays.asList("test1", "test2")));
+    pairs.addAll(this.apiClient.parameterToPairs("pipes", "pipes", Arrays.asList("test1", "test2")));
+    pairs.addAll(this.apiClient.parameterToPairs("pipes", "", Arrays.asList("test1", "test2")));
+
+    assertEquals(7, pairs.size());
+    assertEquals("test-value", pairs.get(0).getValue());
+    assertEquals("test1", pairs.get(1).getValue());
+    assertEquals("test2", pairs.get(2).getValue());
+    assertEquals("test1,test2", pairs.get(3).getValue());
+    assertEquals("test1 test2", pairs.get(4).getValue());
+    assertEquals("test1\ttest2", pairs.get(5).getValue());
+    assertEquals("test1|test2", pairs.get(6).getValue());
+  }
+
+  @Test
+  void selectHeaderAcceptTest() {
+    assertNull(this.apiClient.selectHeaderAccept());
+    assertEquals(APPLICATION_JSON, this.apiClient.selectHeaderAccept(APPLICATION_JSON));
+    assertEquals(APPLICATION_FORM_URLENCODED + "," + MULTIPART_FORM_DATA,
+        this.apiClient.selectHeaderAccept(APPLICATION_FORM_URLENCODED,
+            MULTIPART_FORM_DATA));
+  }
+
+  @Test
+  void selectHeaderContentTypeTest() {
+    assertEquals("application/json", this.apiClient.selectHeaderContentType());
+    assertEquals(APPLICATION_JSON, this.apiClient.selectHeaderContentType(
+        APPLICATION_JSON));
+    assertEquals(APPLICATION_FORM_URLENCODED, this.apiClient.selectHeaderContentType(
+        APPLICATION_FORM_URLENCODED));
+  }
+
+  @Test
+  void escapeStringTest() {
+    String url = "http://localhost/search?q=hello world";
+
+    assertEquals("http%3A%2F%2Flocalhost%2Fsearch%3Fq%3Dhello%20world", this.apiClient.escapeString(url));
+  }
+
+  private static class RequestBody {
+    private String id;
+    private String content;
+
+    protected RequestBody(String id, String content) {
+      this.id = id;
+      this.content = content;
+    }
+
+    public String getId() {
+      return id;
+    }
+
+    public void setId(String id) {
+      this.id = id;
+    }
+
+    public String getContent() {
+      return content;
+    }
+
+    public void setContent(String content) {
+      this.content = content;
+    }
+  }
+
+
+  private static class Response {
+    private int code;
+    private String message;
+
+    public int getCode() {
+      return code;
+    }
+
+    public String getMessage() {
+      return message;
+    }
+  }
+}
@@ -11,6 +11,7 @@ import com.symphony.bdk.http.api.util.TypeReference;
 import jakarta.ws.rs.HttpMethod;
 import jakarta.ws.rs.ProcessingException;
 import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.CompletionStageRxInvoker;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.Invocation;
 import jakarta.ws.rs.client.WebTarget;
@@ -43,6 +44,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
@@ -91,6 +95,95 @@ public class ApiClientJersey2 implements ApiClient {
       final TypeReference<T> returnType
   ) throws ApiException {
 
+    boolean clearTraceId = false;
+
+    if (!DistributedTracingContext.hasTraceId()) {
+      DistributedTracingContext.setTraceId();
+      clearTraceId = true;
+    }
+
+    try {
+      final Invocation.Builder invocationBuilder =
+          this.prepareInvocation(path, queryParams, headerParams, cookieParams, accept, contentType, authNames);
+      final Entity<?> entity = this.entity(body, formParams, contentType);
+
+      try (Response response = getResponse(invocationBuilder, method, entity)) {
+        return this.toApiResponse(response, returnType);
+      }
+    } finally {
+      if (clearTraceId) {
+        DistributedTracingContext.clear();
+      }
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The request is performed through the Jersey reactive invoker, running on the executor service of the underlying
+   * {@link Client}.
+   */
+  @Override
+  public <T> CompletableFuture<ApiResponse<T>> invokeAPIAsync(
+      final String path,
+      final String method,
+      final List<Pair> queryParams,
+      final Object body,
+      final Map<String, String> headerParams,
+      final Map<String, String> cookieParams,
+      final Map<String, Object> formParams,
+      final String accept,
+      final String contentType,
+      final String[] authNames,
+      final TypeReference<T> returnType
+  ) {
+
+    // the trace id is only needed to build the request, which is performed on another thread
+    boolean clearTraceId = false;
+
+    if (!DistributedTracingContext.hasTraceId()) {
+      DistributedTracingContext.setTraceId();
+      clearTraceId = true;
+    }
+
+    final CompletionStage<Response> responseStage;
+    try {
+      final Invocation.Builder invocationBuilder =
+          this.prepareInvocation(path, queryParams, headerParams, cookieParams, accept, contentType, authNames);
+      responseStage = getResponseAsync(invocationBuilder, method, this.entity(body, formParams, contentType));
+    } catch (ApiException | RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    } finally {
+      if (clearTraceId) {
+        DistributedTracingContext.clear();
+      }
+    }
+
+    final CompletableFuture<ApiResponse<T>> result = new CompletableFuture<>();
+    responseStage.whenComplete((response, error) -> {
+      if (error != null) {
+        result.completeExceptionally(toRetryableException(unwrapCompletionException(error)));
+        return;
+      }
+      try (Response r = response) {
+        result.complete(this.toApiResponse(r, returnType));
+      } catch (ApiException | RuntimeException e) {
+        result.completeExceptionally(e);
+      }
+    });
+    return result;
+  }
+
+  private Invocation.Builder prepareInvocation(
+      final String path,
+      final List<Pair> queryParams,
+      final Map<String, String> headerParams,
+      final Map<String, String> cookieParams,
+      final String accept,
+      final String contentType,
+      final String[] authNames
+  ) throws ApiException {
+
     // Not using `.target(this.basePath).path(path)` below,
     // to support (constant) query string in `path`, e.g. "/posts?draft=1"
     WebTarget target = httpClient.target(this.basePath + path);
@@ -106,12 +199,6 @@ public class ApiClientJersey2 implements ApiClient {
     }
 
     Invocation.Builder invocationBuilder = target.request().accept(accept);
-    boolean clearTraceId = false;
-
-    if (!DistributedTracingContext.hasTraceId()) {
-      DistributedTracingContext.setTraceId();
-      clearTraceId = true;
-    }
 
     invocationBuilder =
         invocationBuilder.header(DistributedTracingContext.TRACE_ID, DistributedTracingContext.getTraceId());
@@ -152,48 +239,46 @@ public class ApiClientJersey2 implements ApiClient {
       invocationBuilder.header("MIME-Version", "1.0");
     }
 
-    Entity<?> entity =
-        (body == null && formParams == null) ? Entity.json("") : this.serialize(body, formParams, contentType);
+    return invocationBuilder;
+  }
 
-    try (Response response = getResponse(invocationBuilder, method, entity)) {
+  private Entity<?> entity(Object body, Map<String, Object> formParams, String contentType) {
+    return (body == null && formParams == null) ? Entity.json("") : this.serialize(body, formParams, contentType);
+  }
 
-      int statusCode = response.getStatusInfo().getStatusCode();
-      Map<String, List<String>> responseHeaders = buildResponseHeaders(response);
+  private <T> ApiResponse<T> toApiResponse(Response response, TypeReference<T> returnType) throws ApiException {
+    int statusCode = response.getStatusInfo().getStatusCode();
+    Map<String, List<String>> responseHeaders = buildResponseHeaders(response);
 
-      GenericType<T> genericReturnType = null;
-      if (returnType != null) {
-        genericReturnType = new GenericType<>(returnType.getType());
-      }
+    GenericType<T> genericReturnType = null;
+    if (returnType != null) {
+      genericReturnType = new GenericType<>(returnType.getType());
+    }
 
-      if (response.getStatus() == Response.Status.NO_CONTENT.getStatusCode()) {
+    if (response.getStatus() == Response.Status.NO_CONTENT.getStatusCode()) {
+      return new ApiResponse<>(statusCode, responseHeaders);
+    } else if (response.getStatusInfo().getFamily() == Response.Status.Family.SUCCESSFUL) {
+      if (genericReturnType == null) {
         return new ApiResponse<>(statusCode, responseHeaders);
-      } else if (response.getStatusInfo().getFamily() == Response.Status.Family.SUCCESSFUL) {
-        if (genericReturnType == null) {
-          return new ApiResponse<>(statusCode, responseHeaders);
-        } else {
-          return new ApiResponse<>(statusCode, responseHeaders, deserialize(response, genericReturnType));
-        }
       } else {
-        String message = "error";
-        String respBody = null;
-        if (response.hasEntity()) {
-          try {
-            respBody = String.valueOf(response.readEntity(String.class));
-            message = respBody;
-          } catch (RuntimeException e) {
-            // ignored if we cannot read the response body
-          }
-        }
-        throw new ApiException(
-            response.getStatus(),
-            message,
-            buildResponseHeaders(response),
-            respBody);
+        return new ApiResponse<>(statusCode, responseHeaders, deserialize(response, genericReturnType));
       }
-    } finally {
-      if (clearTraceId) {
-        DistributedTracingContext.clear();
+    } else {
+      String message = "error";
+      String respBody = null;
+      if (response.hasEntity()) {
+        try {
+          respBody = String.valueOf(response.readEntity(String.class));
+          message = respBody;
+        } catch (RuntimeException e) {
+          // ignored if we cannot read the response body
+        }
       }
+      throw new ApiException(
+          response.getStatus(),
+          message,
+          buildResponseHeaders(response),
+          respBody);
     }
   }
 
@@ -221,16 +306,47 @@ public class ApiClientJersey2 implements ApiClient {
           throw new ApiException(500, "unknown method type " + method);
       }
     } catch (ProcessingException e) {
-      if (e.getCause() instanceof ConnectTimeoutException) {
-        throw new ProcessingException(new SocketTimeoutException(e.getCause().getMessage()));
-      }
-      else if (e.getCause() instanceof NoHttpResponseException) {
-        // ensures that it will be caught later in the retry strategy
-        throw new ProcessingException(new SocketException(e.getCause().getMessage()));
-      }
-      else {
-        throw e;
-      }
+      throw toRetryableException(e);
+    }
+  }
+
+  private CompletionStage<Response> getResponseAsync(Invocation.Builder invocationBuilder, String method,
+      Entity<?> entity) throws ApiException {
+    final CompletionStageRxInvoker invoker = invocationBuilder.rx();
+    switch (method) {
+      case HttpMethod.GET:
+      case HttpMethod.HEAD:
+      case HttpMethod.OPTIONS:
+      case "TRACE":
+        return invoker.method(method);
+      case HttpMethod.POST:
+      case HttpMethod.PUT:
+      case HttpMethod.DELETE:
+      case HttpMethod.PATCH:
+        return invoker.method(method, entity);
+      default:
+        throw new ApiException(500, "unknown method type " + method);
+    }
+  }
+
+  private static Throwable unwrapCompletionException(Throwable error) {
+    return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+  }
+
+  private static Throwable toRetryableException(Throwable error) {
+    return error instanceof ProcessingException ? toRetryableException((ProcessingException) error) : error;
+  }
+
+  private static ProcessingException toRetryableException(ProcessingException e) {
+    if (e.getCause() instanceof ConnectTimeoutException) {
+      return new ProcessingException(new SocketTimeoutException(e.getCause().getMessage()));
+    }
+    else if (e.getCause() instanceof NoHttpResponseException) {
+      // ensures that it will be caught later in the retry strategy
+      return new ProcessingException(new SocketException(e.getCause().getMessage()));
+    }
+    else {
+      return e;
     }
   }
 
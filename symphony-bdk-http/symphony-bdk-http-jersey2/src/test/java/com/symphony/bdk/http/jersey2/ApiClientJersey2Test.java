@@ -1,10 +1,12 @@
 package com.symphony.bdk.http.jersey2;
 
 import com.symphony.bdk.http.api.ApiException;
+import com.symphony.bdk.http.api.ApiResponse;
 import com.symphony.bdk.http.api.tracing.DistributedTracingContext;
 import com.symphony.bdk.http.api.util.TypeReference;
 import jakarta.ws.rs.HttpMethod;
 import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.CompletionStageRxInvoker;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.Invocation;
 import jakarta.ws.rs.client.WebTarget;
@@ -19,11 +21,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,17 +41,21 @@ class ApiClientJersey2Test {
       @Mock WebTarget target,
       @Mock Invocation.Builder builder,
       @Mock Response response,
-      @Mock Response.StatusType statusInfo
+      @Mock Response.StatusType statusInfo,
+      @Mock CompletionStageRxInvoker rxInvoker
   ) {
     when(client.target(anyString())).thenReturn(target);
     when(target.request()).thenReturn(builder);
     when(builder.accept(anyString())).thenReturn(builder);
     when(builder.header(anyString(), any())).thenReturn(builder);
-    when(builder.post(any(Entity.class))).thenReturn(response);
+    lenient().when(builder.post(any(Entity.class))).thenReturn(response);
     when(response.getStatusInfo()).thenReturn(statusInfo);
     when(statusInfo.getStatusCode()).thenReturn(200);
     when(statusInfo.getFamily()).thenReturn(Response.Status.Family.SUCCESSFUL);
     when(response.getHeaders()).thenReturn(new MultivaluedHashMap<>());
+    lenient().when(builder.rx()).thenReturn(rxInvoker);
+    lenient().when(rxInvoker.method(anyString(), any(Entity.class)))
+        .thenReturn(CompletableFuture.completedFuture(response));
     this.apiClient = new ApiClientJersey2(client, "", Collections.emptyMap(), "");
     this.apiClient.getAuthentications().put("testAuth", headerParams -> headerParams.put("Authorization", "test"));
   }
@@ -67,6 +75,27 @@ class ApiClientJersey2Test {
     assertEquals(traceId, DistributedTracingContext.getTraceId());
   }
 
+  @Test
+  void shouldInvokeAPIAsynchronously() throws Exception {
+    DistributedTracingContext.clear();
+    final ApiResponse<String> response = this.apiClient.invokeAPIAsync(
+        "/hello",
+        HttpMethod.POST,
+        Collections.emptyList(),
+        null,
+        new HashMap<>(),
+        new HashMap<>(),
+        new HashMap<>(),
+        "application/json",
+        "application/json",
+        new String[] { "testAuth" },
+        new TypeReference<String>() {}
+    ).get();
+
+    assertEquals(200, response.getStatusCode());
+    assertTrue(DistributedTracingContext.getTraceId().isEmpty());
+  }
+
   private void doInvokeAPI() throws ApiException {
     this.apiClient.invokeAPI(
         "/hello",
@@ -34,6 +34,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -78,6 +79,85 @@ public class ApiClientWebClient implements ApiClient {
       final TypeReference<T> returnType
   ) throws ApiException {
 
+    boolean clearTraceId = false;
+
+    if (!DistributedTracingContext.hasTraceId()) {
+      DistributedTracingContext.setTraceId();
+      clearTraceId = true;
+    }
+
+    try {
+      return this.exchange(path, method, queryParams, body, headerParams, cookieParams, formParams, accept, contentType,
+          authNames, returnType).block();
+    } catch (Exception e) {
+      Throwable unwrap = Exceptions.unwrap(e);
+      if (unwrap instanceof ApiException) {
+        throw (ApiException) unwrap;
+      }
+      throw toSocketTimeoutIfNeeded(e);
+    } finally {
+      if (clearTraceId) {
+        DistributedTracingContext.clear();
+      }
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The request is performed by the underlying {@link WebClient}, no thread is blocked while waiting for the response.
+   */
+  @Override
+  public <T> CompletableFuture<ApiResponse<T>> invokeAPIAsync(
+      final String path,
+      final String method,
+      final List<Pair> queryParams,
+      final Object body,
+      final Map<String, String> headerParams,
+      final Map<String, String> cookieParams,
+      final Map<String, Object> formParams,
+      final String accept,
+      final String contentType,
+      final String[] authNames,
+      final TypeReference<T> returnType
+  ) {
+
+    // the trace id is only needed to build the request, which is performed on another thread
+    boolean clearTraceId = false;
+
+    if (!DistributedTracingContext.hasTraceId()) {
+      DistributedTracingContext.setTraceId();
+      clearTraceId = true;
+    }
+
+    try {
+      return this.exchange(path, method, queryParams, body, headerParams, cookieParams, formParams, accept, contentType,
+          authNames, returnType)
+          .onErrorMap(WebClientRequestException.class, ApiClientWebClient::toSocketTimeoutIfNeeded)
+          .toFuture();
+    } catch (ApiException | RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    } finally {
+      if (clearTraceId) {
+        DistributedTracingContext.clear();
+      }
+    }
+  }
+
+  private <T> Mono<ApiResponse<T>> exchange(
+      final String path,
+      final String method,
+      final List<Pair> queryParams,
+      final Object body,
+      final Map<String, String> headerParams,
+      final Map<String, String> cookieParams,
+      final Map<String, Object> formParams,
+      final String accept,
+      final String contentType,
+      final String[] authNames,
+      final TypeReference<T> returnType
+  ) throws ApiException {
+
     final List<String> allowedMethods =
             Arrays.asList("GET", "HEAD", "POST", "PUT", "PATCH", "DELETE", "OPTIONS", "TRACE");
     if (method == null || !allowedMethods.contains(method)) {
@@ -104,13 +184,6 @@ public class ApiClientWebClient implements ApiClient {
       requestBodySpec.accept(MediaType.valueOf(accept));
     }
 
-    boolean clearTraceId = false;
-
-    if (!DistributedTracingContext.hasTraceId()) {
-      DistributedTracingContext.setTraceId();
-      clearTraceId = true;
-    }
-
     requestBodySpec =
         requestBodySpec.header(DistributedTracingContext.TRACE_ID, DistributedTracingContext.getTraceId());
 
@@ -158,26 +231,19 @@ public class ApiClientWebClient implements ApiClient {
       requestBodySpec.body(BodyInserters.fromValue(body));
     }
 
-    try {
-      return requestBodySpec.exchangeToMono(response -> toApiResponse(returnType, response))
-          .block();
-    } catch (Exception e) {
-      Throwable unwrap = Exceptions.unwrap(e);
-      if (unwrap instanceof ApiException) {
-        throw (ApiException) unwrap;
-      }
-      if (e instanceof WebClientRequestException && e.getCause() instanceof ConnectTimeoutException) {
-        WebClientRequestException exception = (WebClientRequestException) e;
-        throw new WebClientRequestException(new SocketTimeoutException(e.getMessage()), exception.getMethod(),
-            exception.getUri(), exception.getHeaders());
-      } else {
-        throw e;
-      }
-    } finally {
-      if (clearTraceId) {
-        DistributedTracingContext.clear();
-      }
+    return requestBodySpec.exchangeToMono(response -> toApiResponse(returnType, response));
+  }
+
+  /**
+   * Connection timeouts are reported as {@link SocketTimeoutException}, so that they are retried as any other timeout.
+   */
+  private static RuntimeException toSocketTimeoutIfNeeded(Exception e) {
+    if (e instanceof WebClientRequestException && e.getCause() instanceof ConnectTimeoutException) {
+      WebClientRequestException exception = (WebClientRequestException) e;
+      return new WebClientRequestException(new SocketTimeoutException(e.getMessage()), exception.getMethod(),
+          exception.getUri(), exception.getHeaders());
     }
+    return e instanceof RuntimeException ? (RuntimeException) e : Exceptions.propagate(e);
   }
 
   @SuppressWarnings("unchecked")
@@ -216,7 +282,7 @@ public class ApiClientWebClient implements ApiClient {
         if (s != null) {
           message = s;
         }
-        throw Exceptions.propagate(new ApiException(response.statusCode().value(), message, headers, s));
+        return Mono.error(new ApiException(response.statusCode().value(), message, headers, s));
       });
     }
   }
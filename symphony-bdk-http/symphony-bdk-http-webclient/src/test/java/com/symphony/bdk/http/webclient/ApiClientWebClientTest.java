@@ -38,6 +38,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 @ExtendWith(BdkMockServerExtension.class)
 class ApiClientWebClientTest {
@@ -112,6 +115,53 @@ class ApiClientWebClientTest {
         null, null, null, "application/json", new String[] {}, new TypeReference<Response>() {}));
   }
 
+  @Test
+  void testInvokeApiAsyncTest(final BdkMockServer mockServer) throws Exception {
+    mockServer.onRequestModifierWithResponse(200,
+        httpRequest -> httpRequest
+            .withMethod("GET")
+            .withPath("/test-api")
+            .withHeader("sessionToken", "test-token"),
+        httpResponse -> httpResponse.withBody("{\"code\": 200, \"message\": \"success\"}"));
+
+    CompletableFuture<ApiResponse<Response>> future =
+        this.apiClient.invokeAPIAsync("/test-api", "GET", null, null,
+            Collections.singletonMap("sessionToken", "test-token"), null, null, null, "application/json",
+            new String[] {}, new TypeReference<Response>() {});
+
+    ApiResponse<Response> response = future.get(5, TimeUnit.SECONDS);
+    assertEquals(200, response.getData().getCode());
+    assertEquals("success", response.getData().getMessage());
+  }
+
+  @Test
+  void testInvokeApiAsyncExceptionTest(final BdkMockServer mockServer) {
+    mockServer.onRequestModifierWithResponse(400,
+        httpRequest -> httpRequest
+            .withMethod("GET")
+            .withPath("/test-api")
+            .withHeader("sessionToken", "test-token"),
+        httpResponse -> httpResponse.withBody("test-error"));
+
+    CompletableFuture<ApiResponse<Response>> future =
+        this.apiClient.invokeAPIAsync("/test-api", "GET", null, null,
+            Collections.singletonMap("sessionToken", "test-token"), null, null, null, "application/json",
+            new String[] {}, new TypeReference<Response>() {});
+
+    ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+    assertTrue(exception.getCause() instanceof ApiException);
+    assertEquals(400, ((ApiException) exception.getCause()).getCode());
+  }
+
+  @Test
+  void testInvokeApiAsyncNullMethod() {
+    CompletableFuture<ApiResponse<Response>> future = this.apiClient.invokeAPIAsync("/test-api", null, null, null,
+        Collections.singletonMap("sessionToken", "test-token"), null, null, null, null, new String[] {},
+        new TypeReference<Response>() {});
+
+    assertTrue(future.isCompletedExceptionally());
+  }
+
   @Test
   void testInvokeApiParameterizedTypeTest(final BdkMockServer mockServer) throws ApiException {
     mockServer.onRequestModifierWithResponse(200,
@@ -1,6 +1,7 @@
 package com.symphony.bdk.spring.config;
 
 import com.symphony.bdk.core.config.model.BdkConfig;
+import com.symphony.bdk.core.retry.RetryBudget;
 import com.symphony.bdk.core.retry.RetryWithRecoveryBuilder;
 
 import org.apiguardian.api.API;
@@ -13,6 +14,8 @@ public class BdkRetryConfig {
   @Bean
   @ConditionalOnMissingBean
   public RetryWithRecoveryBuilder<?> retryWithRecoveryBuilder(BdkConfig config) {
-    return new RetryWithRecoveryBuilder<>().retryConfig(config.getRetry());
+    return new RetryWithRecoveryBuilder<>()
+        .retryConfig(config.getRetry())
+        .retryBudget(RetryBudget.shared(config.getRetry()));
   }
 }